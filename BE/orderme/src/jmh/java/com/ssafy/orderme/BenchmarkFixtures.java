@@ -0,0 +1,132 @@
+package com.ssafy.orderme;
+
+import com.ssafy.orderme.kiosk.model.Category;
+import com.ssafy.orderme.kiosk.model.Menu;
+import com.ssafy.orderme.kiosk.model.OptionCategory;
+import com.ssafy.orderme.kiosk.model.OptionItem;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 벤치마크 공용 픽스처
+ * 매퍼 인터페이스는 메서드 이름별 응답을 지정한 메모리 스텁으로 대체하고(DB 없이 서비스 로직만 측정),
+ * 스프링이 주입하던 @Value 필드는 리플렉션으로 채운다.
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 인터페이스 스텁 생성 (answers에 없는 메서드를 호출하면 UnsupportedOperationException)
+     *
+     * @param answers 메서드 이름 -> 인자 배열을 받아 반환값을 만드는 함수
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            switch (method.getName()) {
+                case "toString":
+                    return type.getSimpleName() + "Stub";
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+        });
+    }
+
+    /**
+     * private 필드 값 설정 (상위 클래스 필드 포함)
+     */
+    public static void setField(Object target, String name, Object value) {
+        for (Class<?> type = target.getClass(); type != null; type = type.getSuperclass()) {
+            try {
+                Field field = type.getDeclaredField(name);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException e) {
+                // 상위 클래스에서 계속 찾음
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalArgumentException(target.getClass().getSimpleName() + "에 " + name + " 필드가 없습니다");
+    }
+
+    /**
+     * 메뉴 ID 1..count, 카테고리 5개에 나눠 담긴 메뉴 목록
+     */
+    public static List<Menu> menus(int count) {
+        List<Menu> menus = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Category category = new Category();
+            category.setCategoryId((long) (i % 5 + 1));
+            category.setCategoryName("카테고리" + (i % 5 + 1));
+
+            Menu menu = new Menu();
+            menu.setMenuId(i);
+            menu.setStoreId(1);
+            menu.setMenuName("메뉴" + i);
+            menu.setPrice(3000 + (i % 10) * 500);
+            menu.setCategoryId(i % 5 + 1);
+            menu.setCategory(category);
+            menu.setIsSoldOut(i % 17 == 0);
+            menu.setImageUrl("https://cdn.example.com/menus/" + i + ".png");
+            menu.setDescription("메뉴" + i + " 설명입니다");
+            menus.add(menu);
+        }
+        return menus;
+    }
+
+    /**
+     * 메뉴마다 categoriesPerMenu개의 옵션 카테고리 (카테고리 ID = 메뉴 ID * 100 + 순번)
+     */
+    public static List<OptionCategory> optionCategories(List<Integer> menuIds, int categoriesPerMenu) {
+        List<OptionCategory> categories = new ArrayList<>();
+        for (Integer menuId : menuIds) {
+            for (int i = 0; i < categoriesPerMenu; i++) {
+                OptionCategory category = new OptionCategory();
+                category.setCategoryId(menuId * 100 + i);
+                category.setCategoryName("옵션" + i);
+                category.setIsRequired(i < 2);
+                category.setDisplayOrder(i);
+                category.setMenuId(menuId);
+                categories.add(category);
+            }
+        }
+        return categories;
+    }
+
+    /**
+     * 옵션 카테고리마다 itemsPerCategory개의 옵션 아이템
+     */
+    public static List<OptionItem> optionItems(List<Integer> categoryIds, int itemsPerCategory) {
+        List<OptionItem> items = new ArrayList<>();
+        for (Integer categoryId : categoryIds) {
+            for (int i = 0; i < itemsPerCategory; i++) {
+                OptionItem item = new OptionItem();
+                item.setItemId((long) categoryId * 10 + i);
+                item.setCategoryId((long) categoryId);
+                item.setOptionName("옵션값" + i);
+                item.setAdditionalPrice(i * 500);
+                item.setIsDefault(i == 0);
+                item.setDisplayOrder(i);
+                items.add(item);
+            }
+        }
+        return items;
+    }
+}
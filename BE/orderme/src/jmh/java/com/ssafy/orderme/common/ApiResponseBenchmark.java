@@ -0,0 +1,107 @@
+package com.ssafy.orderme.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.orderme.BenchmarkFixtures;
+import com.ssafy.orderme.kiosk.dto.response.MenuDetailResponse;
+import com.ssafy.orderme.kiosk.dto.response.MenuResponse;
+import com.ssafy.orderme.kiosk.model.Menu;
+import com.ssafy.orderme.recommendation.dto.response.RecommendationResponse;
+import com.ssafy.orderme.recommendation.dto.response.RecommendedMenuGroup;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApiResponse JSON 직렬화 벤치마크 (스프링 MVC 기본 설정과 같은 ObjectMapper 사용)
+ * menuList: 키오스크 메뉴 목록 응답, recommendation: 추천 API 응답 (추천 그룹 9개, 메뉴마다 옵션 4개)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ApiResponseBenchmark {
+
+    @Param({"20", "200"})
+    public int menuCount;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<MenuResponse>> menuListResponse;
+    private ApiResponse<RecommendationResponse> recommendationResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<MenuResponse> menus = new ArrayList<>();
+        for (Menu menu : BenchmarkFixtures.menus(menuCount)) {
+            MenuResponse response = new MenuResponse();
+            response.setMenuId(menu.getMenuId());
+            response.setMenuName(menu.getMenuName());
+            response.setPrice(menu.getPrice());
+            response.setCategoryId(menu.getCategoryId());
+            response.setCategoryName(menu.getCategory().getCategoryName());
+            response.setIsSoldOut(menu.getIsSoldOut());
+            response.setImageUrl(menu.getImageUrl());
+            response.setDescription(menu.getDescription());
+            menus.add(response);
+        }
+        menuListResponse = ApiResponse.success(menus);
+
+        List<RecommendedMenuGroup> groups = new ArrayList<>();
+        for (int type = 1; type <= 9; type++) {
+            groups.add(RecommendedMenuGroup.builder()
+                    .recommendationType(type)
+                    .recommendationReason("추천 이유 " + type)
+                    .menus(Collections.singletonList(menuDetail(type)))
+                    .build());
+        }
+        recommendationResponse = ApiResponse.success(RecommendationResponse.builder()
+                .recommendedMenus(groups)
+                .currentWeather("맑음")
+                .build());
+    }
+
+    private static MenuDetailResponse menuDetail(int menuId) {
+        MenuDetailResponse detail = new MenuDetailResponse();
+        detail.setMenuId(menuId);
+        detail.setMenuName("메뉴" + menuId);
+        detail.setPrice(4500);
+        detail.setCategoryId(1);
+        detail.setCategoryName("커피");
+        detail.setIsSoldOut(false);
+        detail.setImageUrl("https://cdn.example.com/menus/" + menuId + ".png");
+        detail.setDescription("메뉴" + menuId + " 설명입니다");
+        detail.setKeyword1("달콤한");
+        detail.setKeyword2("시원한");
+        detail.setOrderCount(120);
+        detail.setPercentage(32.5);
+        detail.setAdditionalInfo(Collections.singletonMap("시간대", "점심"));
+
+        List<Map<String, Object>> options = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Map<String, Object> category = new HashMap<>();
+            category.put("optionCategory", "옵션" + i);
+            category.put("isRequired", i < 2);
+            category.put("optionNames", Arrays.asList("옵션값1", "옵션값2", "옵션값3"));
+            category.put("additionalPrices", Arrays.asList(0, 500, 1000));
+            category.put("optionIds", Arrays.asList(i * 3 + 1, i * 3 + 2, i * 3 + 3));
+            category.put("isDefault", Arrays.asList(true, false, false));
+            category.put("maxSelections", 1);
+            options.add(category);
+        }
+        detail.setOptions(options);
+        return detail;
+    }
+
+    @Benchmark
+    public byte[] menuList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(menuListResponse);
+    }
+
+    @Benchmark
+    public byte[] recommendation() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(recommendationResponse);
+    }
+}
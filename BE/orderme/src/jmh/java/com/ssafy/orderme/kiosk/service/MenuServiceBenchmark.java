@@ -0,0 +1,90 @@
+package com.ssafy.orderme.kiosk.service;
+
+import com.ssafy.orderme.BenchmarkFixtures;
+import com.ssafy.orderme.kiosk.dto.response.MenuDetailResponse;
+import com.ssafy.orderme.kiosk.mapper.MenuMapper;
+import com.ssafy.orderme.kiosk.model.Menu;
+import com.ssafy.orderme.kiosk.model.OptionCategory;
+import com.ssafy.orderme.kiosk.model.OptionItem;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 메뉴 상세 조립 벤치마크 (MenuMapper는 메모리 스텁이므로 조회 후 응답 조립 비용만 측정)
+ * getMenuDetail: 추천 전략마다 호출되는 단건 조회, getMenuDetails: 인기 메뉴 일괄 조회
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MenuServiceBenchmark {
+
+    private static final int MENU_COUNT = 200;
+
+    // 메뉴당 옵션 카테고리 수 (4: 현재 기본 옵션 구성)
+    @Param({"4", "8"})
+    public int categoriesPerMenu;
+
+    private MenuService menuService;
+    private List<Integer> batchMenuIds;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Map<Integer, Menu> menus = BenchmarkFixtures.menus(MENU_COUNT).stream()
+                .collect(Collectors.toMap(Menu::getMenuId, menu -> menu));
+        Map<Integer, List<OptionCategory>> categoriesByMenu = BenchmarkFixtures
+                .optionCategories(new ArrayList<>(menus.keySet()), categoriesPerMenu).stream()
+                .collect(Collectors.groupingBy(OptionCategory::getMenuId));
+        Map<Integer, List<OptionItem>> itemsByCategory = BenchmarkFixtures
+                .optionItems(categoriesByMenu.values().stream().flatMap(List::stream)
+                        .map(OptionCategory::getCategoryId).collect(Collectors.toList()), 3).stream()
+                .collect(Collectors.groupingBy(item -> item.getCategoryId().intValue()));
+
+        Map<String, Function<Object[], Object>> answers = new HashMap<>();
+        answers.put("findByIds", args -> select(menus, args[0]));
+        answers.put("findOptionCategoriesByMenuIds", args -> selectAll(categoriesByMenu, args[0]));
+        answers.put("findOptionItemsByCategoryIds", args -> selectAll(itemsByCategory, args[0]));
+        menuService = new MenuService(BenchmarkFixtures.stub(MenuMapper.class, answers), null, null);
+
+        batchMenuIds = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            batchMenuIds.add(i * 7 % MENU_COUNT + 1);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> select(Map<Integer, T> source, Object ids) {
+        List<T> result = new ArrayList<>();
+        for (Integer id : (List<Integer>) ids) {
+            T value = source.get(id);
+            if (value != null) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> selectAll(Map<Integer, List<T>> source, Object ids) {
+        List<T> result = new ArrayList<>();
+        for (Integer id : (List<Integer>) ids) {
+            result.addAll(source.getOrDefault(id, Collections.emptyList()));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public MenuDetailResponse getMenuDetail() {
+        cursor = cursor % MENU_COUNT + 1;
+        return menuService.getMenuDetail(cursor);
+    }
+
+    @Benchmark
+    public List<MenuDetailResponse> getMenuDetails() {
+        return menuService.getMenuDetails(batchMenuIds);
+    }
+}
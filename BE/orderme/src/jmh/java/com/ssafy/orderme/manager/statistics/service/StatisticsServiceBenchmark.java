@@ -0,0 +1,113 @@
+package com.ssafy.orderme.manager.statistics.service;
+
+import com.ssafy.orderme.BenchmarkFixtures;
+import com.ssafy.orderme.manager.statistics.dto.response.GenderAgePreferenceResponse;
+import com.ssafy.orderme.manager.statistics.dto.response.PopularMenuResponse;
+import com.ssafy.orderme.manager.statistics.dto.response.SalesRangeResponse;
+import com.ssafy.orderme.manager.statistics.dto.response.WeeklySalesResponse;
+import com.ssafy.orderme.manager.statistics.mapper.StatisticsMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 매장 통계 Map -> 응답 DTO 변환 벤치마크 (StatisticsMapper는 MyBatis resultType="map"과 같은 타입의 행을 돌려주는 스텁)
+ * 당일 매출은 Redis 누적기를 읽으므로 제외하고, 기간 매출은 마감이 끝난 과거 기간(약 15개월)으로 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class StatisticsServiceBenchmark {
+
+    private static final Long STORE_ID = 1L;
+
+    private StatisticsService statisticsService;
+    private LocalDate rangeStart;
+    private LocalDate rangeEnd;
+
+    @Setup
+    public void setUp() {
+        List<Map<String, Object>> popularMenus = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            popularMenus.add(row("menuName", "메뉴" + i, "imageUrl", "https://cdn.example.com/menus/" + i + ".png",
+                    "orderCount", (long) (100 - i * 10)));
+        }
+
+        List<Map<String, Object>> genderPreference = new ArrayList<>();
+        for (String gender : new String[]{"MALE", "FEMALE"}) {
+            for (int i = 1; i <= 3; i++) {
+                genderPreference.add(row("gender", gender, "menuName", "메뉴" + i, "imageUrl", "",
+                        "percentage", new BigDecimal("33.33")));
+            }
+        }
+        List<Map<String, Object>> agePreference = new ArrayList<>();
+        for (int ageGroup = 10; ageGroup <= 60; ageGroup += 10) {
+            for (int i = 1; i <= 3; i++) {
+                agePreference.add(row("ageGroup", ageGroup, "menuName", "메뉴" + i, "imageUrl", "",
+                        "percentage", new BigDecimal("33.33")));
+            }
+        }
+
+        LocalDate monday = LocalDate.now().with(DayOfWeek.MONDAY);
+        List<Map<String, Object>> weeklySales = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            weeklySales.add(row("date", monday.plusDays(i), "totalSales", new BigDecimal(150000 + i * 1000)));
+        }
+
+        Map<String, Function<Object[], Object>> answers = new HashMap<>();
+        answers.put("getPopularMenus", args -> popularMenus);
+        answers.put("getGenderPreference", args -> genderPreference);
+        answers.put("getAgePreference", args -> agePreference);
+        answers.put("getWeeklySales", args -> weeklySales);
+        answers.put("findSalesStats", args -> salesStats(args[2]));
+        statisticsService = new StatisticsService(BenchmarkFixtures.stub(StatisticsMapper.class, answers), null);
+
+        // 연/월/주/일 통계가 모두 섞이도록 월 중간에서 시작해 수요일에 끝나는 과거 기간
+        rangeStart = LocalDate.now().minusYears(1).withDayOfMonth(1).minusMonths(3).plusDays(12);
+        rangeEnd = LocalDate.now().minusMonths(1).with(DayOfWeek.WEDNESDAY);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> salesStats(Object dates) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (LocalDate date : (List<LocalDate>) dates) {
+            rows.add(row("date", java.sql.Date.valueOf(date), "totalSales", new BigDecimal(500000),
+                    "totalOrders", 120L, "takeoutSales", new BigDecimal(200000), "eatInSales", new BigDecimal(300000),
+                    "takeoutOrders", 50L, "eatInOrders", 70L));
+        }
+        return rows;
+    }
+
+    private static Map<String, Object> row(Object... keyValues) {
+        Map<String, Object> row = new HashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            row.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return row;
+    }
+
+    @Benchmark
+    public List<PopularMenuResponse> getPopularMenus() {
+        return statisticsService.getPopularMenus(STORE_ID);
+    }
+
+    @Benchmark
+    public GenderAgePreferenceResponse getGenderAgePreference() {
+        return statisticsService.getGenderAgePreference(STORE_ID);
+    }
+
+    @Benchmark
+    public WeeklySalesResponse getWeeklySales() {
+        return statisticsService.getWeeklySales(STORE_ID);
+    }
+
+    @Benchmark
+    public SalesRangeResponse getSalesRange() {
+        return statisticsService.getSalesRange(STORE_ID, rangeStart, rangeEnd);
+    }
+}
@@ -0,0 +1,110 @@
+package com.ssafy.orderme.payment.service;
+
+import com.ssafy.orderme.BenchmarkFixtures;
+import com.ssafy.orderme.payment.model.CardInfo;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카드 BIN 식별 벤치마크: 기존 HashMap 전체 순회 방식 vs BinTable 트라이
+ * 주요 브랜드 BIN에 무작위 6자리 BIN을 binCount개 더한 같은 데이터로 두 방식을 비교한다. (50: 기존 하드코딩 규모)
+ * identifyCard는 배포되는 BIN 데이터 파일을 읽은 CardService 자체를 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CardServiceBenchmark {
+
+    private static final int CARD_COUNT = 1024;
+
+    @Param({"50", "1000", "5000"})
+    public int binCount;
+
+    private BinTable binTable;
+    private CardService cardService;
+    private Map<String, String[]> legacyBinRanges;
+    private String[] cardNumbers;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws IOException {
+        cardService = new CardService();
+        BenchmarkFixtures.setField(cardService, "binLocation", new ClassPathResource("bin/bin-ranges.txt"));
+        cardService.initBinDatabase();
+
+        Random random = new Random(42);
+        BinTable.Builder builder = BinTable.builder("bench");
+        legacyBinRanges = new HashMap<>();
+        String[][] seeds = {
+                {"4", "VISA", "신용카드"}, {"51", "MasterCard", "신용카드"}, {"55", "MasterCard", "신용카드"},
+                {"34", "American Express", "신용카드"}, {"9490", "KB국민카드", "신용카드"},
+                {"4579", "KB국민카드", "체크카드"}, {"9410", "신한카드", "신용카드"}, {"4330", "카카오뱅크", "체크카드"}};
+        for (String[] seed : seeds) {
+            builder.add(seed[0], seed[1], seed[2], "");
+            legacyBinRanges.put(seed[0], new String[]{seed[1], seed[2]});
+        }
+        for (int i = 0; i < binCount; i++) {
+            String prefix = String.valueOf(300000 + random.nextInt(700000));
+            builder.add(prefix, "BANK" + (i % 40), i % 2 == 0 ? "신용카드" : "체크카드", "");
+            legacyBinRanges.put(prefix, new String[]{"BANK" + (i % 40), i % 2 == 0 ? "신용카드" : "체크카드"});
+        }
+        binTable = builder.build();
+
+        cardNumbers = new String[CARD_COUNT];
+        for (int i = 0; i < CARD_COUNT; i++) {
+            StringBuilder number = new StringBuilder();
+            for (int j = 0; j < 16; j++) {
+                if (j > 0 && j % 4 == 0) {
+                    number.append('-');
+                }
+                number.append((char) ('0' + (j == 0 ? 3 + random.nextInt(7) : random.nextInt(10))));
+            }
+            cardNumbers[i] = number.toString();
+        }
+    }
+
+    private String nextCardNumber() {
+        cursor = (cursor + 1) & (CARD_COUNT - 1);
+        return cardNumbers[cursor];
+    }
+
+    @Benchmark
+    public CardInfo binTable() {
+        return binTable.lookup(nextCardNumber());
+    }
+
+    @Benchmark
+    public CardInfo identifyCard() {
+        return cardService.identifyCard(nextCardNumber());
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        blackhole.consume(legacyIdentifyCard(nextCardNumber()));
+    }
+
+    // 기존 CardService.identifyCard 구현 (정규식 정리 + BIN 전체 순회 + 매번 CardInfo 생성)
+    private CardInfo legacyIdentifyCard(String cardNumber) {
+        String cleanNumber = cardNumber.replaceAll("\\D", "");
+        String[] result = null;
+        int maxMatchLength = 0;
+        for (Map.Entry<String, String[]> entry : legacyBinRanges.entrySet()) {
+            String prefix = entry.getKey();
+            if (cleanNumber.startsWith(prefix) && prefix.length() > maxMatchLength) {
+                result = entry.getValue();
+                maxMatchLength = prefix.length();
+            }
+        }
+        if (result == null) {
+            return new CardInfo("알 수 없음", "알 수 없음");
+        }
+        return new CardInfo(result[0], result[1]);
+    }
+}
@@ -0,0 +1,79 @@
+package com.ssafy.orderme.recommendation.service;
+
+import com.ssafy.orderme.BenchmarkFixtures;
+import com.ssafy.orderme.kiosk.dto.response.MenuResponse;
+import com.ssafy.orderme.kiosk.model.Menu;
+import com.ssafy.orderme.recommendation.mapper.RecommendationMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 추천 응답 조립 벤치마크 (RecommendationMapper는 메모리 스텁)
+ * processOptionsDataSimplified: 추천 메뉴 1건마다 옵션 카테고리 구성, convertToMenuResponses: 메뉴 목록 DTO 변환
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RecommendationServiceBenchmark {
+
+    private RecommendationService recommendationService;
+    private List<Map<String, Object>> orderedOptions;
+
+    // 메뉴 목록 크기는 변환 벤치마크에만 적용
+    @State(Scope.Benchmark)
+    public static class MenuList {
+        @Param({"10", "100"})
+        public int menuCount;
+
+        private List<Menu> menus;
+
+        @Setup
+        public void setUp() {
+            menus = BenchmarkFixtures.menus(menuCount);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        List<Map<String, Object>> allOptions = new ArrayList<>();
+        for (int itemId = 1; itemId <= 12; itemId++) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("category_id", (itemId - 1) / 3 + 1);
+            row.put("item_id", itemId);
+            row.put("option_name", "옵션값" + itemId);
+            row.put("additional_price", 0);
+            allOptions.add(row);
+        }
+
+        Map<String, Function<Object[], Object>> answers = new HashMap<>();
+        answers.put("findAllOptionsForMenu", args -> allOptions);
+        RecommendationMapper mapper = BenchmarkFixtures.stub(RecommendationMapper.class, answers);
+        recommendationService = new RecommendationService(mapper, null, null, null, null,
+                new RecommendationMetrics(new SimpleMeterRegistry()));
+
+        // ICED, 큰 사이즈, 얼음 많이, 2샷으로 주문한 이력
+        orderedOptions = new ArrayList<>();
+        for (int optionItemId : new int[]{1, 5, 8, 11}) {
+            orderedOptions.add(Collections.singletonMap("option_item_id", optionItemId));
+        }
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> processOrderedOptions() {
+        return recommendationService.processOptionsDataSimplified(orderedOptions, 1);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> processDefaultOptions() {
+        return recommendationService.processOptionsDataSimplified(null, 1);
+    }
+
+    @Benchmark
+    public List<MenuResponse> convertToMenuResponses(MenuList menuList) {
+        return recommendationService.convertToMenuResponses(menuList.menus);
+    }
+}
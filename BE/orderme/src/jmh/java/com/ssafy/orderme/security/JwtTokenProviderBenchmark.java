@@ -0,0 +1,103 @@
+package com.ssafy.orderme.security;
+
+import com.ssafy.orderme.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * JWT 발급/검증 벤치마크 (Redis는 메모리 맵 스텁, 세션 등록 스크립트는 실행하지 않음)
+ * cacheTtlMs=0이면 검증 캐시를 쓰지 않아 매번 서명 검증과 Redis 폐기 목록 조회를 하고,
+ * 60000이면 ValidatedTokenCache 적중 경로를 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private static final int TOKEN_COUNT = 256;
+    private static final String SECRET = "orderme-benchmark-secret-key-for-hs256-signing-0123456789";
+
+    @Param({"0", "60000"})
+    public long cacheTtlMs;
+
+    private JwtTokenProvider issuer;
+    private JwtTokenProvider validator;
+    private String[] tokens;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        // 발급 벤치마크는 토큰 상태를 쌓지 않도록 저장을 버림
+        issuer = provider(null);
+
+        Map<String, String> store = new ConcurrentHashMap<>();
+        validator = provider(store);
+        tokens = new String[TOKEN_COUNT];
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            tokens[i] = validator.createToken("user" + i, JwtTokenProvider.TokenType.APP);
+        }
+    }
+
+    private JwtTokenProvider provider(Map<String, String> store) {
+        RedisTemplate<String, String> redisTemplate = redisTemplate(store);
+        ValidatedTokenCache cache = new ValidatedTokenCache(redisTemplate, null);
+        BenchmarkFixtures.setField(cache, "maxTtlMs", cacheTtlMs);
+        BenchmarkFixtures.setField(cache, "maxSize", 10000);
+
+        JwtTokenProvider provider = new JwtTokenProvider(null,
+                new TokenRegistry(redisTemplate, new AuthRedisScripts(redisTemplate)), cache);
+        BenchmarkFixtures.setField(provider, "secretKey", SECRET);
+        provider.init();
+        return provider;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisTemplate<String, String> redisTemplate(Map<String, String> store) {
+        Map<String, Function<Object[], Object>> answers = new HashMap<>();
+        answers.put("set", args -> {
+            if (store != null) {
+                store.put((String) args[0], (String) args[1]);
+            }
+            return null;
+        });
+        answers.put("get", args -> store != null ? store.get(args[0]) : null);
+        ValueOperations<String, String> valueOperations = BenchmarkFixtures.stub(ValueOperations.class, answers);
+
+        return new RedisTemplate<String, String>() {
+            @Override
+            public ValueOperations<String, String> opsForValue() {
+                return valueOperations;
+            }
+
+            @Override
+            public Boolean hasKey(String key) {
+                return store != null && store.containsKey(key);
+            }
+
+            @Override
+            public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+                return null;
+            }
+        };
+    }
+
+    @Benchmark
+    public String createToken() {
+        return issuer.createToken("user", JwtTokenProvider.TokenType.KIOSK);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        cursor = (cursor + 1) & (TOKEN_COUNT - 1);
+        return validator.validateToken(tokens[cursor]);
+    }
+}
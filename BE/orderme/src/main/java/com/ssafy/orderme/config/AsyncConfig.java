@@ -1,22 +1,52 @@
 package com.ssafy.orderme.config;
 
+import com.ssafy.orderme.recommendation.service.RecommendationTrace;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 @Configuration
 @EnableAsync
 public class AsyncConfig {
+    // 추천 전략 병렬 실행용 (큐가 가득 차면 호출 스레드에서 직접 실행)
+    @Bean
+    public TaskExecutor recommendationTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("Recommend-Async-");
+        // 병렬 실행되는 전략의 DB 왕복/로그 샘플링을 요청 단위로 집계
+        executor.setTaskDecorator(RecommendationTrace::propagate);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 일 통계 작업의 매장/시간 구간 병렬 집계용 (DB 커넥션을 과도하게 점유하지 않도록 스레드 수 고정)
+    @Bean
+    public TaskExecutor statisticsJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setThreadNamePrefix("Stats-Job-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 관리자 통계 백필용 (한 번에 하나의 백필만 실행)
     @Bean
-    public TaskExecutor fcmTaskExecutor() {
+    public TaskExecutor statisticsBackfillExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(25);
-        executor.setThreadNamePrefix("FCM-Async-");
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("Stats-Backfill-");
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+}
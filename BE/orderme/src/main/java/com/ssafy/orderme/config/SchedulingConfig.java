@@ -0,0 +1,22 @@
+package com.ssafy.orderme.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // 자정 통계 작업처럼 오래 걸리는 작업이 주문 이벤트 전달/선호도 버퍼 반영을 막지 않도록 스레드 여러 개 사용
+    @Bean
+    public TaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(4);
+        scheduler.setThreadNamePrefix("Scheduler-");
+        scheduler.initialize();
+        return scheduler;
+    }
+}
@@ -2,13 +2,15 @@ package com.ssafy.orderme.kiosk.controller;
 
 import com.ssafy.orderme.common.ApiResponse;
 import com.ssafy.orderme.kiosk.dto.response.*;
+import com.ssafy.orderme.kiosk.service.CatalogCacheService;
+import com.ssafy.orderme.kiosk.service.CatalogResponseService;
 import com.ssafy.orderme.kiosk.service.CategoryService;
 import com.ssafy.orderme.kiosk.service.MenuService;
 import com.ssafy.orderme.kiosk.service.PreferenceService;
-import com.ssafy.orderme.recommendation.service.RecommendationService;
 import com.ssafy.orderme.security.JwtTokenProvider;
 import com.ssafy.orderme.user.mapper.UserMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -27,20 +29,23 @@ public class KioskController {
     private final CategoryService categoryService;
     private final JwtTokenProvider jwtTokenProvider;
     private final UserMapper userMapper;
-    private final RecommendationService recommendationService;
     private final PreferenceService preferenceService;
+    private final CatalogCacheService catalogCacheService;
+    private final CatalogResponseService catalogResponseService;
 
     @Autowired
     public KioskController(MenuService menuService, CategoryService categoryService,
                            JwtTokenProvider jwtTokenProvider, UserMapper userMapper,
-                           RecommendationService recommendationService,
-                           PreferenceService preferenceService) {
+                           PreferenceService preferenceService,
+                           CatalogCacheService catalogCacheService,
+                           CatalogResponseService catalogResponseService) {
         this.menuService = menuService;
         this.categoryService = categoryService;
         this.jwtTokenProvider = jwtTokenProvider;
         this.userMapper = userMapper;
-        this.recommendationService = recommendationService;
         this.preferenceService = preferenceService;
+        this.catalogCacheService = catalogCacheService;
+        this.catalogResponseService = catalogResponseService;
     }
 
     /**
@@ -82,66 +87,78 @@ public class KioskController {
      * 전체 메뉴 목록 조회
      */
     @GetMapping("/menus")
-    public ResponseEntity<ApiResponse<List<MenuResponse>>> getAllMenus(@RequestParam Integer storeId) {
-        List<MenuResponse> menus = menuService.getAllMenusByStoreId(storeId);
-        return ResponseEntity.ok(ApiResponse.success("메뉴 목록 조회 성공", menus));
+    public ResponseEntity<byte[]> getAllMenus(
+            @RequestParam Integer storeId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return catalogResponseService.toResponseEntity(
+                catalogResponseService.getAllMenus(storeId), ifNoneMatch, acceptEncoding);
     }
 
     /**
      * 카테고리별 메뉴 목록 조회
      */
     @GetMapping("/menus/category/{categoryId}")
-    public ResponseEntity<ApiResponse<List<MenuResponse>>> getMenusByCategoryId(
+    public ResponseEntity<byte[]> getMenusByCategoryId(
             @RequestParam Integer storeId,
-            @PathVariable Integer categoryId) {
-        List<MenuResponse> menus = menuService.getMenusByCategoryId(storeId, categoryId);
-        return ResponseEntity.ok(ApiResponse.success("카테고리별 메뉴 목록 조회 성공", menus));
+            @PathVariable Integer categoryId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return catalogResponseService.toResponseEntity(
+                catalogResponseService.getMenusByCategoryId(storeId, categoryId), ifNoneMatch, acceptEncoding);
     }
 
     /**
      * 메뉴 상세 정보 조회 (옵션 포함)
      */
     @GetMapping("/menus/{menuId}")
-    public ResponseEntity<ApiResponse<MenuDetailResponse>> getMenuDetail(@PathVariable Integer menuId) {
-        MenuDetailResponse menu = menuService.getMenuDetail(menuId);
-        if (menu == null) {
-            return ResponseEntity.ok(ApiResponse.error(HttpStatus.NOT_FOUND, "메뉴를 찾을 수 없습니다."));
-        }
-        return ResponseEntity.ok(ApiResponse.success("메뉴 상세 정보 조회 성공", menu));
+    public ResponseEntity<byte[]> getMenuDetail(
+            @PathVariable Integer menuId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return catalogResponseService.toResponseEntity(
+                catalogResponseService.getMenuDetail(menuId), ifNoneMatch, acceptEncoding);
     }
 
     /**
      * 매장의 모든 카테고리 목록 조회
      */
     @GetMapping("/categories")
-    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getCategories(@RequestParam Integer storeId) {
-        List<CategoryResponse> categories = categoryService.getAllCategoriesByStoreId(storeId.longValue());
-        return ResponseEntity.ok(ApiResponse.success("카테고리 목록 조회 성공", categories));
+    public ResponseEntity<byte[]> getCategories(
+            @RequestParam Integer storeId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return catalogResponseService.toResponseEntity(
+                catalogResponseService.getCategories(storeId), ifNoneMatch, acceptEncoding);
+    }
+
+    /**
+     * 카탈로그 변경분 조회 (증분 동기화)
+     * since 이후 추가/변경/삭제된 메뉴와 카테고리만 반환하고, since가 없거나 변경 내역이 남아 있지 않으면 전체 카탈로그를 반환한다.
+     * epoch는 이전 응답의 epoch로, 서버의 버전 기록이 다시 시작되어 epoch가 달라졌으면 전체 카탈로그를 반환한다.
+     */
+    @GetMapping("/catalog/changes")
+    public ResponseEntity<byte[]> getCatalogChanges(
+            @RequestParam Integer storeId,
+            @RequestParam(required = false) String epoch,
+            @RequestParam(required = false) Long since,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return catalogResponseService.toResponseEntity(
+                catalogResponseService.getCatalogChanges(storeId, epoch, since), ifNoneMatch, acceptEncoding);
     }
 
     /**
      * 주문 완료 후 추천 시스템 데이터 업데이트
-     * 주문한 메뉴들의 선호도 정보를 업데이트
+     * 주문 승인 시 기록되는 주문 이벤트로 서버에서 반영하므로(RecommendationOrderEventConsumer),
+     * 기존 클라이언트 호환을 위해 성공만 응답하고 중복 반영하지 않는다.
      */
     @PostMapping("/update-recommendation-data")
     public ResponseEntity<ApiResponse<Void>> updateRecommendationData(
             @RequestParam Integer storeId,
             @RequestParam List<Integer> menuIds,
             @RequestParam(required = false) String gender,
-            @RequestParam(required = false) String ageGroup) { // Integer age -> String ageGroup
-
-        // 각 메뉴에 대해 인기도 업데이트
-        for (Integer menuId : menuIds) {
-            // 메뉴 인기도 업데이트
-            recommendationService.updateMenuPopularity(menuId, storeId);
-
-            // 성별, 나이 정보가 있는 경우 선호도 업데이트
-            if (gender != null && ageGroup != null) {
-                // 나이/성별 기반 선호도 업데이트
-                recommendationService.updateGenderAgePreference(menuId, storeId, gender, ageGroup);
-            }
-        }
-
+            @RequestParam(required = false) String ageGroup) {
         return ResponseEntity.ok(ApiResponse.success("추천 데이터 업데이트 성공"));
     }
 
@@ -159,7 +176,7 @@ public class KioskController {
      */
     @GetMapping("/preferences/menus")
     public ResponseEntity<ApiResponse<List<PreferredMenuCategoryResponse>>> getPreferredMenusByCategory() {
-        List<PreferredMenuCategoryResponse> menuCategories = preferenceService.getPreferredMenusByCategory();
+        List<PreferredMenuCategoryResponse> menuCategories = catalogCacheService.getPreferredMenusByCategory();
         return ResponseEntity.ok(ApiResponse.success("선호 메뉴 목록 조회 성공", menuCategories));
     }
 
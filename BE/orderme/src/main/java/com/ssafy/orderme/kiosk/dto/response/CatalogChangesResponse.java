@@ -0,0 +1,24 @@
+package com.ssafy.orderme.kiosk.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 카탈로그 변경분 응답 DTO
+ * full이 true면 변경분 대신 매장 전체 카탈로그가 담기며, 키오스크는 보관 중인 카탈로그를 통째로 교체한다.
+ * 메뉴는 옵션을 포함한 상세 정보로 내려가므로 메뉴 목록과 메뉴 상세를 모두 갱신할 수 있다.
+ */
+@Getter
+@Builder
+public class CatalogChangesResponse {
+    private Integer storeId;                    // 매장 ID
+    private String epoch;                       // 버전 epoch (다음 요청의 epoch, 다르면 전체 카탈로그)
+    private long version;                       // 응답 기준 카탈로그 버전 (다음 요청의 since)
+    private boolean full;                       // 전체 카탈로그 여부
+    private List<CategoryResponse> categories;  // 추가/변경된 카테고리
+    private List<MenuDetailResponse> menus;     // 추가/변경된 메뉴 (품절, 옵션 변경 포함)
+    private List<Integer> removedCategoryIds;   // 삭제된 카테고리 ID
+    private List<Integer> removedMenuIds;       // 삭제된 메뉴 ID
+}
@@ -73,4 +73,25 @@ public interface MenuMapper {
      * @return 옵션 아이템 목록
      */
     List<OptionItem> findOptionItemsByCategoryId(Integer categoryId);
+
+    /**
+     * 메뉴 ID 목록으로 메뉴 정보 일괄 조회
+     * @param menuIds 메뉴 ID 목록
+     * @return 메뉴 목록
+     */
+    List<Menu> findByIds(@Param("menuIds") List<Integer> menuIds);
+
+    /**
+     * 메뉴 ID 목록으로 옵션 카테고리 일괄 조회 (menuId 포함)
+     * @param menuIds 메뉴 ID 목록
+     * @return 옵션 카테고리 목록
+     */
+    List<OptionCategory> findOptionCategoriesByMenuIds(@Param("menuIds") List<Integer> menuIds);
+
+    /**
+     * 옵션 카테고리 ID 목록으로 옵션 아이템 일괄 조회
+     * @param categoryIds 옵션 카테고리 ID 목록
+     * @return 옵션 아이템 목록
+     */
+    List<OptionItem> findOptionItemsByCategoryIds(@Param("categoryIds") List<Integer> categoryIds);
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.ssafy.orderme.kiosk.model;
+
+import com.ssafy.orderme.kiosk.dto.response.CategoryResponse;
+import com.ssafy.orderme.kiosk.dto.response.MenuDetailResponse;
+import com.ssafy.orderme.kiosk.dto.response.MenuResponse;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 매장 단위 메뉴 카탈로그 스냅샷
+ * 카테고리, 메뉴, 옵션 카테고리/옵션 항목(메뉴 상세)을 한 번에 적재해 두고 읽기 전용으로만 사용한다.
+ * epoch/version은 Redis 해시 catalog:state:{storeId}의 값으로, 변경 시 새 스냅샷으로 통째로 교체된다.
+ * epoch는 버전 해시가 새로 만들어질 때(Redis 초기화, 유실) 바뀌므로 다른 epoch의 버전끼리는 비교하지 않는다.
+ * 직렬화된 API 응답도 스냅샷에 함께 보관하므로 버전이 바뀌면 같이 버려진다.
+ */
+public class CatalogSnapshot {
+
+    private final Integer storeId;
+    private final String epoch;
+    private final long version;
+    private final long loadedAt;
+    private final List<CategoryResponse> categories;
+    private final List<MenuResponse> menus;
+    private final Map<Integer, List<MenuResponse>> menusByCategoryId;
+    private final Map<Integer, MenuDetailResponse> menuDetails;
+    private final Map<String, SerializedResponse> serializedResponses = new ConcurrentHashMap<>();
+
+    public CatalogSnapshot(Integer storeId, String epoch, long version, long loadedAt,
+                           List<CategoryResponse> categories,
+                           List<MenuResponse> menus,
+                           Map<Integer, List<MenuResponse>> menusByCategoryId,
+                           Map<Integer, MenuDetailResponse> menuDetails) {
+        this.storeId = storeId;
+        this.epoch = epoch;
+        this.version = version;
+        this.loadedAt = loadedAt;
+        this.categories = Collections.unmodifiableList(categories);
+        this.menus = Collections.unmodifiableList(menus);
+        this.menusByCategoryId = Collections.unmodifiableMap(menusByCategoryId);
+        this.menuDetails = Collections.unmodifiableMap(menuDetails);
+    }
+
+    public Integer getStoreId() {
+        return storeId;
+    }
+
+    public String getEpoch() {
+        return epoch;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getLoadedAt() {
+        return loadedAt;
+    }
+
+    public List<CategoryResponse> getCategories() {
+        return categories;
+    }
+
+    public List<MenuResponse> getMenus() {
+        return menus;
+    }
+
+    public List<MenuResponse> getMenusByCategoryId(Integer categoryId) {
+        return menusByCategoryId.getOrDefault(categoryId, Collections.emptyList());
+    }
+
+    public MenuDetailResponse getMenuDetail(Integer menuId) {
+        return menuDetails.get(menuId);
+    }
+
+    public Map<Integer, MenuDetailResponse> getMenuDetails() {
+        return menuDetails;
+    }
+
+    public boolean hasCategory(Integer categoryId) {
+        return menusByCategoryId.containsKey(categoryId);
+    }
+
+    /**
+     * 직렬화된 응답 조회 (처음 요청될 때 만들어 저장)
+     */
+    public SerializedResponse getSerializedResponse(String key, Function<String, SerializedResponse> serializer) {
+        return serializedResponses.computeIfAbsent(key, serializer);
+    }
+
+    /**
+     * 보관 중인 직렬화된 응답 조회 (없으면 null)
+     */
+    public SerializedResponse findSerializedResponse(String key) {
+        return serializedResponses.get(key);
+    }
+}
@@ -13,6 +13,7 @@ public class OptionCategory {
     private Boolean isSoldOut;    // 품절 여부
     private Boolean isDeleted;    // 삭제 여부
     private LocalDateTime deletedAt; // 삭제 시간
+    private Integer menuId;       // 연결된 메뉴 ID (메뉴 ID 목록으로 일괄 조회 시 사용)
 
     // Getter와 Setter 메서드
     public Integer getCategoryId() {  // 반환 타입 변경: Long -> Integer
@@ -70,4 +71,12 @@ public class OptionCategory {
     public void setDeletedAt(LocalDateTime deletedAt) {
         this.deletedAt = deletedAt;
     }
-}
\ No newline at end of file
+
+    public Integer getMenuId() {
+        return menuId;
+    }
+
+    public void setMenuId(Integer menuId) {
+        this.menuId = menuId;
+    }
+}
@@ -0,0 +1,32 @@
+package com.ssafy.orderme.kiosk.model;
+
+/**
+ * 미리 직렬화해 둔 카탈로그 API 응답
+ * ApiResponse JSON 바이트와 이를 gzip으로 압축한 바이트, JSON 내용 해시로 만든 강한 ETag를 보관한다.
+ * gzip을 받지 않는 클라이언트에도 요청마다 압축을 풀지 않도록 원본 JSON도 함께 둔다.
+ * 내용 해시를 쓰므로 같은 카탈로그라면 어느 서버에서 만들어도 ETag가 같다.
+ */
+public class SerializedResponse {
+
+    private final String etag;
+    private final byte[] body;
+    private final byte[] gzipBody;
+
+    public SerializedResponse(String etag, byte[] body, byte[] gzipBody) {
+        this.etag = etag;
+        this.body = body;
+        this.gzipBody = gzipBody;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public byte[] getGzipBody() {
+        return gzipBody;
+    }
+}
@@ -0,0 +1,410 @@
+package com.ssafy.orderme.kiosk.service;
+
+import com.ssafy.orderme.kiosk.dto.response.CategoryResponse;
+import com.ssafy.orderme.kiosk.dto.response.MenuDetailResponse;
+import com.ssafy.orderme.kiosk.dto.response.MenuResponse;
+import com.ssafy.orderme.kiosk.dto.response.PreferredMenuCategoryResponse;
+import com.ssafy.orderme.kiosk.model.CatalogSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 키오스크 메뉴 카탈로그 캐시 서비스
+ * 매장별 카탈로그 스냅샷을 힙에 보관하고, Redis 버전 해시와 pub/sub 채널로 모든 서버의 캐시를 무효화한다.
+ * 매장 버전은 epoch와 함께 catalog:state:{storeId} 해시에 두어, Redis가 초기화되거나 키가 유실되면
+ * 버전이 처음부터 다시 시작되더라도 epoch가 바뀌어 이전 버전과 섞이지 않는다.
+ * 스냅샷이 적재된 이후의 메뉴/카테고리/메뉴 상세 조회는 DB를 거치지 않는다.
+ * 무효화할 때마다 이전 스냅샷과 비교한 변경분을 {@link CatalogChangeLog}에 남겨 키오스크 증분 동기화에 사용한다.
+ * 메뉴/품절 정보는 관리자 API 없이 DB에서 직접 바뀌기도 하므로, 적재된 매장을 주기적으로 DB와 비교해
+ * 달라졌으면 무효화한다. (매장마다 한 서버만 비교하도록 Redis 락 사용)
+ */
+@Slf4j
+@Service
+public class CatalogCacheService implements MessageListener {
+
+    public static final String VERSION_KEY_PREFIX = "catalog:version:";
+    public static final String STATE_KEY_PREFIX = "catalog:state:";
+    public static final String INVALIDATE_CHANNEL = "catalog:invalidate";
+    public static final String REFRESH_LOCK_KEY_PREFIX = "catalog:refresh:lock:";
+
+    // 선호 메뉴 목록은 매장 구분이 없는 전역 데이터이므로 별도 키로 관리
+    private static final String GLOBAL_SCOPE = "global";
+    // Redis 장애로 epoch를 읽지 못했을 때 쓰는 값 (키오스크의 어떤 epoch와도 맞지 않아 전체 카탈로그로 응답)
+    private static final String UNKNOWN_EPOCH = "unknown";
+
+    // KEYS[1]=매장 버전 해시, ARGV[1]=새 epoch 후보 -> {epoch, version}
+    // 해시에 epoch가 없으면(처음이거나 유실) 새 epoch를 정한다.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_STATE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HSETNX', KEYS[1], 'epoch', ARGV[1]) " +
+            "local state = redis.call('HMGET', KEYS[1], 'epoch', 'version') " +
+            "return {state[1], state[2] or '0'}", List.class);
+
+    // KEYS[1]=매장 버전 해시, ARGV[1]=새 epoch 후보 -> 버전을 올린 뒤 {epoch, version}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> INCREMENT_STATE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HSETNX', KEYS[1], 'epoch', ARGV[1]) " +
+            "local version = redis.call('HINCRBY', KEYS[1], 'version', 1) " +
+            "return {redis.call('HGET', KEYS[1], 'epoch'), tostring(version)}", List.class);
+
+    private final MenuService menuService;
+    private final CategoryService categoryService;
+    private final PreferenceService preferenceService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final CatalogChangeLog catalogChangeLog;
+
+    private final Map<Integer, CatalogSnapshot> snapshots = new ConcurrentHashMap<>();
+    // 매장별 마지막 버전 확인 시각 (pub/sub 메시지 유실 대비)
+    private final Map<Integer, Long> lastVerifiedAt = new ConcurrentHashMap<>();
+    // 메뉴 상세 조회는 storeId 없이 들어오므로 메뉴 ID -> 매장 ID 인덱스 유지
+    private final Map<Integer, Integer> storeIdByMenuId = new ConcurrentHashMap<>();
+    // 매장별 적재 락 (한 매장의 적재가 다른 매장 조회를 막지 않도록)
+    private final Map<Integer, Object> loadLocks = new ConcurrentHashMap<>();
+
+    private volatile List<PreferredMenuCategoryResponse> preferredMenus;
+    private volatile long preferredMenusVersion;
+    private volatile long preferredMenusVerifiedAt;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    @Value("${catalog.cache.version-check-interval-ms:5000}")
+    private long versionCheckIntervalMs;
+
+    // 적재된 스냅샷을 DB와 비교하는 주기 (스냅샷의 최대 유효 시간)
+    @Value("${catalog.cache.refresh-interval-ms:60000}")
+    private long refreshIntervalMs;
+
+    @Autowired
+    public CatalogCacheService(MenuService menuService, CategoryService categoryService,
+                               PreferenceService preferenceService,
+                               RedisTemplate<String, String> redisTemplate,
+                               RedisMessageListenerContainer listenerContainer,
+                               CatalogChangeLog catalogChangeLog,
+                               MeterRegistry meterRegistry) {
+        this.menuService = menuService;
+        this.categoryService = categoryService;
+        this.preferenceService = preferenceService;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.catalogChangeLog = catalogChangeLog;
+
+        this.hitCounter = Counter.builder("catalog.cache.requests")
+                .description("키오스크 카탈로그 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("catalog.cache.requests")
+                .description("키오스크 카탈로그 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        meterRegistry.gauge("catalog.cache.stores", snapshots, Map::size);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 매장의 전체 메뉴 목록 조회
+     */
+    public List<MenuResponse> getAllMenus(Integer storeId) {
+        return getSnapshot(storeId).getMenus();
+    }
+
+    /**
+     * 매장의 카테고리별 메뉴 목록 조회
+     */
+    public List<MenuResponse> getMenusByCategoryId(Integer storeId, Integer categoryId) {
+        return getSnapshot(storeId).getMenusByCategoryId(categoryId);
+    }
+
+    /**
+     * 매장의 카테고리 목록 조회
+     */
+    public List<CategoryResponse> getCategories(Integer storeId) {
+        return getSnapshot(storeId).getCategories();
+    }
+
+    /**
+     * 메뉴 상세 정보 조회
+     * 이미 적재된 매장의 메뉴라면 스냅샷에서 반환하고, 아니면 DB에서 조회한다.
+     */
+    public MenuDetailResponse getMenuDetail(Integer menuId) {
+        CatalogSnapshot snapshot = findSnapshotByMenuId(menuId);
+        if (snapshot != null) {
+            return snapshot.getMenuDetail(menuId);
+        }
+        missCounter.increment();
+        return menuService.getMenuDetail(menuId);
+    }
+
+    /**
+     * 메뉴가 들어 있는 적재된 매장 스냅샷 조회 (아직 적재되지 않은 매장의 메뉴면 null)
+     */
+    public CatalogSnapshot findSnapshotByMenuId(Integer menuId) {
+        Integer storeId = storeIdByMenuId.get(menuId);
+        if (storeId == null) {
+            return null;
+        }
+        CatalogSnapshot snapshot = getSnapshot(storeId);
+        return snapshot.getMenuDetail(menuId) != null ? snapshot : null;
+    }
+
+    /**
+     * 카테고리별 선호 메뉴 목록 조회 (전역)
+     */
+    public List<PreferredMenuCategoryResponse> getPreferredMenusByCategory() {
+        long now = System.currentTimeMillis();
+        List<PreferredMenuCategoryResponse> cached = preferredMenus;
+        if (cached != null && now - preferredMenusVerifiedAt < versionCheckIntervalMs) {
+            hitCounter.increment();
+            return cached;
+        }
+        long version = readVersion(GLOBAL_SCOPE);
+        if (cached != null && preferredMenusVersion == version) {
+            preferredMenusVerifiedAt = now;
+            hitCounter.increment();
+            return cached;
+        }
+        missCounter.increment();
+        List<PreferredMenuCategoryResponse> loaded =
+                Collections.unmodifiableList(new ArrayList<>(preferenceService.getPreferredMenusByCategory()));
+        preferredMenusVersion = version;
+        preferredMenusVerifiedAt = now;
+        preferredMenus = loaded;
+        return loaded;
+    }
+
+    /**
+     * 매장 카탈로그 스냅샷 조회 (없거나 버전이 바뀌었으면 새로 적재)
+     */
+    public CatalogSnapshot getSnapshot(Integer storeId) {
+        CatalogSnapshot snapshot = snapshots.get(storeId);
+        if (snapshot != null && !isStale(storeId, snapshot)) {
+            hitCounter.increment();
+            return snapshot;
+        }
+        missCounter.increment();
+        return load(storeId);
+    }
+
+    /**
+     * 적재된 매장 스냅샷을 DB와 비교해 달라졌으면 무효화
+     * 매장마다 락을 잡은 서버 한 곳만 비교하고, 무효화 메시지로 다른 서버에 전파한다.
+     */
+    @Scheduled(initialDelayString = "${catalog.cache.refresh-interval-ms:60000}",
+            fixedDelayString = "${catalog.cache.refresh-interval-ms:60000}")
+    public void refreshLoadedStores() {
+        for (Integer storeId : new ArrayList<>(snapshots.keySet())) {
+            try {
+                Boolean acquired = redisTemplate.opsForValue().setIfAbsent(
+                        REFRESH_LOCK_KEY_PREFIX + storeId, "1", Duration.ofMillis(refreshIntervalMs));
+                if (!Boolean.TRUE.equals(acquired)) {
+                    continue;
+                }
+                CatalogSnapshot current = getSnapshot(storeId);
+                CatalogSnapshot fresh = buildSnapshot(storeId, current.getEpoch(), current.getVersion());
+                if (catalogChangeLog.hasChanges(current, fresh)) {
+                    log.info("카탈로그 DB 변경 감지 - storeId: {}", storeId);
+                    invalidate(storeId);
+                }
+            } catch (Exception e) {
+                log.warn("카탈로그 갱신 확인 실패 - storeId: {}, error: {}", storeId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 매장 카탈로그 무효화
+     * 버전 키를 올리고 새 스냅샷을 적재해 이전 스냅샷과의 변경분을 기록한 뒤, 모든 서버에 무효화 메시지를 발행한다.
+     * 변경 로그를 먼저 남겨야 메시지를 받은 서버의 키오스크가 새 버전의 변경분을 바로 조회할 수 있다.
+     */
+    public long invalidate(Integer storeId) {
+        String scope = String.valueOf(storeId);
+        // 비교 기준이 되는 현재 버전 스냅샷 (이 서버에 없으면 먼저 적재)
+        CatalogSnapshot previous = getSnapshot(storeId);
+        long version = toVersion(redisTemplate.execute(INCREMENT_STATE_SCRIPT,
+                Collections.singletonList(STATE_KEY_PREFIX + scope), newEpoch())).getVersion();
+        // 선호 메뉴는 전체 매장 메뉴를 대상으로 하므로 함께 무효화
+        redisTemplate.opsForValue().increment(VERSION_KEY_PREFIX + GLOBAL_SCOPE);
+        evict(storeId);
+        CatalogSnapshot current = load(storeId);
+        catalogChangeLog.record(previous, current);
+        redisTemplate.convertAndSend(INVALIDATE_CHANNEL, scope);
+        log.info("카탈로그 무효화 - storeId: {}, epoch: {}, version: {}", storeId, current.getEpoch(), version);
+        return version;
+    }
+
+    /**
+     * 다른 서버에서 발행한 무효화 메시지 수신
+     * 무효화를 수행한 서버는 이미 새 버전을 적재했으므로 스냅샷을 버리지 않는다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            Integer storeId = Integer.valueOf(body.trim());
+            CatalogSnapshot snapshot = snapshots.get(storeId);
+            if (snapshot != null && readStoreVersion(storeId).matches(snapshot)) {
+                preferredMenus = null;
+                return;
+            }
+            evict(storeId);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 카탈로그 무효화 메시지: {}", body);
+        }
+    }
+
+    private void evict(Integer storeId) {
+        CatalogSnapshot removed = snapshots.remove(storeId);
+        lastVerifiedAt.remove(storeId);
+        if (removed != null) {
+            removed.getMenuDetails().keySet().forEach(menuId -> storeIdByMenuId.remove(menuId, storeId));
+        }
+        preferredMenus = null;
+    }
+
+    private boolean isStale(Integer storeId, CatalogSnapshot snapshot) {
+        long now = System.currentTimeMillis();
+        Long verifiedAt = lastVerifiedAt.get(storeId);
+        if (verifiedAt != null && now - verifiedAt < versionCheckIntervalMs) {
+            return false;
+        }
+        lastVerifiedAt.put(storeId, now);
+        return !readStoreVersion(storeId).matches(snapshot);
+    }
+
+    private CatalogSnapshot load(Integer storeId) {
+        synchronized (loadLocks.computeIfAbsent(storeId, k -> new Object())) {
+            // 동시에 들어온 요청이 이미 적재했을 수 있으므로 다시 확인
+            CatalogVersion version = readStoreVersion(storeId);
+            CatalogSnapshot current = snapshots.get(storeId);
+            if (current != null && version.matches(current)) {
+                lastVerifiedAt.put(storeId, System.currentTimeMillis());
+                return current;
+            }
+
+            // 버전을 먼저 읽고 DB를 조회해야 적재 도중 변경이 생겨도 다음 확인 때 다시 적재된다
+            CatalogSnapshot snapshot = buildSnapshot(storeId, version.getEpoch(), version.getVersion());
+            CatalogSnapshot previous = snapshots.put(storeId, snapshot);
+            if (previous != null) {
+                previous.getMenuDetails().keySet().forEach(menuId -> storeIdByMenuId.remove(menuId, storeId));
+            }
+            snapshot.getMenuDetails().keySet().forEach(menuId -> storeIdByMenuId.put(menuId, storeId));
+            lastVerifiedAt.put(storeId, System.currentTimeMillis());
+
+            log.info("카탈로그 스냅샷 적재 - storeId: {}, epoch: {}, version: {}, 카테고리: {}, 메뉴: {}",
+                    storeId, version.getEpoch(), version.getVersion(), snapshot.getCategories().size(), snapshot.getMenus().size());
+            return snapshot;
+        }
+    }
+
+    private CatalogSnapshot buildSnapshot(Integer storeId, String epoch, long version) {
+        List<CategoryResponse> categories = categoryService.getAllCategoriesByStoreId(storeId.longValue());
+        List<MenuResponse> menus = menuService.getAllMenusByStoreId(storeId);
+
+        Map<Integer, List<MenuResponse>> menusByCategoryId = new LinkedHashMap<>();
+        for (MenuResponse menu : menus) {
+            menusByCategoryId.computeIfAbsent(menu.getCategoryId(), k -> new ArrayList<>()).add(menu);
+        }
+        menusByCategoryId.replaceAll((k, v) -> Collections.unmodifiableList(v));
+
+        List<Integer> menuIds = menus.stream().map(MenuResponse::getMenuId).collect(Collectors.toList());
+        Map<Integer, MenuDetailResponse> menuDetails = new HashMap<>();
+        for (MenuDetailResponse detail : menuService.getMenuDetails(menuIds)) {
+            menuDetails.put(detail.getMenuId(), detail);
+        }
+
+        return new CatalogSnapshot(storeId, epoch, version, System.currentTimeMillis(),
+                categories, menus, menusByCategoryId, menuDetails);
+    }
+
+    // 전역 버전 조회 (선호 메뉴 목록용)
+    private long readVersion(String scope) {
+        try {
+            String value = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + scope);
+            return value != null ? Long.parseLong(value) : 0L;
+        } catch (Exception e) {
+            // Redis 장애 시에는 보관 중인 목록을 그대로 사용
+            log.warn("카탈로그 버전 조회 실패 - scope: {}, error: {}", scope, e.getMessage());
+            return preferredMenusVersion;
+        }
+    }
+
+    // 매장 epoch/버전 조회
+    private CatalogVersion readStoreVersion(Integer storeId) {
+        try {
+            return toVersion(redisTemplate.execute(READ_STATE_SCRIPT,
+                    Collections.singletonList(STATE_KEY_PREFIX + storeId), newEpoch()));
+        } catch (Exception e) {
+            // Redis 장애 시에는 보관 중인 스냅샷을 그대로 사용
+            log.warn("카탈로그 버전 조회 실패 - storeId: {}, error: {}", storeId, e.getMessage());
+            CatalogSnapshot snapshot = snapshots.get(storeId);
+            if (snapshot != null) {
+                return new CatalogVersion(snapshot.getEpoch(), snapshot.getVersion());
+            }
+            return new CatalogVersion(UNKNOWN_EPOCH, 0L);
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static CatalogVersion toVersion(List state) {
+        if (state == null || state.size() < 2 || state.get(0) == null) {
+            throw new IllegalStateException("카탈로그 버전 해시 응답이 올바르지 않습니다.");
+        }
+        return new CatalogVersion(String.valueOf(state.get(0)), Long.parseLong(String.valueOf(state.get(1))));
+    }
+
+    private static String newEpoch() {
+        return UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+    }
+
+    private static final class CatalogVersion {
+        private final String epoch;
+        private final long version;
+
+        private CatalogVersion(String epoch, long version) {
+            this.epoch = epoch;
+            this.version = version;
+        }
+
+        private String getEpoch() {
+            return epoch;
+        }
+
+        private long getVersion() {
+            return version;
+        }
+
+        private boolean matches(CatalogSnapshot snapshot) {
+            return version == snapshot.getVersion() && epoch.equals(snapshot.getEpoch());
+        }
+    }
+}
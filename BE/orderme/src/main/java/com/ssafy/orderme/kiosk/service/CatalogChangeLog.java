@@ -0,0 +1,268 @@
+package com.ssafy.orderme.kiosk.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.orderme.kiosk.dto.response.CatalogChangesResponse;
+import com.ssafy.orderme.kiosk.dto.response.CategoryResponse;
+import com.ssafy.orderme.kiosk.dto.response.MenuDetailResponse;
+import com.ssafy.orderme.kiosk.model.CatalogSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 매장별 카탈로그 변경 로그
+ * 카탈로그가 무효화되면 이전 스냅샷과 새 스냅샷을 비교해 바뀐 메뉴(품절, 옵션 포함)와 카테고리를
+ * Redis ZSET catalog:changes:{storeId}:{epoch}에 버전을 점수로 "{버전}:{종류}:{ID}" 형식으로 기록한다.
+ * 키오스크가 보낸 epoch가 현재 스냅샷의 epoch와 다르면 (Redis 초기화로 버전이 다시 시작된 경우) 전체 카탈로그를 내려준다.
+ * 버전마다 최소 한 건(변경 없음은 NONE)을 남겨, 조회 구간에 빠진 버전이 있으면 변경분 대신 전체 카탈로그를 내려준다.
+ * 이전 스냅샷이 없거나 epoch가 다르거나 버전이 이어지지 않으면 FULL로 기록한다.
+ */
+@Slf4j
+@Service
+public class CatalogChangeLog {
+
+    public static final String CHANGES_KEY_PREFIX = "catalog:changes:";
+
+    private static final String MENU = "MENU";
+    private static final String MENU_REMOVED = "MENU_REMOVED";
+    private static final String CATEGORY = "CATEGORY";
+    private static final String CATEGORY_REMOVED = "CATEGORY_REMOVED";
+    private static final String FULL = "FULL";
+    private static final String NONE = "NONE";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 변경분을 제공하는 최대 버전 수 (이보다 오래된 since는 전체 카탈로그)
+    @Value("${catalog.changes.retention-versions:200}")
+    private int retentionVersions;
+
+    public CatalogChangeLog(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public int getRetentionVersions() {
+        return retentionVersions;
+    }
+
+    /**
+     * 새 스냅샷 버전의 변경 내역 기록
+     * @param previous 무효화 전 스냅샷 (없으면 null)
+     * @param current 무효화 후 새로 적재한 스냅샷
+     */
+    public void record(CatalogSnapshot previous, CatalogSnapshot current) {
+        long version = current.getVersion();
+        List<String> entries = new ArrayList<>();
+        if (previous == null || !previous.getEpoch().equals(current.getEpoch())
+                || previous.getVersion() != version - 1) {
+            entries.add(FULL + ":0");
+        } else {
+            diffCategories(previous, current, entries);
+            diffMenus(previous, current, entries);
+            if (entries.isEmpty()) {
+                entries.add(NONE + ":0");
+            }
+        }
+
+        String key = changesKey(current);
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        for (String entry : entries) {
+            tuples.add(new DefaultTypedTuple<>(version + ":" + entry, (double) version));
+        }
+        try {
+            redisTemplate.opsForZSet().add(key, tuples);
+            redisTemplate.opsForZSet().removeRangeByScore(key, 0, version - retentionVersions);
+            log.info("카탈로그 변경 기록 - storeId: {}, version: {}, 항목: {}", current.getStoreId(), version, entries.size());
+        } catch (Exception e) {
+            // 기록이 없으면 해당 버전을 지나는 요청은 전체 카탈로그로 응답
+            log.warn("카탈로그 변경 기록 실패 - storeId: {}, version: {}, error: {}",
+                    current.getStoreId(), version, e.getMessage());
+        }
+    }
+
+    /**
+     * 두 스냅샷의 카테고리/메뉴 내용이 다른지 확인 (버전은 비교하지 않음)
+     */
+    public boolean hasChanges(CatalogSnapshot previous, CatalogSnapshot current) {
+        List<String> entries = new ArrayList<>();
+        diffCategories(previous, current, entries);
+        diffMenus(previous, current, entries);
+        return !entries.isEmpty();
+    }
+
+    /**
+     * since 이후 변경분 조회 (스냅샷 버전까지)
+     * epoch가 다르거나, 변경 로그가 보관 범위를 벗어났거나, 빠진 버전이 있으면 전체 카탈로그를 돌려준다.
+     */
+    public CatalogChangesResponse getChanges(CatalogSnapshot snapshot, String epoch, long since) {
+        long version = snapshot.getVersion();
+        if (!snapshot.getEpoch().equals(epoch)) {
+            return full(snapshot);
+        }
+        if (since == version) {
+            return delta(snapshot, Collections.emptyMap(), Collections.emptyMap());
+        }
+        if (since < 0 || since > version || version - since > retentionVersions) {
+            return full(snapshot);
+        }
+
+        Set<String> members;
+        try {
+            members = redisTemplate.opsForZSet().rangeByScore(changesKey(snapshot), since + 1, version);
+        } catch (Exception e) {
+            log.warn("카탈로그 변경 로그 조회 실패 - storeId: {}, error: {}", snapshot.getStoreId(), e.getMessage());
+            return full(snapshot);
+        }
+        if (members == null) {
+            return full(snapshot);
+        }
+
+        // 버전 순으로 적용해 엔티티별 마지막 변경만 남김 (true: 추가/변경, false: 삭제)
+        List<String[]> entries = new ArrayList<>(members.size());
+        for (String member : members) {
+            String[] parts = member.split(":");
+            if (parts.length == 3) {
+                entries.add(parts);
+            }
+        }
+        entries.sort(Comparator.comparingLong(parts -> Long.parseLong(parts[0])));
+
+        Set<Long> recordedVersions = new HashSet<>();
+        Map<Integer, Boolean> categoryChanges = new LinkedHashMap<>();
+        Map<Integer, Boolean> menuChanges = new LinkedHashMap<>();
+        for (String[] parts : entries) {
+            recordedVersions.add(Long.parseLong(parts[0]));
+            Integer id = Integer.valueOf(parts[2]);
+            switch (parts[1]) {
+                case FULL:
+                    return full(snapshot);
+                case CATEGORY:
+                    categoryChanges.put(id, true);
+                    break;
+                case CATEGORY_REMOVED:
+                    categoryChanges.put(id, false);
+                    break;
+                case MENU:
+                    menuChanges.put(id, true);
+                    break;
+                case MENU_REMOVED:
+                    menuChanges.put(id, false);
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (recordedVersions.size() != version - since) {
+            return full(snapshot);
+        }
+        return delta(snapshot, categoryChanges, menuChanges);
+    }
+
+    private CatalogChangesResponse delta(CatalogSnapshot snapshot, Map<Integer, Boolean> categoryChanges,
+                                         Map<Integer, Boolean> menuChanges) {
+        Map<Integer, CategoryResponse> categoriesById = new HashMap<>();
+        if (!categoryChanges.isEmpty()) {
+            for (CategoryResponse category : snapshot.getCategories()) {
+                categoriesById.put(category.getCategoryId(), category);
+            }
+        }
+
+        List<CategoryResponse> categories = new ArrayList<>();
+        List<Integer> removedCategoryIds = new ArrayList<>();
+        categoryChanges.forEach((categoryId, changed) -> {
+            CategoryResponse category = changed ? categoriesById.get(categoryId) : null;
+            if (category != null) {
+                categories.add(category);
+            } else {
+                removedCategoryIds.add(categoryId);
+            }
+        });
+
+        List<MenuDetailResponse> menus = new ArrayList<>();
+        List<Integer> removedMenuIds = new ArrayList<>();
+        menuChanges.forEach((menuId, changed) -> {
+            MenuDetailResponse menu = changed ? snapshot.getMenuDetail(menuId) : null;
+            if (menu != null) {
+                menus.add(menu);
+            } else {
+                removedMenuIds.add(menuId);
+            }
+        });
+
+        return CatalogChangesResponse.builder()
+                .storeId(snapshot.getStoreId())
+                .epoch(snapshot.getEpoch())
+                .version(snapshot.getVersion())
+                .full(false)
+                .categories(categories)
+                .menus(menus)
+                .removedCategoryIds(removedCategoryIds)
+                .removedMenuIds(removedMenuIds)
+                .build();
+    }
+
+    private CatalogChangesResponse full(CatalogSnapshot snapshot) {
+        List<MenuDetailResponse> menus = new ArrayList<>(snapshot.getMenus().size());
+        snapshot.getMenus().forEach(menu -> {
+            MenuDetailResponse detail = snapshot.getMenuDetail(menu.getMenuId());
+            if (detail != null) {
+                menus.add(detail);
+            }
+        });
+        return CatalogChangesResponse.builder()
+                .storeId(snapshot.getStoreId())
+                .epoch(snapshot.getEpoch())
+                .version(snapshot.getVersion())
+                .full(true)
+                .categories(snapshot.getCategories())
+                .menus(menus)
+                .removedCategoryIds(Collections.emptyList())
+                .removedMenuIds(Collections.emptyList())
+                .build();
+    }
+
+    private static String changesKey(CatalogSnapshot snapshot) {
+        return CHANGES_KEY_PREFIX + snapshot.getStoreId() + ":" + snapshot.getEpoch();
+    }
+
+    private void diffCategories(CatalogSnapshot previous, CatalogSnapshot current, List<String> entries) {
+        Map<Integer, CategoryResponse> before = new HashMap<>();
+        for (CategoryResponse category : previous.getCategories()) {
+            before.put(category.getCategoryId(), category);
+        }
+        for (CategoryResponse category : current.getCategories()) {
+            CategoryResponse old = before.remove(category.getCategoryId());
+            if (old == null || !sameJson(old, category)) {
+                entries.add(CATEGORY + ":" + category.getCategoryId());
+            }
+        }
+        before.keySet().forEach(categoryId -> entries.add(CATEGORY_REMOVED + ":" + categoryId));
+    }
+
+    private void diffMenus(CatalogSnapshot previous, CatalogSnapshot current, List<String> entries) {
+        Map<Integer, MenuDetailResponse> before = new HashMap<>(previous.getMenuDetails());
+        current.getMenuDetails().forEach((menuId, menu) -> {
+            MenuDetailResponse old = before.remove(menuId);
+            if (old == null || !sameJson(old, menu)) {
+                entries.add(MENU + ":" + menuId);
+            }
+        });
+        before.keySet().forEach(menuId -> entries.add(MENU_REMOVED + ":" + menuId));
+    }
+
+    // 응답 DTO에 equals가 없으므로 직렬화 결과로 비교 (키오스크가 받는 내용이 같으면 변경 없음)
+    private boolean sameJson(Object before, Object after) {
+        try {
+            return Arrays.equals(objectMapper.writeValueAsBytes(before), objectMapper.writeValueAsBytes(after));
+        } catch (JsonProcessingException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.ssafy.orderme.kiosk.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.orderme.common.ApiResponse;
+import com.ssafy.orderme.kiosk.dto.response.CatalogChangesResponse;
+import com.ssafy.orderme.kiosk.dto.response.MenuDetailResponse;
+import com.ssafy.orderme.kiosk.model.CatalogSnapshot;
+import com.ssafy.orderme.kiosk.model.SerializedResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 키오스크 카탈로그 응답 스냅샷 서비스
+ * 매장 카탈로그 스냅샷마다 메뉴 목록/카테고리별 메뉴/카테고리/메뉴 상세 응답을 한 번만 JSON 직렬화해 원본과 gzip으로 보관하고,
+ * 강한 ETag와 함께 그대로 내려보낸다. 카탈로그 버전이 바뀌어 스냅샷이 교체될 때만 다시 직렬화한다.
+ * If-None-Match가 현재 ETag와 같으면 DTO 조립이나 직렬화 없이 304로 응답한다.
+ * 카탈로그 변경분 응답도 since별로 같은 방식으로 보관한다.
+ *
+ * 메트릭: catalog.response.requests{result=not_modified|gzip|identity}, catalog.response.serialized
+ */
+@Service
+public class CatalogResponseService {
+
+    private final CatalogCacheService catalogCacheService;
+    private final CatalogChangeLog catalogChangeLog;
+    private final ObjectMapper objectMapper;
+
+    private final Counter notModifiedCounter;
+    private final Counter gzipCounter;
+    private final Counter identityCounter;
+    private final Counter serializedCounter;
+
+    public CatalogResponseService(CatalogCacheService catalogCacheService, CatalogChangeLog catalogChangeLog,
+                                  ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.catalogCacheService = catalogCacheService;
+        this.catalogChangeLog = catalogChangeLog;
+        this.objectMapper = objectMapper;
+
+        this.notModifiedCounter = requestCounter(meterRegistry, "not_modified");
+        this.gzipCounter = requestCounter(meterRegistry, "gzip");
+        this.identityCounter = requestCounter(meterRegistry, "identity");
+        this.serializedCounter = Counter.builder("catalog.response.serialized")
+                .description("카탈로그 응답 직렬화 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 매장의 전체 메뉴 목록 응답
+     */
+    public SerializedResponse getAllMenus(Integer storeId) {
+        CatalogSnapshot snapshot = catalogCacheService.getSnapshot(storeId);
+        return snapshot.getSerializedResponse("menus",
+                key -> serialize(ApiResponse.success("메뉴 목록 조회 성공", snapshot.getMenus())));
+    }
+
+    /**
+     * 매장의 카테고리별 메뉴 목록 응답 (없는 카테고리는 보관하지 않음)
+     */
+    public SerializedResponse getMenusByCategoryId(Integer storeId, Integer categoryId) {
+        CatalogSnapshot snapshot = catalogCacheService.getSnapshot(storeId);
+        if (!snapshot.hasCategory(categoryId)) {
+            return serialize(ApiResponse.success("카테고리별 메뉴 목록 조회 성공", Collections.emptyList()));
+        }
+        return snapshot.getSerializedResponse("category:" + categoryId,
+                key -> serialize(ApiResponse.success("카테고리별 메뉴 목록 조회 성공",
+                        snapshot.getMenusByCategoryId(categoryId))));
+    }
+
+    /**
+     * 매장의 카테고리 목록 응답
+     */
+    public SerializedResponse getCategories(Integer storeId) {
+        CatalogSnapshot snapshot = catalogCacheService.getSnapshot(storeId);
+        return snapshot.getSerializedResponse("categories",
+                key -> serialize(ApiResponse.success("카테고리 목록 조회 성공", snapshot.getCategories())));
+    }
+
+    /**
+     * 메뉴 상세 정보 응답
+     * 적재된 매장 스냅샷의 메뉴만 보관하고, 그 밖의 메뉴는 매번 조회해 직렬화한다.
+     */
+    public SerializedResponse getMenuDetail(Integer menuId) {
+        CatalogSnapshot snapshot = catalogCacheService.findSnapshotByMenuId(menuId);
+        if (snapshot != null) {
+            return snapshot.getSerializedResponse("menu:" + menuId,
+                    key -> serialize(ApiResponse.success("메뉴 상세 정보 조회 성공", snapshot.getMenuDetail(menuId))));
+        }
+        MenuDetailResponse menu = catalogCacheService.getMenuDetail(menuId);
+        if (menu == null) {
+            return serialize(ApiResponse.error(HttpStatus.NOT_FOUND, "메뉴를 찾을 수 없습니다."));
+        }
+        return serialize(ApiResponse.success("메뉴 상세 정보 조회 성공", menu));
+    }
+
+    /**
+     * 카탈로그 변경분 응답
+     * 최신 버전을 가진 키오스크의 요청(since == 현재 버전)은 스냅샷에 보관된 빈 변경분을 그대로 돌려준다.
+     * 보관 범위 안의 since 응답만 스냅샷에 보관하고, 변경 로그 누락으로 만든 전체 응답은 보관하지 않는다.
+     * epoch가 현재 스냅샷과 다르면 since와 관계없이 전체 카탈로그로 응답한다.
+     */
+    public SerializedResponse getCatalogChanges(Integer storeId, String epoch, Long since) {
+        CatalogSnapshot snapshot = catalogCacheService.getSnapshot(storeId);
+        long version = snapshot.getVersion();
+        if (epoch == null || !epoch.equals(snapshot.getEpoch()) || since == null || since < 0 || since > version
+                || version - since > catalogChangeLog.getRetentionVersions()) {
+            return snapshot.getSerializedResponse("changes:full",
+                    key -> serialize(ApiResponse.success("카탈로그 변경 내역 조회 성공",
+                            catalogChangeLog.getChanges(snapshot, snapshot.getEpoch(), -1L))));
+        }
+
+        String key = "changes:" + since;
+        SerializedResponse cached = snapshot.findSerializedResponse(key);
+        if (cached != null) {
+            return cached;
+        }
+        CatalogChangesResponse changes = catalogChangeLog.getChanges(snapshot, epoch, since);
+        if (changes.isFull()) {
+            return serialize(ApiResponse.success("카탈로그 변경 내역 조회 성공", changes));
+        }
+        return snapshot.getSerializedResponse(key,
+                k -> serialize(ApiResponse.success("카탈로그 변경 내역 조회 성공", changes)));
+    }
+
+    /**
+     * 직렬화된 응답을 HTTP 응답으로 변환
+     * gzip을 받는 클라이언트에는 압축 바이트를, 아니면 보관해 둔 원본 JSON 바이트를 그대로 보낸다.
+     * 인코딩마다 바이트가 다르므로 gzip 응답의 ETag에는 -gzip을 붙이고, If-None-Match가 보낼 응답의 ETag와 같으면 304로 응답한다.
+     */
+    public ResponseEntity<byte[]> toResponseEntity(SerializedResponse response, String ifNoneMatch,
+                                                   String acceptEncoding) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String etag = gzip ? gzipEtag(response.getEtag()) : response.getEtag();
+        if (matches(ifNoneMatch, etag)) {
+            notModifiedCounter.increment();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            gzipCounter.increment();
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(response.getGzipBody());
+        }
+        identityCounter.increment();
+        return builder.body(response.getBody());
+    }
+
+    private SerializedResponse serialize(ApiResponse<?> body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            serializedCounter.increment();
+            return new SerializedResponse(etag(json), json, gzip(json));
+        } catch (IOException e) {
+            throw new IllegalStateException("카탈로그 응답 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    // If-None-Match는 약한 비교 (W/ 접두사 무시, 여러 값과 * 허용)
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isEmpty()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Accept-Encoding의 q값 반영 (gzip;q=0은 거부, gzip이 없으면 *의 q값을 따름)
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return false;
+        }
+        Double gzipQ = null;
+        Double wildcardQ = null;
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.split(";");
+            String coding = parts[0].trim().toLowerCase();
+            double q = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=") || param.startsWith("Q=")) {
+                    try {
+                        q = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQ = gzipQ == null ? q : Math.max(gzipQ, q);
+            } else if (coding.equals("*")) {
+                wildcardQ = q;
+            }
+        }
+        if (gzipQ != null) {
+            return gzipQ > 0;
+        }
+        return wildcardQ != null && wildcardQ > 0;
+    }
+
+    // "hash" -> "hash-gzip"
+    private static String gzipEtag(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-gzip\"";
+    }
+
+    private static String etag(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        }
+        return out.toByteArray();
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("catalog.response.requests")
+                .description("키오스크 카탈로그 응답 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -52,18 +52,79 @@ public class MenuService {
      * 메뉴 상세 정보 조회
      */
     public MenuDetailResponse getMenuDetail(Integer menuId) {
-        Menu menu = menuMapper.findById(menuId);
-        if (menu == null) {
+        if (menuId == null) {
             return null;
         }
+        List<MenuDetailResponse> details = getMenuDetails(Collections.singletonList(menuId));
+        return details.isEmpty() ? null : details.get(0);
+    }
+
+    /**
+     * 메뉴 상세 정보 일괄 조회
+     * 메뉴, 옵션 카테고리, 옵션 아이템을 각각 IN 쿼리 1번씩(총 3번)으로 조회한 뒤 메모리에서 조립
+     * 결과는 요청한 메뉴 ID 순서를 따르며, 존재하지 않는 메뉴는 제외
+     */
+    public List<MenuDetailResponse> getMenuDetails(List<Integer> menuIds) {
+        if (menuIds == null || menuIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Integer> distinctIds = menuIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        if (distinctIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 1. 메뉴 조회
+        Map<Integer, Menu> menuMap = new HashMap<>();
+        for (Menu menu : menuMapper.findByIds(distinctIds)) {
+            menuMap.put(menu.getMenuId(), menu);
+        }
+        if (menuMap.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-        // 메뉴에 연결된 옵션 카테고리 목록 조회
-        List<OptionCategory> optionCategories = menuMapper.findOptionCategoriesByMenuId(menuId);
+        // 2. 메뉴별 옵션 카테고리 조회
+        List<OptionCategory> optionCategories = menuMapper.findOptionCategoriesByMenuIds(new ArrayList<>(menuMap.keySet()));
+        Map<Integer, List<OptionCategory>> categoriesByMenuId = new HashMap<>();
+        Set<Integer> categoryIds = new LinkedHashSet<>();
+        for (OptionCategory category : optionCategories) {
+            categoriesByMenuId.computeIfAbsent(category.getMenuId(), k -> new ArrayList<>()).add(category);
+            categoryIds.add(category.getCategoryId());
+        }
+
+        // 3. 옵션 카테고리별 옵션 아이템 조회
+        Map<Integer, List<OptionItem>> itemsByCategoryId = new HashMap<>();
+        if (!categoryIds.isEmpty()) {
+            for (OptionItem item : menuMapper.findOptionItemsByCategoryIds(new ArrayList<>(categoryIds))) {
+                itemsByCategoryId.computeIfAbsent(item.getCategoryId().intValue(), k -> new ArrayList<>()).add(item);
+            }
+        }
+
+        List<MenuDetailResponse> result = new ArrayList<>();
+        for (Integer menuId : distinctIds) {
+            Menu menu = menuMap.get(menuId);
+            if (menu == null) {
+                continue;
+            }
+            List<OptionCategory> categories = categoriesByMenuId.getOrDefault(menuId, Collections.emptyList());
+            result.add(toMenuDetailResponse(menu, categories, itemsByCategoryId));
+        }
+        return result;
+    }
+
+    /**
+     * 메뉴와 옵션 정보로 MenuDetailResponse 생성
+     */
+    private MenuDetailResponse toMenuDetailResponse(Menu menu, List<OptionCategory> optionCategories,
+                                                    Map<Integer, List<OptionItem>> itemsByCategoryId) {
         List<Map<String, Object>> optionCategoryMaps = new ArrayList<>();
 
-        // 각 옵션 카테고리에 대해 옵션 아이템 조회 및 응답 생성
+        // 각 옵션 카테고리에 대해 옵션 아이템 응답 생성
         for (OptionCategory category : optionCategories) {
-            List<OptionItem> items = menuMapper.findOptionItemsByCategoryId(category.getCategoryId());
+            List<OptionItem> items = itemsByCategoryId.getOrDefault(category.getCategoryId(), Collections.emptyList());
 
             Map<String, Object> categoryMap = new HashMap<>();
             categoryMap.put("optionCategory", category.getCategoryName());
@@ -0,0 +1,30 @@
+package com.ssafy.orderme.manager.controller;
+
+import com.ssafy.orderme.common.ApiResponse;
+import com.ssafy.orderme.kiosk.service.CatalogCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 키오스크 메뉴 카탈로그 캐시 관리 API
+ * 메뉴/카테고리/옵션을 DB에서 직접 변경한 뒤 호출하면 모든 서버의 카탈로그 캐시가 갱신된다.
+ * 무효화 시 이전 카탈로그와 비교한 변경분이 기록되어 키오스크는 /api/kiosk/catalog/changes로 바뀐 항목만 받아갈 수 있다.
+ */
+@RestController
+@RequestMapping("/api/admin/catalog")
+@RequiredArgsConstructor
+public class CatalogController {
+
+    private final CatalogCacheService catalogCacheService;
+
+    /**
+     * 매장 카탈로그 캐시를 무효화합니다.
+     *
+     * @param storeId 매장 ID
+     * @return 변경된 카탈로그 버전
+     */
+    @PostMapping("/{storeId}/invalidate")
+    public ApiResponse<Long> invalidate(@PathVariable Integer storeId) {
+        return ApiResponse.success(catalogCacheService.invalidate(storeId));
+    }
+}
@@ -4,11 +4,17 @@ import com.ssafy.orderme.common.ApiResponse;
 import com.ssafy.orderme.manager.statistics.dto.response.DailySalesResponse;
 import com.ssafy.orderme.manager.statistics.dto.response.GenderAgePreferenceResponse;
 import com.ssafy.orderme.manager.statistics.dto.response.PopularMenuResponse;
+import com.ssafy.orderme.manager.statistics.dto.response.SalesRangeResponse;
 import com.ssafy.orderme.manager.statistics.dto.response.WeeklySalesResponse;
+import com.ssafy.orderme.manager.statistics.service.StatisticsJobRunner;
 import com.ssafy.orderme.manager.statistics.service.StatisticsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -21,6 +27,7 @@ import java.util.List;
 public class StatisticsController {
 
     private final StatisticsService statisticsService;
+    private final StatisticsJobRunner statisticsJobRunner;
 
     /**
      * 일일 매출 정보를 조회합니다.
@@ -67,4 +74,53 @@ public class StatisticsController {
     public ApiResponse<WeeklySalesResponse> getWeeklySales(@RequestParam Long storeId) {
         return ApiResponse.success(statisticsService.getWeeklySales(storeId));
     }
-}
\ No newline at end of file
+
+    /**
+     * 기간 매출 정보를 조회합니다.
+     * 마감된 연/월/주 통계를 우선 사용하고 나머지는 일 통계로 채웁니다.
+     *
+     * @param storeId 매장 ID
+     * @param startDate 조회 시작일 (yyyy-MM-dd)
+     * @param endDate 조회 종료일 (yyyy-MM-dd, 포함, 오늘 이후면 오늘까지)
+     * @return 구간별 매출 정보 및 합계 (기간이 올바르지 않으면 400)
+     */
+    @GetMapping("/sales/range")
+    public ResponseEntity<ApiResponse<SalesRangeResponse>> getSalesRange(
+            @RequestParam Long storeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(statisticsService.getSalesRange(storeId, startDate, endDate)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(400, e.getMessage()));
+        }
+    }
+
+    /**
+     * 기간 통계를 다시 생성합니다. (백그라운드에서 하루씩 실행)
+     * force가 false이면 이미 완료된 매장은 건너뛰고, true이면 모든 매장을 다시 집계합니다.
+     *
+     * @param startDate 시작 날짜 (yyyy-MM-dd)
+     * @param endDate 종료 날짜 (yyyy-MM-dd, 포함, 어제 이전)
+     * @param force 완료된 매장 재집계 여부
+     * @return 접수 결과
+     */
+    @PostMapping("/jobs/backfill")
+    public ResponseEntity<ApiResponse<Void>> backfill(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "false") boolean force) {
+        try {
+            if (!statisticsJobRunner.requestBackfill(startDate, endDate, force)) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(ApiResponse.error(409, "이미 실행 중인 통계 백필이 있습니다."));
+            }
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success(HttpStatus.ACCEPTED, "통계 백필이 접수되었습니다.", null));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(400, e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.ssafy.orderme.manager.statistics.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 기간 매출 정보 응답 DTO
+ * 조회 기간을 가장 큰 단위(연/월/주/일)의 통계 구간으로 나눈 결과와 합계를 포함
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesRangeResponse {
+    private LocalDate startDate;          // 조회 시작일
+    private LocalDate endDate;            // 조회 종료일
+    private int totalSales;               // 기간 매출액
+    private int totalOrders;              // 기간 주문 건수
+    private int takeoutSales;             // 기간 포장 매출액
+    private int eatInSales;               // 기간 방문 매출액
+    private int takeoutOrders;            // 기간 포장 건수
+    private int eatInOrders;              // 기간 방문 건수
+    private List<PeriodSales> periods;    // 구간별 매출 정보 리스트
+
+    /**
+     * 구간별 매출 정보 내부 클래스
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PeriodSales {
+        private String periodType;    // 통계 단위 (YEAR, MONTH, WEEK, DAY)
+        private LocalDate startDate;  // 구간 시작일
+        private LocalDate endDate;    // 구간 종료일
+        private int totalSales;       // 매출액
+        private int totalOrders;      // 주문 건수
+    }
+}
@@ -1,9 +1,11 @@
 package com.ssafy.orderme.manager.statistics.mapper;
 
+import com.ssafy.orderme.manager.statistics.model.MenuOrderCount;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -60,30 +62,131 @@ public interface StatisticsMapper {
             @Param("endDate") LocalDate endDate);
 
     /**
-     * 일일 매출 통계를 저장합니다.
+     * 매장의 기간 내 승인 주문별 매출을 조회합니다.
      *
-     * @param date 통계 날짜
+     * @param storeId 매장 ID
+     * @param start 시작 일시 (포함)
+     * @param end 종료 일시 (미포함)
+     * @return 주문별 주문 ID, 시, 포장 여부, 금액(원 단위 반올림)
      */
-    void insertDailySalesStats(@Param("date") LocalDate date);
+    List<Map<String, Object>> findAcceptedOrderSales(
+            @Param("storeId") Long storeId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
 
     /**
-     * 인기 메뉴 통계를 저장합니다.
+     * 매출 통계를 삭제합니다.
      *
+     * @param storeId 매장 ID
      * @param date 통계 날짜
+     * @param periodType 통계 기간 유형 (DAY, WEEK, MONTH, YEAR)
      */
-    void insertPopularMenuStats(@Param("date") LocalDate date);
+    void deleteSalesStats(
+            @Param("storeId") Long storeId,
+            @Param("date") LocalDate date,
+            @Param("periodType") String periodType);
 
     /**
-     * 성별 선호도 통계를 저장합니다.
+     * 매장 1곳의 매출 통계를 저장합니다.
+     */
+    void insertSalesStats(
+            @Param("storeId") Long storeId,
+            @Param("periodType") String periodType,
+            @Param("date") LocalDate date,
+            @Param("totalSales") int totalSales,
+            @Param("takeoutSales") int takeoutSales,
+            @Param("eatInSales") int eatInSales,
+            @Param("totalOrders") int totalOrders,
+            @Param("takeoutOrders") int takeoutOrders,
+            @Param("eatInOrders") int eatInOrders);
+
+    /**
+     * 하위 기간 통계를 합산해 상위 기간 통계를 저장합니다. (DAY -> WEEK/MONTH, MONTH -> YEAR)
      *
-     * @param date 통계 날짜
+     * @param storeId 매장 ID
+     * @param periodType 저장할 통계 기간 유형
+     * @param periodStart 저장할 통계 날짜 (기간 시작일)
+     * @param sourceType 합산할 통계 기간 유형
+     * @param sourceStart 합산 시작 날짜
+     * @param sourceEnd 합산 종료 날짜 (포함)
+     */
+    void insertRollupSalesStats(
+            @Param("storeId") Long storeId,
+            @Param("periodType") String periodType,
+            @Param("periodStart") LocalDate periodStart,
+            @Param("sourceType") String sourceType,
+            @Param("sourceStart") LocalDate sourceStart,
+            @Param("sourceEnd") LocalDate sourceEnd);
+
+    /**
+     * 기간 유형별로 지정한 시작일들의 매출 통계를 조회합니다.
+     *
+     * @param storeId 매장 ID
+     * @param periodType 통계 기간 유형
+     * @param dates 통계 날짜 목록
+     * @return 매출 통계 목록
+     */
+    List<Map<String, Object>> findSalesStats(
+            @Param("storeId") Long storeId,
+            @Param("periodType") String periodType,
+            @Param("dates") List<LocalDate> dates);
+
+    /**
+     * 매장의 기간 내 승인 주문을 메뉴/성별/연령대별로 집계합니다.
+     *
+     * @param storeId 매장 ID
+     * @param start 시작 일시 (포함)
+     * @param end 종료 일시 (미포함)
+     * @param statsYear 연령대 계산 기준 연도
+     * @return 메뉴/성별/연령대별 주문 수
+     */
+    List<MenuOrderCount> aggregateMenuOrderCounts(
+            @Param("storeId") Long storeId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("statsYear") int statsYear);
+
+    /**
+     * 매장 인기 메뉴 통계를 삭제합니다.
+     */
+    void deleteMenuPopularityStats(@Param("storeId") Long storeId, @Param("date") LocalDate date);
+
+    /**
+     * 매장 인기 메뉴 통계를 일괄 저장합니다.
+     */
+    void insertMenuPopularityStats(
+            @Param("storeId") Long storeId,
+            @Param("date") LocalDate date,
+            @Param("rows") List<MenuOrderCount> rows);
+
+    /**
+     * 매장 성별/연령별 선호도 통계를 삭제합니다.
+     */
+    void deleteMenuPreferenceStats(@Param("storeId") Long storeId, @Param("date") LocalDate date);
+
+    /**
+     * 매장 성별/연령별 선호도 통계를 일괄 저장합니다.
      */
-    void insertGenderPreferenceStats(@Param("date") LocalDate date);
+    void insertMenuPreferenceStats(
+            @Param("storeId") Long storeId,
+            @Param("date") LocalDate date,
+            @Param("rows") List<MenuOrderCount> rows);
 
     /**
-     * 연령별 선호도 통계를 저장합니다.
+     * 통계 작업이 끝난 매장 ID 목록을 조회합니다.
      *
      * @param date 통계 날짜
+     * @return 완료된 매장 ID 목록
+     */
+    List<Long> findCompletedStatsJobStores(@Param("date") LocalDate date);
+
+    /**
+     * 매장 통계 작업 완료를 기록합니다.
+     */
+    void insertStatsJobCheckpoint(@Param("date") LocalDate date, @Param("storeId") Long storeId);
+
+    /**
+     * 날짜의 통계 작업 완료 기록을 삭제합니다.
      */
-    void insertAgePreferenceStats(@Param("date") LocalDate date);
-}
\ No newline at end of file
+    void deleteStatsJobCheckpoints(@Param("date") LocalDate date);
+}
@@ -0,0 +1,24 @@
+package com.ssafy.orderme.manager.statistics.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 메뉴별 주문 수 집계 행
+ * 조회 시에는 메뉴/성별/연령대 조합별 주문 수, 저장 시에는 인기 메뉴·선호도 통계 한 행을 나타낸다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuOrderCount {
+    private Integer menuId;
+    private String gender;          // MALE, FEMALE (비회원/미입력이면 null)
+    private Integer ageGroup;       // 10, 20, 30 ... (생년월일 미입력이면 null)
+    private long orderCount;
+    private BigDecimal percentage;  // 선호도 통계 저장 시에만 사용
+}
@@ -1,6 +1,6 @@
 package com.ssafy.orderme.manager.statistics.scheduler;
 
-import com.ssafy.orderme.manager.statistics.mapper.StatisticsMapper;
+import com.ssafy.orderme.manager.statistics.service.StatisticsJobRunner;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -14,44 +14,22 @@ import java.time.LocalDate;
 @RequiredArgsConstructor
 public class StatisticsScheduler {
 
-    private final StatisticsMapper statisticsMapper;
+    private final StatisticsJobRunner statisticsJobRunner;
 
     /**
      * 매일 자정에 전일 통계 데이터를 생성합니다.
+     * 매출, 인기 메뉴, 성별/연령별 선호도 통계를 매장별로 병렬 생성하며, 여러 서버 중 락을 잡은 한 곳에서만 실행됩니다.
      */
     @Scheduled(cron = "0 0 0 * * *")
     public void generateDailyStatistics() {
-        LocalDate yesterday = LocalDate.now().minusDays(1);
-
-        // 일일 매출 통계 데이터 생성
-        generateSalesStats(yesterday);
-
-        // 인기 메뉴 통계 데이터 생성
-        generatePopularMenuStats(yesterday);
-
-        // 성별/연령별 선호도 통계 데이터 생성
-        generatePreferenceStats(yesterday);
-    }
-
-    /**
-     * 일일 매출 통계를 생성합니다.
-     */
-    private void generateSalesStats(LocalDate date) {
-        statisticsMapper.insertDailySalesStats(date);
-    }
-
-    /**
-     * 인기 메뉴 통계를 생성합니다.
-     */
-    private void generatePopularMenuStats(LocalDate date) {
-        statisticsMapper.insertPopularMenuStats(date);
+        statisticsJobRunner.run(LocalDate.now().minusDays(1));
     }
 
     /**
-     * 성별/연령별 선호도 통계를 생성합니다.
+     * 자정 작업이 중간에 실패한 경우 완료되지 않은 매장만 다시 생성합니다.
      */
-    private void generatePreferenceStats(LocalDate date) {
-        statisticsMapper.insertGenderPreferenceStats(date);
-        statisticsMapper.insertAgePreferenceStats(date);
+    @Scheduled(cron = "0 30 * * * *")
+    public void resumeDailyStatistics() {
+        statisticsJobRunner.run(LocalDate.now().minusDays(1));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,319 @@
+package com.ssafy.orderme.manager.statistics.service;
+
+import com.ssafy.orderme.manager.statistics.mapper.StatisticsMapper;
+import com.ssafy.orderme.payment.model.Order;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실시간 매출 누적기
+ * 주문이 ACCEPTED 상태가 되면 매장/일자/시간대별 포장·매장 매출과 주문 수를 메모리와 Redis 해시에 누적한다.
+ * 당일 대시보드는 orders 테이블을 훑지 않고 이 값으로 응답하며, 일 마감 시 MySQL 집계로 보정한 뒤 salesstats에 기록하고
+ * 주/월/연 통계를 롤업한다.
+ *
+ * Redis 키: sales:{매장ID}:{yyyyMMdd}
+ * 필드: takeoutSales, eatInSales, takeoutOrders, eatInOrders (일 합계), {시}:{필드} (시간대별), loaded (재적재 완료 표시)
+ * Redis 키: sales:{매장ID}:{yyyyMMdd}:orders - 반영한 주문 ID -> "{시}:{포장 여부}:{금액}"
+ *
+ * 주문 반영과 재적재는 각각 Lua 스크립트 한 번으로 처리한다. 주문 해시로 같은 주문을 두 번 더하지 않으며,
+ * 재적재는 DB 주문을 주문 해시에 합친 뒤 합계를 다시 계산하므로 재적재 도중 반영된 주문도 사라지지 않는다.
+ * 키가 만료/축출되어 loaded 표시 없이 다시 생긴 해시는 다음 조회 때 재적재한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SalesAccumulator {
+
+    private static final String KEY_PREFIX = "sales:";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final long RETENTION_DAYS = 3;
+    private static final String ORDERS_SUFFIX = ":orders";
+
+    static final String TAKEOUT_SALES = "takeoutSales";
+    static final String EAT_IN_SALES = "eatInSales";
+    static final String TAKEOUT_ORDERS = "takeoutOrders";
+    static final String EAT_IN_ORDERS = "eatInOrders";
+    private static final String[] FIELDS = {TAKEOUT_SALES, EAT_IN_SALES, TAKEOUT_ORDERS, EAT_IN_ORDERS};
+    private static final String LOADED = "loaded";
+
+    // KEYS[1]=매출 해시, KEYS[2]=주문 해시, ARGV: 주문 ID, 시, 포장 여부(1/0), 금액, 보관 기간(초)
+    // 이미 반영한 주문이면 0을 돌려주고 아무것도 하지 않는다.
+    private static final RedisScript<Long> RECORD_ORDER_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HSETNX', KEYS[2], ARGV[1], ARGV[2] .. ':' .. ARGV[3] .. ':' .. ARGV[4]) == 0 then return 0 end " +
+            "local s = ARGV[3] == '1' and 'takeoutSales' or 'eatInSales' " +
+            "local o = ARGV[3] == '1' and 'takeoutOrders' or 'eatInOrders' " +
+            "redis.call('HINCRBY', KEYS[1], s, ARGV[4]) " +
+            "redis.call('HINCRBY', KEYS[1], o, 1) " +
+            "redis.call('HINCRBY', KEYS[1], ARGV[2] .. ':' .. s, ARGV[4]) " +
+            "redis.call('HINCRBY', KEYS[1], ARGV[2] .. ':' .. o, 1) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[5]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[5]) " +
+            "return 1", Long.class);
+
+    // KEYS[1]=매출 해시, KEYS[2]=주문 해시, ARGV: 보관 기간(초), (주문 ID, "{시}:{포장 여부}:{금액}") 쌍...
+    // DB 주문을 주문 해시에 합치고 주문 해시 전체로 매출 해시를 다시 만든 뒤 일 합계를 돌려준다.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RELOAD_SCRIPT = new DefaultRedisScript<>(
+            "for i = 2, #ARGV, 2 do redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 1]) end " +
+            "local totals = {takeoutSales = 0, eatInSales = 0, takeoutOrders = 0, eatInOrders = 0} " +
+            "for _, v in ipairs(redis.call('HVALS', KEYS[2])) do " +
+            "  local h, t, a = string.match(v, '^(%d+):(%d):(%d+)$') " +
+            "  if h then " +
+            "    local s = t == '1' and 'takeoutSales' or 'eatInSales' " +
+            "    local o = t == '1' and 'takeoutOrders' or 'eatInOrders' " +
+            "    a = tonumber(a) " +
+            "    totals[s] = totals[s] + a " +
+            "    totals[o] = totals[o] + 1 " +
+            "    totals[h .. ':' .. s] = (totals[h .. ':' .. s] or 0) + a " +
+            "    totals[h .. ':' .. o] = (totals[h .. ':' .. o] or 0) + 1 " +
+            "  end " +
+            "end " +
+            "local args = {'loaded', '1'} " +
+            "for f, v in pairs(totals) do args[#args + 1] = f args[#args + 1] = tostring(v) end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('HSET', KEYS[1], unpack(args)) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "if redis.call('EXISTS', KEYS[2]) == 1 then redis.call('EXPIRE', KEYS[2], ARGV[1]) end " +
+            "return {totals.takeoutSales, totals.eatInSales, totals.takeoutOrders, totals.eatInOrders}", List.class);
+
+    private final StatisticsMapper statisticsMapper;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SalesRollupService salesRollupService;
+
+    // 매장ID:yyyyMMdd -> 시간대별 누적값 (Redis 장애 시 조회용)
+    private final Map<String, DaySales> localSales = new ConcurrentHashMap<>();
+
+    /**
+     * 승인된 주문을 매출에 반영 (트랜잭션 커밋 이후 적용)
+     */
+    public void recordAcceptedOrder(Order order) {
+        if (order == null || order.getOrderId() == null || order.getKioskId() == null || order.getTotalAmount() == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyAcceptedOrder(order);
+                }
+            });
+        } else {
+            applyAcceptedOrder(order);
+        }
+    }
+
+    /**
+     * 매장의 일자별 매출 합계 조회 (StatisticsMapper.getDailySales와 같은 키의 Map)
+     * Redis 해시에 재적재 완료 표시가 없으면 (처음 조회했거나 만료 후 일부 주문만 다시 쌓인 경우) MySQL 주문과 합쳐 다시 채운다.
+     */
+    public Map<String, Object> getDailySales(Long storeId, LocalDate date) {
+        String key = key(storeId, date);
+        try {
+            byte[][] rawFields = new byte[FIELDS.length + 1][];
+            for (int i = 0; i < FIELDS.length; i++) {
+                rawFields[i] = bytes(FIELDS[i]);
+            }
+            rawFields[FIELDS.length] = bytes(LOADED);
+            List<byte[]> values = redisTemplate.execute(
+                    (RedisCallback<List<byte[]>>) connection -> connection.hashCommands().hMGet(bytes(key), rawFields));
+            if (values != null && values.get(FIELDS.length) != null) {
+                long[] totals = new long[FIELDS.length];
+                for (int i = 0; i < FIELDS.length; i++) {
+                    totals[i] = values.get(i) != null ? Long.parseLong(new String(values.get(i), StandardCharsets.UTF_8)) : 0L;
+                }
+                return toResponseMap(totals);
+            }
+            List<String> orders = new ArrayList<>();
+            DaySales loaded = reload(storeId, date, orders);
+            long[] merged = reloadRedis(storeId, date, orders, loaded);
+            return toResponseMap(merged);
+        } catch (Exception e) {
+            log.warn("Redis 매출 조회 실패, 로컬 누적값 사용 - storeId: {}, date: {}, error: {}", storeId, date, e.getMessage());
+            DaySales local = localSales.get(key);
+            return toResponseMap(local != null ? local.totals() : new long[FIELDS.length]);
+        }
+    }
+
+    /**
+     * 매장 일 마감 보정
+     * 매장의 해당 일자 매출을 MySQL에서 다시 집계해 salesstats 일 통계로 저장한 뒤 주/월/연 통계를 롤업한다.
+     * 호출하는 쪽 트랜잭션이 있으면 함께 커밋된다. (StatisticsJobRunner)
+     */
+    public void closeDay(Long storeId, LocalDate date) {
+        long[] streamed = currentTotals(storeId, date);
+        List<String> orders = new ArrayList<>();
+        DaySales reconciled = reload(storeId, date, orders);
+        reloadRedis(storeId, date, orders, reconciled);
+        long[] totals = reconciled.totals();
+        if (!Arrays.equals(streamed, totals)) {
+            log.warn("매출 누적값 보정 - storeId: {}, date: {}, 누적: {}, DB: {}",
+                    storeId, date, Arrays.toString(streamed), Arrays.toString(totals));
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            saveDailyStats(storeId, date, totals);
+            salesRollupService.rollup(storeId, date);
+        });
+        // 마감이 끝난 일자의 로컬 누적값 정리
+        localSales.remove(key(storeId, date));
+    }
+
+    private void saveDailyStats(Long storeId, LocalDate date, long[] totals) {
+        statisticsMapper.deleteSalesStats(storeId, date, "DAY");
+        statisticsMapper.insertSalesStats(storeId, "DAY", date,
+                (int) (totals[0] + totals[1]), (int) totals[0], (int) totals[1],
+                (int) (totals[2] + totals[3]), (int) totals[2], (int) totals[3]);
+    }
+
+    private void applyAcceptedOrder(Order order) {
+        LocalDateTime orderDate = order.getOrderDate() != null ? order.getOrderDate() : LocalDateTime.now();
+        Long storeId = order.getKioskId().longValue();
+        boolean takeout = Boolean.TRUE.equals(order.getIsTakeout());
+        long amount = order.getTotalAmount().setScale(0, RoundingMode.HALF_UP).longValue();
+        int hour = orderDate.getHour();
+        String key = key(storeId, orderDate.toLocalDate());
+
+        try {
+            Long recorded = redisTemplate.execute(RECORD_ORDER_SCRIPT, Arrays.asList(key, key + ORDERS_SUFFIX),
+                    String.valueOf(order.getOrderId()), String.valueOf(hour), takeout ? "1" : "0",
+                    String.valueOf(amount), String.valueOf(TimeUnit.DAYS.toSeconds(RETENTION_DAYS)));
+            // 이벤트 재전달 등으로 이미 반영한 주문은 로컬 누적값에도 더하지 않음
+            if (recorded != null && recorded == 0L) {
+                return;
+            }
+        } catch (Exception e) {
+            // 누락분은 일 마감 보정에서 MySQL 기준으로 맞춰진다
+            log.warn("Redis 매출 누적 실패 - orderId: {}, error: {}", order.getOrderId(), e.getMessage());
+        }
+        localSales.computeIfAbsent(key, k -> new DaySales()).add(hour, takeout, amount);
+    }
+
+    private long[] currentTotals(Long storeId, LocalDate date) {
+        Map<String, Object> current = getDailySales(storeId, date);
+        long[] totals = new long[FIELDS.length];
+        totals[0] = ((Number) current.get(TAKEOUT_SALES)).longValue();
+        totals[1] = ((Number) current.get(EAT_IN_SALES)).longValue();
+        totals[2] = ((Number) current.get(TAKEOUT_ORDERS)).longValue();
+        totals[3] = ((Number) current.get(EAT_IN_ORDERS)).longValue();
+        return totals;
+    }
+
+    /**
+     * MySQL에서 해당 일자 승인 주문을 조회해 시간대별로 집계하고 로컬 누적값을 교체
+     * @param orders Redis 재적재에 넘길 (주문 ID, "{시}:{포장 여부}:{금액}") 쌍을 채울 목록
+     */
+    private DaySales reload(Long storeId, LocalDate date, List<String> orders) {
+        DaySales daySales = new DaySales();
+        List<Map<String, Object>> rows = statisticsMapper.findAcceptedOrderSales(
+                storeId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+        for (Map<String, Object> row : rows) {
+            int hour = ((Number) row.get("hour")).intValue();
+            Object isTakeout = row.get("isTakeout");
+            boolean takeout = isTakeout instanceof Boolean ? (Boolean) isTakeout : toLong(isTakeout) != 0;
+            long amount = toLong(row.get("amount"));
+            daySales.add(hour, takeout, amount);
+            orders.add(String.valueOf(row.get("orderId")));
+            orders.add(hour + ":" + (takeout ? "1" : "0") + ":" + amount);
+        }
+        localSales.put(key(storeId, date), daySales);
+        return daySales;
+    }
+
+    /**
+     * DB 주문을 Redis 주문 해시에 합치고 매출 해시를 다시 계산 (스크립트 한 번으로 원자적으로 실행)
+     * @return Redis에 반영된 일 합계 (Redis 장애 시 DB 합계)
+     */
+    private long[] reloadRedis(Long storeId, LocalDate date, List<String> orders, DaySales daySales) {
+        String key = key(storeId, date);
+        List<String> args = new ArrayList<>(orders.size() + 1);
+        args.add(String.valueOf(TimeUnit.DAYS.toSeconds(RETENTION_DAYS)));
+        args.addAll(orders);
+        try {
+            List<?> totals = redisTemplate.execute(RELOAD_SCRIPT, Arrays.asList(key, key + ORDERS_SUFFIX), args.toArray());
+            if (totals != null && totals.size() == FIELDS.length) {
+                long[] result = new long[FIELDS.length];
+                for (int i = 0; i < FIELDS.length; i++) {
+                    result[i] = toLong(totals.get(i));
+                }
+                return result;
+            }
+        } catch (Exception e) {
+            log.warn("Redis 매출 재적재 실패 - storeId: {}, date: {}, error: {}", storeId, date, e.getMessage());
+        }
+        return daySales.totals();
+    }
+
+    private static Map<String, Object> toResponseMap(long[] totals) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("totalSales", totals[0] + totals[1]);
+        result.put("totalOrders", totals[2] + totals[3]);
+        result.put(TAKEOUT_SALES, totals[0]);
+        result.put(EAT_IN_SALES, totals[1]);
+        result.put(TAKEOUT_ORDERS, totals[2]);
+        result.put(EAT_IN_ORDERS, totals[3]);
+        return result;
+    }
+
+    private static String key(Long storeId, LocalDate date) {
+        return KEY_PREFIX + storeId + ":" + date.format(DAY_FORMAT);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long toLong(Object value) {
+        if (value == null) {
+            return 0L;
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).longValue();
+        }
+        return ((Number) value).longValue();
+    }
+
+    /**
+     * 하루치 시간대별 누적값 [시][포장 매출, 매장 매출, 포장 주문 수, 매장 주문 수]
+     */
+    private static class DaySales {
+        private final long[][] hours = new long[24][FIELDS.length];
+
+        private synchronized void add(int hour, boolean takeout, long amount) {
+            hours[hour][takeout ? 0 : 1] += amount;
+            hours[hour][takeout ? 2 : 3]++;
+        }
+
+        private synchronized long[] totals() {
+            long[] totals = new long[FIELDS.length];
+            for (long[] hourly : hours) {
+                for (int i = 0; i < FIELDS.length; i++) {
+                    totals[i] += hourly[i];
+                }
+            }
+            return totals;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.ssafy.orderme.manager.statistics.service;
+
+import com.ssafy.orderme.order.model.OrderEvent;
+import com.ssafy.orderme.order.service.OrderEventConsumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 주문 이벤트 소비자 - 실시간 매출 반영
+ * 재전달로 중복 반영되더라도 일 마감 시 MySQL 집계로 보정된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesOrderEventConsumer implements OrderEventConsumer {
+
+    private final SalesAccumulator salesAccumulator;
+
+    @Override
+    public String name() {
+        return "sales";
+    }
+
+    @Override
+    public void consume(List<OrderEvent> events) {
+        for (OrderEvent event : events) {
+            salesAccumulator.recordAcceptedOrder(event.toOrder());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.ssafy.orderme.manager.statistics.service;
+
+import com.ssafy.orderme.manager.statistics.mapper.StatisticsMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 매출 통계 롤업
+ * DAY 행이 저장될 때마다 해당 일자가 속한 WEEK/MONTH 행을 DAY 행으로, YEAR 행을 MONTH 행으로 다시 계산한다.
+ * 한 번의 롤업은 최대 31개 행만 읽으므로 주문 이력이 늘어나도 비용이 일정하다.
+ *
+ * 기간 행의 stats_date는 기간 시작일이다. (WEEK: 월요일, MONTH: 1일, YEAR: 1월 1일)
+ */
+@Service
+@RequiredArgsConstructor
+public class SalesRollupService {
+
+    public static final String DAY = "DAY";
+    public static final String WEEK = "WEEK";
+    public static final String MONTH = "MONTH";
+    public static final String YEAR = "YEAR";
+
+    private final StatisticsMapper statisticsMapper;
+
+    /**
+     * 일자가 속한 주/월/연 통계 갱신 (호출하는 쪽 트랜잭션에서 실행)
+     *
+     * @param storeId 매장 ID
+     * @param date DAY 통계가 저장된 날짜
+     */
+    public void rollup(Long storeId, LocalDate date) {
+        LocalDate weekStart = weekStart(date);
+        rollup(storeId, WEEK, weekStart, DAY, weekStart, weekStart.plusDays(6));
+
+        LocalDate monthStart = monthStart(date);
+        rollup(storeId, MONTH, monthStart, DAY, monthStart, monthStart.with(TemporalAdjusters.lastDayOfMonth()));
+
+        // 연 통계는 월 통계에서 계산 (월 통계가 먼저 갱신되어야 함)
+        LocalDate yearStart = yearStart(date);
+        rollup(storeId, YEAR, yearStart, MONTH, yearStart, yearStart.plusYears(1).minusDays(1));
+    }
+
+    private void rollup(Long storeId, String periodType, LocalDate periodStart,
+                        String sourceType, LocalDate sourceStart, LocalDate sourceEnd) {
+        statisticsMapper.deleteSalesStats(storeId, periodStart, periodType);
+        statisticsMapper.insertRollupSalesStats(storeId, periodType, periodStart, sourceType, sourceStart, sourceEnd);
+    }
+
+    public static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    public static LocalDate monthStart(LocalDate date) {
+        return date.withDayOfMonth(1);
+    }
+
+    public static LocalDate yearStart(LocalDate date) {
+        return date.withDayOfYear(1);
+    }
+}
@@ -0,0 +1,312 @@
+package com.ssafy.orderme.manager.statistics.service;
+
+import com.ssafy.orderme.kiosk.mapper.StoresMapper;
+import com.ssafy.orderme.kiosk.model.Store;
+import com.ssafy.orderme.manager.statistics.mapper.StatisticsMapper;
+import com.ssafy.orderme.manager.statistics.model.MenuOrderCount;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 일 통계 생성 작업 실행기
+ * 전일 통계(매출, 인기 메뉴, 성별/연령별 선호도)를 매장 단위로 나누고, 매장마다 하루를 시간 구간으로 다시 나눠
+ * 전용 스레드 풀에서 병렬로 집계한다. 구간 집계가 모두 끝나면 매장 통계를 한 트랜잭션으로 교체하고 체크포인트를 남기므로
+ * 중간에 실패해도 다시 실행하면 완료되지 않은 매장만 처리한다.
+ *
+ * 여러 서버에서 동시에 실행되지 않도록 날짜별 Redis 락(stats:job:lock:{yyyyMMdd})을 잡은 서버만 작업을 진행한다.
+ */
+@Slf4j
+@Service
+public class StatisticsJobRunner {
+
+    private static final String LOCK_PREFIX = "stats:job:lock:";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final int MAX_BACKFILL_DAYS = 366;
+
+    // 락 소유자일 때만 만료 연장/해제 (원자적으로 실행)
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('PEXPIRE', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('DEL', KEYS[1]) else return 0 end", Long.class);
+
+    private final StatisticsMapper statisticsMapper;
+    private final StoresMapper storesMapper;
+    private final SalesAccumulator salesAccumulator;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor statisticsJobExecutor;
+    private final TaskExecutor statisticsBackfillExecutor;
+
+    @Value("${statistics.job.partition-hours:6}")
+    private int partitionHours;
+
+    @Value("${statistics.job.lock-ttl-ms:600000}")
+    private long lockTtlMs;
+
+    private final AtomicBoolean backfillRunning = new AtomicBoolean(false);
+
+    public StatisticsJobRunner(StatisticsMapper statisticsMapper, StoresMapper storesMapper,
+                               SalesAccumulator salesAccumulator, RedisTemplate<String, String> redisTemplate,
+                               TransactionTemplate transactionTemplate,
+                               @Qualifier("statisticsJobExecutor") TaskExecutor statisticsJobExecutor,
+                               @Qualifier("statisticsBackfillExecutor") TaskExecutor statisticsBackfillExecutor) {
+        this.statisticsMapper = statisticsMapper;
+        this.storesMapper = storesMapper;
+        this.salesAccumulator = salesAccumulator;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.statisticsJobExecutor = statisticsJobExecutor;
+        this.statisticsBackfillExecutor = statisticsBackfillExecutor;
+    }
+
+    /**
+     * 날짜의 통계 생성
+     *
+     * @param date 통계 날짜
+     * @return 이 서버가 락을 잡고 실행했으면 true, 다른 서버가 실행 중이면 false
+     */
+    public boolean run(LocalDate date) {
+        return run(date, false);
+    }
+
+    private boolean run(LocalDate date, boolean force) {
+        String lockKey = LOCK_PREFIX + date.format(DAY_FORMAT);
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey, token, Duration.ofMillis(lockTtlMs));
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.info("통계 작업 건너뜀 (다른 서버에서 실행 중) - date: {}", date);
+            return false;
+        }
+
+        try {
+            if (force) {
+                statisticsMapper.deleteStatsJobCheckpoints(date);
+            }
+            execute(date, lockKey, token);
+            return true;
+        } finally {
+            redisTemplate.execute(RELEASE_SCRIPT, Collections.singletonList(lockKey), token);
+        }
+    }
+
+    /**
+     * 기간 통계 재생성 요청 (관리자 백필, 백그라운드에서 하루씩 순서대로 실행)
+     *
+     * @param startDate 시작 날짜
+     * @param endDate 종료 날짜 (포함)
+     * @param force 이미 완료된 매장도 다시 집계할지 여부
+     * @return 요청이 접수되었으면 true, 이미 백필이 실행 중이면 false
+     */
+    public boolean requestBackfill(LocalDate startDate, LocalDate endDate, boolean force) {
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("백필 기간이 올바르지 않습니다.");
+        }
+        if (!endDate.isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("마감이 끝난 날짜(어제 이전)만 백필할 수 있습니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_BACKFILL_DAYS) {
+            throw new IllegalArgumentException("백필 기간은 최대 " + MAX_BACKFILL_DAYS + "일입니다.");
+        }
+        if (!backfillRunning.compareAndSet(false, true)) {
+            return false;
+        }
+
+        try {
+            statisticsBackfillExecutor.execute(() -> backfill(startDate, endDate, force));
+        } catch (TaskRejectedException e) {
+            backfillRunning.set(false);
+            return false;
+        }
+        return true;
+    }
+
+    private void backfill(LocalDate startDate, LocalDate endDate, boolean force) {
+        try {
+            log.info("통계 백필 시작 - {} ~ {}, force: {}", startDate, endDate, force);
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                try {
+                    run(date, force);
+                } catch (Exception e) {
+                    log.error("통계 백필 실패 - date: {}", date, e);
+                }
+            }
+            log.info("통계 백필 완료 - {} ~ {}", startDate, endDate);
+        } finally {
+            backfillRunning.set(false);
+        }
+    }
+
+    private void execute(LocalDate date, String lockKey, String token) {
+        long start = System.currentTimeMillis();
+        Set<Long> completed = new HashSet<>(statisticsMapper.findCompletedStatsJobStores(date));
+        List<Long> pending = new ArrayList<>();
+        for (Store store : storesMapper.findAll()) {
+            if (!completed.contains(store.getStoreId())) {
+                pending.add(store.getStoreId());
+            }
+        }
+        if (pending.isEmpty()) {
+            log.info("통계 작업 완료 상태 - date: {}", date);
+            return;
+        }
+
+        // 매장별로 시간 구간 집계를 병렬 실행하고, 구간이 모두 끝나면 매장 통계 저장 (풀 스레드가 서로를 기다리지 않음)
+        AtomicInteger failed = new AtomicInteger();
+        List<CompletableFuture<Void>> storeJobs = new ArrayList<>(pending.size());
+        for (Long storeId : pending) {
+            List<CompletableFuture<List<MenuOrderCount>>> partitions = new ArrayList<>();
+            LocalDateTime dayStart = date.atStartOfDay();
+            int step = Math.max(1, partitionHours);
+            for (int hour = 0; hour < 24; hour += step) {
+                LocalDateTime from = dayStart.plusHours(hour);
+                LocalDateTime to = dayStart.plusHours(Math.min(hour + step, 24));
+                partitions.add(CompletableFuture.supplyAsync(
+                        () -> statisticsMapper.aggregateMenuOrderCounts(storeId, from, to, date.getYear()),
+                        statisticsJobExecutor));
+            }
+
+            storeJobs.add(CompletableFuture.allOf(partitions.toArray(new CompletableFuture[0]))
+                    .thenRunAsync(() -> saveStoreStats(storeId, date, merge(partitions)), statisticsJobExecutor)
+                    .exceptionally(e -> {
+                        failed.incrementAndGet();
+                        log.error("매장 통계 생성 실패 - storeId: {}, date: {}", storeId, date, e);
+                        return null;
+                    }));
+        }
+
+        awaitWithLockRenewal(CompletableFuture.allOf(storeJobs.toArray(new CompletableFuture[0])), lockKey, token);
+        log.info("통계 작업 종료 - date: {}, 대상 매장: {}, 실패: {}, 소요 시간: {}ms",
+                date, pending.size(), failed.get(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 작업이 끝날 때까지 기다리면서 락 만료를 주기적으로 연장
+     */
+    private void awaitWithLockRenewal(CompletableFuture<Void> job, String lockKey, String token) {
+        long renewInterval = Math.max(lockTtlMs / 3, 1000);
+        while (true) {
+            try {
+                job.get(renewInterval, TimeUnit.MILLISECONDS);
+                return;
+            } catch (TimeoutException e) {
+                Long renewed = redisTemplate.execute(RENEW_SCRIPT, Collections.singletonList(lockKey),
+                        token, String.valueOf(lockTtlMs));
+                if (renewed == null || renewed == 0) {
+                    log.warn("통계 작업 락 연장 실패 - key: {}", lockKey);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                return; // 매장별 실패는 exceptionally에서 기록
+            }
+        }
+    }
+
+    /**
+     * 시간 구간별 집계를 메뉴/성별/연령대 기준으로 합산
+     */
+    private List<MenuOrderCount> merge(List<CompletableFuture<List<MenuOrderCount>>> partitions) {
+        Map<List<Object>, MenuOrderCount> merged = new HashMap<>();
+        for (CompletableFuture<List<MenuOrderCount>> partition : partitions) {
+            for (MenuOrderCount row : partition.join()) {
+                merged.merge(Arrays.asList(row.getMenuId(), row.getGender(), row.getAgeGroup()), row, (a, b) -> {
+                    a.setOrderCount(a.getOrderCount() + b.getOrderCount());
+                    return a;
+                });
+            }
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    /**
+     * 매장 통계 교체 및 체크포인트 기록 (한 트랜잭션)
+     */
+    private void saveStoreStats(Long storeId, LocalDate date, List<MenuOrderCount> counts) {
+        List<MenuOrderCount> popularity = new ArrayList<>();
+        List<MenuOrderCount> preference = new ArrayList<>();
+        buildMenuStats(counts, popularity, preference);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            salesAccumulator.closeDay(storeId, date);
+
+            statisticsMapper.deleteMenuPopularityStats(storeId, date);
+            if (!popularity.isEmpty()) {
+                statisticsMapper.insertMenuPopularityStats(storeId, date, popularity);
+            }
+
+            statisticsMapper.deleteMenuPreferenceStats(storeId, date);
+            if (!preference.isEmpty()) {
+                statisticsMapper.insertMenuPreferenceStats(storeId, date, preference);
+            }
+
+            statisticsMapper.insertStatsJobCheckpoint(date, storeId);
+        });
+    }
+
+    /**
+     * 메뉴/성별/연령대별 주문 수로 인기 메뉴 통계와 성별·연령별 선호도(그룹 내 비율) 통계 생성
+     */
+    private void buildMenuStats(List<MenuOrderCount> counts,
+                                List<MenuOrderCount> popularity, List<MenuOrderCount> preference) {
+        Map<Integer, Long> byMenu = new TreeMap<>();
+        Map<String, Map<Integer, Long>> byGender = new TreeMap<>();
+        Map<Integer, Map<Integer, Long>> byAgeGroup = new TreeMap<>();
+        for (MenuOrderCount row : counts) {
+            byMenu.merge(row.getMenuId(), row.getOrderCount(), Long::sum);
+            if (row.getGender() != null) {
+                byGender.computeIfAbsent(row.getGender(), k -> new TreeMap<>())
+                        .merge(row.getMenuId(), row.getOrderCount(), Long::sum);
+            }
+            if (row.getAgeGroup() != null) {
+                byAgeGroup.computeIfAbsent(row.getAgeGroup(), k -> new TreeMap<>())
+                        .merge(row.getMenuId(), row.getOrderCount(), Long::sum);
+            }
+        }
+
+        byMenu.forEach((menuId, count) -> popularity.add(MenuOrderCount.builder()
+                .menuId(menuId)
+                .orderCount(count)
+                .build()));
+        byGender.forEach((gender, menus) -> addPreferenceRows(preference, menus, gender, null));
+        byAgeGroup.forEach((ageGroup, menus) -> addPreferenceRows(preference, menus, null, ageGroup));
+    }
+
+    private void addPreferenceRows(List<MenuOrderCount> preference, Map<Integer, Long> menus,
+                                   String gender, Integer ageGroup) {
+        long total = menus.values().stream().mapToLong(Long::longValue).sum();
+        menus.forEach((menuId, count) -> preference.add(MenuOrderCount.builder()
+                .menuId(menuId)
+                .gender(gender)
+                .ageGroup(ageGroup)
+                .orderCount(count)
+                .percentage(BigDecimal.valueOf(count * 100)
+                        .divide(BigDecimal.valueOf(total), 2, RoundingMode.HALF_UP))
+                .build()));
+    }
+}
@@ -4,6 +4,8 @@ import com.ssafy.orderme.manager.statistics.dto.response.DailySalesResponse;
 import com.ssafy.orderme.manager.statistics.dto.response.GenderAgePreferenceResponse;
 import com.ssafy.orderme.manager.statistics.dto.response.GenderAgePreferenceResponse.PreferenceMenuInfo;
 import com.ssafy.orderme.manager.statistics.dto.response.PopularMenuResponse;
+import com.ssafy.orderme.manager.statistics.dto.response.SalesRangeResponse;
+import com.ssafy.orderme.manager.statistics.dto.response.SalesRangeResponse.PeriodSales;
 import com.ssafy.orderme.manager.statistics.dto.response.WeeklySalesResponse;
 import com.ssafy.orderme.manager.statistics.dto.response.WeeklySalesResponse.DailySales;
 import com.ssafy.orderme.manager.statistics.mapper.StatisticsMapper;
@@ -14,6 +16,7 @@ import java.math.BigDecimal;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.TextStyle;
+import java.time.temporal.TemporalAdjusters;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -25,19 +28,25 @@ import java.util.stream.Collectors;
 public class StatisticsService {
 
     private final StatisticsMapper statisticsMapper;
+    private final SalesAccumulator salesAccumulator;
 
     /**
      * 일일 매출 정보를 조회합니다.
+     * 당일 매출은 실시간 매출 누적기에서, 전일 매출은 salesstats에서 조회합니다.
      *
      * @param storeId 매장 ID
      * @return 당일 및 전일 매출 정보
      */
     public DailySalesResponse getDailySales(Long storeId) {
         // 당일 매출 정보 조회
-        Map<String, Object> todaySales = statisticsMapper.getDailySales(storeId, LocalDate.now());
+        Map<String, Object> todaySales = salesAccumulator.getDailySales(storeId, LocalDate.now());
 
-        // 전일 매출 정보 조회
-        Map<String, Object> yesterdaySales = statisticsMapper.getDailySales(storeId, LocalDate.now().minusDays(1));
+        // 전일 매출 정보 조회 (일 마감 전이면 누적기 값 사용)
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        Map<String, Object> yesterdaySales = statisticsMapper.getDailySales(storeId, yesterday);
+        if (yesterdaySales == null) {
+            yesterdaySales = salesAccumulator.getDailySales(storeId, yesterday);
+        }
 
         return DailySalesResponse.builder()
                 .todayTotalSales(getIntValue(todaySales, "totalSales"))
@@ -245,4 +254,136 @@ public class StatisticsService {
                 .dailySalesList(dailySalesList)
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 기간 매출 정보를 조회합니다.
+     * 기간을 마감이 끝난 연/월/주 통계로 최대한 크게 나누고, 나머지만 일 통계로 채웁니다.
+     * 다음 달을 월 통계로 조회할 수 있으면 주/일 구간을 그 달 1일 전에서 끊어 월/연 통계로 넘어갑니다.
+     * 통계 단위별로 한 번씩만 조회하므로 기간이 길어져도 조회 비용이 거의 늘지 않습니다.
+     * 종료일이 오늘 이후면 오늘까지만 조회합니다.
+     *
+     * @param storeId 매장 ID
+     * @param startDate 조회 시작일
+     * @param endDate 조회 종료일 (포함)
+     * @return 구간별 매출 정보 및 합계
+     */
+    public SalesRangeResponse getSalesRange(Long storeId, LocalDate startDate, LocalDate endDate) {
+        LocalDate today = LocalDate.now();
+        if (endDate != null && endDate.isAfter(today)) {
+            // 오늘 이후 날짜는 매출이 없고, 실시간 누적값을 조회하면 날짜마다 DB 집계와 Redis 기록이 생긴다
+            endDate = today;
+        }
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+        }
+
+        List<PeriodSales> periods = new ArrayList<>();
+        Map<String, List<LocalDate>> datesByType = new LinkedHashMap<>();
+
+        // 1. 기간을 가장 큰 단위의 마감된 구간으로 분할
+        LocalDate cursor = startDate;
+        while (!cursor.isAfter(endDate)) {
+            String periodType = SalesRollupService.DAY;
+            LocalDate periodEnd = cursor;
+
+            LocalDate yearEnd = cursor.plusYears(1).minusDays(1);
+            LocalDate monthEnd = cursor.with(TemporalAdjusters.lastDayOfMonth());
+            LocalDate weekEnd = cursor.plusDays(6);
+            // 주가 다음 달로 넘어가고 그 달을 월 통계로 조회할 수 있으면 주 대신 일 단위로 월말까지 채운다
+            LocalDate nextMonthStart = monthEnd.plusDays(1);
+            boolean weekCrossesRollupMonth = weekEnd.isAfter(monthEnd)
+                    && isClosedWithin(nextMonthStart.with(TemporalAdjusters.lastDayOfMonth()), endDate, today);
+            if (cursor.equals(SalesRollupService.yearStart(cursor)) && isClosedWithin(yearEnd, endDate, today)) {
+                periodType = SalesRollupService.YEAR;
+                periodEnd = yearEnd;
+            } else if (cursor.equals(SalesRollupService.monthStart(cursor)) && isClosedWithin(monthEnd, endDate, today)) {
+                periodType = SalesRollupService.MONTH;
+                periodEnd = monthEnd;
+            } else if (cursor.getDayOfWeek() == DayOfWeek.MONDAY && !weekCrossesRollupMonth
+                    && isClosedWithin(weekEnd, endDate, today)) {
+                periodType = SalesRollupService.WEEK;
+                periodEnd = weekEnd;
+            }
+
+            periods.add(PeriodSales.builder()
+                    .periodType(periodType)
+                    .startDate(cursor)
+                    .endDate(periodEnd)
+                    .build());
+            if (!cursor.isBefore(today)) {
+                // 당일 이후는 마감 전이므로 실시간 누적값 사용
+                datesByType.computeIfAbsent("LIVE", k -> new ArrayList<>()).add(cursor);
+            } else {
+                datesByType.computeIfAbsent(periodType, k -> new ArrayList<>()).add(cursor);
+            }
+            cursor = periodEnd.plusDays(1);
+        }
+
+        // 2. 통계 단위별로 한 번에 조회
+        Map<String, Map<String, Object>> salesByKey = new HashMap<>();
+        for (Map.Entry<String, List<LocalDate>> entry : datesByType.entrySet()) {
+            if ("LIVE".equals(entry.getKey())) {
+                for (LocalDate date : entry.getValue()) {
+                    salesByKey.put(SalesRollupService.DAY + ":" + date, salesAccumulator.getDailySales(storeId, date));
+                }
+                continue;
+            }
+            for (Map<String, Object> row : statisticsMapper.findSalesStats(storeId, entry.getKey(), entry.getValue())) {
+                salesByKey.put(entry.getKey() + ":" + toLocalDate(row.get("date")), row);
+            }
+        }
+
+        // 3. 구간별 매출과 합계 계산
+        int totalSales = 0, totalOrders = 0, takeoutSales = 0, eatInSales = 0, takeoutOrders = 0, eatInOrders = 0;
+        List<PeriodSales> result = new ArrayList<>(periods.size());
+        for (PeriodSales period : periods) {
+            Map<String, Object> sales = salesByKey.getOrDefault(
+                    period.getPeriodType() + ":" + period.getStartDate(), Collections.emptyMap());
+            int periodSales = getIntValue(sales, "totalSales");
+            int periodOrders = getIntValue(sales, "totalOrders");
+            result.add(PeriodSales.builder()
+                    .periodType(period.getPeriodType())
+                    .startDate(period.getStartDate())
+                    .endDate(period.getEndDate())
+                    .totalSales(periodSales)
+                    .totalOrders(periodOrders)
+                    .build());
+
+            totalSales += periodSales;
+            totalOrders += periodOrders;
+            takeoutSales += getIntValue(sales, "takeoutSales");
+            eatInSales += getIntValue(sales, "eatInSales");
+            takeoutOrders += getIntValue(sales, "takeoutOrders");
+            eatInOrders += getIntValue(sales, "eatInOrders");
+        }
+
+        return SalesRangeResponse.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .totalSales(totalSales)
+                .totalOrders(totalOrders)
+                .takeoutSales(takeoutSales)
+                .eatInSales(eatInSales)
+                .takeoutOrders(takeoutOrders)
+                .eatInOrders(eatInOrders)
+                .periods(result)
+                .build();
+    }
+
+    /**
+     * 구간이 조회 종료일 안에 있고 마감(전일 이전)이 끝났는지 확인합니다.
+     */
+    private boolean isClosedWithin(LocalDate periodEnd, LocalDate endDate, LocalDate today) {
+        return !periodEnd.isAfter(endDate) && periodEnd.isBefore(today);
+    }
+
+    private LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate) {
+            return (LocalDate) value;
+        }
+        if (value instanceof java.sql.Date) {
+            return ((java.sql.Date) value).toLocalDate();
+        }
+        return LocalDate.parse(value.toString());
+    }
+}
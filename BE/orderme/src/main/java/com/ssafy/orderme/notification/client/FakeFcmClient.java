@@ -0,0 +1,77 @@
+package com.ssafy.orderme.notification.client;
+
+import com.ssafy.orderme.notification.dto.FcmSendDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬/테스트용 FCM 클라이언트 (fcm.client=fake)
+ * 외부 호출 없이 설정한 지연 후 성공 응답을 돌려주고, 전송한 메시지를 메모리에 기록한다.
+ * fcm.fake.unregistered-tokens에 지정한 토큰은 UNREGISTERED로 응답한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "fcm.client", havingValue = "fake")
+public class FakeFcmClient implements FcmClient {
+
+    private static final int MAX_RECORDED = 1000;
+
+    @Value("${fcm.fake.latency-ms:50}")
+    private long latencyMs;
+
+    private final Set<String> unregisteredTokens;
+    private final Queue<FcmSendDto> sentMessages = new ConcurrentLinkedQueue<>();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong messageIdSequence = new AtomicLong();
+
+    public FakeFcmClient(@Value("${fcm.fake.unregistered-tokens:}") List<String> unregisteredTokens) {
+        this.unregisteredTokens = new HashSet<>(unregisteredTokens);
+    }
+
+    @Override
+    public List<FcmSendResult> sendEach(List<FcmSendDto> messages) {
+        if (latencyMs > 0) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        batchCount.incrementAndGet();
+
+        List<FcmSendResult> results = new ArrayList<>(messages.size());
+        for (FcmSendDto message : messages) {
+            if (unregisteredTokens.contains(message.getToken())) {
+                results.add(FcmSendResult.failure(FcmSendResult.Status.UNREGISTERED, "Requested entity was not found."));
+                continue;
+            }
+            sentMessages.add(message);
+            if (sentMessages.size() > MAX_RECORDED) {
+                sentMessages.poll();
+            }
+            results.add(FcmSendResult.success("fake-" + messageIdSequence.incrementAndGet()));
+        }
+        log.debug("FCM 가짜 전송 - 메시지 수: {}", messages.size());
+        return results;
+    }
+
+    /**
+     * 전송된 메시지 조회 (최근 MAX_RECORDED건)
+     */
+    public List<FcmSendDto> getSentMessages() {
+        return new ArrayList<>(sentMessages);
+    }
+
+    /**
+     * sendEach 호출 횟수
+     */
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+}
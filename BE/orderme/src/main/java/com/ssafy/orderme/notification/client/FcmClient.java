@@ -0,0 +1,23 @@
+package com.ssafy.orderme.notification.client;
+
+import com.ssafy.orderme.notification.dto.FcmSendDto;
+
+import java.util.List;
+
+/**
+ * FCM 일괄 전송 클라이언트
+ * fcm.client 설정으로 구현체를 선택한다. (firebase: Firebase Admin SDK, fake: 로컬/테스트용)
+ */
+public interface FcmClient {
+
+    /** FCM sendEach 한 번에 보낼 수 있는 최대 메시지 수 */
+    int MAX_BATCH_SIZE = 500;
+
+    /**
+     * 메시지 일괄 전송
+     * @param messages 전송할 메시지 (최대 MAX_BATCH_SIZE개)
+     * @return 메시지 순서와 같은 순서의 전송 결과
+     * @throws RuntimeException 배치 전체 전송 실패 (네트워크 오류 등, 전체 재시도 대상)
+     */
+    List<FcmSendResult> sendEach(List<FcmSendDto> messages);
+}
@@ -0,0 +1,31 @@
+package com.ssafy.orderme.notification.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 메시지 1건의 FCM 전송 결과
+ */
+@Getter
+@AllArgsConstructor
+public class FcmSendResult {
+
+    public enum Status {
+        SUCCESS,        // 전송 성공
+        UNREGISTERED,   // 만료/삭제된 토큰 (토큰 정리 대상)
+        RETRYABLE,      // 일시적 오류 (재시도 대상)
+        FAILED          // 재시도해도 실패하는 오류
+    }
+
+    private final Status status;
+    private final String messageId;
+    private final String error;
+
+    public static FcmSendResult success(String messageId) {
+        return new FcmSendResult(Status.SUCCESS, messageId, null);
+    }
+
+    public static FcmSendResult failure(Status status, String error) {
+        return new FcmSendResult(status, null, error);
+    }
+}
@@ -0,0 +1,77 @@
+package com.ssafy.orderme.notification.client;
+
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.messaging.*;
+import com.ssafy.orderme.notification.dto.FcmSendDto;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Firebase Admin SDK FCM 클라이언트 (fcm.client=firebase, 기본값)
+ * 메시지 목록을 sendEach 한 번으로 전송한다.
+ */
+@Component
+@ConditionalOnProperty(name = "fcm.client", havingValue = "firebase", matchIfMissing = true)
+public class FirebaseFcmClient implements FcmClient {
+
+    private final FirebaseMessaging firebaseMessaging;
+
+    public FirebaseFcmClient(FirebaseApp firebaseApp) {
+        this.firebaseMessaging = FirebaseMessaging.getInstance(firebaseApp);
+    }
+
+    @Override
+    public List<FcmSendResult> sendEach(List<FcmSendDto> messages) {
+        List<Message> firebaseMessages = new ArrayList<>(messages.size());
+        for (FcmSendDto dto : messages) {
+            // notification과 data를 모두 포함하는 메시지 구성
+            firebaseMessages.add(Message.builder()
+                    .setNotification(Notification.builder()
+                            .setTitle(dto.getTitle())
+                            .setBody(dto.getBody())
+                            .build())
+                    .putData("title", dto.getTitle())
+                    .putData("body", dto.getBody())
+                    .setToken(dto.getToken())
+                    .build());
+        }
+
+        BatchResponse batchResponse;
+        try {
+            batchResponse = firebaseMessaging.sendEach(firebaseMessages);
+        } catch (FirebaseMessagingException e) {
+            throw new IllegalStateException("FCM 일괄 전송 실패: " + e.getMessage(), e);
+        }
+
+        List<FcmSendResult> results = new ArrayList<>(messages.size());
+        for (SendResponse response : batchResponse.getResponses()) {
+            if (response.isSuccessful()) {
+                results.add(FcmSendResult.success(response.getMessageId()));
+            } else {
+                FirebaseMessagingException e = response.getException();
+                results.add(FcmSendResult.failure(classify(e.getMessagingErrorCode()), e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    private FcmSendResult.Status classify(MessagingErrorCode errorCode) {
+        if (errorCode == null) {
+            return FcmSendResult.Status.RETRYABLE;
+        }
+        switch (errorCode) {
+            case UNREGISTERED:
+            case SENDER_ID_MISMATCH:
+                return FcmSendResult.Status.UNREGISTERED;
+            case UNAVAILABLE:
+            case INTERNAL:
+            case QUOTA_EXCEEDED:
+                return FcmSendResult.Status.RETRYABLE;
+            default:
+                return FcmSendResult.Status.FAILED;
+        }
+    }
+}
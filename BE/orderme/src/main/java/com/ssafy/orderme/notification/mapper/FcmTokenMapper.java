@@ -4,9 +4,12 @@ import com.ssafy.orderme.notification.model.FcmToken;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
+
 @Mapper
 public interface FcmTokenMapper {
     FcmToken findByUserId(@Param("userId") String userId);
     void saveToken(FcmToken fcmToken);
     void updateToken(FcmToken fcmToken);
+    void deleteTokensByValue(@Param("tokens") List<String> tokens);
 }
@@ -0,0 +1,255 @@
+package com.ssafy.orderme.notification.service;
+
+import com.ssafy.orderme.notification.client.FcmClient;
+import com.ssafy.orderme.notification.client.FcmSendResult;
+import com.ssafy.orderme.notification.dto.FcmSendDto;
+import com.ssafy.orderme.notification.mapper.FcmTokenMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * FCM 일괄 전송 디스패처
+ * 여러 요청 스레드가 메시지를 제한된 큐에 넣고, 전송 스레드 하나가 대기 중인 메시지를 최대 500개씩 모아 sendEach로 보낸다.
+ * 일시적 오류는 지수 백오프로 재시도하고, 만료된 토큰(UNREGISTERED)은 fcm_tokens에서 삭제한다.
+ *
+ * 메트릭: fcm.dispatch.queue.depth, fcm.dispatch.latency(큐 적재~전송 완료), fcm.dispatch.batch.size,
+ *        fcm.dispatch.messages{result=success|failed|retried|dropped|pruned}
+ */
+@Slf4j
+@Service
+public class FcmDispatcher {
+
+    private final FcmClient fcmClient;
+    private final FcmTokenMapper fcmTokenMapper;
+
+    private final BlockingQueue<PendingMessage> queue;
+    private final ScheduledExecutorService retryScheduler;
+    private volatile boolean running = true;
+    private Thread sender;
+
+    @Value("${fcm.dispatcher.linger-ms:20}")
+    private long lingerMs;
+
+    @Value("${fcm.dispatcher.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${fcm.dispatcher.retry-backoff-ms:500}")
+    private long retryBackoffMs;
+
+    private final Timer latencyTimer;
+    private final DistributionSummary batchSize;
+    private final Counter successCounter;
+    private final Counter failedCounter;
+    private final Counter retriedCounter;
+    private final Counter droppedCounter;
+    private final Counter prunedCounter;
+
+    public FcmDispatcher(FcmClient fcmClient, FcmTokenMapper fcmTokenMapper, MeterRegistry meterRegistry,
+                         @Value("${fcm.dispatcher.queue-capacity:10000}") int queueCapacity) {
+        this.fcmClient = fcmClient;
+        this.fcmTokenMapper = fcmTokenMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "FCM-Retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        meterRegistry.gauge("fcm.dispatch.queue.depth", queue, BlockingQueue::size);
+        this.latencyTimer = Timer.builder("fcm.dispatch.latency")
+                .description("FCM 메시지 큐 적재부터 전송 완료까지 걸린 시간")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("fcm.dispatch.batch.size")
+                .description("FCM sendEach 1회당 메시지 수")
+                .register(meterRegistry);
+        this.successCounter = resultCounter(meterRegistry, "success");
+        this.failedCounter = resultCounter(meterRegistry, "failed");
+        this.retriedCounter = resultCounter(meterRegistry, "retried");
+        this.droppedCounter = resultCounter(meterRegistry, "dropped");
+        this.prunedCounter = resultCounter(meterRegistry, "pruned");
+    }
+
+    @PostConstruct
+    public void start() {
+        sender = new Thread(this::sendLoop, "FCM-Dispatcher");
+        sender.start();
+    }
+
+    /**
+     * 전송 큐에 메시지 적재 (즉시 반환)
+     * @return 큐가 가득 차 적재하지 못하면 false
+     */
+    public boolean enqueue(FcmSendDto message) {
+        if (!running || message == null || message.getToken() == null) {
+            return false;
+        }
+        if (!queue.offer(new PendingMessage(message, System.nanoTime(), 1))) {
+            droppedCounter.increment();
+            log.warn("FCM 전송 큐가 가득 차 메시지를 버립니다: 큐 크기={}", queue.size());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 종료 시 남은 메시지를 모두 전송한 뒤 전송 스레드 정지
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        retryScheduler.shutdownNow();
+        if (sender != null) {
+            sender.interrupt();
+            sender.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    private void sendLoop() {
+        List<PendingMessage> batch = new ArrayList<>(FcmClient.MAX_BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingMessage first = running ? queue.take() : queue.poll();
+                if (first == null) {
+                    break;
+                }
+                batch.add(first);
+
+                // 잠깐 기다리며 뒤따르는 메시지를 한 배치로 모음
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMs);
+                while (batch.size() < FcmClient.MAX_BATCH_SIZE) {
+                    queue.drainTo(batch, FcmClient.MAX_BATCH_SIZE - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= FcmClient.MAX_BATCH_SIZE || remaining <= 0 || !running) {
+                        break;
+                    }
+                    PendingMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 종료 요청: 남은 메시지는 루프 조건에 따라 계속 전송
+                if (batch.isEmpty()) {
+                    continue;
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                send(batch);
+                batch.clear();
+            }
+        }
+        log.info("FCM 디스패처 종료");
+    }
+
+    private void send(List<PendingMessage> batch) {
+        List<FcmSendDto> messages = new ArrayList<>(batch.size());
+        for (PendingMessage pending : batch) {
+            messages.add(pending.message);
+        }
+        batchSize.record(batch.size());
+
+        List<FcmSendResult> results;
+        try {
+            results = fcmClient.sendEach(messages);
+        } catch (Exception e) {
+            log.warn("FCM 일괄 전송 실패, 재시도 예약: 메시지 수={}, 원인={}", batch.size(), e.getMessage());
+            for (PendingMessage pending : batch) {
+                retryOrFail(pending, e.getMessage());
+            }
+            return;
+        }
+
+        List<String> unregisteredTokens = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            PendingMessage pending = batch.get(i);
+            FcmSendResult result = i < results.size() ? results.get(i)
+                    : FcmSendResult.failure(FcmSendResult.Status.RETRYABLE, "응답 누락");
+            switch (result.getStatus()) {
+                case SUCCESS:
+                    successCounter.increment();
+                    latencyTimer.record(System.nanoTime() - pending.enqueuedAt, TimeUnit.NANOSECONDS);
+                    break;
+                case UNREGISTERED:
+                    unregisteredTokens.add(pending.message.getToken());
+                    failedCounter.increment();
+                    break;
+                case RETRYABLE:
+                    retryOrFail(pending, result.getError());
+                    break;
+                default:
+                    failedCounter.increment();
+                    log.warn("FCM 메시지 전송 실패: 토큰={}, 원인={}", pending.message.getToken(), result.getError());
+            }
+        }
+        pruneTokens(unregisteredTokens);
+    }
+
+    private void retryOrFail(PendingMessage pending, String error) {
+        if (pending.attempt >= maxAttempts || !running) {
+            failedCounter.increment();
+            log.warn("FCM 메시지 재시도 횟수 초과: 토큰={}, 시도={}, 원인={}", pending.message.getToken(), pending.attempt, error);
+            return;
+        }
+
+        long delay = retryBackoffMs << (pending.attempt - 1);
+        PendingMessage retry = new PendingMessage(pending.message, pending.enqueuedAt, pending.attempt + 1);
+        try {
+            retryScheduler.schedule(() -> {
+                if (!queue.offer(retry)) {
+                    droppedCounter.increment();
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+            retriedCounter.increment();
+        } catch (RejectedExecutionException e) {
+            failedCounter.increment();
+        }
+    }
+
+    /**
+     * 만료된 토큰 삭제 (같은 토큰으로 재등록할 수 있도록 비활성화가 아닌 삭제)
+     */
+    private void pruneTokens(List<String> tokens) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+        try {
+            fcmTokenMapper.deleteTokensByValue(tokens);
+            prunedCounter.increment(tokens.size());
+            log.info("만료된 FCM 토큰 삭제: {}건", tokens.size());
+        } catch (Exception e) {
+            log.warn("만료된 FCM 토큰 삭제 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("fcm.dispatch.messages")
+                .description("FCM 메시지 처리 결과 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static final class PendingMessage {
+        private final FcmSendDto message;
+        private final long enqueuedAt;
+        private final int attempt;
+
+        private PendingMessage(FcmSendDto message, long enqueuedAt, int attempt) {
+            this.message = message;
+            this.enqueuedAt = enqueuedAt;
+            this.attempt = attempt;
+        }
+    }
+}
@@ -1,57 +1,31 @@
 package com.ssafy.orderme.notification.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.auth.oauth2.GoogleCredentials;
-import com.google.firebase.messaging.*;
 import com.ssafy.orderme.notification.dto.FcmSendDto;
 import com.ssafy.orderme.notification.dto.request.FcmTokenRegistrationRequest;
 import com.ssafy.orderme.notification.mapper.FcmTokenMapper;
 import com.ssafy.orderme.notification.model.FcmToken;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.IOException;
-import java.util.List;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
-
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class FcmService {
     private final FcmTokenMapper fcmTokenMapper;
+    private final FcmDispatcher fcmDispatcher;
 
     /**
-     * FCM을 통해 메시지 전송 (Google Firebase Admin SDK 사용)
+     * FCM 메시지 전송 요청
+     * 디스패처 큐에 넣고 바로 반환하며, 실제 전송은 디스패처가 다른 메시지와 묶어 일괄 처리한다.
      */
     public boolean sendMessageTo(FcmSendDto fcmSendDto) {
-        try {
-            // notification과 data를 모두 포함하는 메시지 구성
-            Message message = Message.builder()
-                    .setNotification(Notification.builder()
-                            .setTitle(fcmSendDto.getTitle())
-                            .setBody(fcmSendDto.getBody())
-                            .build())
-                    .putData("title", fcmSendDto.getTitle())
-                    .putData("body", fcmSendDto.getBody())
-                    .setToken(fcmSendDto.getToken())
-                    .build();
-
-            // 비동기로 처리하고 결과를 기다리지 않음
-            FirebaseMessaging.getInstance().sendAsync(message)
-                    .addListener(() -> {
-                        log.info("FCM 메시지 전송 완료: 토큰={}", fcmSendDto.getToken());
-                    }, Executors.newSingleThreadExecutor());
-
-            return true;
-        } catch (Exception e) {
-            log.error("FCM 메시지 전송 실패: {}", e.getMessage(), e);
-            return false;
+        boolean queued = fcmDispatcher.enqueue(fcmSendDto);
+        if (!queued) {
+            log.error("FCM 메시지 전송 요청 실패: 토큰={}", fcmSendDto.getToken());
         }
+        return queued;
     }
 
     /**
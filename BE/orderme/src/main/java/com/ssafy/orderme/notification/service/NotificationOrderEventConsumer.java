@@ -0,0 +1,35 @@
+package com.ssafy.orderme.notification.service;
+
+import com.ssafy.orderme.order.model.OrderEvent;
+import com.ssafy.orderme.order.service.OrderEventConsumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 주문 이벤트 소비자 - 회원 주문 완료 푸시 알림
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationOrderEventConsumer implements OrderEventConsumer {
+
+    private final NotificationService notificationService;
+
+    @Override
+    public String name() {
+        return "notification";
+    }
+
+    @Override
+    public void consume(List<OrderEvent> events) {
+        for (OrderEvent event : events) {
+            // 비회원 주문은 알림 대상 아님
+            if (event.getUserId() == null || Boolean.TRUE.equals(event.getIsGuest())) {
+                continue;
+            }
+            double amount = event.getPaidAmount() != null ? event.getPaidAmount().doubleValue() : 0;
+            notificationService.sendOrderCompletionNotification(event.getUserId(), event.getOrderNumber(), amount);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.ssafy.orderme.order.controller;
 
 import com.ssafy.orderme.common.ApiResponse;
+import com.ssafy.orderme.order.dto.response.OrderHistoryResponse;
 import com.ssafy.orderme.order.dto.response.OrderResponse;
 import com.ssafy.orderme.order.service.OrderService;
 import com.ssafy.orderme.security.JwtTokenProvider;
@@ -76,4 +77,28 @@ public class OrderController {
                     .body(ApiResponse.error(500, "최근 주문 조회에 실패했습니다."));
         }
     }
+
+    // 사용자의 주문 내역 조회 (커서 기반 페이지, storeId 생략 시 전체 매장)
+    @GetMapping("/history")
+    public ResponseEntity<ApiResponse<?>> getOrderHistory(
+            HttpServletRequest httpRequest,
+            @RequestParam(required = false) Integer storeId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean details) {
+        try {
+            String token = httpRequest.getHeader("Authorization").replace("Bearer ", "");
+            String userId = jwtTokenProvider.getUserId(token);
+
+            OrderHistoryResponse history = orderService.getOrderHistory(userId, storeId, cursor, size, details);
+            return ResponseEntity.ok(ApiResponse.success(history));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(400, e.getMessage()));
+        } catch (Exception e) {
+            log.error("주문 내역 조회 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error(500, "주문 내역 조회에 실패했습니다."));
+        }
+    }
 }
\ No newline at end of file
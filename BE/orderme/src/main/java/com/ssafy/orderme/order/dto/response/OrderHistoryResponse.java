@@ -0,0 +1,18 @@
+package com.ssafy.orderme.order.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderHistoryResponse {
+    private List<OrderResponse> orders;
+    private String nextCursor; // 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+}
@@ -11,6 +11,9 @@ public interface OptionItemMapper {
     // ID로 옵션 항목 조회
     OptionItem findById(Integer itemId);
 
+    // ID 목록으로 옵션 항목 일괄 조회
+    List<OptionItem> findByIds(@Param("itemIds") List<Integer> itemIds);
+
     // 카테고리 ID로 옵션 항목 목록 조회
     List<OptionItem> findByCategoryId(Integer categoryId);
 
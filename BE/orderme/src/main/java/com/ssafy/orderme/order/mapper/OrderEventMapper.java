@@ -0,0 +1,69 @@
+package com.ssafy.orderme.order.mapper;
+
+import com.ssafy.orderme.order.model.OrderEvent;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Mapper
+public interface OrderEventMapper {
+    // 주문 이벤트 기록 (주문 트랜잭션 안에서 호출)
+    void insertEvent(OrderEvent event);
+
+    // 오프셋 이후 소비자에게 아직 전달하지 않은 이벤트 조회
+    List<OrderEvent> findUndeliveredEvents(
+            @Param("consumer") String consumer,
+            @Param("afterEventId") long afterEventId,
+            @Param("limit") int limit);
+
+    // 전달 완료 기록 (이미 있으면 무시)
+    void insertDeliveries(@Param("consumer") String consumer, @Param("eventIds") List<Long> eventIds);
+
+    // 오프셋 이후 이벤트의 전달 여부 조회 (eventId, delivered, settled: gapTimeoutMs 이전에 기록됨)
+    List<Map<String, Object>> findDeliveryStates(
+            @Param("consumer") String consumer,
+            @Param("afterEventId") long afterEventId,
+            @Param("gapTimeoutMs") long gapTimeoutMs,
+            @Param("limit") int limit);
+
+    // 오프셋 이하로 내려간 전달 기록 삭제
+    int deleteDeliveriesUpTo(@Param("consumer") String consumer, @Param("eventId") long eventId);
+
+    // 이벤트 처리 실패 기록 (있으면 시도 횟수 증가)
+    void recordFailure(
+            @Param("consumer") String consumer,
+            @Param("eventId") long eventId,
+            @Param("lastError") String lastError);
+
+    // 이벤트 처리 실패 횟수 (기록이 없으면 null)
+    Integer findFailureAttempts(@Param("consumer") String consumer, @Param("eventId") long eventId);
+
+    // 이벤트를 데드레터로 표시
+    void markDeadLettered(@Param("consumer") String consumer, @Param("eventId") long eventId);
+
+    // 오프셋 이하의 데드레터가 아닌 실패 기록 삭제 (나중에 처리된 이벤트)
+    int deleteResolvedFailures(@Param("maxEventId") long maxEventId);
+
+    // 가장 최근 이벤트 ID
+    Long findMaxEventId();
+
+    // 소비자 오프셋 생성 (없을 때만, 현재 마지막 이벤트부터 시작)
+    void insertOffsetIfAbsent(@Param("consumer") String consumer);
+
+    // 소비자 오프셋 잠금 조회 (다른 서버가 잠근 경우 null)
+    Long lockOffset(@Param("consumer") String consumer);
+
+    // 소비자 오프셋 갱신
+    void updateOffset(@Param("consumer") String consumer, @Param("lastEventId") long lastEventId);
+
+    // 전체 소비자 오프셋 조회 (consumer, lastEventId)
+    List<Map<String, Object>> findOffsets();
+
+    // 모든 소비자가 처리했고 보관 기간이 지난 이벤트 삭제
+    int deleteConsumedEvents(
+            @Param("maxEventId") long maxEventId,
+            @Param("createdBefore") LocalDateTime createdBefore);
+}
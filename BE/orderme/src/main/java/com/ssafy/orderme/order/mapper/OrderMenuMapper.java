@@ -18,6 +18,12 @@ public interface OrderMenuMapper {
     // 주문 ID로 주문 메뉴 목록 조회
     List<OrderMenu> findByOrderId(Integer orderId);
 
+    // 여러 주문의 주문 메뉴 목록 조회
+    List<OrderMenu> findByOrderIds(@Param("orderIds") List<Integer> orderIds);
+
     // 주문 메뉴 추가
     void insertOrderMenu(OrderMenu orderMenu);
+
+    // 주문 메뉴 일괄 추가 (생성된 order_menu_id는 각 객체에 채워짐)
+    void insertOrderMenus(List<OrderMenu> orderMenus);
 }
@@ -11,12 +11,18 @@ public interface OrderOptionMapper {
     // 주문 메뉴 ID로 주문 옵션 목록 조회
     List<OrderOption> findByOrderMenuId(Integer orderMenuId);
 
+    // 여러 주문 메뉴의 주문 옵션 목록 조회
+    List<OrderOption> findByOrderMenuIds(@Param("orderMenuIds") List<Integer> orderMenuIds);
+
     // 주문 옵션 ID로 조회
     OrderOption findById(Integer orderOptionId);
 
     // 주문 옵션 추가
     void insertOrderOption(OrderOption orderOption);
 
+    // 주문 옵션 일괄 추가
+    void insertOrderOptions(List<OrderOption> orderOptions);
+
     // 주문 옵션 수정
     void updateOrderOption(OrderOption orderOption);
 
@@ -26,6 +26,9 @@ public interface StampHistoryMapper {
     // 스탬프 이력 추가
     void insertHistory(StampHistory stampHistory);
 
+    // 스탬프 이력 일괄 추가 (같은 주문의 같은 유형 이력이 이미 있으면 무시)
+    void insertHistories(@Param("histories") List<StampHistory> histories);
+
     // 사용자 ID와 매장 ID로 최근 스탬프 이력 조회
     List<StampHistory> findRecentByUserIdAndStoreId(
             @Param("userId") String userId,
@@ -26,6 +26,12 @@ public interface StampMapper {
     // 스탬프 업데이트
     void updateStamp(Stamp stamp);
 
+    // 스탬프 적립 (없으면 생성, 있으면 stampCount만큼 증가) - 스탬프 ID는 stamp.stampId에 채워짐
+    void earnStamps(Stamp stamp);
+
+    // 스탬프 차감 (남은 스탬프가 stampCount 이상일 때만) - 차감된 행 수 반환, 스탬프 ID는 stamp.stampId에 채워짐
+    int redeemStamps(Stamp stamp);
+
     // 스탬프 삭제
     void deleteStamp(Integer stampId);
 
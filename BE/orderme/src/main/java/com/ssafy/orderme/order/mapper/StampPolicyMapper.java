@@ -14,6 +14,9 @@ public interface StampPolicyMapper {
     // 매장별 활성화된 스탬프 정책 조회
     StampPolicy findActiveByStoreId(Integer storeId);
 
+    // 여러 매장의 활성화된 스탬프 정책 조회 (매장별 최신 정책 순)
+    List<StampPolicy> findActiveByStoreIds(@Param("storeIds") List<Integer> storeIds);
+
     // 매장별 모든 스탬프 정책 목록 조회
     List<StampPolicy> findAllByStoreId(Integer storeId);
 
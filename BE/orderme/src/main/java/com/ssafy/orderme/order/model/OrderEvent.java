@@ -0,0 +1,111 @@
+package com.ssafy.orderme.order.model;
+
+import com.ssafy.orderme.payment.model.Order;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 이벤트 (order_events 아웃박스 행)
+ * 주문 트랜잭션 안에서 기록되고, OrderEventRelay가 커밋된 이벤트를 소비자(알림, 추천, 매출, 스탬프)에게 전달한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderEvent {
+
+    public static final String ORDER_ACCEPTED = "ORDER_ACCEPTED";
+
+    private Long eventId;
+    private String eventType;
+    private Integer orderId;
+    private Integer storeId;
+    private String userId;
+    private String orderNumber;
+    private BigDecimal totalAmount;  // 주문 금액 (할인 전)
+    private BigDecimal paidAmount;   // 결제 금액
+    private Boolean isTakeout;
+    private Boolean isGuest;
+    private Boolean isStampUsed;
+    private String gender;
+    private Integer age;
+    private String weather;
+    private LocalDateTime orderDate;
+    private Integer stampId;          // 스탬프 적립/사용이 있었던 경우만
+    private String stampAction;       // EARN 또는 USE
+    private Integer stampCount;
+    private Integer stampPolicyId;
+    private LocalDateTime createdAt;
+
+    /**
+     * 승인된 주문으로 이벤트 생성
+     *
+     * @param stampHistory 주문에서 발생한 스탬프 적립/사용 (없으면 null)
+     */
+    public static OrderEvent accepted(Order order, BigDecimal paidAmount, StampHistory stampHistory) {
+        OrderEventBuilder builder = OrderEvent.builder()
+                .eventType(ORDER_ACCEPTED)
+                .orderId(order.getOrderId())
+                .storeId(order.getKioskId())
+                .userId(order.getUserId())
+                .orderNumber(order.getOrderNumber())
+                .totalAmount(order.getTotalAmount())
+                .paidAmount(paidAmount)
+                .isTakeout(order.getIsTakeout())
+                .isGuest(order.getIsGuest())
+                .isStampUsed(order.getIsStampUsed())
+                .gender(order.getGender())
+                .age(order.getAge())
+                .weather(order.getWeather())
+                .orderDate(order.getOrderDate());
+        if (stampHistory != null) {
+            builder.stampId(stampHistory.getStampId())
+                    .stampAction(stampHistory.getActionType())
+                    .stampCount(stampHistory.getStampCount())
+                    .stampPolicyId(stampHistory.getPolicyId());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 이벤트에 실린 스탬프 이력 (없으면 null)
+     */
+    public StampHistory toStampHistory() {
+        if (stampAction == null) {
+            return null;
+        }
+        return StampHistory.builder()
+                .stampId(stampId)
+                .orderId(orderId)
+                .actionType(stampAction)
+                .stampCount(stampCount)
+                .policyId(stampPolicyId)
+                .build();
+    }
+
+    /**
+     * 이벤트의 주문 정보를 Order로 변환 (기존 Order 기반 API 재사용용)
+     */
+    public Order toOrder() {
+        return Order.builder()
+                .orderId(orderId)
+                .kioskId(storeId)
+                .userId(userId)
+                .orderNumber(orderNumber)
+                .totalAmount(totalAmount)
+                .isTakeout(isTakeout)
+                .isGuest(isGuest)
+                .isStampUsed(isStampUsed)
+                .gender(gender)
+                .age(age)
+                .weather(weather)
+                .orderDate(orderDate)
+                .orderStatus("ACCEPTED")
+                .build();
+    }
+}
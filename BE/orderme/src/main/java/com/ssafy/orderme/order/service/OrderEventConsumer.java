@@ -0,0 +1,24 @@
+package com.ssafy.orderme.order.service;
+
+import com.ssafy.orderme.order.model.OrderEvent;
+
+import java.util.List;
+
+/**
+ * 주문 이벤트 소비자
+ * 빈으로 등록하면 OrderEventRelay가 자동으로 오프셋을 만들고 커밋된 주문 이벤트를 순서대로 전달한다.
+ * 전달은 최소 한 번(at-least-once)이므로 장애 후 같은 이벤트를 다시 받을 수 있다.
+ */
+public interface OrderEventConsumer {
+
+    /**
+     * 오프셋 저장에 쓰는 소비자 이름 (변경하면 처음부터가 아닌 현재 시점부터 새로 소비)
+     */
+    String name();
+
+    /**
+     * 이벤트 일괄 처리
+     * 예외를 던지면 배치를 롤백하고 이벤트를 한 건씩 다시 전달하며, 계속 실패하는 이벤트는 데드레터로 넘긴다.
+     */
+    void consume(List<OrderEvent> events);
+}
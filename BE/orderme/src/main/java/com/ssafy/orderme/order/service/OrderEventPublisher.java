@@ -0,0 +1,35 @@
+package com.ssafy.orderme.order.service;
+
+import com.ssafy.orderme.order.mapper.OrderEventMapper;
+import com.ssafy.orderme.order.model.OrderEvent;
+import com.ssafy.orderme.order.model.StampHistory;
+import com.ssafy.orderme.payment.model.Order;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+/**
+ * 주문 이벤트 기록 (트랜잭셔널 아웃박스)
+ * 주문 트랜잭션과 함께 커밋되므로 주문이 저장되면 후속 처리도 반드시 한 번 이상 실행된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderEventPublisher {
+
+    private final OrderEventMapper orderEventMapper;
+
+    /**
+     * 주문 승인 이벤트 기록 (주문 트랜잭션 안에서만 호출 가능)
+     *
+     * @param order 승인된 주문
+     * @param paidAmount 실제 결제 금액
+     * @param stampHistory 스탬프 적립/사용 이력 (없으면 null, 이벤트 소비자가 일괄 저장)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishOrderAccepted(Order order, BigDecimal paidAmount, StampHistory stampHistory) {
+        orderEventMapper.insertEvent(OrderEvent.accepted(order, paidAmount, stampHistory));
+    }
+}
@@ -0,0 +1,310 @@
+package com.ssafy.orderme.order.service;
+
+import com.ssafy.orderme.order.mapper.OrderEventMapper;
+import com.ssafy.orderme.order.model.OrderEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 이벤트 전달기
+ * order_events에서 소비자별 오프셋 이후 아직 전달하지 않은 이벤트를 배치로 읽어 전달하고,
+ * 전달한 이벤트는 order_event_deliveries에 기록한다.
+ * 이벤트 ID는 INSERT 시점에 발급되고 커밋 순서와 다를 수 있으므로, 오프셋은 빈 ID(아직 커밋되지 않았거나 롤백된 이벤트)
+ * 앞에서 멈추고, 빈 ID 다음 이벤트가 gap-timeout보다 오래되었을 때만 롤백된 것으로 보고 넘어간다.
+ * 오프셋 행을 FOR UPDATE SKIP LOCKED로 잠그므로 여러 서버가 떠 있어도 소비자마다 한 서버만 전달한다.
+ * 소비자 처리 중 장애가 나면 전달 기록과 오프셋이 함께 롤백되어 같은 배치를 다시 전달한다. (at-least-once)
+ * 배치가 실패하면 이벤트를 한 건씩 따로 전달해 실패한 이벤트만 order_event_failures에 시도 횟수를 남기고,
+ * max-attempts번 실패한 이벤트는 데드레터로 표시한 뒤 전달된 것으로 기록해 뒤의 이벤트가 막히지 않게 한다.
+ *
+ * 메트릭: order.events.lag{consumer}(미처리 이벤트 수), order.events.delivered{consumer},
+ *        order.events.failures{consumer}, order.events.dead-lettered{consumer}, order.events.consume{consumer}(배치 처리 시간)
+ */
+@Slf4j
+@Service
+public class OrderEventRelay {
+
+    private final OrderEventMapper orderEventMapper;
+    private final List<OrderEventConsumer> consumers;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 소비자 이름 -> 오프셋/재시도 시각/메트릭
+    private final Map<String, ConsumerState> states = new ConcurrentHashMap<>();
+    private final AtomicLong maxEventId = new AtomicLong();
+
+    @Value("${order-events.batch-size:500}")
+    private int batchSize;
+
+    // 빈 이벤트 ID를 롤백된 것으로 보기까지 기다리는 시간 (주문 트랜잭션 최대 소요 시간보다 길게)
+    @Value("${order-events.gap-timeout-ms:300000}")
+    private long gapTimeoutMs;
+
+    @Value("${order-events.retry-delay-ms:5000}")
+    private long retryDelayMs;
+
+    // 이벤트 한 건을 데드레터로 넘기기까지의 실패 횟수
+    @Value("${order-events.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${order-events.retention-days:7}")
+    private int retentionDays;
+
+    public OrderEventRelay(OrderEventMapper orderEventMapper, List<OrderEventConsumer> consumers,
+                           TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.orderEventMapper = orderEventMapper;
+        this.consumers = consumers;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        for (OrderEventConsumer consumer : consumers) {
+            orderEventMapper.insertOffsetIfAbsent(consumer.name());
+            ConsumerState state = new ConsumerState(consumer.name(), meterRegistry);
+            states.put(consumer.name(), state);
+            meterRegistry.gauge("order.events.lag", Tags.of("consumer", consumer.name()), state,
+                    s -> Math.max(0, maxEventId.get() - s.offset.get()));
+        }
+        refreshOffsets();
+        log.info("주문 이벤트 소비자 등록: {}", states.keySet());
+    }
+
+    /**
+     * 소비자별 미처리 이벤트 전달
+     */
+    @Scheduled(fixedDelayString = "${order-events.poll-interval-ms:200}")
+    public void relay() {
+        long now = System.currentTimeMillis();
+        for (OrderEventConsumer consumer : consumers) {
+            ConsumerState state = states.get(consumer.name());
+            if (state == null || now < state.retryAt) {
+                continue;
+            }
+            try {
+                // 배치가 가득 찼으면 밀린 이벤트가 더 있으므로 이어서 처리
+                int delivered;
+                do {
+                    delivered = deliverBatch(consumer, state);
+                } while (delivered >= batchSize);
+            } catch (Exception e) {
+                state.failures.increment();
+                log.warn("주문 이벤트 배치 처리 실패, 한 건씩 다시 전달: consumer={}, error={}", consumer.name(), e.getMessage());
+                try {
+                    if (deliverEach(consumer, consumer.name(), state) > 0) {
+                        state.retryAt = System.currentTimeMillis() + retryDelayMs;
+                    }
+                } catch (Exception retryError) {
+                    state.retryAt = System.currentTimeMillis() + retryDelayMs;
+                    log.error("주문 이벤트 처리 실패, {}ms 후 재시도: consumer={}", retryDelayMs, consumer.name(), retryError);
+                }
+            }
+        }
+    }
+
+    /**
+     * 지연 메트릭용 오프셋/최신 이벤트 ID 갱신
+     */
+    @Scheduled(fixedDelayString = "${order-events.lag-refresh-ms:5000}")
+    public void refreshOffsets() {
+        try {
+            Long max = orderEventMapper.findMaxEventId();
+            maxEventId.set(max != null ? max : 0);
+            for (Map<String, Object> row : orderEventMapper.findOffsets()) {
+                ConsumerState state = states.get(String.valueOf(row.get("consumer")));
+                if (state != null) {
+                    state.offset.set(((Number) row.get("lastEventId")).longValue());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("주문 이벤트 오프셋 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 모든 소비자가 처리했고 보관 기간이 지난 이벤트 정리 (매일 새벽 4시)
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void purgeConsumedEvents() {
+        refreshOffsets();
+        long minOffset = states.values().stream().mapToLong(s -> s.offset.get()).min().orElse(0);
+        int deleted = orderEventMapper.deleteConsumedEvents(minOffset, LocalDateTime.now().minusDays(retentionDays));
+        int resolved = orderEventMapper.deleteResolvedFailures(minOffset);
+        log.info("처리 완료 주문 이벤트 정리: {}건, 해결된 실패 기록: {}건", deleted, resolved);
+    }
+
+    /**
+     * 오프셋 잠금 -> 이벤트 조회 -> 소비 -> 오프셋 갱신을 한 트랜잭션으로 실행
+     * @return 전달한 이벤트 수 (다른 서버가 처리 중이면 0)
+     */
+    private int deliverBatch(OrderEventConsumer consumer, ConsumerState state) {
+        Integer delivered = transactionTemplate.execute(status -> {
+            Long offset = orderEventMapper.lockOffset(consumer.name());
+            if (offset == null) {
+                return 0;
+            }
+            List<OrderEvent> events = orderEventMapper.findUndeliveredEvents(consumer.name(), offset, batchSize);
+            if (!events.isEmpty()) {
+                state.consumeTimer.record(() -> consumer.consume(events));
+                orderEventMapper.insertDeliveries(consumer.name(),
+                        events.stream().map(OrderEvent::getEventId).collect(Collectors.toList()));
+                maxEventId.accumulateAndGet(events.get(events.size() - 1).getEventId(), Math::max);
+                state.delivered.increment(events.size());
+            }
+
+            long newOffset = advanceOffset(consumer.name(), offset);
+            if (newOffset > offset) {
+                orderEventMapper.updateOffset(consumer.name(), newOffset);
+                orderEventMapper.deleteDeliveriesUpTo(consumer.name(), newOffset);
+            }
+            state.offset.set(newOffset);
+            return events.size();
+        });
+        return delivered != null ? delivered : 0;
+    }
+
+    /**
+     * 미전달 이벤트를 한 건씩 각자의 트랜잭션으로 전달 (배치 실패 시)
+     * 실패한 이벤트는 시도 횟수를 올리고, max-attempts에 이르면 데드레터로 표시해 전달된 것으로 기록한다.
+     * @return 이번에 실패한 이벤트 수
+     */
+    private int deliverEach(OrderEventConsumer consumer, String name, ConsumerState state) {
+        List<OrderEvent> events = transactionTemplate.execute(status -> {
+            Long offset = orderEventMapper.lockOffset(name);
+            return offset == null ? null : orderEventMapper.findUndeliveredEvents(name, offset, batchSize);
+        });
+        if (events == null) {
+            return 0;
+        }
+
+        int failed = 0;
+        for (OrderEvent event : events) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    // 다른 서버가 그사이 전달했으면 건너뜀
+                    Long offset = orderEventMapper.lockOffset(name);
+                    if (offset == null || event.getEventId() <= offset
+                            || orderEventMapper.findUndeliveredEvents(name, event.getEventId() - 1, 1).stream()
+                                    .noneMatch(e -> e.getEventId().equals(event.getEventId()))) {
+                        return;
+                    }
+                    state.consumeTimer.record(() -> consumer.consume(List.of(event)));
+                    orderEventMapper.insertDeliveries(name, List.of(event.getEventId()));
+                    state.delivered.increment();
+                });
+            } catch (Exception e) {
+                failed++;
+                recordFailure(name, state, event, e);
+            }
+        }
+
+        // 전달된 이벤트만큼 오프셋 전진
+        transactionTemplate.executeWithoutResult(status -> {
+            Long offset = orderEventMapper.lockOffset(name);
+            if (offset == null) {
+                return;
+            }
+            long newOffset = advanceOffset(name, offset);
+            if (newOffset > offset) {
+                orderEventMapper.updateOffset(name, newOffset);
+                orderEventMapper.deleteDeliveriesUpTo(name, newOffset);
+            }
+            state.offset.set(newOffset);
+        });
+        return failed;
+    }
+
+    private void recordFailure(String consumer, ConsumerState state, OrderEvent event, Exception cause) {
+        String error = String.valueOf(cause.getMessage());
+        if (error.length() > 1000) {
+            error = error.substring(0, 1000);
+        }
+        String lastError = error;
+        Boolean deadLettered = transactionTemplate.execute(status -> {
+            orderEventMapper.recordFailure(consumer, event.getEventId(), lastError);
+            Integer attempts = orderEventMapper.findFailureAttempts(consumer, event.getEventId());
+            if (attempts == null || attempts < maxAttempts) {
+                return false;
+            }
+            orderEventMapper.markDeadLettered(consumer, event.getEventId());
+            orderEventMapper.insertDeliveries(consumer, List.of(event.getEventId()));
+            return true;
+        });
+        if (Boolean.TRUE.equals(deadLettered)) {
+            state.deadLettered.increment();
+            log.error("주문 이벤트 데드레터 처리 ({}회 실패): consumer={}, eventId={}, orderId={}",
+                    maxAttempts, consumer, event.getEventId(), event.getOrderId(), cause);
+        } else {
+            log.warn("주문 이벤트 처리 실패: consumer={}, eventId={}, error={}", consumer, event.getEventId(), lastError);
+        }
+    }
+
+    /**
+     * 오프셋 이후 이벤트를 ID 순으로 보며 연속으로 전달된 마지막 ID까지 오프셋을 올린다.
+     * 전달되지 않은 이벤트나 아직 기다려야 하는 빈 ID를 만나면 그 앞에서 멈춘다.
+     */
+    private long advanceOffset(String consumer, long offset) {
+        long newOffset = offset;
+        for (Map<String, Object> row : orderEventMapper.findDeliveryStates(consumer, offset, gapTimeoutMs, batchSize)) {
+            long eventId = ((Number) row.get("eventId")).longValue();
+            if (!isTrue(row.get("delivered"))) {
+                break;
+            }
+            if (eventId != newOffset + 1 && !isTrue(row.get("settled"))) {
+                break;
+            }
+            if (eventId != newOffset + 1) {
+                log.warn("주문 이벤트 ID {}~{} 건너뜀 (롤백된 것으로 판단): consumer={}", newOffset + 1, eventId - 1, consumer);
+            }
+            newOffset = eventId;
+        }
+        return newOffset;
+    }
+
+    private static boolean isTrue(Object value) {
+        return value instanceof Number ? ((Number) value).intValue() != 0 : Boolean.TRUE.equals(value);
+    }
+
+    private static final class ConsumerState {
+        private final AtomicLong offset = new AtomicLong();
+        private final Counter delivered;
+        private final Counter failures;
+        private final Counter deadLettered;
+        private final Timer consumeTimer;
+        private volatile long retryAt;
+
+        private ConsumerState(String consumer, MeterRegistry meterRegistry) {
+            this.delivered = Counter.builder("order.events.delivered")
+                    .description("소비자에게 전달한 주문 이벤트 수")
+                    .tag("consumer", consumer)
+                    .register(meterRegistry);
+            this.failures = Counter.builder("order.events.failures")
+                    .description("주문 이벤트 배치 처리 실패 수")
+                    .tag("consumer", consumer)
+                    .register(meterRegistry);
+            this.deadLettered = Counter.builder("order.events.dead-lettered")
+                    .description("처리 실패로 데드레터 처리한 주문 이벤트 수")
+                    .tag("consumer", consumer)
+                    .register(meterRegistry);
+            this.consumeTimer = Timer.builder("order.events.consume")
+                    .description("주문 이벤트 배치 처리 시간")
+                    .tag("consumer", consumer)
+                    .register(meterRegistry);
+        }
+    }
+}
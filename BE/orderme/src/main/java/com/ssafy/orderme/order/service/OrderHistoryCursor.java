@@ -0,0 +1,52 @@
+package com.ssafy.orderme.order.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 주문 내역 키셋 페이징 커서 (마지막으로 내려준 주문의 order_date, order_id)
+ * 클라이언트에는 내용을 알 수 없는 토큰으로 전달한다.
+ */
+final class OrderHistoryCursor {
+
+    private final LocalDateTime orderDate;
+    private final Integer orderId;
+
+    OrderHistoryCursor(LocalDateTime orderDate, Integer orderId) {
+        this.orderDate = orderDate;
+        this.orderId = orderId;
+    }
+
+    LocalDateTime getOrderDate() {
+        return orderDate;
+    }
+
+    Integer getOrderId() {
+        return orderId;
+    }
+
+    String encode() {
+        String raw = orderDate + "|" + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 토큰 형식이 올바르지 않은 경우
+     */
+    static OrderHistoryCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new OrderHistoryCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Integer.valueOf(raw.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
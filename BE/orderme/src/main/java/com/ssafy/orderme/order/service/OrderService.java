@@ -1,5 +1,6 @@
 package com.ssafy.orderme.order.service;
 
+import com.ssafy.orderme.order.dto.response.OrderHistoryResponse;
 import com.ssafy.orderme.order.dto.response.OrderMenuResponse;
 import com.ssafy.orderme.order.dto.response.OrderOptionResponse;
 import com.ssafy.orderme.order.dto.response.OrderResponse;
@@ -14,13 +15,19 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class OrderService {
+    // 주문 내역 한 페이지 최대 크기
+    private static final int MAX_HISTORY_PAGE_SIZE = 50;
+
     private final OrderMapper orderMapper;
     private final OrderMenuMapper orderMenuMapper;
     private final OrderOptionMapper orderOptionMapper;
@@ -88,17 +95,20 @@ public class OrderService {
     }
 
     /**
-     * 메뉴 상세 정보 생성
+     * 메뉴 상세 정보 생성 (옵션은 IN 쿼리 한 번으로 조회)
      */
     private List<OrderMenuResponse> createMenuDetails(List<OrderMenu> menuList) {
-        List<OrderMenuResponse> result = new ArrayList<>();
+        return createMenuDetails(menuList, findOptionsByOrderMenu(menuList));
+    }
 
-        for (OrderMenu menu : menuList) {
-            // 메뉴에 해당하는 옵션 조회
-            List<OrderOption> options = orderOptionMapper.findByOrderMenuId(menu.getOrderMenuId());
+    private List<OrderMenuResponse> createMenuDetails(List<OrderMenu> menuList,
+                                                      Map<Integer, List<OrderOption>> optionsByMenu) {
+        List<OrderMenuResponse> result = new ArrayList<>(menuList.size());
 
+        for (OrderMenu menu : menuList) {
             // 옵션 응답 생성
-            List<OrderOptionResponse> optionResponses = options.stream()
+            List<OrderOptionResponse> optionResponses = optionsByMenu
+                    .getOrDefault(menu.getOrderMenuId(), Collections.emptyList()).stream()
                     .map(option -> OrderOptionResponse.builder()
                             .orderOptionId(option.getOrderOptionId())
                             .optionItemId(option.getOptionItemId())
@@ -126,27 +136,99 @@ public class OrderService {
     }
 
     /**
-     * 사용자의 최근 주문 목록 조회
+     * 사용자 주문 내역 페이지 조회 (키셋 페이징)
+     * 주문, 주문 메뉴, 주문 옵션을 각각 쿼리 한 번씩만 조회하므로 주문 수가 많은 사용자도 페이지당 비용이 같다.
+     *
+     * @param storeId null이면 전체 매장
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param withDetails 메뉴/옵션 상세 포함 여부
      */
-    public List<OrderResponse> getRecentOrdersByUserId(String userId, int limit) {
-        List<Order> orderList = orderMapper.findRecentByUserId(userId, limit);
-        List<OrderResponse> result = new ArrayList<>();
+    public OrderHistoryResponse getOrderHistory(String userId, Integer storeId, String cursor, int size,
+                                                boolean withDetails) {
+        int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+        OrderHistoryCursor position = (cursor == null || cursor.isBlank()) ? null : OrderHistoryCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Order> orderList = orderMapper.findOrderHistoryPage(
+                userId,
+                storeId,
+                position != null ? position.getOrderDate() : null,
+                position != null ? position.getOrderId() : null,
+                pageSize + 1);
+
+        boolean hasNext = orderList.size() > pageSize;
+        if (hasNext) {
+            orderList = orderList.subList(0, pageSize);
+        }
 
-        for (Order order : orderList) {
-            // 주문 메뉴 목록 조회
-            List<OrderMenu> menuList = orderMenuMapper.findByOrderId(order.getOrderId());
+        String nextCursor = null;
+        if (hasNext) {
+            Order last = orderList.get(orderList.size() - 1);
+            nextCursor = new OrderHistoryCursor(last.getOrderDate(), last.getOrderId()).encode();
+        }
 
-            // 주문 요약 생성
-            String orderSummary = createOrderSummary(menuList);
+        return OrderHistoryResponse.builder()
+                .orders(toOrderResponses(orderList, withDetails))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
 
-            // 응답 객체 생성
-            OrderResponse response = OrderResponse.fromOrder(order, orderSummary);
-            result.add(response);
+    /**
+     * 주문 목록을 응답으로 변환 (주문 메뉴와 옵션은 주문 목록 전체에 대해 IN 쿼리로 한 번씩 조회)
+     */
+    private List<OrderResponse> toOrderResponses(List<Order> orderList, boolean withDetails) {
+        if (orderList.isEmpty()) {
+            return new ArrayList<>();
         }
 
+        List<Integer> orderIds = orderList.stream()
+                .map(Order::getOrderId)
+                .collect(Collectors.toList());
+        Map<Integer, List<OrderMenu>> menusByOrder = orderMenuMapper.findByOrderIds(orderIds).stream()
+                .collect(Collectors.groupingBy(OrderMenu::getOrderId));
+
+        Map<Integer, List<OrderOption>> optionsByMenu = Collections.emptyMap();
+        if (withDetails) {
+            List<OrderMenu> allMenus = new ArrayList<>();
+            menusByOrder.values().forEach(allMenus::addAll);
+            optionsByMenu = findOptionsByOrderMenu(allMenus);
+        }
+
+        List<OrderResponse> result = new ArrayList<>(orderList.size());
+        for (Order order : orderList) {
+            List<OrderMenu> menuList = menusByOrder.getOrDefault(order.getOrderId(), Collections.emptyList());
+            String orderSummary = createOrderSummary(menuList);
+
+            if (withDetails) {
+                result.add(OrderResponse.fromOrderWithDetails(order, orderSummary,
+                        createMenuDetails(menuList, optionsByMenu)));
+            } else {
+                result.add(OrderResponse.fromOrder(order, orderSummary));
+            }
+        }
         return result;
     }
 
+    private Map<Integer, List<OrderOption>> findOptionsByOrderMenu(List<OrderMenu> menuList) {
+        if (menuList.isEmpty()) {
+            return new HashMap<>();
+        }
+        List<Integer> orderMenuIds = menuList.stream()
+                .map(OrderMenu::getOrderMenuId)
+                .collect(Collectors.toList());
+        return orderOptionMapper.findByOrderMenuIds(orderMenuIds).stream()
+                .collect(Collectors.groupingBy(OrderOption::getOrderMenuId));
+    }
+
+    /**
+     * 사용자의 최근 주문 목록 조회
+     */
+    public List<OrderResponse> getRecentOrdersByUserId(String userId, int limit) {
+        List<Order> orderList = orderMapper.findRecentByUserId(userId, limit);
+        return toOrderResponses(orderList, false);
+    }
+
     /**
      * 매장별 주문 정보 조회 (요약 포함)
      */
@@ -193,20 +275,6 @@ public class OrderService {
      */
     public List<OrderResponse> getRecentOrdersByUserIdAndStoreId(String userId, Integer storeId, int limit) {
         List<Order> orderList = orderMapper.findRecentByUserIdAndStoreId(userId, storeId, limit);
-        List<OrderResponse> result = new ArrayList<>();
-
-        for (Order order : orderList) {
-            // 주문 메뉴 목록 조회
-            List<OrderMenu> menuList = orderMenuMapper.findByOrderId(order.getOrderId());
-
-            // 주문 요약 생성
-            String orderSummary = createOrderSummary(menuList);
-
-            // 응답 객체 생성
-            OrderResponse response = OrderResponse.fromOrder(order, orderSummary);
-            result.add(response);
-        }
-
-        return result;
+        return toOrderResponses(orderList, false);
     }
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.ssafy.orderme.order.service;
+
+import com.ssafy.orderme.order.mapper.StampMapper;
+import com.ssafy.orderme.order.model.Stamp;
+import com.ssafy.orderme.order.model.StampHistory;
+import com.ssafy.orderme.order.model.StampPolicy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 스탬프 적립/사용 처리
+ * 조회 후 수정하지 않고 SQL 한 문장으로 증감하므로 같은 사용자의 동시 주문에서도 스탬프가 누락되거나 중복 사용되지 않는다.
+ * 이력은 여기서 저장하지 않고 반환된 StampHistory를 주문 이벤트에 실어 StampOrderEventConsumer가 묶어서 저장한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StampLedger {
+
+    public static final String ACTION_EARN = "EARN";
+    public static final String ACTION_USE = "USE";
+
+    // 주문 1건당 적립 스탬프 수
+    private static final int STAMPS_PER_ORDER = 1;
+
+    private final StampMapper stampMapper;
+
+    /**
+     * 스탬프 적립 (스탬프 카드가 없으면 생성)
+     *
+     * @return 저장할 적립 이력, 게스트 주문이면 null
+     */
+    public StampHistory earn(String userId, Integer storeId, Integer orderId) {
+        if (userId == null || userId.isEmpty()) {
+            return null;
+        }
+
+        Stamp stamp = Stamp.builder()
+                .userId(userId)
+                .storeId(storeId)
+                .stampCount(STAMPS_PER_ORDER)
+                .lastOrderId(orderId)
+                .build();
+        stampMapper.earnStamps(stamp);
+
+        return StampHistory.builder()
+                .stampId(stamp.getStampId())
+                .orderId(orderId)
+                .actionType(ACTION_EARN)
+                .stampCount(STAMPS_PER_ORDER)
+                .build();
+    }
+
+    /**
+     * 정책에 필요한 스탬프 수만큼 차감 (남은 스탬프가 충분할 때만)
+     *
+     * @return 저장할 사용 이력, 게스트 주문이거나 스탬프가 부족하면 null
+     */
+    public StampHistory redeem(String userId, Integer storeId, Integer orderId, StampPolicy policy) {
+        if (userId == null || userId.isEmpty()) {
+            return null;
+        }
+
+        Stamp stamp = Stamp.builder()
+                .userId(userId)
+                .storeId(storeId)
+                .stampCount(policy.getStampsRequired())
+                .lastOrderId(orderId)
+                .build();
+        if (stampMapper.redeemStamps(stamp) == 0) {
+            return null;
+        }
+
+        return StampHistory.builder()
+                .stampId(stamp.getStampId())
+                .orderId(orderId)
+                .actionType(ACTION_USE)
+                .stampCount(policy.getStampsRequired())
+                .policyId(policy.getPolicyId())
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.ssafy.orderme.order.service;
+
+import com.ssafy.orderme.order.mapper.StampHistoryMapper;
+import com.ssafy.orderme.order.model.OrderEvent;
+import com.ssafy.orderme.order.model.StampHistory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 이벤트 소비자 - 스탬프 이력 저장 및 사용 현황 집계
+ * 주문 트랜잭션에서 적립/사용된 스탬프 이력을 이벤트 배치 단위로 한 번에 저장하고 (재전달 시 중복 무시),
+ * 적립/사용 건수를 메트릭(stamp.orders{action=earn|use})으로 기록한다.
+ */
+@Component
+public class StampOrderEventConsumer implements OrderEventConsumer {
+
+    private final StampHistoryMapper stampHistoryMapper;
+    private final Counter earnCounter;
+    private final Counter useCounter;
+
+    public StampOrderEventConsumer(StampHistoryMapper stampHistoryMapper, MeterRegistry meterRegistry) {
+        this.stampHistoryMapper = stampHistoryMapper;
+        this.earnCounter = Counter.builder("stamp.orders")
+                .description("스탬프 적립/사용 주문 수")
+                .tag("action", "earn")
+                .register(meterRegistry);
+        this.useCounter = Counter.builder("stamp.orders")
+                .description("스탬프 적립/사용 주문 수")
+                .tag("action", "use")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String name() {
+        return "stamp";
+    }
+
+    @Override
+    public void consume(List<OrderEvent> events) {
+        List<StampHistory> histories = new ArrayList<>();
+        for (OrderEvent event : events) {
+            StampHistory history = event.toStampHistory();
+            if (history == null) {
+                continue;
+            }
+            histories.add(history);
+            if (StampLedger.ACTION_USE.equals(history.getActionType())) {
+                useCounter.increment();
+            } else {
+                earnCounter.increment();
+            }
+        }
+
+        if (!histories.isEmpty()) {
+            stampHistoryMapper.insertHistories(histories);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.ssafy.orderme.order.service;
+
+import com.ssafy.orderme.order.mapper.StampPolicyMapper;
+import com.ssafy.orderme.order.model.StampPolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매장별 활성 스탬프 정책 캐시
+ * 정책 변경은 이 클래스의 메서드로만 하고, 변경 시 해당 매장 캐시를 비운다. (트랜잭션 중이면 커밋 후 한 번 더)
+ * 다른 서버에서 바뀐 정책은 TTL이 지나면 반영된다.
+ * 반환되는 StampPolicy는 캐시가 공유하는 객체이므로 수정하지 말 것.
+ */
+@Slf4j
+@Service
+public class StampPolicyCache {
+
+    private final StampPolicyMapper stampPolicyMapper;
+    private final Map<Integer, CachedPolicy> policies = new ConcurrentHashMap<>();
+
+    @Value("${stamp.policy-cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    public StampPolicyCache(StampPolicyMapper stampPolicyMapper) {
+        this.stampPolicyMapper = stampPolicyMapper;
+    }
+
+    /**
+     * 매장의 활성 스탬프 정책 조회
+     *
+     * @return 활성 정책이 없으면 null
+     */
+    public StampPolicy getActivePolicy(Integer storeId) {
+        if (storeId == null) {
+            return null;
+        }
+        return getActivePolicies(Collections.singletonList(storeId)).get(storeId);
+    }
+
+    /**
+     * 여러 매장의 활성 스탬프 정책 조회 (캐시에 없는 매장만 IN 쿼리 한 번으로 조회)
+     *
+     * @return 매장 ID별 활성 정책 (정책이 없는 매장은 포함하지 않음)
+     */
+    public Map<Integer, StampPolicy> getActivePolicies(Collection<Integer> storeIds) {
+        Map<Integer, StampPolicy> result = new HashMap<>();
+        List<Integer> misses = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        for (Integer storeId : storeIds) {
+            CachedPolicy cached = policies.get(storeId);
+            if (cached == null || cached.expiresAt <= now) {
+                if (!misses.contains(storeId)) {
+                    misses.add(storeId);
+                }
+            } else if (cached.policy != null) {
+                result.put(storeId, cached.policy);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            Map<Integer, StampPolicy> loaded = new HashMap<>();
+            // 매장별로 가장 최근 정책이 먼저 오므로 첫 번째 행만 사용
+            for (StampPolicy policy : stampPolicyMapper.findActiveByStoreIds(misses)) {
+                loaded.putIfAbsent(policy.getStoreId(), policy);
+            }
+            long expiresAt = now + ttlMs;
+            for (Integer storeId : misses) {
+                StampPolicy policy = loaded.get(storeId);
+                // 정책이 없는 매장도 캐시해 반복 조회를 막음
+                policies.put(storeId, new CachedPolicy(policy, expiresAt));
+                if (policy != null) {
+                    result.put(storeId, policy);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 스탬프 정책 추가
+     */
+    public void insertPolicy(StampPolicy stampPolicy) {
+        stampPolicyMapper.insertPolicy(stampPolicy);
+        evict(stampPolicy.getStoreId());
+    }
+
+    /**
+     * 스탬프 정책 업데이트
+     */
+    public void updatePolicy(StampPolicy stampPolicy) {
+        stampPolicyMapper.updatePolicy(stampPolicy);
+        evict(stampPolicy.getStoreId());
+    }
+
+    /**
+     * 매장별 이전 정책 비활성화
+     */
+    public void deactivatePoliciesByStoreId(Integer storeId) {
+        stampPolicyMapper.deactivatePoliciesByStoreId(storeId);
+        evict(storeId);
+    }
+
+    /**
+     * 스탬프 정책 활성화 상태 변경 (정책 ID만으로는 매장을 알 수 없어 전체 캐시를 비움)
+     */
+    public void updatePolicyActiveStatus(Integer policyId, Boolean isActive) {
+        stampPolicyMapper.updatePolicyActiveStatus(policyId, isActive);
+        evict(null);
+    }
+
+    /**
+     * 매장 정책 캐시 삭제 (storeId가 null이면 전체)
+     */
+    public void evict(Integer storeId) {
+        remove(storeId);
+        // 커밋 전에 다른 요청이 이전 정책을 다시 캐시했을 수 있으므로 커밋 후 한 번 더 삭제
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(storeId);
+                }
+            });
+        }
+    }
+
+    private void remove(Integer storeId) {
+        if (storeId == null) {
+            policies.clear();
+        } else {
+            policies.remove(storeId);
+        }
+        log.debug("스탬프 정책 캐시 삭제 - storeId: {}", storeId);
+    }
+
+    private static final class CachedPolicy {
+        private final StampPolicy policy;
+        private final long expiresAt;
+
+        private CachedPolicy(StampPolicy policy, long expiresAt) {
+            this.policy = policy;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
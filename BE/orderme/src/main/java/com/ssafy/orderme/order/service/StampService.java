@@ -2,7 +2,6 @@ package com.ssafy.orderme.order.service;
 
 import com.ssafy.orderme.order.dto.response.StampResponse;
 import com.ssafy.orderme.order.mapper.StampMapper;
-import com.ssafy.orderme.order.mapper.StampPolicyMapper;
 import com.ssafy.orderme.order.model.Stamp;
 import com.ssafy.orderme.order.model.StampPolicy;
 import lombok.RequiredArgsConstructor;
@@ -11,13 +10,15 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class StampService {
     private final StampMapper stampMapper;
-    private final StampPolicyMapper stampPolicyMapper;
+    private final StampPolicyCache stampPolicyCache;
 
     /**
      * 사용자별 전체 스탬프 정보 조회
@@ -26,9 +27,13 @@ public class StampService {
         List<Stamp> stamps = stampMapper.findByUserId(userId);
         List<StampResponse> responses = new ArrayList<>();
 
+        // 매장별 스탬프 정책을 한 번에 조회
+        Map<Integer, StampPolicy> policies = stampPolicyCache.getActivePolicies(
+                stamps.stream().map(Stamp::getStoreId).collect(Collectors.toList()));
+
         for (Stamp stamp : stamps) {
-            // 해당 매장의 스탬프 정책 조회
-            StampPolicy policy = stampPolicyMapper.findActiveByStoreId(stamp.getStoreId());
+            // 해당 매장의 스탬프 정책
+            StampPolicy policy = policies.get(stamp.getStoreId());
 
             // 기본 응답 생성
             StampResponse.StampResponseBuilder responseBuilder = StampResponse.builder()
@@ -73,7 +78,7 @@ public class StampService {
      */
     public StampResponse getStampByUserIdAndStoreId(String userId, Integer storeId) {
         Stamp stamp = stampMapper.findByUserIdAndStoreId(userId, storeId);
-        StampPolicy policy = stampPolicyMapper.findActiveByStoreId(storeId);
+        StampPolicy policy = stampPolicyCache.getActivePolicy(storeId);
 
         // 기본 응답 생성
         StampResponse.StampResponseBuilder responseBuilder = StampResponse.builder()
@@ -0,0 +1,97 @@
+package com.ssafy.orderme.payment.client;
+
+import com.ssafy.orderme.payment.dto.request.PaymentConfirmRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.*;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * 토스페이먼츠 API 호출 클라이언트
+ * 공용 RestTemplate 대신 연결을 재사용하는 전용 HttpClient와 연결/응답 타임아웃을 사용한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "toss.client", havingValue = "http", matchIfMissing = true)
+public class HttpTossPaymentsClient implements TossPaymentsClient {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> RESPONSE_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private final RestTemplate tossRestTemplate;
+    private final String confirmUrl;
+    private final String paymentsUrl;
+    private final String authorization;
+
+    public HttpTossPaymentsClient(@Value("${toss.secret-key}") String secretKey,
+                                  @Value("${toss.api-base-url:https://api.tosspayments.com}") String apiBaseUrl,
+                                  @Value("${toss.connect-timeout-ms:2000}") long connectTimeoutMs,
+                                  @Value("${toss.read-timeout-ms:10000}") long readTimeoutMs) {
+        // JDK HttpClient는 내부적으로 keep-alive 연결 풀을 유지
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
+        this.tossRestTemplate = new RestTemplate(requestFactory);
+        this.confirmUrl = apiBaseUrl + "/v1/payments/confirm";
+        this.paymentsUrl = apiBaseUrl + "/v1/payments/";
+        // 요청 헤더용 시크릿 키 Base64 인코딩
+        this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Map<String, Object> confirm(PaymentConfirmRequest request) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("Authorization", authorization);
+
+        try {
+            ResponseEntity<Map<String, Object>> responseEntity = tossRestTemplate.exchange(
+                    confirmUrl,
+                    HttpMethod.POST,
+                    new HttpEntity<>(request, headers),
+                    RESPONSE_TYPE
+            );
+            return responseEntity.getBody();
+        } catch (HttpClientErrorException e) {
+            log.error("토스페이먼츠 API 오류: {}", e.getResponseBodyAsString());
+            throw e;
+        }
+    }
+
+    @Override
+    public Map<String, Object> cancel(String paymentKey, String cancelReason) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("Authorization", authorization);
+        // 재시도해도 중복 취소되지 않도록 결제 키 기준 멱등 키 사용
+        headers.set("Idempotency-Key", "cancel-" + paymentKey);
+
+        try {
+            ResponseEntity<Map<String, Object>> responseEntity = tossRestTemplate.exchange(
+                    paymentsUrl + paymentKey + "/cancel",
+                    HttpMethod.POST,
+                    new HttpEntity<>(Map.of("cancelReason", cancelReason), headers),
+                    RESPONSE_TYPE
+            );
+            return responseEntity.getBody();
+        } catch (HttpClientErrorException e) {
+            log.error("토스페이먼츠 취소 API 오류: {}", e.getResponseBodyAsString());
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.ssafy.orderme.payment.client;
+
+import com.ssafy.orderme.payment.dto.request.PaymentConfirmRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 로컬 부하 테스트용 토스페이먼츠 스텁 (toss.client=stub)
+ * 외부 호출 없이 설정한 지연 후 승인 완료(DONE) 응답을 돌려준다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "toss.client", havingValue = "stub")
+public class StubTossPaymentsClient implements TossPaymentsClient {
+
+    @Value("${toss.stub.latency-ms:100}")
+    private long latencyMs;
+
+    @Override
+    public Map<String, Object> confirm(PaymentConfirmRequest request) {
+        if (latencyMs > 0) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("paymentKey", request.getPaymentKey());
+        response.put("orderId", request.getOrderId());
+        response.put("status", "DONE");
+        response.put("method", "카드");
+        response.put("totalAmount", request.getAmount());
+        response.put("approvedAt", OffsetDateTime.now().toString());
+        log.debug("토스페이먼츠 스텁 승인 - orderId: {}", request.getOrderId());
+        return response;
+    }
+
+    @Override
+    public Map<String, Object> cancel(String paymentKey, String cancelReason) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("paymentKey", paymentKey);
+        response.put("status", "CANCELED");
+        log.debug("토스페이먼츠 스텁 취소 - paymentKey: {}", paymentKey);
+        return response;
+    }
+}
@@ -0,0 +1,27 @@
+package com.ssafy.orderme.payment.client;
+
+import com.ssafy.orderme.payment.dto.request.PaymentConfirmRequest;
+
+import java.util.Map;
+
+/**
+ * 토스페이먼츠 결제 승인 클라이언트
+ * toss.client 설정으로 구현체를 선택한다. (http: 실제 API, stub: 로컬 부하 테스트용)
+ */
+public interface TossPaymentsClient {
+
+    /**
+     * 결제 승인 요청
+     * @param request 결제 키, 주문 ID, 금액
+     * @return 토스페이먼츠 응답 본문 (paymentKey, orderId, status, totalAmount 등)
+     */
+    Map<String, Object> confirm(PaymentConfirmRequest request);
+
+    /**
+     * 승인된 결제 전액 취소 (같은 결제 키로 다시 호출해도 한 번만 취소됨)
+     * @param paymentKey 취소할 결제 키
+     * @param cancelReason 취소 사유
+     * @return 토스페이먼츠 응답 본문 (paymentKey, status 등)
+     */
+    Map<String, Object> cancel(String paymentKey, String cancelReason);
+}
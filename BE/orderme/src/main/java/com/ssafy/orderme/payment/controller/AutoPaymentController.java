@@ -2,7 +2,6 @@ package com.ssafy.orderme.payment.controller;
 
 import com.ssafy.orderme.common.ApiResponse;
 import com.ssafy.orderme.notification.service.FcmService;
-import com.ssafy.orderme.notification.service.NotificationService;
 import com.ssafy.orderme.payment.dto.request.AutoPaymentRequest;
 import com.ssafy.orderme.payment.dto.request.SetDefaultCardRequest;
 import com.ssafy.orderme.payment.dto.response.CardCompanyResponse;
@@ -25,7 +24,6 @@ import org.springframework.web.bind.annotation.*;
 
 import java.security.Principal;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/auto-payments")
@@ -36,7 +34,6 @@ public class AutoPaymentController {
     private final UserService userService;
     private final AutoPaymentService autoPaymentService;
     private final JwtTokenProvider jwtTokenProvider;
-    private final NotificationService notificationService;
     private final FcmService fcmService;
 
     // 카드사 정보 조회
@@ -95,14 +92,7 @@ public class AutoPaymentController {
             // 자동 결제 처리
             PaymentResponseDto response = autoPaymentService.processAutoPayment(request, userId);
 
-            // 푸시 알림 전송 시도 - 비동기로 처리하고 결과를 기다리지 않음
-            CompletableFuture.runAsync(() -> {
-                notificationService.sendOrderCompletionNotification(
-                        userId,
-                        response.getOrderNumber(),
-                        response.getAmount()
-                );
-            });
+            // 푸시 알림은 주문 이벤트 소비자(NotificationOrderEventConsumer)가 커밋 후 전송
 
             return ResponseEntity.ok(ApiResponse.success("결제가 성공적으로 승인되었습니다.", response));
         } catch (CardNotFoundException e){
@@ -2,7 +2,6 @@ package com.ssafy.orderme.payment.controller;
 
 import com.ssafy.orderme.common.ApiResponse;
 import com.ssafy.orderme.notification.service.FcmService;
-import com.ssafy.orderme.notification.service.NotificationService;
 import com.ssafy.orderme.payment.dto.request.PaymentApprovalRequest;
 import com.ssafy.orderme.payment.dto.request.PaymentRequest;
 import com.ssafy.orderme.payment.dto.response.PaymentResponseDto;
@@ -24,7 +23,6 @@ import org.springframework.web.bind.annotation.*;
 import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/payments")
@@ -34,7 +32,6 @@ public class PaymentController {
     private final PaymentService paymentService;
     private final UserService userService;
     private final JwtTokenProvider jwtTokenProvider;
-    private final NotificationService notificationService;
     private final FcmService fcmService;
 
     @Value("${toss.client-key}")
@@ -97,19 +94,7 @@ public class PaymentController {
             // 결제 승인 처리
             PaymentResponseDto response = paymentService.approvePayment(request);
 
-            // 주문 정보에서 userId 가져오기
-            Order order = paymentService.getOrderById(response.getOrderId());
-
-            // 푸시 알림 전송 (비회원이 아닌 경우에만)
-            if (order.getUserId() != null && !order.getIsGuest()) {
-                CompletableFuture.runAsync(() -> {
-                    notificationService.sendOrderCompletionNotification(
-                            order.getUserId(),
-                            response.getOrderNumber(),
-                            response.getAmount()
-                    );
-                });
-            }
+            // 푸시 알림은 주문 이벤트 소비자(NotificationOrderEventConsumer)가 커밋 후 전송
 
             return ResponseEntity.ok(ApiResponse.success("결제가 성공적으로 승인되었습니다.", response));
         } catch (Exception e) {
@@ -1,6 +1,7 @@
 package com.ssafy.orderme.payment.mapper;
 
 import com.ssafy.orderme.payment.model.Order;
+import com.ssafy.orderme.payment.model.OrderNumberSequence;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -11,8 +12,6 @@ import java.util.List;
 public interface OrderMapper {
     Order findById(@Param("orderId") Integer orderId);
     Order findByOrderId(@Param("orderId") String orderId);
-    List<Order> findByUserId(@Param("userId") String userId);
-    List<Order> findByKioskId(@Param("kioskId") Integer kioskId);
     int insertOrder(Order order);
     int updateOrder(Order order);
     int updateOrderStatus(@Param("orderId") Integer orderId, @Param("orderStatus") String orderStatus);
@@ -31,8 +30,19 @@ public interface OrderMapper {
     // 사용자별 최근 주문 목록 조회
     List<Order> findRecentByUserId(@Param("userId") String userId, @Param("limit") int limit);
 
+    // 사용자 주문 내역 페이지 조회 (order_date, order_id 내림차순 키셋 페이징, storeId가 null이면 전체 매장)
+    List<Order> findOrderHistoryPage(
+            @Param("userId") String userId,
+            @Param("storeId") Integer storeId,
+            @Param("cursorDate") LocalDateTime cursorDate,
+            @Param("cursorOrderId") Integer cursorOrderId,
+            @Param("limit") int limit);
+
     int countOrdersByStoreAndDate(@Param("kioskId") Integer kioskId,
                                   @Param("orderDate") LocalDateTime orderDate);
 
     Order findByTossOrderId(String tossOrderId);
+
+    // 매장/일자별 주문번호 시퀀스 증가 후 발급된 순번을 lastNo에 채움
+    void allocateOrderNumber(OrderNumberSequence sequence);
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
+import java.util.Map;
 
 @Mapper
 public interface PaymentMapper {
@@ -14,4 +15,20 @@ public interface PaymentMapper {
     int insertPayment(Payment payment);
     int updatePayment(Payment payment);
     int updateStatus(@Param("paymentId") Integer paymentId, @Param("status") String status);
+
+    // 승인 후 주문 반영에 실패해 취소해야 하는 결제 기록 (이미 있으면 무시)
+    int insertCancelRequest(
+            @Param("paymentKey") String paymentKey,
+            @Param("tossOrderId") String tossOrderId,
+            @Param("amount") Long amount,
+            @Param("lastError") String lastError);
+
+    // 취소 대기 중인 결제 조회 (paymentKey, tossOrderId, attempts)
+    List<Map<String, Object>> findPendingCancelRequests(@Param("limit") int limit);
+
+    // 취소 재시도 결과 반영 (status: PENDING 유지 또는 CANCELED)
+    int updateCancelRequest(
+            @Param("paymentKey") String paymentKey,
+            @Param("status") String status,
+            @Param("lastError") String lastError);
 }
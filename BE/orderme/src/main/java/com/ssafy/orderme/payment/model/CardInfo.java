@@ -2,20 +2,21 @@ package com.ssafy.orderme.payment.model;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 
-@Data
+/**
+ * 카드 브랜드/종류 정보 (불변)
+ * BIN 테이블이 같은 인스턴스를 여러 조회 결과로 공유하므로 생성 후 바뀌지 않도록 한다.
+ */
+@Value
 @Builder
-@NoArgsConstructor
 @AllArgsConstructor
 public class CardInfo {
-    private String brand;
-    private String type;
-    private String imageUrl;
+    String brand;
+    String type;
+    String imageUrl;
 
     public CardInfo(String brand, String type) {
-        this.brand = brand;
-        this.type = type;
+        this(brand, type, null);
     }
-}
\ No newline at end of file
+}
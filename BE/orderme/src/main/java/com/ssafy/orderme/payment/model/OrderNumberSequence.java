@@ -0,0 +1,21 @@
+package com.ssafy.orderme.payment.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 매장별 일자별 주문번호 시퀀스 (Redis 장애 시 사용)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderNumberSequence {
+    private Integer storeId;
+    private LocalDate orderDay;
+    private Integer lastNo; // 발급된 순번 (allocateOrderNumber 실행 후 채워짐)
+}
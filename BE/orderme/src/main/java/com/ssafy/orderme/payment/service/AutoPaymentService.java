@@ -1,16 +1,16 @@
 package com.ssafy.orderme.payment.service;
 
-import com.ssafy.orderme.kiosk.mapper.MenuMapper;
 import com.ssafy.orderme.kiosk.model.*;
 import com.ssafy.orderme.order.mapper.*;
 import com.ssafy.orderme.order.model.*;
+import com.ssafy.orderme.order.service.OrderEventPublisher;
+import com.ssafy.orderme.order.service.StampLedger;
+import com.ssafy.orderme.order.service.StampPolicyCache;
 import com.ssafy.orderme.order.model.OptionItem;
 import com.ssafy.orderme.order.model.OrderMenu;
 import com.ssafy.orderme.order.model.OrderOption;
 import com.ssafy.orderme.order.model.StampPolicy;
 import com.ssafy.orderme.payment.dto.request.AutoPaymentRequest;
-import com.ssafy.orderme.payment.dto.request.MenuOrderRequest;
-import com.ssafy.orderme.payment.dto.request.OptionOrderRequest;
 import com.ssafy.orderme.payment.dto.response.CardCompanyResponse;
 import com.ssafy.orderme.payment.dto.response.PaymentInfoResponse;
 import com.ssafy.orderme.payment.dto.response.PaymentResponseDto;
@@ -44,14 +44,12 @@ public class AutoPaymentService {
     public final PaymentInfoMapper paymentInfoMapper;
     public final OrderMapper orderMapper;
     public final PaymentMapper paymentMapper;
-    public final MenuMapper menuMapper;
-    public final OrderMenuMapper orderMenuMapper;
-    public final OptionItemMapper optionItemMapper;
-    public final OrderOptionMapper orderOptionMapper;
-    public final StampHistoryMapper stampHistoryMapper;
-    public final StampMapper stampMapper;
-    public final StampPolicyMapper stampPolicyMapper;
+    public final StampLedger stampLedger;
+    public final StampPolicyCache stampPolicyCache;
     public final UserMapper userMapper;
+    public final OrderItemWriter orderItemWriter;
+    public final OrderNumberAllocator orderNumberAllocator;
+    public final OrderEventPublisher orderEventPublisher;
 
     /**
      * 자동 결제 처리
@@ -79,11 +77,8 @@ public class AutoPaymentService {
         // 주문일시 설정
         LocalDateTime orderDate = LocalDateTime.now();
 
-        // 해당 매장의 오늘 주문 수 조회 (+1 하면 현재 주문의 순번이 됨)
-        int todayOrderCount = orderMapper.countOrdersByStoreAndDate(request.getKioskId(), orderDate) + 1;
-
-        // A-{순번} 형식의 주문번호 생성
-        String orderNumber = "A-" + todayOrderCount;
+        // A-{순번} 형식의 주문번호 발급 (매장별 일일 순번)
+        String orderNumber = orderNumberAllocator.allocate(request.getKioskId(), orderDate);
 
         // 주문 원본 금액 저장
         BigDecimal originalAmount = request.getTotalAmount();
@@ -92,7 +87,7 @@ public class AutoPaymentService {
         // 스탬프 사용 시 할인 금액 계산
         if (request.getIsStampUsed() != null && request.getIsStampUsed()) {
             // 스탬프 정책 조회
-            StampPolicy policy = stampPolicyMapper.findActiveByStoreId(request.getKioskId());
+            StampPolicy policy = stampPolicyCache.getActivePolicy(request.getKioskId());
             if (policy != null) {
                 // 할인 금액 적용
                 BigDecimal discountAmount = BigDecimal.valueOf(policy.getDiscountAmount());
@@ -125,14 +120,15 @@ public class AutoPaymentService {
         orderMapper.insertOrder(order);
 
         // 3. 주문 메뉴 추가 (기존 코드 유지)
-        insertOrderMenus(order.getOrderId(), request.getMenuOrders());
+        orderItemWriter.insertOrderMenus(order.getOrderId(), request.getMenuOrders());
 
-        // 4. 스탬프 처리 (기존 코드 유지)
+        // 4. 스탬프 처리 (이력은 주문 이벤트에 실어 일괄 저장)
+        StampHistory stampHistory;
         if (request.getIsStampUsed() != null && request.getIsStampUsed()) {
-            handleStampUsage(userId, request.getKioskId(), order.getOrderId());
+            stampHistory = handleStampUsage(userId, request.getKioskId(), order.getOrderId());
         } else {
             // 스탬프 적립
-            addStamps(userId, request.getKioskId(), order.getOrderId());
+            stampHistory = stampLedger.earn(userId, request.getKioskId(), order.getOrderId());
         }
 
         // 5. 결제 처리 (금액 수정 - 할인이 적용된 finalAmount 사용)
@@ -147,6 +143,9 @@ public class AutoPaymentService {
 
         paymentMapper.insertPayment(payment);
 
+        // 주문 승인 이벤트 기록 (알림/추천/매출/스탬프 이력은 커밋 후 이벤트 소비자가 처리)
+        orderEventPublisher.publishOrderAccepted(order, finalAmount, stampHistory);
+
         // 6. 응답 DTO 생성 - 최종 결제 금액 및 주문번호 포함
         return PaymentResponseDto.builder()
                 .orderId(order.getOrderId())
@@ -157,156 +156,37 @@ public class AutoPaymentService {
                 .build();
     }
 
-    /**
-     * 주문 메뉴 추가
-     */
-    private void insertOrderMenus(Integer orderId, List<MenuOrderRequest> menuOrders) {
-        for (MenuOrderRequest menuOrder : menuOrders) {
-            // 메뉴 정보 가져오기 (메뉴 정보 Mapper 필요)
-            Menu menu = menuMapper.findById(menuOrder.getMenuId());
-            if (menu == null || menu.getIsDeleted()) {
-                throw new IllegalArgumentException("유효하지 않은 메뉴입니다: " + menuOrder.getMenuId());
-            }
-
-            // 메뉴 가격 계산 (옵션 포함)
-            Integer menuPrice = menu.getPrice();
-            int totalPrice = menuPrice * menuOrder.getQuantity();
-
-            // 주문 메뉴 생성
-            OrderMenu orderMenu = OrderMenu.builder()
-                    .orderId(orderId)
-                    .menuId(menu.getMenuId())
-                    .menuName(menu.getMenuName())
-                    .menuPrice(menuPrice)
-                    .quantity(menuOrder.getQuantity())
-                    .totalPrice((int) totalPrice)
-                    .isDeleted(false)
-                    .build();
-
-            orderMenuMapper.insertOrderMenu(orderMenu);
-
-            // 옵션이 있는 경우 처리
-            if (menuOrder.getOptions() != null && !menuOrder.getOptions().isEmpty()) {
-                insertOrderOptions(orderMenu.getOrderMenuId(), menuOrder.getOptions());
-            }
-        }
-    }
-
-    /**
-     * 주문 옵션 추가
-     */
-    private void insertOrderOptions(Integer orderMenuId, List<OptionOrderRequest> options) {
-        for (OptionOrderRequest option : options) {
-            // 옵션 항목 정보 가져오기 (옵션 항목 Mapper 필요)
-            OptionItem optionItem = optionItemMapper.findById(option.getOptionItemId());
-            if (optionItem == null || optionItem.getIsDeleted()) {
-                throw new IllegalArgumentException("유효하지 않은 옵션입니다: " + option.getOptionItemId());
-            }
-
-            // 주문 옵션 생성
-            OrderOption orderOption = OrderOption.builder()
-                    .orderMenuId(orderMenuId)
-                    .optionItemId(optionItem.getItemId())
-                    .optionName(optionItem.getOptionName())
-                    .optionPrice(optionItem.getAdditionalPrice())
-                    .isDeleted(false)
-                    .build();
-
-            orderOptionMapper.insertOrderOption(orderOption);
-        }
-    }
-
     /**
      * 카드번호로 카드사 정보 조회
      */
     public CardCompanyResponse identifyCardCompany(String cardNumber) {
         CardInfo cardInfo = cardService.identifyCard(cardNumber);
 
-        // CardBrand 정보에서 이미지 URL 가져오기
-        String imageUrl = "";
-        for (CardService.CardBrand brand : cardService.getBinRanges().values()) {
-            if (brand.getBrand().equals(cardInfo.getBrand())) {
-                imageUrl = brand.getImageUrl();
-                break;
-            }
-        }
-
         return CardCompanyResponse.builder()
                 .brand(cardInfo.getBrand())
                 .type(cardInfo.getType())
-                .imageUrl(imageUrl)
+                .imageUrl(cardInfo.getImageUrl())
                 .build();
     }
 
     /**
      * 스탬프 사용 처리
+     *
+     * @return 사용 이력
      */
-    private void handleStampUsage(String userId, Integer storeId, Integer orderId) {
+    private StampHistory handleStampUsage(String userId, Integer storeId, Integer orderId) {
         // 스탬프 정책 조회
-        StampPolicy policy = stampPolicyMapper.findActiveByStoreId(storeId);
+        StampPolicy policy = stampPolicyCache.getActivePolicy(storeId);
         if (policy == null) {
             throw new IllegalArgumentException("스탬프 정책을 찾을 수 없습니다.");
         }
 
-        // 사용자 스탬프 조회
-        Stamp userStamp = stampMapper.findByUserIdAndStoreId(userId, storeId);
-        if (userStamp == null || userStamp.getStampCount() < policy.getStampsRequired()) {
+        // 스탬프 차감 (남은 스탬프가 충분할 때만 차감)
+        StampHistory history = stampLedger.redeem(userId, storeId, orderId, policy);
+        if (history == null) {
             throw new IllegalArgumentException("스탬프가 부족합니다.");
         }
-
-        // 스탬프 차감
-        userStamp.setStampCount(userStamp.getStampCount() - policy.getStampsRequired());
-        userStamp.setLastOrderId(orderId);
-        stampMapper.updateStamp(userStamp);
-
-        // 스탬프 사용 이력 추가
-        StampHistory history = StampHistory.builder()
-                .stampId(userStamp.getStampId())
-                .orderId(orderId)
-                .actionType("USE")
-                .stampCount(policy.getStampsRequired())
-                .policyId(policy.getPolicyId())
-                .build();
-
-        stampHistoryMapper.insertHistory(history);
-    }
-
-    /**
-     * 스탬프 적립 처리
-     */
-    private void addStamps(String userId, Integer storeId, Integer orderId) {
-        // 스탬프 정책에 따라 적립할 스탬프 수 결정 (예: 주문 1건당 1개)
-        int stampsToAdd = 1;
-
-        // 사용자 스탬프 조회
-        Stamp userStamp = stampMapper.findByUserIdAndStoreId(userId, storeId);
-
-        if (userStamp == null) {
-            // 새로운 스탬프 생성
-            userStamp = Stamp.builder()
-                    .userId(userId)
-                    .storeId(storeId)
-                    .stampCount(stampsToAdd)
-                    .lastOrderId(orderId)
-                    .build();
-
-            stampMapper.insertStamp(userStamp);
-        } else {
-            // 기존 스탬프 업데이트
-            userStamp.setStampCount(userStamp.getStampCount() + stampsToAdd);
-            userStamp.setLastOrderId(orderId);
-            stampMapper.updateStamp(userStamp);
-        }
-
-        // 스탬프 적립 이력 추가
-        StampHistory history = StampHistory.builder()
-                .stampId(userStamp.getStampId())
-                .orderId(orderId)
-                .actionType("EARN")
-                .stampCount(stampsToAdd)
-                .build();
-
-        stampHistoryMapper.insertHistory(history);
+        return history;
     }
 
     /**
@@ -344,15 +224,6 @@ public class AutoPaymentService {
             String cardPrefix = card.getCardNumber().substring(0, 6);
             CardInfo cardInfo = cardService.identifyCard(cardPrefix);
 
-            // 카드사 이미지 URL 가져오기
-            String imageUrl = "";
-            for (CardService.CardBrand brand : cardService.getBinRanges().values()) {
-                if (brand.getBrand().equals(cardInfo.getBrand())) {
-                    imageUrl = brand.getImageUrl();
-                    break;
-                }
-            }
-
             // 응답 DTO 생성
             PaymentInfoResponse response = PaymentInfoResponse.builder()
                     .paymentInfoId(card.getPaymentInfoId())
@@ -362,7 +233,7 @@ public class AutoPaymentService {
                     .isDefault(card.getIsDefault())
                     .brand(cardInfo.getBrand())
                     .type(cardInfo.getType())
-                    .imageUrl(imageUrl)
+                    .imageUrl(cardInfo.getImageUrl())
                     .build();
 
             responseList.add(response);
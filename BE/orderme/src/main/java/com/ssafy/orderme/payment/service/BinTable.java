@@ -0,0 +1,213 @@
+package com.ssafy.orderme.payment.service;
+
+import com.ssafy.orderme.payment.model.CardInfo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카드 BIN 최장 접두사 검색 테이블 (불변)
+ * 숫자 트라이를 int 배열로 펼쳐 저장해 카드번호 길이만큼만 탐색하고, 조회 시 객체를 새로 만들지 않는다.
+ * 조회 결과 CardInfo는 테이블이 공유하는 불변 인스턴스이다.
+ */
+public final class BinTable {
+
+    /** BIN은 보통 6~8자리지만 범위 분해 결과를 고려해 여유를 둔다 */
+    public static final int MAX_PREFIX_LENGTH = 12;
+
+    private static final int RADIX = 10;
+    private static final int NO_ENTRY = -1;
+
+    private final String version;
+    // children[node * 10 + digit] = 자식 노드 번호 (0이면 없음, 루트는 0번 노드)
+    private final int[] children;
+    // entryOf[node] = 해당 노드에서 끝나는 접두사의 entries 인덱스 (없으면 -1)
+    private final int[] entryOf;
+    private final CardInfo[] entries;
+    private final CardInfo unknown;
+    private final int maxDepth;
+    private final int prefixCount;
+
+    private BinTable(String version, int[] children, int[] entryOf, CardInfo[] entries,
+                     CardInfo unknown, int maxDepth, int prefixCount) {
+        this.version = version;
+        this.children = children;
+        this.entryOf = entryOf;
+        this.entries = entries;
+        this.unknown = unknown;
+        this.maxDepth = maxDepth;
+        this.prefixCount = prefixCount;
+    }
+
+    /**
+     * 카드번호에서 가장 긴 BIN 접두사에 해당하는 카드 정보 조회
+     * 숫자가 아닌 문자(공백, 하이픈 등)는 건너뛴다.
+     *
+     * @return 일치하는 접두사가 없으면 알 수 없음 카드 정보
+     */
+    public CardInfo lookup(CharSequence cardNumber) {
+        if (cardNumber == null) {
+            return unknown;
+        }
+
+        int node = 0;
+        int depth = 0;
+        int match = NO_ENTRY;
+        for (int i = 0, length = cardNumber.length(); i < length && depth < maxDepth; i++) {
+            int digit = cardNumber.charAt(i) - '0';
+            if (digit < 0 || digit >= RADIX) {
+                continue;
+            }
+            node = children[node * RADIX + digit];
+            if (node == 0) {
+                break;
+            }
+            depth++;
+            if (entryOf[node] != NO_ENTRY) {
+                match = entryOf[node];
+            }
+        }
+        return match == NO_ENTRY ? unknown : entries[match];
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    /** 등록된 접두사 수 */
+    public int size() {
+        return prefixCount;
+    }
+
+    public static Builder builder(String version) {
+        return new Builder(version);
+    }
+
+    public static final class Builder {
+        private final String version;
+        private int[] children = new int[RADIX * 64];
+        private int[] entryOf = new int[64];
+        private int nodeCount = 1;
+        private int maxDepth = 0;
+        private int prefixCount = 0;
+
+        private final List<CardInfo> entries = new ArrayList<>();
+        private final Map<String, Integer> entryIndex = new HashMap<>();
+        private CardInfo unknown = new CardInfo("알 수 없음", "알 수 없음", "");
+
+        private Builder(String version) {
+            this.version = version;
+            Arrays.fill(entryOf, NO_ENTRY);
+        }
+
+        /**
+         * 접두사 등록 (같은 접두사를 다시 등록하면 나중 값으로 덮어쓴다)
+         */
+        public Builder add(String prefix, String brand, String type, String imageUrl) {
+            if (prefix == null || prefix.isEmpty() || prefix.length() > MAX_PREFIX_LENGTH) {
+                throw new IllegalArgumentException("BIN 접두사 길이가 올바르지 않습니다: " + prefix);
+            }
+
+            int node = 0;
+            for (int i = 0; i < prefix.length(); i++) {
+                int digit = prefix.charAt(i) - '0';
+                if (digit < 0 || digit >= RADIX) {
+                    throw new IllegalArgumentException("BIN 접두사는 숫자만 허용됩니다: " + prefix);
+                }
+                int slot = node * RADIX + digit;
+                if (children[slot] == 0) {
+                    children[slot] = newNode();
+                }
+                node = children[slot];
+            }
+
+            if (entryOf[node] == NO_ENTRY) {
+                prefixCount++;
+            }
+            entryOf[node] = entryIndexOf(brand, type, imageUrl);
+            maxDepth = Math.max(maxDepth, prefix.length());
+            return this;
+        }
+
+        /**
+         * 같은 자릿수의 시작~끝 번호 범위 등록 (범위를 덮는 최소 접두사 집합으로 분해)
+         * 예: 510000-559999 -> 51, 52, 53, 54, 55
+         */
+        public Builder addRange(String start, String end, String brand, String type, String imageUrl) {
+            if (start.length() != end.length() || start.length() > MAX_PREFIX_LENGTH) {
+                throw new IllegalArgumentException("BIN 범위의 자릿수가 올바르지 않습니다: " + start + "-" + end);
+            }
+            int length = start.length();
+            long low = parseDigits(start);
+            long high = parseDigits(end);
+            if (low > high) {
+                throw new IllegalArgumentException("BIN 범위의 시작이 끝보다 큽니다: " + start + "-" + end);
+            }
+
+            while (low <= high) {
+                // low에서 시작해 범위를 벗어나지 않는 가장 큰 10^k 블록을 접두사 하나로 등록
+                int k = 0;
+                long block = 1;
+                while (k < length - 1 && low % (block * RADIX) == 0 && low + block * RADIX - 1 <= high) {
+                    block *= RADIX;
+                    k++;
+                }
+                String digits = String.format("%0" + length + "d", low);
+                add(digits.substring(0, length - k), brand, type, imageUrl);
+                low += block;
+            }
+            return this;
+        }
+
+        /**
+         * 일치하는 접두사가 없을 때 돌려줄 카드 정보
+         */
+        public Builder unknown(String brand, String type, String imageUrl) {
+            this.unknown = new CardInfo(brand, type, imageUrl);
+            return this;
+        }
+
+        public BinTable build() {
+            return new BinTable(
+                    version,
+                    Arrays.copyOf(children, nodeCount * RADIX),
+                    Arrays.copyOf(entryOf, nodeCount),
+                    entries.toArray(new CardInfo[0]),
+                    unknown,
+                    maxDepth,
+                    prefixCount);
+        }
+
+        private int newNode() {
+            if (nodeCount == entryOf.length) {
+                int capacity = entryOf.length * 2;
+                children = Arrays.copyOf(children, capacity * RADIX);
+                entryOf = Arrays.copyOf(entryOf, capacity);
+                Arrays.fill(entryOf, nodeCount, capacity, NO_ENTRY);
+            }
+            return nodeCount++;
+        }
+
+        // 같은 브랜드/종류/이미지 조합은 CardInfo 하나를 공유
+        private int entryIndexOf(String brand, String type, String imageUrl) {
+            String key = brand + '\u0000' + type + '\u0000' + imageUrl;
+            return entryIndex.computeIfAbsent(key, k -> {
+                entries.add(new CardInfo(brand, type, imageUrl));
+                return entries.size() - 1;
+            });
+        }
+
+        private static long parseDigits(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < '0' || c > '9') {
+                    throw new IllegalArgumentException("BIN 범위는 숫자만 허용됩니다: " + value);
+                }
+            }
+            return Long.parseLong(value);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.ssafy.orderme.payment.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 카드 BIN 데이터 파일 파서
+ *
+ * 파일 형식 (UTF-8, '#'으로 시작하는 줄과 빈 줄은 무시):
+ * <pre>
+ * version=2025.05.1
+ * unknown=알 수 없음,알 수 없음
+ *
+ * [brands]
+ * 브랜드명=이미지 URL
+ *
+ * [bins]
+ * 접두사,브랜드명,카드 종류
+ * 시작번호-끝번호,브랜드명,카드 종류
+ * </pre>
+ * 같은 접두사가 여러 번 나오면 뒤에 나온 줄이 우선한다.
+ */
+public final class BinTableLoader {
+
+    private static final String SECTION_BRANDS = "[brands]";
+    private static final String SECTION_BINS = "[bins]";
+
+    private BinTableLoader() {
+    }
+
+    /**
+     * BIN 데이터 파일을 읽어 검색 테이블 생성
+     *
+     * @throws IllegalArgumentException 파일 형식이 올바르지 않은 경우 (줄 번호 포함)
+     */
+    public static BinTable load(Reader source) throws IOException {
+        BufferedReader reader = source instanceof BufferedReader
+                ? (BufferedReader) source : new BufferedReader(source);
+
+        String version = null;
+        String[] unknown = null;
+        Map<String, String> brandImages = new HashMap<>();
+        BinTable.Builder builder = null;
+        String section = null;
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+
+            try {
+                if (line.equals(SECTION_BRANDS) || line.equals(SECTION_BINS)) {
+                    if (version == null) {
+                        throw new IllegalArgumentException("version 항목이 섹션보다 먼저 있어야 합니다");
+                    }
+                    section = line;
+                    continue;
+                }
+
+                if (section == null) {
+                    int eq = line.indexOf('=');
+                    if (eq < 0) {
+                        throw new IllegalArgumentException("헤더 형식이 올바르지 않습니다");
+                    }
+                    String key = line.substring(0, eq).trim();
+                    String value = line.substring(eq + 1).trim();
+                    if (key.equals("version")) {
+                        version = value;
+                    } else if (key.equals("unknown")) {
+                        unknown = splitColumns(value, 2);
+                    }
+                    continue;
+                }
+
+                if (section.equals(SECTION_BRANDS)) {
+                    int eq = line.indexOf('=');
+                    if (eq <= 0) {
+                        throw new IllegalArgumentException("브랜드 형식이 올바르지 않습니다");
+                    }
+                    brandImages.put(line.substring(0, eq).trim(), line.substring(eq + 1).trim());
+                    continue;
+                }
+
+                if (builder == null) {
+                    builder = BinTable.builder(version);
+                }
+                String[] columns = splitColumns(line, 3);
+                String brand = columns[1];
+                String imageUrl = brandImages.getOrDefault(brand, "");
+                int dash = columns[0].indexOf('-');
+                if (dash < 0) {
+                    builder.add(columns[0], brand, columns[2], imageUrl);
+                } else {
+                    builder.addRange(columns[0].substring(0, dash).trim(), columns[0].substring(dash + 1).trim(),
+                            brand, columns[2], imageUrl);
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("BIN 데이터 " + lineNumber + "번째 줄 오류: " + e.getMessage(), e);
+            }
+        }
+
+        if (version == null) {
+            throw new IllegalArgumentException("BIN 데이터에 version 항목이 없습니다");
+        }
+        if (builder == null) {
+            builder = BinTable.builder(version);
+        }
+        if (unknown != null) {
+            builder.unknown(unknown[0], unknown[1], brandImages.getOrDefault(unknown[0], ""));
+        }
+        return builder.build();
+    }
+
+    private static String[] splitColumns(String line, int expected) {
+        String[] columns = line.split(",", -1);
+        if (columns.length != expected) {
+            throw new IllegalArgumentException("항목 수가 " + expected + "개여야 합니다");
+        }
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = columns[i].trim();
+        }
+        return columns;
+    }
+}
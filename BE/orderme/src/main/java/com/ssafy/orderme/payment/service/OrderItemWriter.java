@@ -0,0 +1,126 @@
+package com.ssafy.orderme.payment.service;
+
+import com.ssafy.orderme.kiosk.mapper.MenuMapper;
+import com.ssafy.orderme.kiosk.model.Menu;
+import com.ssafy.orderme.order.mapper.OptionItemMapper;
+import com.ssafy.orderme.order.mapper.OrderMenuMapper;
+import com.ssafy.orderme.order.mapper.OrderOptionMapper;
+import com.ssafy.orderme.order.model.OptionItem;
+import com.ssafy.orderme.order.model.OrderMenu;
+import com.ssafy.orderme.order.model.OrderOption;
+import com.ssafy.orderme.payment.dto.request.MenuOrderRequest;
+import com.ssafy.orderme.payment.dto.request.OptionOrderRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 주문 메뉴/옵션 일괄 저장
+ * 메뉴와 옵션을 IN 쿼리 두 번으로 검증하고, ordermenu와 orderoption을 각각 다중 행 INSERT 한 번으로 저장한다.
+ * 주문 한 건의 문장 수를 (메뉴 수 + 옵션 수) x 2에서 최대 4로 줄여 주문 테이블 락 유지 시간을 줄인다.
+ * 호출하는 쪽의 트랜잭션 안에서 실행된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderItemWriter {
+
+    private final MenuMapper menuMapper;
+    private final OptionItemMapper optionItemMapper;
+    private final OrderMenuMapper orderMenuMapper;
+    private final OrderOptionMapper orderOptionMapper;
+
+    /**
+     * 주문 메뉴와 옵션 저장
+     * @param orderId 주문 ID
+     * @param menuOrders 주문 메뉴 목록
+     */
+    public void insertOrderMenus(Integer orderId, List<MenuOrderRequest> menuOrders) {
+        if (menuOrders == null || menuOrders.isEmpty()) {
+            return;
+        }
+
+        // 1. 메뉴/옵션 ID 수집 후 일괄 조회
+        Set<Integer> menuIds = new LinkedHashSet<>();
+        Set<Integer> optionItemIds = new LinkedHashSet<>();
+        for (MenuOrderRequest menuOrder : menuOrders) {
+            menuIds.add(menuOrder.getMenuId());
+            if (menuOrder.getOptions() != null) {
+                for (OptionOrderRequest option : menuOrder.getOptions()) {
+                    optionItemIds.add(option.getOptionItemId());
+                }
+            }
+        }
+
+        Map<Integer, Menu> menuMap = new HashMap<>();
+        for (Menu menu : menuMapper.findByIds(new ArrayList<>(menuIds))) {
+            menuMap.put(menu.getMenuId(), menu);
+        }
+        Map<Integer, OptionItem> optionItemMap = new HashMap<>();
+        if (!optionItemIds.isEmpty()) {
+            for (OptionItem optionItem : optionItemMapper.findByIds(new ArrayList<>(optionItemIds))) {
+                optionItemMap.put(optionItem.getItemId(), optionItem);
+            }
+        }
+
+        // 2. 검증 및 주문 메뉴 생성 (INSERT 전에 모두 검증)
+        List<OrderMenu> orderMenus = new ArrayList<>(menuOrders.size());
+        for (MenuOrderRequest menuOrder : menuOrders) {
+            Menu menu = menuMap.get(menuOrder.getMenuId());
+            if (menu == null || Boolean.TRUE.equals(menu.getIsDeleted())) {
+                throw new IllegalArgumentException("유효하지 않은 메뉴입니다: " + menuOrder.getMenuId());
+            }
+            if (menuOrder.getOptions() != null) {
+                for (OptionOrderRequest option : menuOrder.getOptions()) {
+                    OptionItem optionItem = optionItemMap.get(option.getOptionItemId());
+                    if (optionItem == null || Boolean.TRUE.equals(optionItem.getIsDeleted())) {
+                        throw new IllegalArgumentException("유효하지 않은 옵션입니다: " + option.getOptionItemId());
+                    }
+                }
+            }
+
+            Integer menuPrice = menu.getPrice();
+            orderMenus.add(OrderMenu.builder()
+                    .orderId(orderId)
+                    .menuId(menu.getMenuId())
+                    .menuName(menu.getMenuName())
+                    .menuPrice(menuPrice)
+                    .quantity(menuOrder.getQuantity())
+                    .totalPrice(menuPrice * menuOrder.getQuantity())
+                    .isDeleted(false)
+                    .build());
+        }
+
+        // 3. 주문 메뉴 일괄 저장 (생성된 order_menu_id가 요청 순서대로 채워짐)
+        orderMenuMapper.insertOrderMenus(orderMenus);
+
+        // 4. 주문 옵션 일괄 저장
+        List<OrderOption> orderOptions = new ArrayList<>();
+        for (int i = 0; i < menuOrders.size(); i++) {
+            List<OptionOrderRequest> options = menuOrders.get(i).getOptions();
+            if (options == null || options.isEmpty()) {
+                continue;
+            }
+            Integer orderMenuId = orderMenus.get(i).getOrderMenuId();
+            for (OptionOrderRequest option : options) {
+                OptionItem optionItem = optionItemMap.get(option.getOptionItemId());
+                orderOptions.add(OrderOption.builder()
+                        .orderMenuId(orderMenuId)
+                        .optionItemId(optionItem.getItemId())
+                        .optionName(optionItem.getOptionName())
+                        .optionPrice(optionItem.getAdditionalPrice())
+                        .quantity(1) // 기본값 설정
+                        .isDeleted(false)
+                        .build());
+            }
+        }
+        if (!orderOptions.isEmpty()) {
+            orderOptionMapper.insertOrderOptions(orderOptions);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.ssafy.orderme.payment.service;
+
+import com.ssafy.orderme.payment.mapper.OrderMapper;
+import com.ssafy.orderme.payment.model.OrderNumberSequence;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+
+/**
+ * 매장별 일일 주문번호 발급기
+ * Redis INCR로 orderno:{매장ID}:{yyyyMMdd} 키를 증가시켜 "A-{순번}"을 발급한다. 키는 다음 날 자정에 만료된다.
+ * Redis를 사용할 수 없으면 DB 시퀀스 테이블(order_number_seq)로 "B-{순번}"을 발급해
+ * Redis에서 이미 나간 번호와 겹치지 않도록 한다.
+ */
+@Slf4j
+@Service
+public class OrderNumberAllocator {
+
+    private static final String KEY_PREFIX = "orderno:";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    // INCR 후 처음 만들어진 키에만 만료 시각을 지정 (원자적으로 실행)
+    private static final RedisScript<Long> INCR_SCRIPT = new DefaultRedisScript<>(
+            "local n = redis.call('INCR', KEYS[1]) " +
+            "if n == 1 then redis.call('EXPIREAT', KEYS[1], ARGV[1]) end " +
+            "return n", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final OrderMapper orderMapper;
+    private final TransactionTemplate requiresNewTemplate;
+
+    public OrderNumberAllocator(RedisTemplate<String, String> redisTemplate, OrderMapper orderMapper,
+                                PlatformTransactionManager transactionManager) {
+        this.redisTemplate = redisTemplate;
+        this.orderMapper = orderMapper;
+        // 시퀀스 행 잠금이 주문 트랜잭션 끝까지 유지되지 않도록 별도 트랜잭션으로 발급
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 주문번호 발급
+     * @param storeId 매장 ID
+     * @param orderDate 주문 일시
+     * @return "A-{순번}" 형식의 주문번호 (Redis 장애 시 "B-{순번}")
+     */
+    public String allocate(Integer storeId, LocalDateTime orderDate) {
+        LocalDate orderDay = orderDate.toLocalDate();
+        try {
+            String key = KEY_PREFIX + storeId + ":" + orderDay.format(DAY_FORMAT);
+            long expireAt = orderDay.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toEpochSecond();
+            Long number = redisTemplate.execute(INCR_SCRIPT, Collections.singletonList(key), String.valueOf(expireAt));
+            if (number != null) {
+                return "A-" + number;
+            }
+        } catch (Exception e) {
+            log.warn("Redis 주문번호 발급 실패, DB 시퀀스 사용 - storeId: {}, error: {}", storeId, e.getMessage());
+        }
+        return "B-" + allocateFromDatabase(storeId, orderDay);
+    }
+
+    private int allocateFromDatabase(Integer storeId, LocalDate orderDay) {
+        OrderNumberSequence sequence = OrderNumberSequence.builder()
+                .storeId(storeId)
+                .orderDay(orderDay)
+                .build();
+        requiresNewTemplate.executeWithoutResult(status -> orderMapper.allocateOrderNumber(sequence));
+        return sequence.getLastNo();
+    }
+}
@@ -1,10 +1,12 @@
 package com.ssafy.orderme.payment.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.ssafy.orderme.kiosk.mapper.MenuMapper;
-import com.ssafy.orderme.kiosk.model.Menu;
 import com.ssafy.orderme.order.mapper.*;
 import com.ssafy.orderme.order.model.*;
+import com.ssafy.orderme.order.service.OrderEventPublisher;
+import com.ssafy.orderme.order.service.StampLedger;
+import com.ssafy.orderme.order.service.StampPolicyCache;
+import com.ssafy.orderme.payment.client.TossPaymentsClient;
 import com.ssafy.orderme.payment.dto.request.*;
 import com.ssafy.orderme.payment.dto.response.PaymentResponseDto;
 import com.ssafy.orderme.payment.mapper.OrderMapper;
@@ -17,14 +19,12 @@ import com.ssafy.orderme.user.model.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -35,19 +35,18 @@ public class PaymentService {
     private final OrderMapper orderMapper;
     private final PaymentMapper paymentMapper;
     private final UserMapper userMapper;
-    private final RestTemplate restTemplate;
+    private final TossPaymentsClient tossPaymentsClient;
+    private final TransactionTemplate transactionTemplate;
     private final ObjectMapper objectMapper;
-    private final MenuMapper menuMapper;
-    private final OrderMenuMapper orderMenuMapper;
-    private final OptionItemMapper optionItemMapper;
-    private final OrderOptionMapper orderOptionMapper;
-    private final StampHistoryMapper stampHistoryMapper;
-    private final StampMapper stampMapper;
-    private final StampPolicyMapper stampPolicyMapper;
+    private final StampLedger stampLedger;
+    private final StampPolicyCache stampPolicyCache;
     private final PaymentInfoMapper paymentInfoMapper;
+    private final OrderItemWriter orderItemWriter;
+    private final OrderNumberAllocator orderNumberAllocator;
+    private final OrderEventPublisher orderEventPublisher;
 
-    @Value("${toss.secret-key}")
-    private String secretKey;
+    private static final String CANCEL_REASON = "주문 처리 실패로 인한 자동 취소";
+    private static final int CANCEL_RETRY_BATCH_SIZE = 50;
 
     @Value("${toss.client-key}")
     private String clientKey;
@@ -68,10 +67,8 @@ public class PaymentService {
 
     // 주문번호 생성 메서드
     private String generateOrderNumber(Integer kioskId, LocalDateTime orderDate) {
-        // 해당 매장의 오늘 주문 수 조회 (+1 하면 현재 주문의 순번이 됨)
-        int todayOrderCount = orderMapper.countOrdersByStoreAndDate(kioskId, orderDate) + 1;
-        // A-{순번} 형식의 주문번호 생성
-        return "A-" + todayOrderCount;
+        // A-{순번} 형식의 주문번호 발급 (매장별 일일 순번)
+        return orderNumberAllocator.allocate(kioskId, orderDate);
     }
 
     // 주문 생성 메서드 수정
@@ -113,25 +110,17 @@ public class PaymentService {
 
         // 메뉴 주문 처리
         if (request.getMenuOrders() != null && !request.getMenuOrders().isEmpty()) {
-            insertOrderMenus(order.getOrderId(), request.getMenuOrders());
+            orderItemWriter.insertOrderMenus(order.getOrderId(), request.getMenuOrders());
         }
 
         return order;
     }
 
     // 결제 승인 처리 (토스페이먼츠 v2 API 사용)
-    @Transactional
+    // 외부 승인 호출은 트랜잭션 밖에서 수행하고, 주문/결제/스탬프 반영만 짧은 트랜잭션으로 처리
     public PaymentResponseDto approvePayment(PaymentApprovalRequest request) {
+        Map<String, Object> responseBody;
         try {
-            // 토스페이먼츠 결제 승인 API 호출 (v2 API 엔드포인트)
-            String tossPaymentsUrl = "https://api.tosspayments.com/v1/payments/confirm";
-
-            // 요청 헤더 설정 (시크릿 키 Base64 인코딩)
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            String encodedAuth = Base64.getEncoder().encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
-            headers.set("Authorization", "Basic " + encodedAuth);
-
             // 요청 데이터 세팅
             PaymentConfirmRequest confirmRequest = PaymentConfirmRequest.builder()
                     .paymentKey(request.getPaymentKey())
@@ -139,85 +128,172 @@ public class PaymentService {
                     .amount(request.getAmount())
                     .build();
 
-            // API 호출 및 응답 처리
-            ResponseEntity<Map> responseEntity;
-            try {
-                responseEntity = restTemplate.exchange(
-                        tossPaymentsUrl,
-                        HttpMethod.POST,
-                        new HttpEntity<>(confirmRequest, headers),
-                        Map.class
-                );
-            } catch (HttpClientErrorException e) {
-                log.error("토스페이먼츠 API 오류: {}", e.getResponseBodyAsString());
-                throw e;
-            }
-
-            // 응답 처리
-            Map<String, Object> responseBody = responseEntity.getBody();
+            // 토스페이먼츠 결제 승인 API 호출
+            responseBody = tossPaymentsClient.confirm(confirmRequest);
             log.info("토스페이먼츠 V2 응답: {}", responseBody);
+        } catch (Exception e) {
+            log.error("결제 승인 처리 중 오류 발생", e);
+            throw new RuntimeException("결제 승인 처리에 실패했습니다", e);
+        }
 
-            // V2 API 응답 구조에서 정보 추출
-            String paymentKey = (String) responseBody.get("paymentKey");
-            String tossOrderId = (String) responseBody.get("orderId");
-            String status = (String) responseBody.get("status");
-
-            // Integer/Long 변환 문제 해결
-            Object amountObj = responseBody.get("totalAmount");
-            Long amount;
-            if (amountObj instanceof Integer) {
-                amount = ((Integer) amountObj).longValue();
-            } else if (amountObj instanceof Long) {
-                amount = (Long) amountObj;
-            } else if (amountObj instanceof Double) {
-                amount = ((Double) amountObj).longValue();
-            } else {
-                // 만약 다른 타입이라면 로그 남기고 문자열로 변환 후 처리
-                log.warn("예상치 못한 amount 타입: {}", amountObj.getClass().getName());
-                amount = Long.valueOf(String.valueOf(amountObj));
-            }
+        try {
+            return transactionTemplate.execute(status -> completeApprovedPayment(request, responseBody));
+        } catch (Exception e) {
+            // 토스 승인은 완료되었으므로 고객에게 청구되지 않도록 승인을 취소한다
+            log.error("결제 승인 후 주문 반영 실패, 승인 취소 - paymentKey: {}, orderId: {}",
+                    request.getPaymentKey(), request.getOrderId(), e);
+            cancelApprovedPayment(request.getPaymentKey(), request.getOrderId(), request.getAmount(), e);
+            throw new RuntimeException("결제 승인 처리에 실패했습니다", e);
+        }
+    }
 
-            // tossOrderId로 주문 찾기 (새 메서드 필요)
+    // 주문 반영에 실패한 승인 결제 취소 (취소도 실패하면 취소 대기로 기록해 재시도 작업이 처리)
+    private void cancelApprovedPayment(String paymentKey, String tossOrderId, Long amount, Exception cause) {
+        try {
+            // 커밋 응답만 유실되어 실제로는 반영된 경우 취소하지 않음
             Order order = orderMapper.findByTossOrderId(tossOrderId);
-            if (order == null) {
-                throw new RuntimeException("해당 주문 정보를 찾을 수 없습니다: " + tossOrderId);
+            if (order != null && "ACCEPTED".equals(order.getOrderStatus())) {
+                log.warn("주문이 이미 승인 상태여서 결제를 취소하지 않음 - paymentKey: {}", paymentKey);
+                return;
             }
+        } catch (Exception e) {
+            log.warn("주문 상태 확인 실패, 결제 취소 진행 - paymentKey: {}, error: {}", paymentKey, e.getMessage());
+        }
 
-            // 주문 상태 업데이트
-            order.setOrderStatus("ACCEPTED");
-            orderMapper.updateOrder(order);
+        try {
+            tossPaymentsClient.cancel(paymentKey, CANCEL_REASON);
+            log.info("주문 반영 실패 결제 취소 완료 - paymentKey: {}, orderId: {}", paymentKey, tossOrderId);
+            cancelOrder(tossOrderId);
+            return;
+        } catch (Exception cancelError) {
+            log.error("결제 취소 실패, 취소 대기로 기록 - paymentKey: {}", paymentKey, cancelError);
+        }
 
-            // 결제 정보 저장
-            Payment payment = Payment.builder()
-                    .orderId(order.getOrderId()) // 찾은 주문의 ID 사용
-                    .amount(amount.doubleValue())
-                    .paymentType(request.getPaymentType())
-                    .status(status)
-                    .paymentDate(LocalDateTime.now())
-                    .paymentKey(paymentKey)
-                    .build();
+        try {
+            paymentMapper.insertCancelRequest(paymentKey, tossOrderId, amount, truncate(cause.getMessage()));
+        } catch (Exception recordError) {
+            // DB와 토스 모두 실패한 경우 수동 대사 대상
+            log.error("결제 취소 대기 기록 실패 (수동 취소 필요) - paymentKey: {}, orderId: {}, amount: {}",
+                    paymentKey, tossOrderId, amount, recordError);
+        }
+    }
 
-            paymentMapper.insertPayment(payment);
+    /**
+     * 취소 대기 결제 재시도 (승인 후 주문 반영과 즉시 취소가 모두 실패한 결제)
+     * 취소 API는 결제 키 기준 멱등 키를 쓰므로 여러 서버가 같은 건을 시도해도 한 번만 취소된다.
+     */
+    @Scheduled(fixedDelayString = "${toss.cancel-retry-interval-ms:60000}")
+    public void retryPendingCancels() {
+        List<Map<String, Object>> requests;
+        try {
+            requests = paymentMapper.findPendingCancelRequests(CANCEL_RETRY_BATCH_SIZE);
+        } catch (Exception e) {
+            log.warn("취소 대기 결제 조회 실패: {}", e.getMessage());
+            return;
+        }
 
-            // 스탬프 처리
-            if (order.getIsStampUsed() != null && order.getIsStampUsed()) {
-                handleStampUsage(order.getUserId(), order.getKioskId(), order.getOrderId());
-            } else {
-                // 스탬프 적립
-                addStamps(order.getUserId(), order.getKioskId(), order.getOrderId());
+        for (Map<String, Object> request : requests) {
+            String paymentKey = (String) request.get("paymentKey");
+            String tossOrderId = (String) request.get("tossOrderId");
+            try {
+                tossPaymentsClient.cancel(paymentKey, CANCEL_REASON);
+                paymentMapper.updateCancelRequest(paymentKey, "CANCELED", null);
+                cancelOrder(tossOrderId);
+                log.info("취소 대기 결제 취소 완료 - paymentKey: {}", paymentKey);
+            } catch (Exception e) {
+                log.warn("취소 대기 결제 재시도 실패 - paymentKey: {}, 시도: {}, error: {}",
+                        paymentKey, request.get("attempts"), e.getMessage());
+                try {
+                    paymentMapper.updateCancelRequest(paymentKey, "PENDING", truncate(e.getMessage()));
+                } catch (Exception ignored) {
+                    // 다음 주기에 다시 시도
+                }
             }
+        }
+    }
 
-            return PaymentResponseDto.builder()
-                    .orderId(order.getOrderId())
-                    .orderNumber(order.getOrderNumber())
-                    .paymentKey(payment.getPaymentKey())
-                    .status(payment.getStatus())
-                    .amount(payment.getAmount())
-                    .build();
+    // 결제가 취소된 대기 주문을 취소 상태로 변경 (실패해도 결제 취소에는 영향 없음)
+    private void cancelOrder(String tossOrderId) {
+        try {
+            Order order = orderMapper.findByTossOrderId(tossOrderId);
+            if (order != null && "PENDING".equals(order.getOrderStatus())) {
+                orderMapper.updateOrderStatus(order.getOrderId(), "CANCELED");
+            }
         } catch (Exception e) {
-            log.error("결제 승인 처리 중 오류 발생", e);
-            throw new RuntimeException("결제 승인 처리에 실패했습니다", e);
+            log.warn("결제 취소 주문 상태 변경 실패 - orderId: {}, error: {}", tossOrderId, e.getMessage());
+        }
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    // 승인된 결제를 주문/결제/스탬프에 반영 (트랜잭션 안에서 호출)
+    private PaymentResponseDto completeApprovedPayment(PaymentApprovalRequest request, Map<String, Object> responseBody) {
+        // V2 API 응답 구조에서 정보 추출
+        String paymentKey = (String) responseBody.get("paymentKey");
+        String tossOrderId = (String) responseBody.get("orderId");
+        String status = (String) responseBody.get("status");
+
+        // Integer/Long 변환 문제 해결
+        Object amountObj = responseBody.get("totalAmount");
+        Long amount;
+        if (amountObj instanceof Integer) {
+            amount = ((Integer) amountObj).longValue();
+        } else if (amountObj instanceof Long) {
+            amount = (Long) amountObj;
+        } else if (amountObj instanceof Double) {
+            amount = ((Double) amountObj).longValue();
+        } else {
+            // 만약 다른 타입이라면 로그 남기고 문자열로 변환 후 처리
+            log.warn("예상치 못한 amount 타입: {}", amountObj.getClass().getName());
+            amount = Long.valueOf(String.valueOf(amountObj));
+        }
+
+        // tossOrderId로 주문 찾기
+        Order order = orderMapper.findByTossOrderId(tossOrderId);
+        if (order == null) {
+            throw new RuntimeException("해당 주문 정보를 찾을 수 없습니다: " + tossOrderId);
+        }
+
+        // 주문 상태 업데이트
+        order.setOrderStatus("ACCEPTED");
+        orderMapper.updateOrder(order);
+
+        // 결제 정보 저장
+        Payment payment = Payment.builder()
+                .orderId(order.getOrderId()) // 찾은 주문의 ID 사용
+                .amount(amount.doubleValue())
+                .paymentType(request.getPaymentType())
+                .status(status)
+                .paymentDate(LocalDateTime.now())
+                .paymentKey(paymentKey)
+                .build();
+
+        paymentMapper.insertPayment(payment);
+
+        // 스탬프 처리 (이력은 주문 이벤트에 실어 일괄 저장)
+        StampHistory stampHistory;
+        if (order.getIsStampUsed() != null && order.getIsStampUsed()) {
+            stampHistory = handleStampUsage(order.getUserId(), order.getKioskId(), order.getOrderId());
+        } else {
+            // 스탬프 적립
+            stampHistory = stampLedger.earn(order.getUserId(), order.getKioskId(), order.getOrderId());
         }
+
+        // 주문 승인 이벤트 기록 (알림/추천/매출/스탬프 이력은 커밋 후 이벤트 소비자가 처리)
+        orderEventPublisher.publishOrderAccepted(order, BigDecimal.valueOf(payment.getAmount()), stampHistory);
+
+        return PaymentResponseDto.builder()
+                .orderId(order.getOrderId())
+                .orderNumber(order.getOrderNumber())
+                .paymentKey(payment.getPaymentKey())
+                .status(payment.getStatus())
+                .amount(payment.getAmount())
+                .build();
     }
 
     @Transactional
@@ -255,143 +331,30 @@ public class PaymentService {
         }
     }
 
-    // 주문 메뉴 추가
-    private void insertOrderMenus(Integer orderId, List<MenuOrderRequest> menuOrders) {
-        for (MenuOrderRequest menuOrder : menuOrders) {
-            // 메뉴 정보 가져오기
-            Menu menu = menuMapper.findById(menuOrder.getMenuId());
-            if (menu == null || menu.getIsDeleted()) {
-                throw new IllegalArgumentException("유효하지 않은 메뉴입니다: " + menuOrder.getMenuId());
-            }
-
-            // 메뉴 가격 계산 (옵션 포함)
-            Integer menuPrice = menu.getPrice();
-            int totalPrice = menuPrice * menuOrder.getQuantity();
-
-            // 주문 메뉴 생성
-            OrderMenu orderMenu = OrderMenu.builder()
-                    .orderId(orderId)
-                    .menuId(menu.getMenuId())
-                    .menuName(menu.getMenuName())
-                    .menuPrice(menuPrice.intValue())
-                    .quantity(menuOrder.getQuantity())
-                    .totalPrice(totalPrice)
-                    .isDeleted(false)
-                    .build();
-
-            orderMenuMapper.insertOrderMenu(orderMenu);
-
-            // 옵션이 있는 경우 처리
-            if (menuOrder.getOptions() != null && !menuOrder.getOptions().isEmpty()) {
-                insertOrderOptions(orderMenu.getOrderMenuId(), menuOrder.getOptions());
-            }
-        }
-    }
-
-    // 주문 옵션 추가
-    private void insertOrderOptions(Integer orderMenuId, List<OptionOrderRequest> options) {
-        for (OptionOrderRequest option : options) {
-            // 옵션 항목 정보 가져오기
-            OptionItem optionItem = optionItemMapper.findById(option.getOptionItemId());
-            if (optionItem == null || optionItem.getIsDeleted()) {
-                throw new IllegalArgumentException("유효하지 않은 옵션입니다: " + option.getOptionItemId());
-            }
-
-            // 주문 옵션 생성
-            OrderOption orderOption = OrderOption.builder()
-                    .orderMenuId(orderMenuId)
-                    .optionItemId(optionItem.getItemId())
-                    .optionName(optionItem.getOptionName())
-                    .optionPrice(optionItem.getAdditionalPrice())
-                    .quantity(1) // 기본값 설정
-                    .isDeleted(false)
-                    .build();
-
-            orderOptionMapper.insertOrderOption(orderOption);
-        }
-    }
-
     /**
      * 스탬프 사용 처리
+     *
+     * @return 사용 이력, 정책이 없거나 스탬프가 부족하면 null
      */
-    private void handleStampUsage(String userId, Integer storeId, Integer orderId) {
+    private StampHistory handleStampUsage(String userId, Integer storeId, Integer orderId) {
         // 사용자 ID가 없는 경우 (게스트)
         if (userId == null || userId.isEmpty()) {
-            return;
+            return null;
         }
 
         // 스탬프 정책 조회
-        StampPolicy policy = stampPolicyMapper.findActiveByStoreId(storeId);
+        StampPolicy policy = stampPolicyCache.getActivePolicy(storeId);
         if (policy == null) {
             log.warn("스탬프 정책을 찾을 수 없습니다. storeId: {}", storeId);
-            return;
+            return null;
         }
 
-        // 사용자 스탬프 조회
-        Stamp userStamp = stampMapper.findByUserIdAndStoreId(userId, storeId);
-        if (userStamp == null || userStamp.getStampCount() < policy.getStampsRequired()) {
+        // 스탬프 차감 (남은 스탬프가 충분할 때만 차감)
+        StampHistory history = stampLedger.redeem(userId, storeId, orderId, policy);
+        if (history == null) {
             log.warn("스탬프가 부족합니다. userId: {}, storeId: {}", userId, storeId);
-            return;
         }
-
-        // 스탬프 차감
-        userStamp.setStampCount(userStamp.getStampCount() - policy.getStampsRequired());
-        userStamp.setLastOrderId(orderId);
-        stampMapper.updateStamp(userStamp);
-
-        // 스탬프 사용 이력 추가
-        StampHistory history = StampHistory.builder()
-                .stampId(userStamp.getStampId())
-                .orderId(orderId)
-                .actionType("USE")
-                .stampCount(policy.getStampsRequired())
-                .policyId(policy.getPolicyId())
-                .build();
-
-        stampHistoryMapper.insertHistory(history);
-    }
-
-    /**
-     * 스탬프 적립 처리
-     */
-    private void addStamps(String userId, Integer storeId, Integer orderId) {
-        // 사용자 ID가 없는 경우 (게스트)
-        if (userId == null || userId.isEmpty()) {
-            return;
-        }
-
-        // 스탬프 정책에 따라 적립할 스탬프 수 결정 (예: 주문 1건당 1개)
-        int stampsToAdd = 1;
-
-        // 사용자 스탬프 조회
-        Stamp userStamp = stampMapper.findByUserIdAndStoreId(userId, storeId);
-
-        if (userStamp == null) {
-            // 새로운 스탬프 생성
-            userStamp = Stamp.builder()
-                    .userId(userId)
-                    .storeId(storeId)
-                    .stampCount(stampsToAdd)
-                    .lastOrderId(orderId)
-                    .build();
-
-            stampMapper.insertStamp(userStamp);
-        } else {
-            // 기존 스탬프 업데이트
-            userStamp.setStampCount(userStamp.getStampCount() + stampsToAdd);
-            userStamp.setLastOrderId(orderId);
-            stampMapper.updateStamp(userStamp);
-        }
-
-        // 스탬프 적립 이력 추가
-        StampHistory history = StampHistory.builder()
-                .stampId(userStamp.getStampId())
-                .orderId(orderId)
-                .actionType("EARN")
-                .stampCount(stampsToAdd)
-                .build();
-
-        stampHistoryMapper.insertHistory(history);
+        return history;
     }
 
     // 주문 조회
@@ -4,16 +4,20 @@ import com.ssafy.orderme.common.ApiResponse;
 import com.ssafy.orderme.kiosk.dto.response.MenuDetailResponse;
 import com.ssafy.orderme.recommendation.dto.response.RecommendationResponse;
 import com.ssafy.orderme.recommendation.dto.response.RecommendedMenuGroup;
+import com.ssafy.orderme.recommendation.service.RecommendationMetrics;
 import com.ssafy.orderme.recommendation.service.RecommendationService;
+import com.ssafy.orderme.recommendation.service.RecommendationTrace;
 import com.ssafy.orderme.security.JwtTokenProvider;
 import com.ssafy.orderme.user.model.User;
 import com.ssafy.orderme.user.service.UserService;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.http.HttpStatus;
 
 import java.util.*;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/kiosk/recommendation")
 public class RecommendationController {
@@ -27,6 +31,9 @@ public class RecommendationController {
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
+    @Autowired
+    private RecommendationMetrics recommendationMetrics;
+
     /**
      * 회원/비회원 구분하여 메뉴 추천 (개선된 추천 기능)
      */
@@ -38,318 +45,159 @@ public class RecommendationController {
             @RequestParam(required = false) String age,
             @RequestParam(required = false) List<Integer> excludeMenuIds) {
 
-        System.out.println("=== 메뉴 추천 API 요청 시작 ===");
-        List<RecommendedMenuGroup> recommendedGroups = new ArrayList<>();
-
-        // 현재 시간 정보
-        Calendar calendar = Calendar.getInstance();
-        int hourOfDay = calendar.get(Calendar.HOUR_OF_DAY);
-        int dayOfWeek = calendar.get(Calendar.DAY_OF_WEEK);
-        int week = calendar.get(Calendar.WEEK_OF_YEAR);
-        int month = calendar.get(Calendar.MONTH) + 1; // Calendar.MONTH는 0부터 시작
+        try (RecommendationTrace trace = recommendationMetrics.beginRequest("advanced")) {
+            boolean debug = recommendationMetrics.isDebugSampled(log);
+            List<RecommendedMenuGroup> recommendedGroups = new ArrayList<>();
 
-        System.out.println("현재 시간: " + hourOfDay + "시, 요일: " + getDayOfWeekName(dayOfWeek) + ", 주차: " + week + ", 월: " + month);
+            // 현재 시간 정보
+            Calendar calendar = Calendar.getInstance();
+            int hourOfDay = calendar.get(Calendar.HOUR_OF_DAY);
+            int dayOfWeek = calendar.get(Calendar.DAY_OF_WEEK);
+            int week = calendar.get(Calendar.WEEK_OF_YEAR);
+            int month = calendar.get(Calendar.MONTH) + 1; // Calendar.MONTH는 0부터 시작
 
-        // 현재 날씨 정보 - 주문 데이터에서 가장 최근 날씨 정보를 가져오거나, 기본값 사용
-        // 실제로는 DB에서 최근 날씨 정보를 가져오거나, 외부 API를 사용할 수 있음
-        String currentWeather = "맑음"; // 기본값 설정
+            // 현재 날씨 정보 - 주문 데이터에서 가장 최근 날씨 정보를 가져오거나, 기본값 사용
+            // 실제로는 DB에서 최근 날씨 정보를 가져오거나, 외부 API를 사용할 수 있음
+            String currentWeather = "맑음"; // 기본값 설정
 
-        try {
-            // 가장 최근 주문의 날씨 정보 가져오기
-            currentWeather = recommendationService.getLatestWeather(storeId);
-            System.out.println("현재 날씨 정보: " + currentWeather);
-        } catch (Exception e) {
-            System.out.println("날씨 정보 조회 오류: " + e.getMessage());
-        }
-
-        // 사용자 ID, 나이, 성별 정보
-        String userId = null;
-        String userGender = null;
-        String userAge = null;
-
-        // 회원/비회원 분기 처리
-        boolean isGuest = true;
-
-        // 토큰이 있는 경우 회원 정보 조회
-        if (token != null && token.startsWith("Bearer ")) {
-            String jwtToken = token.substring(7);
-            if (jwtTokenProvider.validateToken(jwtToken)) {
-                userId = jwtTokenProvider.getUserId(jwtToken);
-                isGuest = false;
-
-                // 사용자 정보 조회
-                User user = userService.findById(userId);
-                if (user != null) {
-                    // 성별 정보 가져오기
-                    if (user.getGender() != null) {
-                        userGender = user.getGender().toString();
-                    }
+            try {
+                // 가장 최근 주문의 날씨 정보 가져오기
+                currentWeather = recommendationService.getLatestWeather(storeId);
+            } catch (Exception e) {
+                log.warn("날씨 정보 조회 오류 - 매장 ID: {}", storeId, e);
+            }
 
-                    // 나이 계산
-                    Integer calculatedAge = user.getAge();
-                    if (calculatedAge != null) {
-                        // 나이대만 추출 (예: 25살 -> 20)
-                        int ageGroup = (calculatedAge / 10) * 10;
-                        userAge = String.valueOf(ageGroup);
+            // 사용자 ID, 나이, 성별 정보
+            String userId = null;
+            String userGender = null;
+            String userAge = null;
+
+            // 회원/비회원 분기 처리
+            boolean isGuest = true;
+
+            // 토큰이 있는 경우 회원 정보 조회
+            if (token != null && token.startsWith("Bearer ")) {
+                String jwtToken = token.substring(7);
+                if (jwtTokenProvider.validateToken(jwtToken)) {
+                    userId = jwtTokenProvider.getUserId(jwtToken);
+                    isGuest = false;
+
+                    // 사용자 정보 조회
+                    User user = userService.findById(userId);
+                    if (user != null) {
+                        // 성별 정보 가져오기
+                        if (user.getGender() != null) {
+                            userGender = user.getGender().toString();
+                        }
+
+                        // 나이 계산
+                        Integer calculatedAge = user.getAge();
+                        if (calculatedAge != null) {
+                            // 나이대만 추출 (예: 25살 -> 20)
+                            int ageGroup = (calculatedAge / 10) * 10;
+                            userAge = String.valueOf(ageGroup);
+                        }
                     }
                 }
-                System.out.println("회원 정보 - ID: " + userId + ", 성별: " + userGender + ", 나이대: " + userAge);
-            }
-        } else {
-            // 비회원인 경우 파라미터 값 사용
-            userGender = gender;
-            userAge = age;
-            System.out.println("비회원 정보 - 성별: " + userGender + ", 나이대: " + userAge);
-        }
-
-        // 필수 정보 확인 - 비회원이고 성별/나이 정보가 없는 경우에만 에러
-        if (isGuest && (userGender == null || userAge == null)) {
-            System.out.println("비회원 정보 부족 오류: gender와 age 파라미터가 필요합니다.");
-            return ApiResponse.error(HttpStatus.BAD_REQUEST, "비회원의 경우 gender와 age 파라미터가 필요합니다.");
-        }
-
-        // 안전한 excludeMenuIds 생성
-        List<Integer> safeExcludeIds = excludeMenuIds != null ? excludeMenuIds : new ArrayList<>();
-        List<Integer> updatedExcludeIds = new ArrayList<>(safeExcludeIds);
-
-        System.out.println("제외할 메뉴 ID 목록: " + updatedExcludeIds);
-
-        // 비회원/회원 공통 추천 (7가지)
-        // 1. 성별/나이 기반 추천
-        System.out.println("1. 성별/나이 기반 추천 메뉴 검색 시작");
-        MenuDetailResponse genderAgeMenu = recommendationService.getMenuByGenderAndAge(
-                storeId, userGender, userAge, updatedExcludeIds);
-        if (genderAgeMenu != null) {
-            String genderText = userGender.equalsIgnoreCase("MALE") ? "남성" : "여성";
-            System.out.println("성별/나이 기반 추천 메뉴 검색 결과: " + genderAgeMenu.getMenuName() + ", 메뉴 ID: " + genderAgeMenu.getMenuId());
-
-            // 옵션 정보 확인
-            if (genderAgeMenu.getOptions() != null) {
-                System.out.println("성별/나이 기반 추천 메뉴 옵션 개수: " + genderAgeMenu.getOptions().size());
             } else {
-                System.out.println("성별/나이 기반 추천 메뉴 옵션이 없습니다.");
+                // 비회원인 경우 파라미터 값 사용
+                userGender = gender;
+                userAge = age;
             }
 
-            recommendedGroups.add(RecommendedMenuGroup.builder()
-                    .recommendationType(1)
-                    .recommendationReason(genderText + " " + userAge + "대에 인기 있는 메뉴")
-                    .menus(Collections.singletonList(genderAgeMenu))
-                    .build());
-            updatedExcludeIds.add(genderAgeMenu.getMenuId().intValue());
-        } else {
-            System.out.println("성별/나이 기반 추천 메뉴 검색 결과 없음");
-        }
-
-        // 2. 시간대 기반 추천
-        System.out.println("2. 시간대 기반 추천 메뉴 검색 시작");
-        MenuDetailResponse timeOfDayMenu = recommendationService.getMenuByTimeOfDay(
-                storeId, hourOfDay, updatedExcludeIds);
-        if (timeOfDayMenu != null) {
-            String timeDesc = getTimeOfDayDescription(hourOfDay);
-            System.out.println("시간대 기반 추천 메뉴 검색 결과: " + timeOfDayMenu.getMenuName() + ", 메뉴 ID: " + timeOfDayMenu.getMenuId());
-
-            // 옵션 정보 확인
-            if (timeOfDayMenu.getOptions() != null) {
-                System.out.println("시간대 기반 추천 메뉴 옵션 개수: " + timeOfDayMenu.getOptions().size());
-            } else {
-                System.out.println("시간대 기반 추천 메뉴 옵션이 없습니다.");
-            }
-
-            recommendedGroups.add(RecommendedMenuGroup.builder()
-                    .recommendationType(2)
-                    .recommendationReason(timeDesc + " 시간대에 인기 있는 메뉴")
-                    .menus(Collections.singletonList(timeOfDayMenu))
-                    .build());
-            updatedExcludeIds.add(timeOfDayMenu.getMenuId().intValue());
-        } else {
-            System.out.println("시간대 기반 추천 메뉴 검색 결과 없음");
-        }
-
-        // 3. 날씨 기반 추천
-        System.out.println("3. 날씨 기반 추천 메뉴 검색 시작");
-        MenuDetailResponse weatherMenu = recommendationService.getMenuByWeather(
-                storeId, currentWeather, updatedExcludeIds);
-        if (weatherMenu != null) {
-            System.out.println("날씨 기반 추천 메뉴 검색 결과: " + weatherMenu.getMenuName() + ", 메뉴 ID: " + weatherMenu.getMenuId());
-
-            // 옵션 정보 확인
-            if (weatherMenu.getOptions() != null) {
-                System.out.println("날씨 기반 추천 메뉴 옵션 개수: " + weatherMenu.getOptions().size());
-            } else {
-                System.out.println("날씨 기반 추천 메뉴 옵션이 없습니다.");
-            }
-
-            recommendedGroups.add(RecommendedMenuGroup.builder()
-                    .recommendationType(3)
-                    .recommendationReason(currentWeather + " 날씨에 어울리는 메뉴")
-                    .menus(Collections.singletonList(weatherMenu))
-                    .build());
-            updatedExcludeIds.add(weatherMenu.getMenuId().intValue());
-        } else {
-            System.out.println("날씨 기반 추천 메뉴 검색 결과 없음");
-        }
-
-        // 4. 일별 인기 메뉴 추천
-        System.out.println("4. 요일 기반 추천 메뉴 검색 시작");
-        MenuDetailResponse dayOfWeekMenu = recommendationService.getMenuByDayOfWeek(
-                storeId, dayOfWeek, updatedExcludeIds);
-        if (dayOfWeekMenu != null) {
-            System.out.println("요일 기반 추천 메뉴 검색 결과: " + dayOfWeekMenu.getMenuName() + ", 메뉴 ID: " + dayOfWeekMenu.getMenuId());
-
-            // 옵션 정보 확인
-            if (dayOfWeekMenu.getOptions() != null) {
-                System.out.println("요일 기반 추천 메뉴 옵션 개수: " + dayOfWeekMenu.getOptions().size());
-            } else {
-                System.out.println("요일 기반 추천 메뉴 옵션이 없습니다.");
-            }
-
-            recommendedGroups.add(RecommendedMenuGroup.builder()
-                    .recommendationType(4)
-                    .recommendationReason(getDayOfWeekName(dayOfWeek) + "에 인기 있는 메뉴")
-                    .menus(Collections.singletonList(dayOfWeekMenu))
-                    .build());
-            updatedExcludeIds.add(dayOfWeekMenu.getMenuId().intValue());
-        } else {
-            System.out.println("요일 기반 추천 메뉴 검색 결과 없음");
-        }
-
-        // 5. 주별 인기 메뉴 추천
-        System.out.println("5. 주차 기반 추천 메뉴 검색 시작");
-        MenuDetailResponse weekOfYearMenu = recommendationService.getMenuByWeekOfYear(
-                storeId, week, updatedExcludeIds);
-        if (weekOfYearMenu != null) {
-            System.out.println("주차 기반 추천 메뉴 검색 결과: " + weekOfYearMenu.getMenuName() + ", 메뉴 ID: " + weekOfYearMenu.getMenuId());
-
-            // 옵션 정보 확인
-            if (weekOfYearMenu.getOptions() != null) {
-                System.out.println("주차 기반 추천 메뉴 옵션 개수: " + weekOfYearMenu.getOptions().size());
-            } else {
-                System.out.println("주차 기반 추천 메뉴 옵션이 없습니다.");
+            // 필수 정보 확인 - 비회원이고 성별/나이 정보가 없는 경우에만 에러
+            if (isGuest && (userGender == null || userAge == null)) {
+                return ApiResponse.error(HttpStatus.BAD_REQUEST, "비회원의 경우 gender와 age 파라미터가 필요합니다.");
             }
 
-            recommendedGroups.add(RecommendedMenuGroup.builder()
-                    .recommendationType(5)
-                    .recommendationReason(week + "주차에 인기 있는 메뉴")
-                    .menus(Collections.singletonList(weekOfYearMenu))
-                    .build());
-            updatedExcludeIds.add(weekOfYearMenu.getMenuId().intValue());
-        } else {
-            System.out.println("주차 기반 추천 메뉴 검색 결과 없음");
-        }
-
-        // 6. 월별 인기 메뉴 추천
-        System.out.println("6. 월 기반 추천 메뉴 검색 시작");
-        MenuDetailResponse monthMenu = recommendationService.getMenuByMonth(
-                storeId, month, updatedExcludeIds);
-        if (monthMenu != null) {
-            System.out.println("월 기반 추천 메뉴 검색 결과: " + monthMenu.getMenuName() + ", 메뉴 ID: " + monthMenu.getMenuId());
+            // 안전한 excludeMenuIds 생성
+            List<Integer> safeExcludeIds = excludeMenuIds != null ? excludeMenuIds : new ArrayList<>();
+            List<Integer> updatedExcludeIds = new ArrayList<>(safeExcludeIds);
 
-            // 옵션 정보 확인
-            if (monthMenu.getOptions() != null) {
-                System.out.println("월 기반 추천 메뉴 옵션 개수: " + monthMenu.getOptions().size());
-            } else {
-                System.out.println("월 기반 추천 메뉴 옵션이 없습니다.");
+            if (debug) {
+                log.debug("메뉴 추천 요청 - 매장 ID: {}, 회원 ID: {}, 성별: {}, 나이대: {}, 날씨: {}, 시간: {}시, 요일: {}, 주차: {}, 월: {}, 제외 메뉴: {}",
+                        storeId, userId, userGender, userAge, currentWeather, hourOfDay,
+                        getDayOfWeekName(dayOfWeek), week, month, updatedExcludeIds);
             }
 
-            recommendedGroups.add(RecommendedMenuGroup.builder()
-                    .recommendationType(6)
-                    .recommendationReason(month + "월에 인기 있는 메뉴")
-                    .menus(Collections.singletonList(monthMenu))
-                    .build());
-            updatedExcludeIds.add(monthMenu.getMenuId().intValue());
-        } else {
-            System.out.println("월 기반 추천 메뉴 검색 결과 없음");
-        }
-
-        // 7. 스테디셀러 메뉴 추천
-        System.out.println("7. 스테디셀러 추천 메뉴 검색 시작");
-        MenuDetailResponse steadySellerMenu = recommendationService.getSteadySellerMenu(
-                storeId, updatedExcludeIds);
-        if (steadySellerMenu != null) {
-            System.out.println("스테디셀러 추천 메뉴 검색 결과: " + steadySellerMenu.getMenuName() + ", 메뉴 ID: " + steadySellerMenu.getMenuId());
-
-            // 옵션 정보 확인
-            if (steadySellerMenu.getOptions() != null) {
-                System.out.println("스테디셀러 추천 메뉴 옵션 개수: " + steadySellerMenu.getOptions().size());
-            } else {
-                System.out.println("스테디셀러 추천 메뉴 옵션이 없습니다.");
+            // 비회원/회원 공통 추천 (7가지)
+            // 1. 성별/나이 기반 추천
+            String genderText = "MALE".equalsIgnoreCase(userGender) ? "남성" : "여성";
+            addRecommendation(recommendedGroups, updatedExcludeIds, 1,
+                    recommendationService.getMenuByGenderAndAge(storeId, userGender, userAge, updatedExcludeIds),
+                    genderText + " " + userAge + "대에 인기 있는 메뉴");
+
+            // 2. 시간대 기반 추천
+            addRecommendation(recommendedGroups, updatedExcludeIds, 2,
+                    recommendationService.getMenuByTimeOfDay(storeId, hourOfDay, updatedExcludeIds),
+                    getTimeOfDayDescription(hourOfDay) + " 시간대에 인기 있는 메뉴");
+
+            // 3. 날씨 기반 추천
+            addRecommendation(recommendedGroups, updatedExcludeIds, 3,
+                    recommendationService.getMenuByWeather(storeId, currentWeather, updatedExcludeIds),
+                    currentWeather + " 날씨에 어울리는 메뉴");
+
+            // 4. 일별 인기 메뉴 추천
+            addRecommendation(recommendedGroups, updatedExcludeIds, 4,
+                    recommendationService.getMenuByDayOfWeek(storeId, dayOfWeek, updatedExcludeIds),
+                    getDayOfWeekName(dayOfWeek) + "에 인기 있는 메뉴");
+
+            // 5. 주별 인기 메뉴 추천
+            addRecommendation(recommendedGroups, updatedExcludeIds, 5,
+                    recommendationService.getMenuByWeekOfYear(storeId, week, updatedExcludeIds),
+                    week + "주차에 인기 있는 메뉴");
+
+            // 6. 월별 인기 메뉴 추천
+            addRecommendation(recommendedGroups, updatedExcludeIds, 6,
+                    recommendationService.getMenuByMonth(storeId, month, updatedExcludeIds),
+                    month + "월에 인기 있는 메뉴");
+
+            // 7. 스테디셀러 메뉴 추천
+            addRecommendation(recommendedGroups, updatedExcludeIds, 7,
+                    recommendationService.getSteadySellerMenu(storeId, updatedExcludeIds),
+                    "매장의 스테디셀러 메뉴");
+
+            // 회원 전용 추천 (2가지 추가)
+            if (!isGuest && userId != null) {
+                // 8. 회원 최다 주문 메뉴 추천
+                addRecommendation(recommendedGroups, updatedExcludeIds, 8,
+                        recommendationService.getMostOrderedMenuByUser(storeId, userId, updatedExcludeIds),
+                        "회원님이 가장 많이 주문한 메뉴");
+
+                // 9. 회원 최근 주문 메뉴 추천
+                addRecommendation(recommendedGroups, updatedExcludeIds, 9,
+                        recommendationService.getLatestOrderedMenuByUser(storeId, userId, updatedExcludeIds),
+                        "회원님의 최근 주문 메뉴");
             }
 
-            recommendedGroups.add(RecommendedMenuGroup.builder()
-                    .recommendationType(7)
-                    .recommendationReason("매장의 스테디셀러 메뉴")
-                    .menus(Collections.singletonList(steadySellerMenu))
-                    .build());
-            updatedExcludeIds.add(steadySellerMenu.getMenuId().intValue());
-        } else {
-            System.out.println("스테디셀러 추천 메뉴 검색 결과 없음");
-        }
-
-        // 회원 전용 추천 (2가지 추가)
-        if (!isGuest && userId != null) {
-            // 8. 회원 최다 주문 메뉴 추천
-            System.out.println("8. 회원 최다 주문 메뉴 검색 시작");
-            MenuDetailResponse mostOrderedMenu = recommendationService.getMostOrderedMenuByUser(
-                    storeId, userId, updatedExcludeIds);
-            if (mostOrderedMenu != null) {
-                System.out.println("회원 최다 주문 메뉴 검색 결과: " + mostOrderedMenu.getMenuName() + ", 메뉴 ID: " + mostOrderedMenu.getMenuId());
-
-                // 옵션 정보 확인
-                if (mostOrderedMenu.getOptions() != null) {
-                    System.out.println("회원 최다 주문 메뉴 옵션 개수: " + mostOrderedMenu.getOptions().size());
-                } else {
-                    System.out.println("회원 최다 주문 메뉴 옵션이 없습니다.");
-                }
-
-                recommendedGroups.add(RecommendedMenuGroup.builder()
-                        .recommendationType(8)
-                        .recommendationReason("회원님이 가장 많이 주문한 메뉴")
-                        .menus(Collections.singletonList(mostOrderedMenu))
-                        .build());
-                updatedExcludeIds.add(mostOrderedMenu.getMenuId().intValue());
-            } else {
-                System.out.println("회원 최다 주문 메뉴 검색 결과 없음");
+            if (debug) {
+                log.debug("메뉴 추천 완료 - 매장 ID: {}, 추천 그룹 {}개, 추천 메뉴 ID: {}, DB 조회 {}회",
+                        storeId, recommendedGroups.size(), updatedExcludeIds.subList(safeExcludeIds.size(), updatedExcludeIds.size()),
+                        trace.getDbCalls());
             }
 
-            // 9. 회원 최근 주문 메뉴 추천
-            System.out.println("9. 회원 최근 주문 메뉴 검색 시작");
-            MenuDetailResponse latestOrderedMenu = recommendationService.getLatestOrderedMenuByUser(
-                    storeId, userId, updatedExcludeIds);
-            if (latestOrderedMenu != null) {
-                System.out.println("회원 최근 주문 메뉴 검색 결과: " + latestOrderedMenu.getMenuName() + ", 메뉴 ID: " + latestOrderedMenu.getMenuId());
-
-                // 옵션 정보 확인
-                if (latestOrderedMenu.getOptions() != null) {
-                    System.out.println("회원 최근 주문 메뉴 옵션 개수: " + latestOrderedMenu.getOptions().size());
-                } else {
-                    System.out.println("회원 최근 주문 메뉴 옵션이 없습니다.");
-                }
+            // 응답 구성
+            RecommendationResponse response = RecommendationResponse.builder()
+                    .recommendedMenus(recommendedGroups)
+                    .currentWeather(currentWeather)
+                    .build();
 
-                recommendedGroups.add(RecommendedMenuGroup.builder()
-                        .recommendationType(9)
-                        .recommendationReason("회원님의 최근 주문 메뉴")
-                        .menus(Collections.singletonList(latestOrderedMenu))
-                        .build());
-            } else {
-                System.out.println("회원 최근 주문 메뉴 검색 결과 없음");
-            }
+            return ApiResponse.success(response);
         }
+    }
 
-        // 추천 결과 요약
-        System.out.println("총 추천 그룹 수: " + recommendedGroups.size());
-        for (RecommendedMenuGroup group : recommendedGroups) {
-            System.out.println("추천 유형: " + group.getRecommendationType() + ", 이유: " + group.getRecommendationReason() +
-                    ", 메뉴 수: " + group.getMenus().size());
+    // 추천 결과가 있으면 추천 그룹으로 추가하고 이후 전략에서 제외
+    private void addRecommendation(List<RecommendedMenuGroup> recommendedGroups, List<Integer> excludeIds,
+                                   int recommendationType, MenuDetailResponse menu, String reason) {
+        if (menu == null) {
+            return;
         }
-
-        // 응답 구성
-        RecommendationResponse response = RecommendationResponse.builder()
-                .recommendedMenus(recommendedGroups)
-                .currentWeather(currentWeather)
-                .build();
-
-        System.out.println("=== 메뉴 추천 API 요청 완료 ===");
-        return ApiResponse.success(response);
+        recommendedGroups.add(RecommendedMenuGroup.builder()
+                .recommendationType(recommendationType)
+                .recommendationReason(reason)
+                .menus(Collections.singletonList(menu))
+                .build());
+        excludeIds.add(menu.getMenuId().intValue());
     }
 
     /**
@@ -363,15 +211,16 @@ public class RecommendationController {
             @RequestParam(required = false) String age,
             @RequestParam List<Integer> excludeMenuIds) {
 
-        System.out.println("=== 메뉴 재추천 API 요청 시작 ===");
-        System.out.println("제외할 메뉴 ID 목록: " + excludeMenuIds);
-
         // 기존 추천에서 제외할 메뉴 ID 목록을 받아서 다시 추천
-        return getAdvancedRecommendations(storeId, token, gender, age, excludeMenuIds);
+        try (RecommendationTrace trace = recommendationMetrics.beginRequest("refresh")) {
+            return getAdvancedRecommendations(storeId, token, gender, age, excludeMenuIds);
+        }
     }
 
     /**
      * 주문 완료 후 메뉴 선호도 업데이트 엔드포인트
+     * 선호도는 주문 승인 시 기록되는 주문 이벤트로 서버에서 반영하므로(RecommendationOrderEventConsumer),
+     * 기존 클라이언트 호환을 위해 성공만 응답하고 중복 반영하지 않는다.
      */
     @PostMapping("/update-preference")
     public ApiResponse<?> updateMenuPreferences(
@@ -381,58 +230,6 @@ public class RecommendationController {
             @RequestParam String gender,
             @RequestParam String age,
             @RequestParam(required = false) String weather) {
-
-        System.out.println("=== 메뉴 선호도 업데이트 API 요청 시작 ===");
-        System.out.println("메뉴 ID: " + menuId + ", 매장 ID: " + storeId + ", 성별: " + gender + ", 나이: " + age + ", 날씨: " + weather);
-
-        String userId = null;
-
-        // 토큰이 있는 경우 회원 ID 추출
-        if (token != null && token.startsWith("Bearer ")) {
-            String jwtToken = token.substring(7);
-            if (jwtTokenProvider.validateToken(jwtToken)) {
-                userId = jwtTokenProvider.getUserId(jwtToken);
-                System.out.println("회원 ID: " + userId);
-            }
-        }
-
-        // 메뉴 인기도 업데이트
-        try {
-            recommendationService.updateMenuPopularity(menuId, storeId);
-            System.out.println("메뉴 인기도 업데이트 완료");
-        } catch (Exception e) {
-            System.out.println("메뉴 인기도 업데이트 오류: " + e.getMessage());
-        }
-
-        // 성별/나이 기반 선호도 업데이트
-        try {
-            recommendationService.updateGenderAgePreference(menuId, storeId, gender, age);
-            System.out.println("성별/나이 기반 선호도 업데이트 완료");
-        } catch (Exception e) {
-            System.out.println("성별/나이 기반 선호도 업데이트 오류: " + e.getMessage());
-        }
-
-        // 날씨 기반 선호도 업데이트 (날씨 정보가 있는 경우)
-        if (weather != null && !weather.isEmpty()) {
-            try {
-                recommendationService.updateWeatherPreference(menuId, storeId, weather);
-                System.out.println("날씨 기반 선호도 업데이트 완료");
-            } catch (Exception e) {
-                System.out.println("날씨 기반 선호도 업데이트 오류: " + e.getMessage());
-            }
-        }
-
-        // 회원인 경우 개인 선호도 업데이트
-        if (userId != null) {
-            try {
-                recommendationService.updateUserPreference(menuId, userId);
-                System.out.println("회원 개인 선호도 업데이트 완료");
-            } catch (Exception e) {
-                System.out.println("회원 개인 선호도 업데이트 오류: " + e.getMessage());
-            }
-        }
-
-        System.out.println("=== 메뉴 선호도 업데이트 API 요청 완료 ===");
         return ApiResponse.success(null);
     }
 
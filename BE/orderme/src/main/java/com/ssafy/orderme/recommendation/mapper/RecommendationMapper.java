@@ -2,9 +2,13 @@ package com.ssafy.orderme.recommendation.mapper;
 
 import com.ssafy.orderme.kiosk.model.Menu;
 import com.ssafy.orderme.recommendation.dto.response.MenuWithOptionsDto;
+import com.ssafy.orderme.recommendation.model.PreferenceCount;
+import com.ssafy.orderme.recommendation.model.RecommendationOrderRow;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -48,6 +52,20 @@ public interface RecommendationMapper {
             @Param("menuId") Integer menuId,
             @Param("userId") String userId);
 
+    // 선호도 버퍼 일괄 반영 (PreferenceCountBuffer)
+    void incrementMenuPopularities(@Param("rows") List<PreferenceCount> rows);
+
+    void upsertGenderAgePreferences(@Param("rows") List<PreferenceCount> rows);
+
+    void upsertWeatherPreferences(@Param("rows") List<PreferenceCount> rows);
+
+    void upsertUserPreferences(@Param("rows") List<PreferenceCount> rows);
+
+    // 선호도 버퍼 배치 반영 기록 (이미 반영한 배치면 0)
+    int insertAppliedBatch(@Param("batchId") String batchId);
+
+    int deleteAppliedBatchesBefore(@Param("appliedBefore") LocalDateTime appliedBefore);
+
     List<Menu> findPopularMenusByWeatherGenderAndAgeRange(
             @Param("storeId") Integer storeId,
             @Param("weather") String weather,
@@ -142,4 +160,11 @@ public interface RecommendationMapper {
             @Param("orderMenuId") Long orderMenuId);
 
     List<Map<String, Object>> findAllOptionsForMenu(@Param("menuId") Integer menuId);
+
+    // 14. 추천 스냅샷 생성용 매장 주문 내역 조회 (한 행씩 handler로 전달)
+    void scanSnapshotOrderRows(@Param("storeId") Integer storeId,
+                               ResultHandler<RecommendationOrderRow> handler);
+
+    // 15. 추천 스냅샷 대상 메뉴 조회 (판매 중인 메뉴)
+    List<Map<String, Object>> findSnapshotMenus(@Param("storeId") Integer storeId);
 }
\ No newline at end of file
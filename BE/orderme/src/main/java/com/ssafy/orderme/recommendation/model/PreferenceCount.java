@@ -0,0 +1,23 @@
+package com.ssafy.orderme.recommendation.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 선호도 일괄 반영용 집계 행 (테이블에 따라 필요한 컬럼만 사용)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PreferenceCount {
+    private Integer storeId;
+    private Integer menuId;
+    private String gender;
+    private String ageGroup;
+    private String weather;
+    private String userId;
+    private Long count;
+}
@@ -0,0 +1,274 @@
+package com.ssafy.orderme.recommendation.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매장 1곳의 추천 집계 컨텍스트
+ * 매장 주문 내역을 한 번 훑으면서 시간대/요일/주차/월/날씨/성별·나이대별 메뉴 주문 수와
+ * 메뉴별 최근 주문 메뉴 ID를 함께 계산해 두고, 모든 추천 전략이 이 객체에서 결과를 읽는다.
+ * 집계 기준은 RecommendationMapper.xml의 findMenusBy* 쿼리와 동일하다.
+ * 최근 주문 ID를 기억해 두어 같은 주문이 스캔과 주문 이벤트로 두 번 들어와도 한 번만 센다.
+ */
+public class RecommendationContext {
+
+    public static final String ALL = "all";
+
+    // 중복 반영을 막기 위해 주문 ID를 기억해 두는 기간 (주문 이벤트 전달 지연보다 충분히 길게)
+    private static final long RECENT_ORDER_WINDOW_MINUTES = 60;
+
+    private final Integer storeId;
+    // 판매 중인 메뉴 ID -> 키워드 정보
+    private final Map<Integer, Map<String, Object>> menus = new HashMap<>();
+    // 집계 기준 키 -> 메뉴별 주문 집계
+    private final Map<String, Dimension> dimensions = new HashMap<>();
+    // 최근 반영한 주문 ID -> 주문 일시 (주문 ID 순)
+    private final LinkedHashMap<Integer, LocalDateTime> recentOrders = new LinkedHashMap<>();
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    // 스트리밍 적재 중인 주문 (주문 ID 순으로 들어오는 행을 주문 단위로 묶음)
+    private RecommendationOrderRow pendingOrder;
+    private Map<Integer, Integer> pendingOrderMenus = new HashMap<>();
+    private int rowCount;
+
+    public RecommendationContext(Integer storeId) {
+        this.storeId = storeId;
+    }
+
+    public Integer getStoreId() {
+        return storeId;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 판매 중인 메뉴 등록
+     */
+    public synchronized void addMenu(Map<String, Object> menu) {
+        menus.put(((Number) menu.get("menu_id")).intValue(), menu);
+    }
+
+    /**
+     * 판매 중인 메뉴 목록 교체 (품절/삭제 반영, 주문 집계는 유지)
+     */
+    public synchronized void replaceMenus(List<Map<String, Object>> newMenus) {
+        menus.clear();
+        for (Map<String, Object> menu : newMenus) {
+            menus.put(((Number) menu.get("menu_id")).intValue(), menu);
+        }
+    }
+
+    /**
+     * 주문 메뉴 단위 행 1개 반영 (주문 ID, 주문 메뉴 ID 순으로 정렬된 행이어야 함)
+     */
+    public synchronized void accept(RecommendationOrderRow row) {
+        rowCount++;
+        if (pendingOrder != null && !pendingOrder.getOrderId().equals(row.getOrderId())) {
+            flushPendingOrder();
+        }
+        pendingOrder = row;
+        if (row.getMenuId() != null) {
+            pendingOrderMenus.merge(row.getMenuId(), row.getOrderMenuId(), Math::max);
+        }
+    }
+
+    /**
+     * 스트리밍 적재 종료 (마지막 주문 반영)
+     */
+    public synchronized void complete() {
+        if (pendingOrder != null) {
+            flushPendingOrder();
+        }
+    }
+
+    /**
+     * 승인된 주문 1건 반영 (이미 반영한 주문이면 무시)
+     * @return 새로 반영했으면 true
+     */
+    public synchronized boolean recordOrder(Integer orderId, LocalDateTime orderDate, String weather, String gender,
+                                            Integer age, Map<Integer, Integer> orderMenus) {
+        if (orderId == null || recentOrders.containsKey(orderId)) {
+            return false;
+        }
+        record(orderDate, weather, gender, age, orderMenus);
+        rememberOrder(orderId, orderDate != null ? orderDate : LocalDateTime.now());
+        return true;
+    }
+
+    /**
+     * 주문 1건 반영 (orderMenus: 메뉴 ID -> 가장 마지막 order_menu_id)
+     */
+    public synchronized void record(LocalDateTime orderDate, String weather, String gender, Integer age,
+                                    Map<Integer, Integer> orderMenus) {
+        if (orderDate == null) {
+            return;
+        }
+        LocalDate date = orderDate.toLocalDate();
+
+        List<String> keys = new ArrayList<>(7);
+        keys.add(ALL);
+        keys.add(hourKey(orderDate.getHour()));
+        keys.add(dayOfWeekKey(mysqlDayOfWeek(date)));
+        keys.add(weekKey(mysqlWeek(date)));
+        keys.add(monthKey(date.getMonthValue()));
+        String weatherKey = weatherKey(weather);
+        if (weatherKey != null) {
+            keys.add(weatherKey);
+        }
+        String genderAgeKey = genderAgeKey(gender, age != null ? (age / 10) * 10 : null);
+        if (genderAgeKey != null) {
+            keys.add(genderAgeKey);
+        }
+
+        for (String key : keys) {
+            Dimension dimension = dimensions.computeIfAbsent(key, k -> new Dimension());
+            dimension.totalOrders++;
+            for (Map.Entry<Integer, Integer> entry : orderMenus.entrySet()) {
+                MenuStat stat = dimension.menus.computeIfAbsent(entry.getKey(), MenuStat::new);
+                stat.orderCount++;
+                if (stat.latestOrderDate == null || !orderDate.isBefore(stat.latestOrderDate)) {
+                    stat.latestOrderDate = orderDate;
+                    stat.latestOrderMenuId = entry.getValue() != null ? entry.getValue().longValue() : null;
+                }
+            }
+        }
+    }
+
+    /**
+     * 집계 기준에서 제외 목록을 뺀 최다 주문 메뉴를 추천 쿼리와 같은 형식의 Map으로 반환
+     * (menu_id, keyword1, keyword2, order_count, percentage, latest_order_menu_id)
+     */
+    public synchronized Map<String, Object> findTopMenu(String key, List<Integer> excludeMenuIds) {
+        if (key == null) {
+            return null;
+        }
+        Dimension dimension = dimensions.get(key);
+        if (dimension == null) {
+            return null;
+        }
+
+        MenuStat best = null;
+        for (MenuStat stat : dimension.menus.values()) {
+            if (!menus.containsKey(stat.menuId)) {
+                continue; // 삭제/품절 메뉴
+            }
+            if (excludeMenuIds != null && excludeMenuIds.contains(stat.menuId)) {
+                continue;
+            }
+            if (best == null || stat.orderCount > best.orderCount
+                    || (stat.orderCount == best.orderCount && stat.menuId < best.menuId)) {
+                best = stat;
+            }
+        }
+
+        if (best == null) {
+            return null;
+        }
+
+        Map<String, Object> menu = menus.get(best.menuId);
+        Map<String, Object> result = new HashMap<>();
+        result.put("menu_id", best.menuId);
+        result.put("keyword1", menu.get("keyword1"));
+        result.put("keyword2", menu.get("keyword2"));
+        result.put("order_count", best.orderCount);
+        result.put("percentage", dimension.totalOrders > 0 ? best.orderCount * 100.0 / dimension.totalOrders : 0.0);
+        result.put("latest_order_menu_id", best.latestOrderMenuId);
+        return result;
+    }
+
+    private void flushPendingOrder() {
+        record(pendingOrder.getOrderDate(), pendingOrder.getWeather(), pendingOrder.getGender(),
+                pendingOrder.getAge(), pendingOrderMenus);
+        // 스캔 시점에 이벤트가 아직 전달 중일 수 있는 최근 주문만 기억
+        LocalDateTime orderDate = pendingOrder.getOrderDate();
+        if (orderDate != null && orderDate.isAfter(createdAt.minusMinutes(RECENT_ORDER_WINDOW_MINUTES))) {
+            rememberOrder(pendingOrder.getOrderId(), orderDate);
+        }
+        pendingOrderMenus = new HashMap<>();
+        pendingOrder = null;
+    }
+
+    private void rememberOrder(Integer orderId, LocalDateTime orderDate) {
+        recentOrders.put(orderId, orderDate);
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(RECENT_ORDER_WINDOW_MINUTES);
+        Iterator<Map.Entry<Integer, LocalDateTime>> it = recentOrders.entrySet().iterator();
+        while (it.hasNext() && it.next().getValue().isBefore(cutoff)) {
+            it.remove();
+        }
+    }
+
+    public static String hourKey(Integer hourOfDay) {
+        return hourOfDay != null ? "hour:" + hourOfDay : null;
+    }
+
+    public static String dayOfWeekKey(Integer dayOfWeek) {
+        return dayOfWeek != null ? "dow:" + dayOfWeek : null;
+    }
+
+    public static String weekKey(Integer weekOfYear) {
+        return weekOfYear != null ? "week:" + weekOfYear : null;
+    }
+
+    public static String monthKey(Integer month) {
+        return month != null ? "month:" + month : null;
+    }
+
+    public static String genderAgeKey(String gender, Integer ageGroup) {
+        if (gender == null || ageGroup == null) {
+            return null;
+        }
+        return "ga:" + gender.toUpperCase() + ":" + ageGroup;
+    }
+
+    public static String weatherKey(String weather) {
+        if (weather == null || weather.trim().isEmpty()) {
+            return null;
+        }
+        return "weather:" + weather.trim();
+    }
+
+    // MySQL DAYOFWEEK() 와 동일 (1=일요일 ~ 7=토요일)
+    private static int mysqlDayOfWeek(LocalDate date) {
+        return date.getDayOfWeek().getValue() % 7 + 1;
+    }
+
+    // MySQL WEEK() 기본 모드(0)와 동일: 일요일 시작, 첫 일요일 이전은 0주차
+    private static int mysqlWeek(LocalDate date) {
+        LocalDate firstDay = date.withDayOfYear(1);
+        int daysToSunday = (DayOfWeek.SUNDAY.getValue() - firstDay.getDayOfWeek().getValue() + 7) % 7;
+        LocalDate firstSunday = firstDay.plusDays(daysToSunday);
+        if (date.isBefore(firstSunday)) {
+            return 0;
+        }
+        return (int) (ChronoUnit.DAYS.between(firstSunday, date) / 7) + 1;
+    }
+
+    /**
+     * 집계 기준 1개 (예: 14시, 월요일, 맑음, 남성 20대)
+     */
+    private static class Dimension {
+        private int totalOrders;
+        private final Map<Integer, MenuStat> menus = new HashMap<>();
+    }
+
+    private static class MenuStat {
+        private final int menuId;
+        private int orderCount;
+        private LocalDateTime latestOrderDate;
+        private Long latestOrderMenuId;
+
+        private MenuStat(Integer menuId) {
+            this.menuId = menuId;
+        }
+    }
+}
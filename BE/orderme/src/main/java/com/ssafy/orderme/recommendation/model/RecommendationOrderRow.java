@@ -0,0 +1,25 @@
+package com.ssafy.orderme.recommendation.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 추천 스냅샷 생성에 사용하는 주문 메뉴 단위 행
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendationOrderRow {
+    private Integer orderId;
+    private LocalDateTime orderDate;
+    private String weather;
+    private String gender;
+    private Integer age;
+    private Integer orderMenuId; // 메뉴가 없는 주문이면 null
+    private Integer menuId;      // 메뉴가 없는 주문이면 null
+}
@@ -0,0 +1,326 @@
+package com.ssafy.orderme.recommendation.service;
+
+import com.ssafy.orderme.recommendation.mapper.RecommendationMapper;
+import com.ssafy.orderme.recommendation.model.PreferenceCount;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 추천 선호도 카운터 버퍼
+ * 주문 시 발생하는 인기도/성별·나이/날씨/개인 선호도 증가분을 메모리(LongAdder)에 모았다가
+ * 1) 짧은 주기로 Redis 해시에 옮겨 두고 (서버가 죽어도 증가분 보존)
+ * 2) 몇 초마다 Redis에 쌓인 증가분을 테이블별 다중 행 upsert 한 번으로 DB에 반영한다.
+ * 같은 인기 메뉴 행에 대한 ON DUPLICATE KEY UPDATE 경합을 없애고 API는 즉시 응답한다.
+ * 배치마다 ID를 붙여 반영 기록(preference_applied_batches)과 같은 트랜잭션으로 반영하므로,
+ * DB 반영 후 Redis 정리가 실패해 같은 배치를 다시 처리해도 두 번 더해지지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PreferenceCountBuffer {
+
+    private static final String BUFFER_KEY_PREFIX = "pref:buffer:";
+    private static final String FLUSHING_KEY_PREFIX = "pref:flushing:";
+    private static final String FLUSHING_SET_KEY = "pref:flushing";
+    private static final String SEPARATOR = "|";
+
+    // 처리 중 서버가 죽어 남은 배치는 이 시간이 지나면 다른 서버가 이어서 반영
+    private static final long STALE_BATCH_MS = 60_000L;
+
+    // 배치 반영 기록 보관 기간 (남은 배치가 이보다 늦게 복구되는 일은 없음)
+    private static final int APPLIED_BATCH_RETENTION_DAYS = 3;
+
+    /**
+     * 버퍼 대상 테이블
+     */
+    enum Table {
+        POPULARITY, GENDER_AGE, WEATHER, USER
+    }
+
+    private final RecommendationMapper recommendationMapper;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 테이블별 증가분 (drain마다 새 맵으로 교체해 한 번 나온 키가 계속 남지 않도록 함)
+    private final Map<Table, Map<String, LongAdder>> counters = new ConcurrentHashMap<>();
+    // 직전 drain에서 교체된 맵 (교체 직전에 맵을 잡은 스레드의 증가분을 다음 drain에서 회수)
+    private final Map<Table, Map<String, LongAdder>> retiring = new ConcurrentHashMap<>();
+
+    public void recordMenuPopularity(Integer menuId, Integer storeId) {
+        increment(Table.POPULARITY, key(storeId, menuId));
+    }
+
+    public void recordGenderAgePreference(Integer menuId, Integer storeId, String gender, String ageGroup) {
+        increment(Table.GENDER_AGE, key(storeId, gender, ageGroup, menuId));
+    }
+
+    public void recordWeatherPreference(Integer menuId, Integer storeId, String weather) {
+        increment(Table.WEATHER, key(storeId, weather, menuId));
+    }
+
+    public void recordUserPreference(Integer menuId, String userId) {
+        increment(Table.USER, key(userId, menuId));
+    }
+
+    private void increment(Table table, String key) {
+        counters.computeIfAbsent(table, t -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, k -> new LongAdder())
+                .increment();
+    }
+
+    /**
+     * 메모리 증가분을 Redis 해시로 이동
+     */
+    @Scheduled(fixedDelayString = "${recommendation.preference.spill-interval-ms:1000}")
+    public void spill() {
+        for (Table table : Table.values()) {
+            Map<String, Long> drained = drain(table);
+            if (drained.isEmpty()) {
+                continue;
+            }
+            try {
+                String bufferKey = BUFFER_KEY_PREFIX + table.name();
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    byte[] rawKey = bytes(bufferKey);
+                    drained.forEach((field, count) -> connection.hashCommands().hIncrBy(rawKey, bytes(field), count));
+                    return null;
+                });
+            } catch (Exception e) {
+                // Redis에 옮기지 못한 증가분은 메모리로 되돌려 다음 주기에 재시도
+                log.warn("선호도 버퍼 Redis 저장 실패 - table: {}, 건수: {}, {}", table, drained.size(), e.getMessage());
+                drained.forEach((field, count) -> counters.computeIfAbsent(table, t -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(field, k -> new LongAdder()).add(count));
+            }
+        }
+    }
+
+    /**
+     * Redis에 쌓인 증가분을 DB에 일괄 반영
+     */
+    @Scheduled(fixedDelayString = "${recommendation.preference.flush-interval-ms:5000}")
+    public void flush() {
+        recoverStaleBatches();
+        for (Table table : Table.values()) {
+            String bufferKey = BUFFER_KEY_PREFIX + table.name();
+            try {
+                if (!Boolean.TRUE.equals(redisTemplate.hasKey(bufferKey))) {
+                    continue;
+                }
+            } catch (Exception e) {
+                log.warn("선호도 버퍼 확인 실패 - table: {}, {}", table, e.getMessage());
+                continue;
+            }
+            String batchKey = claim(table, bufferKey, UUID.randomUUID().toString());
+            if (batchKey != null) {
+                applyBatch(table, batchKey);
+            }
+        }
+    }
+
+    /**
+     * 종료 시 메모리에 남은 증가분을 Redis로 옮기고 반영
+     */
+    @PreDestroy
+    public void shutdown() {
+        spill();
+        flush();
+        // Redis를 사용할 수 없어 메모리에 남은 증가분은 DB에 직접 반영
+        for (Table table : Table.values()) {
+            Map<String, Long> drained = drain(table);
+            if (!drained.isEmpty()) {
+                try {
+                    write(table, drained);
+                } catch (Exception e) {
+                    log.error("선호도 버퍼 종료 반영 실패 - table: {}, 건수: {}", table, drained.size(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 배치 반영 기록 정리 (매일 새벽 4시 30분)
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void purgeAppliedBatches() {
+        int deleted = recommendationMapper.deleteAppliedBatchesBefore(LocalDateTime.now().minusDays(APPLIED_BATCH_RETENTION_DAYS));
+        log.info("선호도 버퍼 배치 반영 기록 정리: {}건", deleted);
+    }
+
+    /**
+     * 증가분 해시를 새 배치 키로 옮겨 처리 권한 획득
+     * RENAME은 원자적이므로 여러 서버가 동시에 시도해도 한 서버만 성공한다.
+     * 배치 키는 pref:flushing:{테이블}:{획득 시각}:{배치 ID}이며, 복구할 때도 배치 ID는 그대로 유지한다.
+     */
+    private String claim(Table table, String sourceKey, String batchId) {
+        String batchKey = FLUSHING_KEY_PREFIX + table.name() + ":" + System.currentTimeMillis() + ":" + batchId;
+        try {
+            redisTemplate.opsForSet().add(FLUSHING_SET_KEY, batchKey);
+            redisTemplate.rename(sourceKey, batchKey);
+            return batchKey;
+        } catch (Exception e) {
+            // 다른 서버가 먼저 가져갔거나 Redis 오류
+            try {
+                redisTemplate.opsForSet().remove(FLUSHING_SET_KEY, batchKey);
+            } catch (Exception ignored) {
+                // 남은 키는 복구 시 원본이 없어 무시된다
+            }
+            return null;
+        }
+    }
+
+    private void applyBatch(Table table, String batchKey) {
+        try {
+            Map<byte[], byte[]> entries = redisTemplate.execute(
+                    (RedisCallback<Map<byte[], byte[]>>) connection -> connection.hashCommands().hGetAll(bytes(batchKey)));
+            Map<String, Long> counts = new HashMap<>();
+            if (entries != null) {
+                entries.forEach((field, count) -> counts.put(
+                        new String(field, StandardCharsets.UTF_8), Long.parseLong(new String(count, StandardCharsets.UTF_8))));
+            }
+            if (!counts.isEmpty()) {
+                String batchId = batchKey.substring(batchKey.lastIndexOf(':') + 1);
+                Boolean applied = transactionTemplate.execute(status -> {
+                    if (recommendationMapper.insertAppliedBatch(batchId) == 0) {
+                        return false;
+                    }
+                    write(table, counts);
+                    return true;
+                });
+                if (!Boolean.TRUE.equals(applied)) {
+                    log.info("이미 반영된 선호도 버퍼 배치 정리 - table: {}, batch: {}", table, batchId);
+                }
+            }
+            redisTemplate.delete(batchKey);
+            redisTemplate.opsForSet().remove(FLUSHING_SET_KEY, batchKey);
+            log.debug("선호도 버퍼 반영 완료 - table: {}, 건수: {}", table, counts.size());
+        } catch (Exception e) {
+            // 배치 키는 남겨 두고 STALE_BATCH_MS 이후 재시도
+            log.error("선호도 버퍼 DB 반영 실패 - table: {}, batch: {}", table, batchKey, e);
+        }
+    }
+
+    private void recoverStaleBatches() {
+        Set<String> batchKeys;
+        try {
+            batchKeys = redisTemplate.opsForSet().members(FLUSHING_SET_KEY);
+        } catch (Exception e) {
+            return;
+        }
+        if (batchKeys == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (String batchKey : batchKeys) {
+            String[] parts = batchKey.substring(FLUSHING_KEY_PREFIX.length()).split(":");
+            long createdAt = Long.parseLong(parts[1]);
+            if (now - createdAt < STALE_BATCH_MS) {
+                continue;
+            }
+            Table table = Table.valueOf(parts[0]);
+            // 다른 서버와 동시에 복구하지 않도록 새 배치 키로 옮긴 쪽만 처리
+            String claimed = claim(table, batchKey, parts[2]);
+            try {
+                redisTemplate.opsForSet().remove(FLUSHING_SET_KEY, batchKey);
+            } catch (Exception ignored) {
+                // 다음 주기에 다시 정리
+            }
+            if (claimed != null) {
+                applyBatch(table, claimed);
+            }
+        }
+    }
+
+    /**
+     * 테이블의 증가분을 꺼내고 새 맵으로 교체
+     * 교체된 맵은 한 주기 더 보관했다가, 그 사이 늦게 더해진 증가분까지 회수한 뒤 버린다.
+     */
+    private Map<String, Long> drain(Table table) {
+        Map<String, LongAdder> current = counters.put(table, new ConcurrentHashMap<>());
+        Map<String, LongAdder> retired = retiring.put(table, current != null ? current : new ConcurrentHashMap<>());
+        Map<String, Long> drained = new HashMap<>();
+        sumInto(retired, drained);
+        sumInto(current, drained);
+        return drained;
+    }
+
+    private static void sumInto(Map<String, LongAdder> tableCounters, Map<String, Long> drained) {
+        if (tableCounters == null) {
+            return;
+        }
+        for (Map.Entry<String, LongAdder> entry : tableCounters.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count > 0) {
+                drained.merge(entry.getKey(), count, Long::sum);
+            }
+        }
+    }
+
+    private void write(Table table, Map<String, Long> counts) {
+        if (table == Table.POPULARITY) {
+            // 인기도는 메뉴 단위 컬럼이므로 메뉴 ID 기준으로 합산
+            Map<Integer, Long> byMenuId = new LinkedHashMap<>();
+            counts.forEach((key, count) -> byMenuId.merge(toInteger(key.split("\\" + SEPARATOR, -1)[1]), count, Long::sum));
+            List<PreferenceCount> rows = new ArrayList<>(byMenuId.size());
+            byMenuId.forEach((menuId, count) -> rows.add(PreferenceCount.builder().menuId(menuId).count(count).build()));
+            recommendationMapper.incrementMenuPopularities(rows);
+            return;
+        }
+
+        List<PreferenceCount> rows = new ArrayList<>(counts.size());
+        for (Map.Entry<String, Long> entry : counts.entrySet()) {
+            String[] p = entry.getKey().split("\\" + SEPARATOR, -1);
+            PreferenceCount.PreferenceCountBuilder row = PreferenceCount.builder().count(entry.getValue());
+            switch (table) {
+                case GENDER_AGE -> row.storeId(toInteger(p[0])).gender(p[1]).ageGroup(p[2]).menuId(toInteger(p[3]));
+                case WEATHER -> row.storeId(toInteger(p[0])).weather(p[1]).menuId(toInteger(p[2]));
+                case USER -> row.userId(p[0]).menuId(toInteger(p[1]));
+                default -> throw new IllegalArgumentException("지원하지 않는 테이블: " + table);
+            }
+            rows.add(row.build());
+        }
+
+        switch (table) {
+            case GENDER_AGE -> recommendationMapper.upsertGenderAgePreferences(rows);
+            case WEATHER -> recommendationMapper.upsertWeatherPreferences(rows);
+            case USER -> recommendationMapper.upsertUserPreferences(rows);
+            default -> throw new IllegalArgumentException("지원하지 않는 테이블: " + table);
+        }
+    }
+
+    private static String key(Object... parts) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                sb.append(SEPARATOR);
+            }
+            sb.append(parts[i] == null ? "" : String.valueOf(parts[i]).replace(SEPARATOR, ""));
+        }
+        return sb.toString();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Integer toInteger(String value) {
+        return value.isEmpty() ? null : Integer.valueOf(value);
+    }
+}
@@ -0,0 +1,128 @@
+package com.ssafy.orderme.recommendation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 추천 경로 계측 (actuator /metrics 로 노출)
+ * - recommendation.strategy.latency{strategy}: 전략별 실행 시간
+ * - recommendation.strategy.result{strategy,result}: 전략별 결과 (hit/empty/error/timeout)
+ * - recommendation.request.latency{endpoint}, recommendation.request.db.calls{endpoint}: 요청별 처리 시간과 DB 왕복 횟수
+ * 디버그 로그는 요청 단위로 샘플링해 선택된 요청의 로그만 남긴다.
+ */
+@Component
+public class RecommendationMetrics {
+
+    public static final String RESULT_HIT = "hit";
+    public static final String RESULT_EMPTY = "empty";
+    public static final String RESULT_ERROR = "error";
+    public static final String RESULT_TIMEOUT = "timeout";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> strategyTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> resultCounters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> requestTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> dbCallSummaries = new ConcurrentHashMap<>();
+
+    // 디버그 로그를 남길 요청 비율 (0~1, 디버그 레벨이 꺼져 있으면 무시)
+    @Value("${recommendation.debug-log.sample-rate:0.01}")
+    private double debugSampleRate;
+
+    public RecommendationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 추천 요청 계측 시작 (이미 진행 중인 요청이 있으면 그 요청에 합침)
+     * try-with-resources로 닫으면 요청 단위 지표가 기록된다.
+     */
+    public RecommendationTrace beginRequest(String endpoint) {
+        RecommendationTrace current = RecommendationTrace.current();
+        if (current != null) {
+            current.enter();
+            return current;
+        }
+        RecommendationTrace trace = new RecommendationTrace(this, endpoint, sample());
+        trace.attach();
+        return trace;
+    }
+
+    /**
+     * 추천 전략 1회 실행 시간과 결과 기록 (null이면 empty, 예외면 error)
+     */
+    public <T> T recordStrategy(String strategy, Supplier<T> call) {
+        long start = System.nanoTime();
+        String result = RESULT_ERROR;
+        try {
+            T value = call.get();
+            result = value != null ? RESULT_HIT : RESULT_EMPTY;
+            return value;
+        } finally {
+            strategyTimer(strategy).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            resultCounter(strategy, result).increment();
+        }
+    }
+
+    /**
+     * 요청 마감 시간 안에 결과가 오지 않은 전략 기록
+     */
+    public void recordTimeout(String strategy) {
+        resultCounter(strategy, RESULT_TIMEOUT).increment();
+    }
+
+    /**
+     * 디버그 로그를 남길지 여부
+     * 진행 중인 요청이 있으면 요청 단위 샘플링 결과를, 없으면 호출마다 샘플링한 결과를 사용한다.
+     */
+    public boolean isDebugSampled(Logger log) {
+        if (!log.isDebugEnabled()) {
+            return false;
+        }
+        RecommendationTrace trace = RecommendationTrace.current();
+        return trace != null ? trace.isSampled() : sample();
+    }
+
+    void recordRequest(String endpoint, long elapsedNanos, int dbCalls) {
+        requestTimers.computeIfAbsent(endpoint, key -> Timer.builder("recommendation.request.latency")
+                        .description("추천 요청 1건 처리 시간")
+                        .tag("endpoint", key)
+                        .register(meterRegistry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        dbCallSummaries.computeIfAbsent(endpoint, key -> DistributionSummary.builder("recommendation.request.db.calls")
+                        .description("추천 요청 1건당 DB 왕복 횟수")
+                        .tag("endpoint", key)
+                        .register(meterRegistry))
+                .record(dbCalls);
+    }
+
+    private boolean sample() {
+        return debugSampleRate >= 1.0
+                || (debugSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < debugSampleRate);
+    }
+
+    private Timer strategyTimer(String strategy) {
+        return strategyTimers.computeIfAbsent(strategy, key -> Timer.builder("recommendation.strategy.latency")
+                .description("추천 전략별 실행 시간")
+                .tag("strategy", key)
+                .register(meterRegistry));
+    }
+
+    private Counter resultCounter(String strategy, String result) {
+        return resultCounters.computeIfAbsent(strategy + ':' + result, key -> Counter.builder("recommendation.strategy.result")
+                .description("추천 전략별 결과 수")
+                .tag("strategy", strategy)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,82 @@
+package com.ssafy.orderme.recommendation.service;
+
+import com.ssafy.orderme.order.mapper.OrderMenuMapper;
+import com.ssafy.orderme.order.model.OrderEvent;
+import com.ssafy.orderme.order.model.OrderMenu;
+import com.ssafy.orderme.order.service.OrderEventConsumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+/**
+ * 주문 이벤트 소비자 - 추천 데이터 반영
+ * 주문 메뉴별 인기도/성별·나이대/날씨/회원 선호도 카운터를 올리고 추천 스냅샷에 주문을 반영한다.
+ * (기존에 키오스크가 주문 후 따로 호출하던 /update-recommendation-data, /update-preference 대체)
+ * 카운터와 스냅샷은 메모리에 쌓이고 다시 반영하면 중복되므로, 전달 기록이 커밋된 뒤에만 반영한다.
+ * (배치가 롤백되어 재전달되면 이전 시도의 반영분이 남지 않는다)
+ */
+@Component
+@RequiredArgsConstructor
+public class RecommendationOrderEventConsumer implements OrderEventConsumer {
+
+    private final OrderMenuMapper orderMenuMapper;
+    private final PreferenceCountBuffer preferenceCountBuffer;
+    private final RecommendationSnapshotService recommendationSnapshotService;
+
+    @Override
+    public String name() {
+        return "recommendation";
+    }
+
+    @Override
+    public void consume(List<OrderEvent> events) {
+        // 배치의 주문 메뉴를 한 번에 조회
+        List<Integer> orderIds = new ArrayList<>(events.size());
+        for (OrderEvent event : events) {
+            orderIds.add(event.getOrderId());
+        }
+        Map<Integer, List<OrderMenu>> menusByOrderId = new HashMap<>();
+        for (OrderMenu orderMenu : orderMenuMapper.findByOrderIds(orderIds)) {
+            menusByOrderId.computeIfAbsent(orderMenu.getOrderId(), k -> new ArrayList<>()).add(orderMenu);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(events, menusByOrderId);
+                }
+            });
+        } else {
+            apply(events, menusByOrderId);
+        }
+    }
+
+    private void apply(List<OrderEvent> events, Map<Integer, List<OrderMenu>> menusByOrderId) {
+        for (OrderEvent event : events) {
+            List<OrderMenu> orderMenus = menusByOrderId.getOrDefault(event.getOrderId(), Collections.emptyList());
+            Integer storeId = event.getStoreId();
+            // 추천 조회와 같은 나이대 형식 (예: 23 -> "20")
+            String ageGroup = event.getAge() != null ? String.valueOf((event.getAge() / 10) * 10) : null;
+
+            for (OrderMenu orderMenu : orderMenus) {
+                Integer menuId = orderMenu.getMenuId();
+                preferenceCountBuffer.recordMenuPopularity(menuId, storeId);
+                if (event.getGender() != null && ageGroup != null) {
+                    preferenceCountBuffer.recordGenderAgePreference(menuId, storeId, event.getGender(), ageGroup);
+                }
+                if (event.getWeather() != null && !event.getWeather().isEmpty()) {
+                    preferenceCountBuffer.recordWeatherPreference(menuId, storeId, event.getWeather());
+                }
+                if (event.getUserId() != null && !Boolean.TRUE.equals(event.getIsGuest())) {
+                    preferenceCountBuffer.recordUserPreference(menuId, event.getUserId());
+                }
+            }
+
+            recommendationSnapshotService.recordAcceptedOrder(event.toOrder(), orderMenus);
+        }
+    }
+}
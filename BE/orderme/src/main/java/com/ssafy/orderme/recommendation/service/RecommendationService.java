@@ -5,81 +5,129 @@ import com.ssafy.orderme.kiosk.dto.response.MenuResponse;
 import com.ssafy.orderme.kiosk.model.Menu;
 import com.ssafy.orderme.kiosk.service.MenuService;
 import com.ssafy.orderme.recommendation.mapper.RecommendationMapper;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.text.SimpleDateFormat;
 
+@Slf4j
 @Service
 public class RecommendationService {
 
     private final RecommendationMapper recommendationMapper;
     private final MenuService menuService;
+    private final RecommendationSnapshotService recommendationSnapshotService;
+    private final PreferenceCountBuffer preferenceCountBuffer;
+    private final TaskExecutor recommendationTaskExecutor;
+    private final RecommendationMetrics recommendationMetrics;
+
+    // 통합 추천 요청 1건당 전략 결과를 기다리는 최대 시간
+    @Value("${recommendation.deadline-ms:800}")
+    private long recommendationDeadlineMs;
+
+    /**
+     * 추천 전략 (tag는 지표 태그, label은 로그/표시용 이름)
+     */
+    enum Strategy {
+        GENDER_AGE("gender_age", "성별/나이 기반"),
+        TIME_OF_DAY("time_of_day", "시간대 기반"),
+        WEATHER("weather", "날씨 기반"),
+        DAY_OF_WEEK("day_of_week", "요일 기반"),
+        WEEK_OF_YEAR("week_of_year", "주차 기반"),
+        MONTH("month", "월 기반"),
+        STEADY_SELLER("steady_seller", "스테디셀러"),
+        USER_MOST_ORDERED("user_most_ordered", "회원 최다 주문"),
+        USER_LATEST_ORDERED("user_latest_ordered", "회원 최근 주문"),
+        POPULAR("popular", "인기 메뉴");
+
+        private final String tag;
+        private final String label;
+
+        Strategy(String tag, String label) {
+            this.tag = tag;
+            this.label = label;
+        }
+    }
 
     @Autowired
-    public RecommendationService(RecommendationMapper recommendationMapper, @Lazy MenuService menuService) {
+    public RecommendationService(RecommendationMapper recommendationMapper, @Lazy MenuService menuService,
+                                 RecommendationSnapshotService recommendationSnapshotService,
+                                 PreferenceCountBuffer preferenceCountBuffer,
+                                 @Qualifier("recommendationTaskExecutor") TaskExecutor recommendationTaskExecutor,
+                                 RecommendationMetrics recommendationMetrics) {
         this.recommendationMapper = recommendationMapper;
         this.menuService = menuService;
+        this.recommendationSnapshotService = recommendationSnapshotService;
+        this.preferenceCountBuffer = preferenceCountBuffer;
+        this.recommendationTaskExecutor = recommendationTaskExecutor;
+        this.recommendationMetrics = recommendationMetrics;
     }
 
     /**
-     * 메뉴 인기도 업데이트 (주문 시 호출)
+     * 메뉴 인기도 업데이트 (주문 시 호출, 버퍼에 적재 후 주기적으로 DB 반영)
      */
     public void updateMenuPopularity(Integer menuId, Integer storeId) {
         try {
-            System.out.println("메뉴 인기도 업데이트 시작 - 메뉴 ID: " + menuId + ", 매장 ID: " + storeId);
-            recommendationMapper.updateMenuPopularity(menuId, storeId);
-            System.out.println("메뉴 인기도 업데이트 완료");
+            preferenceCountBuffer.recordMenuPopularity(menuId, storeId);
+            log.debug("메뉴 인기도 업데이트 - 메뉴 ID: {}, 매장 ID: {}", menuId, storeId);
         } catch (Exception e) {
-            System.out.println("메뉴 인기도 업데이트 오류: " + e.getMessage());
-            e.printStackTrace();
+            log.error("메뉴 인기도 업데이트 오류 - 메뉴 ID: {}, 매장 ID: {}", menuId, storeId, e);
         }
     }
 
     /**
-     * 성별/나이 기반 메뉴 선호도 업데이트 (주문 시 호출)
+     * 성별/나이 기반 메뉴 선호도 업데이트 (주문 시 호출, 버퍼에 적재 후 주기적으로 DB 반영)
      */
     public void updateGenderAgePreference(Integer menuId, Integer storeId, String gender, String ageGroup) {
         try {
-            System.out.println("성별/나이 기반 선호도 업데이트 시작 - 메뉴 ID: " + menuId + ", 매장 ID: " + storeId +
-                    ", 성별: " + gender + ", 나이: " + ageGroup);
-            recommendationMapper.updateGenderAgePreference(menuId, storeId, gender, ageGroup);
-            System.out.println("성별/나이 기반 선호도 업데이트 완료");
+            preferenceCountBuffer.recordGenderAgePreference(menuId, storeId, gender, ageGroup);
+            if (log.isDebugEnabled()) {
+                log.debug("성별/나이 기반 선호도 업데이트 - 메뉴 ID: {}, 매장 ID: {}, 성별: {}, 나이: {}",
+                        menuId, storeId, gender, ageGroup);
+            }
         } catch (Exception e) {
-            System.out.println("성별/나이 기반 선호도 업데이트 오류: " + e.getMessage());
-            e.printStackTrace();
+            log.error("성별/나이 기반 선호도 업데이트 오류 - 메뉴 ID: {}, 매장 ID: {}", menuId, storeId, e);
         }
     }
 
     /**
-     * 사용자 개인 선호도 업데이트 (주문 시 호출)
+     * 사용자 개인 선호도 업데이트 (주문 시 호출, 버퍼에 적재 후 주기적으로 DB 반영)
      */
     public void updateUserPreference(Integer menuId, String userId) {
         try {
-            System.out.println("사용자 개인 선호도 업데이트 시작 - 메뉴 ID: " + menuId + ", 사용자 ID: " + userId);
-            recommendationMapper.updateUserPreference(menuId, userId);
-            System.out.println("사용자 개인 선호도 업데이트 완료");
+            preferenceCountBuffer.recordUserPreference(menuId, userId);
+            log.debug("사용자 개인 선호도 업데이트 - 메뉴 ID: {}, 사용자 ID: {}", menuId, userId);
         } catch (Exception e) {
-            System.out.println("사용자 개인 선호도 업데이트 오류: " + e.getMessage());
-            e.printStackTrace();
+            log.error("사용자 개인 선호도 업데이트 오류 - 메뉴 ID: {}, 사용자 ID: {}", menuId, userId, e);
         }
     }
 
     /**
-     * 날씨 기반 메뉴 선호도 업데이트 (주문 시 호출)
+     * 날씨 기반 메뉴 선호도 업데이트 (주문 시 호출, 버퍼에 적재 후 주기적으로 DB 반영)
      */
     public void updateWeatherPreference(Integer menuId, Integer storeId, String weather) {
         try {
-            System.out.println("날씨 기반 선호도 업데이트 시작 - 메뉴 ID: " + menuId + ", 매장 ID: " + storeId +
-                    ", 날씨: " + weather);
-            recommendationMapper.updateWeatherPreference(menuId, storeId, weather);
-            System.out.println("날씨 기반 선호도 업데이트 완료");
+            preferenceCountBuffer.recordWeatherPreference(menuId, storeId, weather);
+            if (log.isDebugEnabled()) {
+                log.debug("날씨 기반 선호도 업데이트 - 메뉴 ID: {}, 매장 ID: {}, 날씨: {}", menuId, storeId, weather);
+            }
         } catch (Exception e) {
-            System.out.println("날씨 기반 선호도 업데이트 오류: " + e.getMessage());
-            e.printStackTrace();
+            log.error("날씨 기반 선호도 업데이트 오류 - 메뉴 ID: {}, 매장 ID: {}", menuId, storeId, e);
         }
     }
 
@@ -88,14 +136,14 @@ public class RecommendationService {
      */
     public String getLatestWeather(Integer storeId) {
         try {
-            System.out.println("최근 날씨 정보 조회 시작 - 매장 ID: " + storeId);
             String weather = recommendationMapper.findLatestWeather(storeId);
             String result = weather != null ? weather : "맑음";
-            System.out.println("최근 날씨 정보 조회 결과: " + result);
+            if (recommendationMetrics.isDebugSampled(log)) {
+                log.debug("최근 날씨 정보 조회 - 매장 ID: {}, 결과: {}", storeId, result);
+            }
             return result;
         } catch (Exception e) {
-            System.out.println("최근 날씨 정보 조회 오류: " + e.getMessage());
-            e.printStackTrace();
+            log.warn("최근 날씨 정보 조회 오류 - 매장 ID: {}", storeId, e);
             return "맑음"; // 기본값
         }
     }
@@ -105,15 +153,14 @@ public class RecommendationService {
      */
     public List<MenuResponse> getMostPopularMenus(Integer storeId, List<Integer> excludeMenuIds) {
         try {
-            System.out.println("인기 메뉴 조회 시작 - 매장 ID: " + storeId);
+            boolean debug = recommendationMetrics.isDebugSampled(log);
 
             // 안전한 excludeMenuIds 생성
             List<Integer> safeExcludeMenuIds = excludeMenuIds != null ? excludeMenuIds : new ArrayList<>();
-            System.out.println("제외할 메뉴 ID 목록: " + safeExcludeMenuIds);
 
             // 인기 메뉴 조회 (매장에서 가장 많이 팔린 메뉴)
             List<Menu> menus = recommendationMapper.findMostPopularMenus(storeId, 3);
-            System.out.println("인기 메뉴 조회 결과 수: " + (menus != null ? menus.size() : 0));
+            int found = menus != null ? menus.size() : 0;
 
             // 제외할 메뉴 처리
             if (menus != null && !menus.isEmpty()) {
@@ -121,18 +168,17 @@ public class RecommendationService {
                         .filter(menu -> !safeExcludeMenuIds.contains(menu.getMenuId()))
                         .limit(1)  // 최대 1개로 제한
                         .collect(Collectors.toList());
-                System.out.println("필터링 후 인기 메뉴 수: " + menus.size());
             } else {
                 menus = new ArrayList<>();
-                System.out.println("인기 메뉴 없음");
             }
 
-            List<MenuResponse> result = convertToMenuResponses(menus);
-            System.out.println("인기 메뉴 변환 완료: " + result.size() + "개");
-            return result;
+            if (debug) {
+                log.debug("인기 메뉴 조회 - 매장 ID: {}, 제외 메뉴: {}, 조회 {}개, 필터링 후 {}개",
+                        storeId, safeExcludeMenuIds, found, menus.size());
+            }
+            return convertToMenuResponses(menus);
         } catch (Exception e) {
-            System.out.println("인기 메뉴 조회 오류: " + e.getMessage());
-            e.printStackTrace();
+            log.warn("인기 메뉴 조회 오류 - 매장 ID: {}", storeId, e);
             return Collections.emptyList();
         }
     }
@@ -163,52 +209,44 @@ public class RecommendationService {
      * 메뉴 ID로 상세 정보를 가져오는 메소드
      */
     public List<MenuDetailResponse> getMenuDetailsByIds(List<Integer> menuIds) {
+        boolean debug = recommendationMetrics.isDebugSampled(log);
         if (menuIds == null || menuIds.isEmpty()) {
             // 메뉴 ID가 없는 경우 전체 인기 메뉴 조회
-            System.out.println("메뉴 ID 목록이 비어있어 인기 메뉴 조회");
             List<Menu> allMenus = recommendationMapper.findMostPopularMenus(1, 1); // 1개만 가져오기
             menuIds = allMenus.stream()
                     .map(Menu::getMenuId)
                     .collect(Collectors.toList());
 
             if (menuIds.isEmpty()) {
-                System.out.println("조회된 인기 메뉴가 없음");
+                if (debug) {
+                    log.debug("메뉴 ID 목록이 비어있고 조회된 인기 메뉴도 없음");
+                }
                 return Collections.emptyList();
             }
         }
 
-        System.out.println("메뉴 상세 정보 조회 시작 - 메뉴 ID 목록: " + menuIds);
-
         // 메뉴 ID가 여러 개인 경우 첫 번째 ID만 사용
         if (menuIds.size() > 1) {
             menuIds = menuIds.subList(0, 1);
-            System.out.println("메뉴 ID가 여러 개여서 첫 번째 ID만 사용: " + menuIds);
         }
 
         List<MenuDetailResponse> detailedMenus = new ArrayList<>();
-        for (Integer menuId : menuIds) {
-            try {
-                System.out.println("메뉴 ID " + menuId + " 상세 정보 조회 시작");
-                MenuDetailResponse detailResponse = menuService.getMenuDetail(menuId);
-                if (detailResponse != null) {
-                    System.out.println("메뉴 ID " + menuId + " 상세 정보 조회 성공: " + detailResponse.getMenuName());
-                    detailedMenus.add(detailResponse);
-                } else {
-                    System.out.println("메뉴 ID " + menuId + " 상세 정보 조회 결과 없음");
-                }
-            } catch (Exception e) {
-                System.out.println("메뉴 ID " + menuId + " 조회 중 오류 발생: " + e.getMessage());
-                e.printStackTrace();
-            }
+        try {
+            detailedMenus.addAll(menuService.getMenuDetails(menuIds));
+        } catch (Exception e) {
+            log.warn("메뉴 ID {} 조회 중 오류 발생", menuIds, e);
         }
 
-        System.out.println("메뉴 상세 정보 조회 완료 - 총 " + detailedMenus.size() + "개 메뉴");
+        if (debug) {
+            log.debug("메뉴 상세 정보 조회 완료 - 메뉴 ID: {}, 총 {}개 메뉴", menuIds, detailedMenus.size());
+        }
         return detailedMenus;
     }
 
-    private List<Map<String, Object>> processOptionsDataSimplified(List<Map<String, Object>> orderedOptions, Integer menuId) {
+    // 주문된 옵션을 기본 옵션 카테고리에 선택 상태로 반영 (src/jmh 벤치마크에서 직접 호출하므로 package-private)
+    List<Map<String, Object>> processOptionsDataSimplified(List<Map<String, Object>> orderedOptions, Integer menuId) {
         try {
-            System.out.println("옵션 데이터 처리 시작 - 메뉴 ID: " + menuId);
+            boolean debug = recommendationMetrics.isDebugSampled(log);
 
             // 1. 선택된 옵션 정보 추출 (주문된 옵션들)
             Map<Integer, Boolean> selectedOptionMap = new HashMap<>();
@@ -216,13 +254,15 @@ public class RecommendationService {
                 for (Map<String, Object> option : orderedOptions) {
                     Integer optionItemId = ((Number) option.get("option_item_id")).intValue();
                     selectedOptionMap.put(optionItemId, true);
-                    System.out.println("선택된 옵션 ID: " + optionItemId);
                 }
             }
 
             // 2. 메뉴에 사용 가능한 모든 옵션 카테고리 조회
             List<Map<String, Object>> allOptionsForMenu = recommendationMapper.findAllOptionsForMenu(menuId);
-            System.out.println("메뉴의 전체 옵션 수: " + (allOptionsForMenu != null ? allOptionsForMenu.size() : 0));
+            if (debug) {
+                log.debug("옵션 데이터 처리 시작 - 메뉴 ID: {}, 선택된 옵션 ID: {}, 메뉴의 전체 옵션 수: {}",
+                        menuId, selectedOptionMap.keySet(), allOptionsForMenu != null ? allOptionsForMenu.size() : 0);
+            }
 
             // 3. 기본 옵션 카테고리 설정 (모든 메뉴에 대해 동일하게 제공할 카테고리)
             Map<String, Map<String, Object>> optionCategoryMap = new HashMap<>();
@@ -285,7 +325,6 @@ public class RecommendationService {
                         for (int i = 0; i < isDefault.size(); i++) {
                             isDefault.set(i, i == index); // 선택된 인덱스만 true로 설정
                         }
-                        System.out.println("옵션 선택 상태 업데이트: 옵션 ID " + selectedOptionId + "가 선택됨");
                         break;
                     }
                 }
@@ -298,224 +337,140 @@ public class RecommendationService {
 
                 if (!hasSelected && isDefault.size() > 0) {
                     isDefault.set(0, true); // 첫 번째 옵션을 기본값으로 설정
-                    System.out.println("기본 옵션 설정: 카테고리 " + categoryData.get("optionCategory") + "에서 첫 번째 옵션을 기본값으로 설정");
                 }
             }
 
             // Map에서 List로 변환
-            List<Map<String, Object>> result = new ArrayList<>(optionCategoryMap.values());
-            System.out.println("옵션 데이터 처리 완료 - " + result.size() + "개 카테고리");
-
-            return result;
+            return new ArrayList<>(optionCategoryMap.values());
         } catch (Exception e) {
-            System.out.println("옵션 데이터 처리 오류: " + e.getMessage());
-            e.printStackTrace();
+            log.warn("옵션 데이터 처리 오류 - 메뉴 ID: {}", menuId, e);
             return new ArrayList<>();
         }
     }
 
-    // 1. 성별/나이 기반 메뉴 추천
-    public MenuDetailResponse getMenuByGenderAndAge(
-            Integer storeId,
-            String gender,
-            String ageStr,
-            List<Integer> excludeMenuIds) {
+    /**
+     * 전략 공통 처리: 추천 메뉴 조회 → 메뉴 상세 정보 → 전략별 추가 정보 → 최근 주문 옵션
+     * 실행 시간과 결과(hit/empty/error)는 RecommendationMetrics에 전략별로 기록된다.
+     *
+     * @param lookup    추천 메뉴 1건 조회 (menu_id, keyword1/2, latest_order_menu_id 등을 담은 행, 없으면 null)
+     * @param decorator 조회된 행으로 전략별 주문 수/비율/추가 정보 설정
+     * @return 추천 메뉴, 결과가 없거나 오류가 나면 null
+     */
+    private MenuDetailResponse recommend(Strategy strategy, Supplier<Map<String, Object>> lookup,
+                                         BiConsumer<MenuDetailResponse, Map<String, Object>> decorator) {
         try {
-            System.out.println("성별/나이 기반 메뉴 추천 시작 - 매장 ID: " + storeId + ", 성별: " + gender + ", 나이: " + ageStr);
-
-            // 나이 문자열에서 숫자만 추출
-            int ageGroup;
-            if (ageStr.endsWith("대")) {
-                // "20대"와 같은 형식일 경우
-                ageGroup = Integer.parseInt(ageStr.substring(0, ageStr.length() - 1));
-            } else {
-                // 숫자만 있는 경우 (예: "25")
-                int age = Integer.parseInt(ageStr);
-                ageGroup = (age / 10) * 10;
-            }
-            System.out.println("변환된 나이대: " + ageGroup + "대");
-
-            // 안전한 excludeMenuIds 생성
-            List<Integer> safeExcludeMenuIds = excludeMenuIds != null ? excludeMenuIds : new ArrayList<>();
-            System.out.println("제외할 메뉴 ID 목록: " + safeExcludeMenuIds);
-
-            // 성별/나이 기반 인기 메뉴 조회
-            Map<String, Object> menuData = recommendationMapper.findMenusByGenderAndAge(
-                    storeId, gender, ageGroup, safeExcludeMenuIds);
-
-            if (menuData == null || menuData.isEmpty()) {
-                System.out.println("성별/나이 기반 메뉴 추천 결과 없음");
-                return null;
-            }
-
-            // 메뉴 ID 추출
-            Integer menuId = ((Number) menuData.get("menu_id")).intValue();
-            System.out.println("추천된 메뉴 ID: " + menuId);
-
-            // 최근 주문된 order_menu_id 추출
-            Long latestOrderMenuId = null;
-            if (menuData.get("latest_order_menu_id") != null) {
-                latestOrderMenuId = ((Number) menuData.get("latest_order_menu_id")).longValue();
-                System.out.println("최근 주문 메뉴 ID: " + latestOrderMenuId);
-            } else {
-                System.out.println("최근 주문 메뉴 ID 없음");
-            }
-
-            // 메뉴 상세 정보와 옵션 정보로 MenuDetailResponse 구성
-            System.out.println("메뉴 상세 정보 조회 시작");
-            MenuDetailResponse detailResponse = menuService.getMenuDetail(menuId);
-
-            if (detailResponse != null) {
-                System.out.println("메뉴 상세 정보 조회 성공: " + detailResponse.getMenuName());
-
-                // 추가 정보 설정 - 키워드, 주문 수, 비율
-                detailResponse.setKeyword1((String) menuData.get("keyword1"));
-                detailResponse.setKeyword2((String) menuData.get("keyword2"));
-                detailResponse.setOrderCount(((Number) menuData.get("order_count")).intValue());
-                detailResponse.setPercentage(((Number) menuData.get("percentage")).doubleValue());
-
-                // 추가 정보 설정 - 나이, 성별
-                Map<String, Object> additionalInfo = new HashMap<>();
-                additionalInfo.put("나이", ageGroup + "대");
-                additionalInfo.put("성별", gender.equalsIgnoreCase("MALE") ? "남성" : "여성");
-                detailResponse.setAdditionalInfo(additionalInfo);
-
-                // 주문된 실제 옵션 정보 설정
-                if (latestOrderMenuId != null) {
-                    System.out.println("주문 옵션 정보 조회 시작");
-                    List<Map<String, Object>> optionsData = recommendationMapper.findOptionsForOrderMenu(latestOrderMenuId);
-
-                    if (optionsData != null && !optionsData.isEmpty()) {
-                        System.out.println("주문 옵션 정보 조회 성공 - " + optionsData.size() + "개 옵션");
-
-                        // menuId를 추가 매개변수로 전달
-                        List<Map<String, Object>> processedOptions = processOptionsDataSimplified(optionsData, menuId);
-
-                        if (!processedOptions.isEmpty()) {
-                            System.out.println("옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                            detailResponse.setOptions(processedOptions);
-                        } else {
-                            System.out.println("처리된 옵션 카테고리가 없음");
-                        }
-                    } else {
-                        // 주문 옵션이 없는 경우에도 메뉴의 모든 옵션 표시
-                        List<Map<String, Object>> processedOptions = processOptionsDataSimplified(null, menuId);
-                        if (!processedOptions.isEmpty()) {
-                            System.out.println("기본 옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                            detailResponse.setOptions(processedOptions);
-                        }
-                    }
-                } else {
-                    // 최근 주문이 없는 경우에도 메뉴의 모든 옵션 표시
-                    List<Map<String, Object>> processedOptions = processOptionsDataSimplified(null, menuId);
-                    if (!processedOptions.isEmpty()) {
-                        System.out.println("기본 옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                        detailResponse.setOptions(processedOptions);
-                    }
-                }
-
-                System.out.println("성별/나이 기반 메뉴 추천 완료");
-                return detailResponse;
-            } else {
-                System.out.println("메뉴 상세 정보 조회 실패");
-            }
-
-            return null;
+            return recommendationMetrics.recordStrategy(strategy.tag,
+                    () -> buildRecommendation(strategy, lookup, decorator));
         } catch (Exception e) {
-            System.out.println("성별/나이 기반 메뉴 추천 오류: " + e.getMessage());
-            e.printStackTrace();
+            log.warn("{} 메뉴 추천 오류", strategy.label, e);
             return null;
         }
     }
 
-    // 2. 시간대 기반 메뉴 추천 - 기본 구조는 동일하지만 로그 추가
-    public MenuDetailResponse getMenuByTimeOfDay(
-            Integer storeId,
-            Integer hourOfDay,
-            List<Integer> excludeMenuIds) {
-        try {
-            System.out.println("시간대 기반 메뉴 추천 시작 - 매장 ID: " + storeId + ", 시간대: " + hourOfDay + "시");
+    private MenuDetailResponse buildRecommendation(Strategy strategy, Supplier<Map<String, Object>> lookup,
+                                                   BiConsumer<MenuDetailResponse, Map<String, Object>> decorator) {
+        boolean debug = recommendationMetrics.isDebugSampled(log);
 
-            // 안전한 excludeMenuIds 생성
-            List<Integer> safeExcludeMenuIds = excludeMenuIds != null ? excludeMenuIds : new ArrayList<>();
-
-            Map<String, Object> menuData = recommendationMapper.findMenusByTimeOfDay(
-                    storeId, hourOfDay, safeExcludeMenuIds);
-
-            if (menuData == null || menuData.isEmpty()) {
-                System.out.println("시간대 기반 메뉴 추천 결과 없음");
-                return null;
+        Map<String, Object> menuData = lookup.get();
+        if (menuData == null || menuData.isEmpty()) {
+            if (debug) {
+                log.debug("{} 메뉴 추천 결과 없음", strategy.label);
             }
+            return null;
+        }
 
-            Integer menuId = ((Number) menuData.get("menu_id")).intValue();
-            System.out.println("추천된 메뉴 ID: " + menuId);
+        Integer menuId = ((Number) menuData.get("menu_id")).intValue();
 
-            // 최근 주문된 order_menu_id 추출
-            Long latestOrderMenuId = null;
-            if (menuData.get("latest_order_menu_id") != null) {
-                latestOrderMenuId = ((Number) menuData.get("latest_order_menu_id")).longValue();
-                System.out.println("최근 주문 메뉴 ID: " + latestOrderMenuId);
-            } else {
-                System.out.println("최근 주문 메뉴 ID 없음");
-            }
+        // 최근 주문된 order_menu_id 추출
+        Long latestOrderMenuId = menuData.get("latest_order_menu_id") != null
+                ? ((Number) menuData.get("latest_order_menu_id")).longValue() : null;
 
-            MenuDetailResponse detailResponse = menuService.getMenuDetail(menuId);
+        MenuDetailResponse detailResponse = menuService.getMenuDetail(menuId);
+        if (detailResponse == null) {
+            if (debug) {
+                log.debug("{} 추천 메뉴 상세 정보 조회 실패 - 메뉴 ID: {}", strategy.label, menuId);
+            }
+            return null;
+        }
 
-            if (detailResponse != null) {
-                System.out.println("메뉴 상세 정보 조회 성공: " + detailResponse.getMenuName());
+        detailResponse.setKeyword1((String) menuData.get("keyword1"));
+        detailResponse.setKeyword2((String) menuData.get("keyword2"));
+        decorator.accept(detailResponse, menuData);
 
-                detailResponse.setKeyword1((String) menuData.get("keyword1"));
-                detailResponse.setKeyword2((String) menuData.get("keyword2"));
-                detailResponse.setOrderCount(((Number) menuData.get("order_count")).intValue());
-                detailResponse.setPercentage(((Number) menuData.get("percentage")).doubleValue());
+        // 주문된 실제 옵션 정보 설정 (최근 주문이 없거나 주문 옵션이 없으면 메뉴의 기본 옵션 표시)
+        List<Map<String, Object>> optionsData = latestOrderMenuId != null
+                ? recommendationMapper.findOptionsForOrderMenu(latestOrderMenuId) : null;
+        List<Map<String, Object>> processedOptions = processOptionsDataSimplified(optionsData, menuId);
+        if (!processedOptions.isEmpty()) {
+            detailResponse.setOptions(processedOptions);
+        }
 
-                Map<String, Object> additionalInfo = new HashMap<>();
-                additionalInfo.put("시간대", getTimeOfDayDescription(hourOfDay));
-                detailResponse.setAdditionalInfo(additionalInfo);
+        if (debug) {
+            log.debug("{} 메뉴 추천 완료 - 메뉴 ID: {}, 메뉴명: {}, 최근 주문 메뉴 ID: {}, 주문 옵션 {}개",
+                    strategy.label, menuId, detailResponse.getMenuName(), latestOrderMenuId,
+                    optionsData != null ? optionsData.size() : 0);
+        }
+        return detailResponse;
+    }
 
-                // 주문된 실제 옵션 정보 설정
-                if (latestOrderMenuId != null) {
-                    System.out.println("주문 옵션 정보 조회 시작");
-                    List<Map<String, Object>> optionsData = recommendationMapper.findOptionsForOrderMenu(latestOrderMenuId);
+    // 주문 수와 비율 설정
+    private void applyOrderStats(MenuDetailResponse detailResponse, Map<String, Object> menuData) {
+        detailResponse.setOrderCount(((Number) menuData.get("order_count")).intValue());
+        detailResponse.setPercentage(((Number) menuData.get("percentage")).doubleValue());
+    }
 
-                    if (optionsData != null && !optionsData.isEmpty()) {
-                        System.out.println("주문 옵션 정보 조회 성공 - " + optionsData.size() + "개 옵션");
+    private Map<String, Object> additionalInfo(String key, Object value) {
+        Map<String, Object> additionalInfo = new HashMap<>();
+        additionalInfo.put(key, value);
+        return additionalInfo;
+    }
 
-                        // menuId를 추가 매개변수로 전달
-                        List<Map<String, Object>> processedOptions = processOptionsDataSimplified(optionsData, menuId);
+    // 안전한 excludeMenuIds 생성
+    private List<Integer> safeExcludeMenuIds(List<Integer> excludeMenuIds) {
+        return excludeMenuIds != null ? excludeMenuIds : new ArrayList<>();
+    }
 
-                        if (!processedOptions.isEmpty()) {
-                            System.out.println("옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                            detailResponse.setOptions(processedOptions);
-                        }
-                    } else {
-                        // 주문 옵션이 없는 경우에도 메뉴의 모든 옵션 표시
-                        List<Map<String, Object>> processedOptions = processOptionsDataSimplified(null, menuId);
-                        if (!processedOptions.isEmpty()) {
-                            System.out.println("기본 옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                            detailResponse.setOptions(processedOptions);
-                        }
-                    }
-                } else {
-                    // 최근 주문이 없는 경우에도 메뉴의 모든 옵션 표시
-                    List<Map<String, Object>> processedOptions = processOptionsDataSimplified(null, menuId);
-                    if (!processedOptions.isEmpty()) {
-                        System.out.println("기본 옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                        detailResponse.setOptions(processedOptions);
-                    }
-                }
+    // 나이 문자열에서 나이대 추출 ("20대" 또는 "25" 형식)
+    private int parseAgeGroup(String ageStr) {
+        if (ageStr.endsWith("대")) {
+            return Integer.parseInt(ageStr.substring(0, ageStr.length() - 1));
+        }
+        int age = Integer.parseInt(ageStr);
+        return (age / 10) * 10;
+    }
 
-                System.out.println("시간대 기반 메뉴 추천 완료");
-            } else {
-                System.out.println("메뉴 상세 정보 조회 실패");
-            }
+    // 1. 성별/나이 기반 메뉴 추천
+    public MenuDetailResponse getMenuByGenderAndAge(
+            Integer storeId,
+            String gender,
+            String ageStr,
+            List<Integer> excludeMenuIds) {
+        return recommend(Strategy.GENDER_AGE,
+                // 성별/나이 정보가 없는 회원은 결과 없음으로 처리
+                () -> gender == null || ageStr == null ? null : recommendationSnapshotService.findMenusByGenderAndAge(
+                        storeId, gender, parseAgeGroup(ageStr), safeExcludeMenuIds(excludeMenuIds)),
+                (detailResponse, menuData) -> {
+                    applyOrderStats(detailResponse, menuData);
+
+                    // 추가 정보 설정 - 나이, 성별
+                    Map<String, Object> additionalInfo = additionalInfo("나이", parseAgeGroup(ageStr) + "대");
+                    additionalInfo.put("성별", gender.equalsIgnoreCase("MALE") ? "남성" : "여성");
+                    detailResponse.setAdditionalInfo(additionalInfo);
+                });
+    }
 
-            return detailResponse;
-        } catch (Exception e) {
-            System.out.println("시간대 기반 메뉴 추천 오류: " + e.getMessage());
-            e.printStackTrace();
-            return null;
-        }
+    // 2. 시간대 기반 메뉴 추천
+    public MenuDetailResponse getMenuByTimeOfDay(
+            Integer storeId,
+            Integer hourOfDay,
+            List<Integer> excludeMenuIds) {
+        return recommend(Strategy.TIME_OF_DAY,
+                () -> recommendationSnapshotService.findMenusByTimeOfDay(
+                        storeId, hourOfDay, safeExcludeMenuIds(excludeMenuIds)),
+                (detailResponse, menuData) -> {
+                    applyOrderStats(detailResponse, menuData);
+                    detailResponse.setAdditionalInfo(additionalInfo("시간대", getTimeOfDayDescription(hourOfDay)));
+                });
     }
 
     // 시간대 설명 반환 헬퍼 메소드
@@ -538,84 +493,12 @@ public class RecommendationService {
             Integer storeId,
             String weather,
             List<Integer> excludeMenuIds) {
-        try {
-            System.out.println("날씨 기반 메뉴 추천 시작 - 매장 ID: " + storeId + ", 날씨: " + weather);
-
-            Map<String, Object> menuData = recommendationMapper.findMenusByWeather(
-                    storeId, weather, excludeMenuIds);
-
-            if (menuData == null || menuData.isEmpty()) {
-                System.out.println("날씨 기반 메뉴 추천 결과 없음");
-                return null;
-            }
-
-            Integer menuId = ((Number) menuData.get("menu_id")).intValue();
-            System.out.println("추천된 메뉴 ID: " + menuId);
-
-            // 최근 주문된 order_menu_id 추출
-            Long latestOrderMenuId = null;
-            if (menuData.get("latest_order_menu_id") != null) {
-                latestOrderMenuId = ((Number) menuData.get("latest_order_menu_id")).longValue();
-                System.out.println("최근 주문 메뉴 ID: " + latestOrderMenuId);
-            } else {
-                System.out.println("최근 주문 메뉴 ID 없음");
-            }
-
-            MenuDetailResponse detailResponse = menuService.getMenuDetail(menuId);
-
-            if (detailResponse != null) {
-                System.out.println("메뉴 상세 정보 조회 성공: " + detailResponse.getMenuName());
-
-                detailResponse.setKeyword1((String) menuData.get("keyword1"));
-                detailResponse.setKeyword2((String) menuData.get("keyword2"));
-                detailResponse.setOrderCount(((Number) menuData.get("order_count")).intValue());
-                detailResponse.setPercentage(((Number) menuData.get("percentage")).doubleValue());
-
-                Map<String, Object> additionalInfo = new HashMap<>();
-                additionalInfo.put("날씨", weather);
-                detailResponse.setAdditionalInfo(additionalInfo);
-
-                // 주문된 실제 옵션 정보 설정
-                if (latestOrderMenuId != null) {
-                    System.out.println("주문 옵션 정보 조회 시작");
-                    List<Map<String, Object>> optionsData = recommendationMapper.findOptionsForOrderMenu(latestOrderMenuId);
-
-                    if (optionsData != null && !optionsData.isEmpty()) {
-                        System.out.println("주문 옵션 정보 조회 성공 - " + optionsData.size() + "개 옵션");
-
-                        // menuId를 추가 매개변수로 전달
-                        List<Map<String, Object>> processedOptions = processOptionsDataSimplified(optionsData, menuId);
-
-                        if (!processedOptions.isEmpty()) {
-                            System.out.println("옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                            detailResponse.setOptions(processedOptions);
-                        }
-                    } else {
-                        // 주문 옵션이 없는 경우에도 메뉴의 모든 옵션 표시
-                        List<Map<String, Object>> processedOptions = processOptionsDataSimplified(null, menuId);
-                        if (!processedOptions.isEmpty()) {
-                            System.out.println("기본 옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                            detailResponse.setOptions(processedOptions);
-                        }
-                    }
-                } else {
-                    // 최근 주문이 없는 경우에도 메뉴의 모든 옵션 표시
-                    List<Map<String, Object>> processedOptions = processOptionsDataSimplified(null, menuId);
-                    if (!processedOptions.isEmpty()) {
-                        System.out.println("기본 옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                        detailResponse.setOptions(processedOptions);
-                    }
-                }
-
-                System.out.println("날씨 기반 메뉴 추천 완료");
-            }
-
-            return detailResponse;
-        } catch (Exception e) {
-            System.out.println("날씨 기반 메뉴 추천 오류: " + e.getMessage());
-            e.printStackTrace();
-            return null;
-        }
+        return recommend(Strategy.WEATHER,
+                () -> recommendationSnapshotService.findMenusByWeather(storeId, weather, excludeMenuIds),
+                (detailResponse, menuData) -> {
+                    applyOrderStats(detailResponse, menuData);
+                    detailResponse.setAdditionalInfo(additionalInfo("날씨", weather));
+                });
     }
 
     // 4. 일별 인기 메뉴 추천
@@ -623,89 +506,13 @@ public class RecommendationService {
             Integer storeId,
             Integer dayOfWeek,
             List<Integer> excludeMenuIds) {
-        try {
-            System.out.println("요일 기반 메뉴 추천 시작 - 매장 ID: " + storeId + ", 요일: " + getDayOfWeekName(dayOfWeek));
-
-            // 안전한 excludeMenuIds 생성
-            List<Integer> safeExcludeMenuIds = excludeMenuIds != null ? excludeMenuIds : new ArrayList<>();
-
-            Map<String, Object> menuData = recommendationMapper.findMenusByDayOfWeek(
-                    storeId, dayOfWeek, safeExcludeMenuIds);
-
-            if (menuData == null || menuData.isEmpty()) {
-                System.out.println("요일 기반 메뉴 추천 결과 없음");
-                return null;
-            }
-
-            Integer menuId = ((Number) menuData.get("menu_id")).intValue();
-            System.out.println("추천된 메뉴 ID: " + menuId);
-
-            // 최근 주문된 order_menu_id 추출
-            Long latestOrderMenuId = null;
-            if (menuData.get("latest_order_menu_id") != null) {
-                latestOrderMenuId = ((Number) menuData.get("latest_order_menu_id")).longValue();
-                System.out.println("최근 주문 메뉴 ID: " + latestOrderMenuId);
-            } else {
-                System.out.println("최근 주문 메뉴 ID 없음");
-            }
-
-            MenuDetailResponse detailResponse = menuService.getMenuDetail(menuId);
-
-            if (detailResponse != null) {
-                System.out.println("메뉴 상세 정보 조회 성공: " + detailResponse.getMenuName());
-
-                detailResponse.setKeyword1((String) menuData.get("keyword1"));
-                detailResponse.setKeyword2((String) menuData.get("keyword2"));
-                detailResponse.setOrderCount(((Number) menuData.get("order_count")).intValue());
-                detailResponse.setPercentage(((Number) menuData.get("percentage")).doubleValue());
-
-                Map<String, Object> additionalInfo = new HashMap<>();
-                additionalInfo.put("요일", getDayOfWeekName(dayOfWeek));
-                detailResponse.setAdditionalInfo(additionalInfo);
-
-                // 주문된 실제 옵션 정보 설정
-                if (latestOrderMenuId != null) {
-                    System.out.println("주문 옵션 정보 조회 시작");
-                    List<Map<String, Object>> optionsData = recommendationMapper.findOptionsForOrderMenu(latestOrderMenuId);
-
-                    if (optionsData != null && !optionsData.isEmpty()) {
-                        System.out.println("주문 옵션 정보 조회 성공 - " + optionsData.size() + "개 옵션");
-
-                        // menuId를 추가 매개변수로 전달
-                        List<Map<String, Object>> processedOptions = processOptionsDataSimplified(optionsData, menuId);
-
-                        if (!processedOptions.isEmpty()) {
-                            System.out.println("옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                            detailResponse.setOptions(processedOptions);
-                        }
-                    } else {
-                        // 주문 옵션이 없는 경우에도 메뉴의 모든 옵션 표시
-                        List<Map<String, Object>> processedOptions = processOptionsDataSimplified(null, menuId);
-                        if (!processedOptions.isEmpty()) {
-                            System.out.println("기본 옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                            detailResponse.setOptions(processedOptions);
-                        }
-                    }
-                } else {
-                    // 최근 주문이 없는 경우에도 메뉴의 모든 옵션 표시
-                    List<Map<String, Object>> processedOptions = processOptionsDataSimplified(null, menuId);
-                    if (!processedOptions.isEmpty()) {
-                        System.out.println("기본 옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                        detailResponse.setOptions(processedOptions);
-                    }
-                }
-
-                System.out.println("요일 기반 메뉴 추천 완료");
-            } else {
-                System.out.println("메뉴 상세 정보 조회 실패");
-            }
-
-            return detailResponse;
-        } catch (Exception e) {
-            System.out.println("요일 기반 메뉴 추천 오류: " + e.getMessage());
-            e.printStackTrace();
-            return null;
-        }
+        return recommend(Strategy.DAY_OF_WEEK,
+                () -> recommendationSnapshotService.findMenusByDayOfWeek(
+                        storeId, dayOfWeek, safeExcludeMenuIds(excludeMenuIds)),
+                (detailResponse, menuData) -> {
+                    applyOrderStats(detailResponse, menuData);
+                    detailResponse.setAdditionalInfo(additionalInfo("요일", getDayOfWeekName(dayOfWeek)));
+                });
     }
 
     // 요일 이름 반환 헬퍼 메소드
@@ -735,89 +542,13 @@ public class RecommendationService {
             Integer storeId,
             Integer weekOfYear,
             List<Integer> excludeMenuIds) {
-        try {
-            System.out.println("주차 기반 메뉴 추천 시작 - 매장 ID: " + storeId + ", 주차: " + weekOfYear);
-
-            // 안전한 excludeMenuIds 생성
-            List<Integer> safeExcludeMenuIds = excludeMenuIds != null ? excludeMenuIds : new ArrayList<>();
-
-            Map<String, Object> menuData = recommendationMapper.findMenusByWeekOfYear(
-                    storeId, weekOfYear, safeExcludeMenuIds);
-
-            if (menuData == null || menuData.isEmpty()) {
-                System.out.println("주차 기반 메뉴 추천 결과 없음");
-                return null;
-            }
-
-            Integer menuId = ((Number) menuData.get("menu_id")).intValue();
-            System.out.println("추천된 메뉴 ID: " + menuId);
-
-            // 최근 주문된 order_menu_id 추출
-            Long latestOrderMenuId = null;
-            if (menuData.get("latest_order_menu_id") != null) {
-                latestOrderMenuId = ((Number) menuData.get("latest_order_menu_id")).longValue();
-                System.out.println("최근 주문 메뉴 ID: " + latestOrderMenuId);
-            } else {
-                System.out.println("최근 주문 메뉴 ID 없음");
-            }
-
-            MenuDetailResponse detailResponse = menuService.getMenuDetail(menuId);
-
-            if (detailResponse != null) {
-                System.out.println("메뉴 상세 정보 조회 성공: " + detailResponse.getMenuName());
-
-                detailResponse.setKeyword1((String) menuData.get("keyword1"));
-                detailResponse.setKeyword2((String) menuData.get("keyword2"));
-                detailResponse.setOrderCount(((Number) menuData.get("order_count")).intValue());
-                detailResponse.setPercentage(((Number) menuData.get("percentage")).doubleValue());
-
-                Map<String, Object> additionalInfo = new HashMap<>();
-                additionalInfo.put("주차", weekOfYear + "주차");
-                detailResponse.setAdditionalInfo(additionalInfo);
-
-                // 주문된 실제 옵션 정보 설정
-                if (latestOrderMenuId != null) {
-                    System.out.println("주문 옵션 정보 조회 시작");
-                    List<Map<String, Object>> optionsData = recommendationMapper.findOptionsForOrderMenu(latestOrderMenuId);
-
-                    if (optionsData != null && !optionsData.isEmpty()) {
-                        System.out.println("주문 옵션 정보 조회 성공 - " + optionsData.size() + "개 옵션");
-
-                        // menuId를 추가 매개변수로 전달
-                        List<Map<String, Object>> processedOptions = processOptionsDataSimplified(optionsData, menuId);
-
-                        if (!processedOptions.isEmpty()) {
-                            System.out.println("옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                            detailResponse.setOptions(processedOptions);
-                        }
-                    } else {
-                        // 주문 옵션이 없는 경우에도 메뉴의 모든 옵션 표시
-                        List<Map<String, Object>> processedOptions = processOptionsDataSimplified(null, menuId);
-                        if (!processedOptions.isEmpty()) {
-                            System.out.println("기본 옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                            detailResponse.setOptions(processedOptions);
-                        }
-                    }
-                } else {
-                    // 최근 주문이 없는 경우에도 메뉴의 모든 옵션 표시
-                    List<Map<String, Object>> processedOptions = processOptionsDataSimplified(null, menuId);
-                    if (!processedOptions.isEmpty()) {
-                        System.out.println("기본 옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                        detailResponse.setOptions(processedOptions);
-                    }
-                }
-
-                System.out.println("주차 기반 메뉴 추천 완료");
-            } else {
-                System.out.println("메뉴 상세 정보 조회 실패");
-            }
-
-            return detailResponse;
-        } catch (Exception e) {
-            System.out.println("주차 기반 메뉴 추천 오류: " + e.getMessage());
-            e.printStackTrace();
-            return null;
-        }
+        return recommend(Strategy.WEEK_OF_YEAR,
+                () -> recommendationSnapshotService.findMenusByWeekOfYear(
+                        storeId, weekOfYear, safeExcludeMenuIds(excludeMenuIds)),
+                (detailResponse, menuData) -> {
+                    applyOrderStats(detailResponse, menuData);
+                    detailResponse.setAdditionalInfo(additionalInfo("주차", weekOfYear + "주차"));
+                });
     }
 
     // 6. 월별 인기 메뉴 추천
@@ -825,178 +556,26 @@ public class RecommendationService {
             Integer storeId,
             Integer month,
             List<Integer> excludeMenuIds) {
-        try {
-            System.out.println("월 기반 메뉴 추천 시작 - 매장 ID: " + storeId + ", 월: " + month);
-
-            // 안전한 excludeMenuIds 생성
-            List<Integer> safeExcludeMenuIds = excludeMenuIds != null ? excludeMenuIds : new ArrayList<>();
-
-            Map<String, Object> menuData = recommendationMapper.findMenusByMonth(
-                    storeId, month, safeExcludeMenuIds);
-
-            if (menuData == null || menuData.isEmpty()) {
-                System.out.println("월 기반 메뉴 추천 결과 없음");
-                return null;
-            }
-
-            Integer menuId = ((Number) menuData.get("menu_id")).intValue();
-            System.out.println("추천된 메뉴 ID: " + menuId);
-
-            // 최근 주문된 order_menu_id 추출
-            Long latestOrderMenuId = null;
-            if (menuData.get("latest_order_menu_id") != null) {
-                latestOrderMenuId = ((Number) menuData.get("latest_order_menu_id")).longValue();
-                System.out.println("최근 주문 메뉴 ID: " + latestOrderMenuId);
-            } else {
-                System.out.println("최근 주문 메뉴 ID 없음");
-            }
-
-            MenuDetailResponse detailResponse = menuService.getMenuDetail(menuId);
-
-            if (detailResponse != null) {
-                System.out.println("메뉴 상세 정보 조회 성공: " + detailResponse.getMenuName());
-
-                detailResponse.setKeyword1((String) menuData.get("keyword1"));
-                detailResponse.setKeyword2((String) menuData.get("keyword2"));
-                detailResponse.setOrderCount(((Number) menuData.get("order_count")).intValue());
-                detailResponse.setPercentage(((Number) menuData.get("percentage")).doubleValue());
-
-                Map<String, Object> additionalInfo = new HashMap<>();
-                additionalInfo.put("월", month + "월");
-                detailResponse.setAdditionalInfo(additionalInfo);
-
-                // 주문된 실제 옵션 정보 설정
-                if (latestOrderMenuId != null) {
-                    System.out.println("주문 옵션 정보 조회 시작");
-                    List<Map<String, Object>> optionsData = recommendationMapper.findOptionsForOrderMenu(latestOrderMenuId);
-
-                    if (optionsData != null && !optionsData.isEmpty()) {
-                        System.out.println("주문 옵션 정보 조회 성공 - " + optionsData.size() + "개 옵션");
-
-                        // menuId를 추가 매개변수로 전달
-                        List<Map<String, Object>> processedOptions = processOptionsDataSimplified(optionsData, menuId);
-
-                        if (!processedOptions.isEmpty()) {
-                            System.out.println("옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                            detailResponse.setOptions(processedOptions);
-                        }
-                    } else {
-                        // 주문 옵션이 없는 경우에도 메뉴의 모든 옵션 표시
-                        List<Map<String, Object>> processedOptions = processOptionsDataSimplified(null, menuId);
-                        if (!processedOptions.isEmpty()) {
-                            System.out.println("기본 옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                            detailResponse.setOptions(processedOptions);
-                        }
-                    }
-                } else {
-                    // 최근 주문이 없는 경우에도 메뉴의 모든 옵션 표시
-                    List<Map<String, Object>> processedOptions = processOptionsDataSimplified(null, menuId);
-                    if (!processedOptions.isEmpty()) {
-                        System.out.println("기본 옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                        detailResponse.setOptions(processedOptions);
-                    }
-                }
-
-                System.out.println("월 기반 메뉴 추천 완료");
-            } else {
-                System.out.println("메뉴 상세 정보 조회 실패");
-            }
-
-            return detailResponse;
-        } catch (Exception e) {
-            System.out.println("월 기반 메뉴 추천 오류: " + e.getMessage());
-            e.printStackTrace();
-            return null;
-        }
+        return recommend(Strategy.MONTH,
+                () -> recommendationSnapshotService.findMenusByMonth(
+                        storeId, month, safeExcludeMenuIds(excludeMenuIds)),
+                (detailResponse, menuData) -> {
+                    applyOrderStats(detailResponse, menuData);
+                    detailResponse.setAdditionalInfo(additionalInfo("월", month + "월"));
+                });
     }
 
     // 7. 매장 스테디셀러 메뉴 추천
     public MenuDetailResponse getSteadySellerMenu(
             Integer storeId,
             List<Integer> excludeMenuIds) {
-        try {
-            System.out.println("스테디셀러 메뉴 추천 시작 - 매장 ID: " + storeId);
-
-            // 안전한 excludeMenuIds 생성
-            List<Integer> safeExcludeMenuIds = excludeMenuIds != null ? excludeMenuIds : new ArrayList<>();
-
-            Map<String, Object> menuData = recommendationMapper.findSteadySellerMenu(
-                    storeId, safeExcludeMenuIds);
-
-            if (menuData == null || menuData.isEmpty()) {
-                System.out.println("스테디셀러 메뉴 추천 결과 없음");
-                return null;
-            }
-
-            Integer menuId = ((Number) menuData.get("menu_id")).intValue();
-            System.out.println("추천된 메뉴 ID: " + menuId);
-
-            // 최근 주문된 order_menu_id 추출
-            Long latestOrderMenuId = null;
-            if (menuData.get("latest_order_menu_id") != null) {
-                latestOrderMenuId = ((Number) menuData.get("latest_order_menu_id")).longValue();
-                System.out.println("최근 주문 메뉴 ID: " + latestOrderMenuId);
-            } else {
-                System.out.println("최근 주문 메뉴 ID 없음");
-            }
-
-            MenuDetailResponse detailResponse = menuService.getMenuDetail(menuId);
-
-            if (detailResponse != null) {
-                System.out.println("메뉴 상세 정보 조회 성공: " + detailResponse.getMenuName());
-
-                detailResponse.setKeyword1((String) menuData.get("keyword1"));
-                detailResponse.setKeyword2((String) menuData.get("keyword2"));
-                detailResponse.setOrderCount(((Number) menuData.get("order_count")).intValue());
-                detailResponse.setPercentage(((Number) menuData.get("percentage")).doubleValue());
-
-                Map<String, Object> additionalInfo = new HashMap<>();
-                additionalInfo.put("인기도", "스테디셀러");
-                detailResponse.setAdditionalInfo(additionalInfo);
-
-                // 주문된 실제 옵션 정보 설정
-                if (latestOrderMenuId != null) {
-                    System.out.println("주문 옵션 정보 조회 시작");
-                    List<Map<String, Object>> optionsData = recommendationMapper.findOptionsForOrderMenu(latestOrderMenuId);
-
-                    if (optionsData != null && !optionsData.isEmpty()) {
-                        System.out.println("주문 옵션 정보 조회 성공 - " + optionsData.size() + "개 옵션");
-
-                        // menuId를 추가 매개변수로 전달
-                        List<Map<String, Object>> processedOptions = processOptionsDataSimplified(optionsData, menuId);
-
-                        if (!processedOptions.isEmpty()) {
-                            System.out.println("옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                            detailResponse.setOptions(processedOptions);
-                        }
-                    } else {
-                        // 주문 옵션이 없는 경우에도 메뉴의 모든 옵션 표시
-                        List<Map<String, Object>> processedOptions = processOptionsDataSimplified(null, menuId);
-                        if (!processedOptions.isEmpty()) {
-                            System.out.println("기본 옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                            detailResponse.setOptions(processedOptions);
-                        }
-                    }
-                } else {
-                    // 최근 주문이 없는 경우에도 메뉴의 모든 옵션 표시
-                    List<Map<String, Object>> processedOptions = processOptionsDataSimplified(null, menuId);
-                    if (!processedOptions.isEmpty()) {
-                        System.out.println("기본 옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                        detailResponse.setOptions(processedOptions);
-                    }
-                }
-
-                System.out.println("스테디셀러 메뉴 추천 완료");
-            } else {
-                System.out.println("메뉴 상세 정보 조회 실패");
-            }
-
-            return detailResponse;
-        } catch (Exception e) {
-            System.out.println("스테디셀러 메뉴 추천 오류: " + e.getMessage());
-            e.printStackTrace();
-            return null;
-        }
+        return recommend(Strategy.STEADY_SELLER,
+                () -> recommendationSnapshotService.findSteadySellerMenu(
+                        storeId, safeExcludeMenuIds(excludeMenuIds)),
+                (detailResponse, menuData) -> {
+                    applyOrderStats(detailResponse, menuData);
+                    detailResponse.setAdditionalInfo(additionalInfo("인기도", "스테디셀러"));
+                });
     }
 
     // 8. 회원이 가장 많이 주문한 메뉴 추천
@@ -1004,89 +583,13 @@ public class RecommendationService {
             Integer storeId,
             String userId,
             List<Integer> excludeMenuIds) {
-        try {
-            System.out.println("회원 최다 주문 메뉴 추천 시작 - 매장 ID: " + storeId + ", 사용자 ID: " + userId);
-
-            // 안전한 excludeMenuIds 생성
-            List<Integer> safeExcludeMenuIds = excludeMenuIds != null ? excludeMenuIds : new ArrayList<>();
-
-            Map<String, Object> menuData = recommendationMapper.findMostOrderedMenuByUser(
-                    storeId, userId, safeExcludeMenuIds);
-
-            if (menuData == null || menuData.isEmpty()) {
-                System.out.println("회원 최다 주문 메뉴 추천 결과 없음");
-                return null;
-            }
-
-            Integer menuId = ((Number) menuData.get("menu_id")).intValue();
-            System.out.println("추천된 메뉴 ID: " + menuId);
-
-            // 최근 주문된 order_menu_id 추출
-            Long latestOrderMenuId = null;
-            if (menuData.get("latest_order_menu_id") != null) {
-                latestOrderMenuId = ((Number) menuData.get("latest_order_menu_id")).longValue();
-                System.out.println("최근 주문 메뉴 ID: " + latestOrderMenuId);
-            } else {
-                System.out.println("최근 주문 메뉴 ID 없음");
-            }
-
-            MenuDetailResponse detailResponse = menuService.getMenuDetail(menuId);
-
-            if (detailResponse != null) {
-                System.out.println("메뉴 상세 정보 조회 성공: " + detailResponse.getMenuName());
-
-                detailResponse.setKeyword1((String) menuData.get("keyword1"));
-                detailResponse.setKeyword2((String) menuData.get("keyword2"));
-                detailResponse.setOrderCount(((Number) menuData.get("order_count")).intValue());
-                detailResponse.setPercentage(((Number) menuData.get("percentage")).doubleValue());
-
-                Map<String, Object> additionalInfo = new HashMap<>();
-                additionalInfo.put("주문 빈도", "최다 주문");
-                detailResponse.setAdditionalInfo(additionalInfo);
-
-                // 주문된 실제 옵션 정보 설정
-                if (latestOrderMenuId != null) {
-                    System.out.println("주문 옵션 정보 조회 시작");
-                    List<Map<String, Object>> optionsData = recommendationMapper.findOptionsForOrderMenu(latestOrderMenuId);
-
-                    if (optionsData != null && !optionsData.isEmpty()) {
-                        System.out.println("주문 옵션 정보 조회 성공 - " + optionsData.size() + "개 옵션");
-
-                        // menuId를 추가 매개변수로 전달
-                        List<Map<String, Object>> processedOptions = processOptionsDataSimplified(optionsData, menuId);
-
-                        if (!processedOptions.isEmpty()) {
-                            System.out.println("옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                            detailResponse.setOptions(processedOptions);
-                        }
-                    } else {
-                        // 주문 옵션이 없는 경우에도 메뉴의 모든 옵션 표시
-                        List<Map<String, Object>> processedOptions = processOptionsDataSimplified(null, menuId);
-                        if (!processedOptions.isEmpty()) {
-                            System.out.println("기본 옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                            detailResponse.setOptions(processedOptions);
-                        }
-                    }
-                } else {
-                    // 최근 주문이 없는 경우에도 메뉴의 모든 옵션 표시
-                    List<Map<String, Object>> processedOptions = processOptionsDataSimplified(null, menuId);
-                    if (!processedOptions.isEmpty()) {
-                        System.out.println("기본 옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                        detailResponse.setOptions(processedOptions);
-                    }
-                }
-
-                System.out.println("회원 최다 주문 메뉴 추천 완료");
-            } else {
-                System.out.println("메뉴 상세 정보 조회 실패");
-            }
-
-            return detailResponse;
-        } catch (Exception e) {
-            System.out.println("회원 최다 주문 메뉴 추천 오류: " + e.getMessage());
-            e.printStackTrace();
-            return null;
-        }
+        return recommend(Strategy.USER_MOST_ORDERED,
+                () -> recommendationMapper.findMostOrderedMenuByUser(
+                        storeId, userId, safeExcludeMenuIds(excludeMenuIds)),
+                (detailResponse, menuData) -> {
+                    applyOrderStats(detailResponse, menuData);
+                    detailResponse.setAdditionalInfo(additionalInfo("주문 빈도", "최다 주문"));
+                });
     }
 
     // 9. 회원의 최근 주문 메뉴 추천
@@ -1094,112 +597,36 @@ public class RecommendationService {
             Integer storeId,
             String userId,
             List<Integer> excludeMenuIds) {
-        try {
-            System.out.println("회원 최근 주문 메뉴 조회 시작 - 매장 ID: " + storeId + ", 사용자 ID: " + userId);
-
-            // 안전한 excludeMenuIds 생성
-            List<Integer> safeExcludeMenuIds = excludeMenuIds != null ? excludeMenuIds : new ArrayList<>();
-
-            Map<String, Object> menuData = recommendationMapper.findLatestOrderedMenuByUser(
-                    storeId, userId, safeExcludeMenuIds);
-
-            System.out.println("조회 결과: " + (menuData != null && !menuData.isEmpty() ? "있음" : "없음"));
-
-            if (menuData == null || menuData.isEmpty()) {
-                System.out.println("회원 최근 주문 메뉴 조회 결과 없음");
-                return null;
-            }
-
-            Integer menuId = ((Number) menuData.get("menu_id")).intValue();
-            System.out.println("추천된 메뉴 ID: " + menuId);
-
-            // 최근 주문된 order_menu_id 추출
-            Long latestOrderMenuId = null;
-            if (menuData.get("latest_order_menu_id") != null) {
-                latestOrderMenuId = ((Number) menuData.get("latest_order_menu_id")).longValue();
-                System.out.println("최근 주문 메뉴 ID: " + latestOrderMenuId);
-            } else {
-                System.out.println("최근 주문 메뉴 ID 없음");
-            }
-
-            MenuDetailResponse detailResponse = menuService.getMenuDetail(menuId);
-            System.out.println("메뉴 상세 정보: " + (detailResponse != null ? detailResponse.getMenuName() : "없음"));
-
-            if (detailResponse != null) {
-                detailResponse.setKeyword1((String) menuData.get("keyword1"));
-                detailResponse.setKeyword2((String) menuData.get("keyword2"));
-
-                // 주문 날짜 정보 추출
-                String formattedDate;
-                Object orderDateObj = menuData.get("order_date");
-
-                if (orderDateObj instanceof java.time.LocalDateTime) {
-                    // LocalDateTime 타입인 경우
-                    java.time.LocalDateTime localDateTime = (java.time.LocalDateTime) orderDateObj;
-                    formattedDate = localDateTime.format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-                } else if (orderDateObj instanceof java.util.Date) {
-                    // Date 타입인 경우
-                    java.util.Date date = (java.util.Date) orderDateObj;
-                    SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
-                    formattedDate = dateFormat.format(date);
-                } else if (orderDateObj instanceof String) {
-                    // 이미 문자열인 경우
-                    formattedDate = (String) orderDateObj;
-                } else {
-                    // 기타 경우 - 현재 날짜 사용
-                    formattedDate = new SimpleDateFormat("yyyy-MM-dd").format(new Date());
-                }
-
-                System.out.println("최근 주문일: " + formattedDate);
-
-                Map<String, Object> additionalInfo = new HashMap<>();
-                additionalInfo.put("최근 주문일", formattedDate);
-                detailResponse.setAdditionalInfo(additionalInfo);
-
-                // 주문된 실제 옵션 정보 설정
-                if (latestOrderMenuId != null) {
-                    System.out.println("주문 옵션 정보 조회 시작");
-                    List<Map<String, Object>> optionsData = recommendationMapper.findOptionsForOrderMenu(latestOrderMenuId);
-
-                    if (optionsData != null && !optionsData.isEmpty()) {
-                        System.out.println("주문 옵션 정보 조회 성공 - " + optionsData.size() + "개 옵션");
-
-                        // menuId를 추가 매개변수로 전달
-                        List<Map<String, Object>> processedOptions = processOptionsDataSimplified(optionsData, menuId);
-
-                        if (!processedOptions.isEmpty()) {
-                            System.out.println("옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                            detailResponse.setOptions(processedOptions);
-                        }
-                    } else {
-                        // 주문 옵션이 없는 경우에도 메뉴의 모든 옵션 표시
-                        List<Map<String, Object>> processedOptions = processOptionsDataSimplified(null, menuId);
-                        if (!processedOptions.isEmpty()) {
-                            System.out.println("기본 옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                            detailResponse.setOptions(processedOptions);
-                        }
-                    }
-                } else {
-                    // 최근 주문이 없는 경우에도 메뉴의 모든 옵션 표시
-                    List<Map<String, Object>> processedOptions = processOptionsDataSimplified(null, menuId);
-                    if (!processedOptions.isEmpty()) {
-                        System.out.println("기본 옵션 카테고리 처리 완료 - " + processedOptions.size() + "개 카테고리");
-                        detailResponse.setOptions(processedOptions);
-                    }
-                }
-
-                System.out.println("회원 최근 주문 메뉴 추천 완료");
-            }
+        return recommend(Strategy.USER_LATEST_ORDERED,
+                () -> recommendationMapper.findLatestOrderedMenuByUser(
+                        storeId, userId, safeExcludeMenuIds(excludeMenuIds)),
+                (detailResponse, menuData) -> detailResponse.setAdditionalInfo(
+                        additionalInfo("최근 주문일", formatOrderDate(menuData.get("order_date")))));
+    }
 
-            return detailResponse;
-        } catch (Exception e) {
-            System.out.println("회원 최근 주문 메뉴 추천 오류: " + e.getMessage());
-            e.printStackTrace();
-            return null;
+    // 주문 날짜를 yyyy-MM-dd 문자열로 변환
+    private String formatOrderDate(Object orderDateObj) {
+        if (orderDateObj instanceof java.time.LocalDateTime) {
+            // LocalDateTime 타입인 경우
+            java.time.LocalDateTime localDateTime = (java.time.LocalDateTime) orderDateObj;
+            return localDateTime.format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        } else if (orderDateObj instanceof java.util.Date) {
+            // Date 타입인 경우
+            java.util.Date date = (java.util.Date) orderDateObj;
+            SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
+            return dateFormat.format(date);
+        } else if (orderDateObj instanceof String) {
+            // 이미 문자열인 경우
+            return (String) orderDateObj;
+        } else {
+            // 기타 경우 - 현재 날짜 사용
+            return new SimpleDateFormat("yyyy-MM-dd").format(new Date());
         }
     }
 
-    // 마지막 메소드인 getRecommendedMenus에 로그 추가
+    /**
+     * 통합 추천 메뉴 조회 (적용 가능한 전략을 병렬 실행하고 우선순위 순으로 취합)
+     */
     public List<MenuDetailResponse> getRecommendedMenus(
             Integer storeId,
             String userId,
@@ -1208,154 +635,159 @@ public class RecommendationService {
             String weather,
             Integer maxResults) {
 
-        try {
-            System.out.println("=== 통합 추천 메뉴 조회 시작 ===");
-            System.out.println("매장 ID: " + storeId + ", 사용자 ID: " + userId +
-                    ", 성별: " + gender + ", 나이: " + ageStr +
-                    ", 날씨: " + weather + ", 최대 결과 수: " + maxResults);
+        List<CompletableFuture<MenuDetailResponse>> pending = new ArrayList<>();
+        try (RecommendationTrace trace = recommendationMetrics.beginRequest("combined")) {
+            boolean debug = recommendationMetrics.isDebugSampled(log);
+            if (debug) {
+                log.debug("통합 추천 메뉴 조회 시작 - 매장 ID: {}, 사용자 ID: {}, 성별: {}, 나이: {}, 날씨: {}, 최대 결과 수: {}",
+                        storeId, userId, gender, ageStr, weather, maxResults);
+            }
 
             if (maxResults == null || maxResults <= 0) {
                 maxResults = 3; // 기본값
-                System.out.println("유효하지 않은 최대 결과 수 - 기본값 3으로 설정");
             }
 
-            List<MenuDetailResponse> results = new ArrayList<>();
-            List<Integer> excludeMenuIds = new ArrayList<>();
+            long deadline = System.currentTimeMillis() + recommendationDeadlineMs;
 
-            // 1. 사용자 기반 추천 - 최근 주문
-            if (userId != null && !userId.isEmpty()) {
-                System.out.println("회원 최근 주문 메뉴 추천 시작");
-                MenuDetailResponse latestMenu = getLatestOrderedMenuByUser(storeId, userId, excludeMenuIds);
-                if (latestMenu != null) {
-                    System.out.println("회원 최근 주문 메뉴 추천 성공: " + latestMenu.getMenuName());
-                    results.add(latestMenu);
-                    excludeMenuIds.add(latestMenu.getMenuId());
-                } else {
-                    System.out.println("회원 최근 주문 메뉴 없음");
-                }
-            }
+            // 우선순위 순서대로 적용 가능한 전략 등록 (인자는 제외할 메뉴 ID 목록)
+            Map<Strategy, Function<List<Integer>, MenuDetailResponse>> strategies = new LinkedHashMap<>();
 
-            // 2. 사용자 기반 추천 - 가장 많이 주문
-            if (userId != null && !userId.isEmpty() && results.size() < maxResults) {
-                System.out.println("회원 최다 주문 메뉴 추천 시작");
-                MenuDetailResponse mostOrderedMenu = getMostOrderedMenuByUser(storeId, userId, excludeMenuIds);
-                if (mostOrderedMenu != null) {
-                    System.out.println("회원 최다 주문 메뉴 추천 성공: " + mostOrderedMenu.getMenuName());
-                    results.add(mostOrderedMenu);
-                    excludeMenuIds.add(mostOrderedMenu.getMenuId());
-                } else {
-                    System.out.println("회원 최다 주문 메뉴 없음");
-                }
+            // 1~2. 사용자 기반 추천 - 최근 주문, 가장 많이 주문
+            if (userId != null && !userId.isEmpty()) {
+                strategies.put(Strategy.USER_LATEST_ORDERED, exclude -> getLatestOrderedMenuByUser(storeId, userId, exclude));
+                strategies.put(Strategy.USER_MOST_ORDERED, exclude -> getMostOrderedMenuByUser(storeId, userId, exclude));
             }
 
             // 3. 성별/나이 기반 추천
-            if (gender != null && ageStr != null && results.size() < maxResults) {
-                System.out.println("성별/나이 기반 메뉴 추천 시작");
-                MenuDetailResponse genderAgeMenu = getMenuByGenderAndAge(storeId, gender, ageStr, excludeMenuIds);
-                if (genderAgeMenu != null) {
-                    System.out.println("성별/나이 기반 메뉴 추천 성공: " + genderAgeMenu.getMenuName());
-                    results.add(genderAgeMenu);
-                    excludeMenuIds.add(genderAgeMenu.getMenuId());
-                } else {
-                    System.out.println("성별/나이 기반 메뉴 추천 없음");
-                }
+            if (gender != null && ageStr != null) {
+                strategies.put(Strategy.GENDER_AGE, exclude -> getMenuByGenderAndAge(storeId, gender, ageStr, exclude));
             }
 
             // 4. 날씨 기반 추천
-            if (weather != null && !weather.isEmpty() && results.size() < maxResults) {
-                System.out.println("날씨 기반 메뉴 추천 시작");
-                MenuDetailResponse weatherMenu = getMenuByWeather(storeId, weather, excludeMenuIds);
-                if (weatherMenu != null) {
-                    System.out.println("날씨 기반 메뉴 추천 성공: " + weatherMenu.getMenuName());
-                    results.add(weatherMenu);
-                    excludeMenuIds.add(weatherMenu.getMenuId());
-                } else {
-                    System.out.println("날씨 기반 메뉴 추천 없음");
-                }
+            if (weather != null && !weather.isEmpty()) {
+                strategies.put(Strategy.WEATHER, exclude -> getMenuByWeather(storeId, weather, exclude));
             }
 
-            // 5. 시간대 기반 추천
-            if (results.size() < maxResults) {
-                System.out.println("시간대 기반 메뉴 추천 시작");
-                Calendar cal = Calendar.getInstance();
-                int hourOfDay = cal.get(Calendar.HOUR_OF_DAY);
-                System.out.println("현재 시간: " + hourOfDay + "시");
-
-                MenuDetailResponse timeMenu = getMenuByTimeOfDay(storeId, hourOfDay, excludeMenuIds);
-                if (timeMenu != null) {
-                    System.out.println("시간대 기반 메뉴 추천 성공: " + timeMenu.getMenuName());
-                    results.add(timeMenu);
-                    excludeMenuIds.add(timeMenu.getMenuId());
-                } else {
-                    System.out.println("시간대 기반 메뉴 추천 없음");
-                }
+            // 5~6. 시간대, 요일 기반 추천
+            Calendar cal = Calendar.getInstance();
+            int hourOfDay = cal.get(Calendar.HOUR_OF_DAY);
+            int dayOfWeek = cal.get(Calendar.DAY_OF_WEEK);
+            strategies.put(Strategy.TIME_OF_DAY, exclude -> getMenuByTimeOfDay(storeId, hourOfDay, exclude));
+            strategies.put(Strategy.DAY_OF_WEEK, exclude -> getMenuByDayOfWeek(storeId, dayOfWeek, exclude));
+
+            // 7. 스테디셀러 추천
+            strategies.put(Strategy.STEADY_SELLER, exclude -> getSteadySellerMenu(storeId, exclude));
+
+            // 모든 전략을 제외 목록 없이 동시에 실행
+            Map<Strategy, CompletableFuture<MenuDetailResponse>> futures = new EnumMap<>(Strategy.class);
+            for (Map.Entry<Strategy, Function<List<Integer>, MenuDetailResponse>> entry : strategies.entrySet()) {
+                Function<List<Integer>, MenuDetailResponse> strategy = entry.getValue();
+                CompletableFuture<MenuDetailResponse> future = CompletableFuture.supplyAsync(
+                        () -> strategy.apply(Collections.emptyList()), recommendationTaskExecutor);
+                futures.put(entry.getKey(), future);
+                pending.add(future);
             }
 
-            // 6. 요일 기반 추천
-            if (results.size() < maxResults) {
-                System.out.println("요일 기반 메뉴 추천 시작");
-                Calendar cal = Calendar.getInstance();
-                int dayOfWeek = cal.get(Calendar.DAY_OF_WEEK);
-                System.out.println("현재 요일: " + getDayOfWeekName(dayOfWeek));
-
-                MenuDetailResponse dayMenu = getMenuByDayOfWeek(storeId, dayOfWeek, excludeMenuIds);
-                if (dayMenu != null) {
-                    System.out.println("요일 기반 메뉴 추천 성공: " + dayMenu.getMenuName());
-                    results.add(dayMenu);
-                    excludeMenuIds.add(dayMenu.getMenuId());
-                } else {
-                    System.out.println("요일 기반 메뉴 추천 없음");
+            // 우선순위 순서대로 결과를 취합하면서 중복 메뉴 제거
+            List<MenuDetailResponse> results = new ArrayList<>();
+            List<Integer> excludeMenuIds = new ArrayList<>();
+
+            for (Map.Entry<Strategy, Function<List<Integer>, MenuDetailResponse>> entry : strategies.entrySet()) {
+                if (results.size() >= maxResults) {
+                    break;
                 }
-            }
 
-            // 7. 스테디셀러 추천
-            if (results.size() < maxResults) {
-                System.out.println("스테디셀러 메뉴 추천 시작");
-                MenuDetailResponse steadyMenu = getSteadySellerMenu(storeId, excludeMenuIds);
-                if (steadyMenu != null) {
-                    System.out.println("스테디셀러 메뉴 추천 성공: " + steadyMenu.getMenuName());
-                    results.add(steadyMenu);
-                    excludeMenuIds.add(steadyMenu.getMenuId());
-                } else {
-                    System.out.println("스테디셀러 메뉴 추천 없음");
+                Strategy strategy = entry.getKey();
+                MenuDetailResponse menu = awaitStrategy(strategy, futures.get(strategy), deadline);
+
+                // 상위 전략과 같은 메뉴가 나오면 누적된 제외 목록으로 다시 조회 (남은 마감 시간까지만 대기)
+                if (menu != null && excludeMenuIds.contains(menu.getMenuId())) {
+                    if (System.currentTimeMillis() < deadline) {
+                        if (debug) {
+                            log.debug("{} 추천 메뉴 중복 - 제외 목록으로 재조회", strategy.label);
+                        }
+                        Function<List<Integer>, MenuDetailResponse> retry = entry.getValue();
+                        List<Integer> exclude = new ArrayList<>(excludeMenuIds);
+                        CompletableFuture<MenuDetailResponse> future = CompletableFuture.supplyAsync(
+                                () -> retry.apply(exclude), recommendationTaskExecutor);
+                        pending.add(future);
+                        menu = awaitStrategy(strategy, future, deadline);
+                    } else {
+                        menu = null;
+                    }
+                }
+
+                if (menu != null && !excludeMenuIds.contains(menu.getMenuId())) {
+                    results.add(menu);
+                    excludeMenuIds.add(menu.getMenuId());
                 }
             }
 
             // 8. 인기 메뉴 추가 (필요시)
             if (results.size() < maxResults) {
-                System.out.println("인기 메뉴 추가 시작");
-                List<MenuResponse> popularMenus = getMostPopularMenus(storeId, excludeMenuIds);
-                if (popularMenus != null && !popularMenus.isEmpty()) {
-                    System.out.println("인기 메뉴 조회 성공: " + popularMenus.size() + "개");
-                    for (MenuResponse menu : popularMenus) {
-                        if (results.size() >= maxResults) {
-                            System.out.println("최대 결과 수 도달");
-                            break;
-                        }
-
-                        MenuDetailResponse detailResponse = menuService.getMenuDetail(menu.getMenuId());
-                        if (detailResponse != null) {
-                            System.out.println("인기 메뉴 상세 정보 추가: " + detailResponse.getMenuName());
-                            Map<String, Object> additionalInfo = new HashMap<>();
-                            additionalInfo.put("인기도", "인기 메뉴");
-                            detailResponse.setAdditionalInfo(additionalInfo);
-
-                            results.add(detailResponse);
-                            excludeMenuIds.add(detailResponse.getMenuId());
-                        }
+                int remaining = maxResults - results.size();
+                List<MenuDetailResponse> popularMenus = recommendationMetrics.recordStrategy(Strategy.POPULAR.tag,
+                        () -> getPopularMenuDetails(storeId, excludeMenuIds, remaining));
+                if (popularMenus != null) {
+                    for (MenuDetailResponse detailResponse : popularMenus) {
+                        results.add(detailResponse);
+                        excludeMenuIds.add(detailResponse.getMenuId());
                     }
-                } else {
-                    System.out.println("인기 메뉴 없음");
                 }
             }
 
-            System.out.println("=== 통합 추천 메뉴 조회 완료 - 총 " + results.size() + "개 메뉴 ===");
+            if (debug) {
+                log.debug("통합 추천 메뉴 조회 완료 - 메뉴 ID: {}, DB 조회 {}회", excludeMenuIds, trace.getDbCalls());
+            }
             return results;
 
         } catch (Exception e) {
-            System.out.println("통합 추천 메뉴 조회 오류: " + e.getMessage());
-            e.printStackTrace();
+            log.error("통합 추천 메뉴 조회 오류 - 매장 ID: {}", storeId, e);
             return Collections.emptyList();
+        } finally {
+            // 결과에 쓰이지 않은 전략은 더 기다리지 않음
+            // (아직 시작하지 않은 작업만 실행되지 않고, 이미 실행 중인 쿼리는 매퍼의 timeout으로 끝난다)
+            pending.forEach(future -> future.cancel(false));
+        }
+    }
+
+    // 제외 목록에 없는 인기 메뉴 상세 정보 일괄 조회 (없으면 null)
+    private List<MenuDetailResponse> getPopularMenuDetails(Integer storeId, List<Integer> excludeMenuIds, int limit) {
+        List<MenuResponse> popularMenus = getMostPopularMenus(storeId, excludeMenuIds);
+        if (popularMenus == null || popularMenus.isEmpty()) {
+            return null;
+        }
+
+        List<Integer> popularMenuIds = popularMenus.stream()
+                .map(MenuResponse::getMenuId)
+                .limit(limit)
+                .collect(Collectors.toList());
+
+        List<MenuDetailResponse> details = menuService.getMenuDetails(popularMenuIds);
+        for (MenuDetailResponse detailResponse : details) {
+            detailResponse.setAdditionalInfo(additionalInfo("인기도", "인기 메뉴"));
+        }
+        return details.isEmpty() ? null : details;
+    }
+
+    /**
+     * 병렬 실행한 추천 전략 결과 대기 (요청 마감 시간 초과 시 null)
+     */
+    private MenuDetailResponse awaitStrategy(Strategy strategy, CompletableFuture<MenuDetailResponse> future, long deadline) {
+        try {
+            long remaining = Math.max(deadline - System.currentTimeMillis(), 0);
+            return future.get(remaining, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            recommendationMetrics.recordTimeout(strategy.tag);
+            log.debug("{} 메뉴 추천 시간 초과 - 건너뜀", strategy.label);
+            future.cancel(false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | CancellationException e) {
+            log.warn("{} 메뉴 추천 오류", strategy.label, e);
+            return null;
         }
     }
 
@@ -1364,9 +796,6 @@ public class RecommendationService {
      */
     public List<MenuResponse> getMenusByGenderAndAge(Integer storeId, String gender, String ageGroup) {
         try {
-            System.out.println("성별/나이 기반 메뉴 목록 조회 시작 - 매장 ID: " + storeId +
-                    ", 성별: " + gender + ", 나이: " + ageGroup);
-
             // ageGroup이 "20대", "30대" 등의 형식일 경우 숫자만 추출
             Integer age = null;
             if (ageGroup != null) {
@@ -1386,25 +815,24 @@ public class RecommendationService {
                 age = 20;
             }
 
-            System.out.println("변환된 나이대: " + age);
-
             // 해당 성별/연령대에서 가장 많이 주문한 메뉴 조회
             List<Menu> menus = recommendationMapper.findPopularMenusByGenderAndAge(storeId, gender, age, 4);
-            System.out.println("성별/나이 기반 메뉴 조회 결과 수: " + (menus != null ? menus.size() : 0));
 
             // 결과가 없으면 일반 인기 메뉴 제공
-            if (menus == null || menus.isEmpty()) {
-                System.out.println("성별/나이 기반 메뉴 없음, 일반 인기 메뉴로 대체");
+            boolean fallback = menus == null || menus.isEmpty();
+            if (fallback) {
                 menus = recommendationMapper.findMostPopularMenus(storeId, 4);
             }
 
             List<MenuResponse> result = convertToMenuResponses(menus);
-            System.out.println("성별/나이 기반 메뉴 조회 완료: " + result.size() + "개");
+            if (recommendationMetrics.isDebugSampled(log)) {
+                log.debug("성별/나이 기반 메뉴 목록 조회 - 매장 ID: {}, 성별: {}, 나이대: {}, 인기 메뉴 대체: {}, 결과 {}개",
+                        storeId, gender, age, fallback, result.size());
+            }
             return result;
         } catch (Exception e) {
-            System.out.println("성별/나이 기반 메뉴 조회 오류: " + e.getMessage());
-            e.printStackTrace();
+            log.warn("성별/나이 기반 메뉴 조회 오류 - 매장 ID: {}", storeId, e);
             return Collections.emptyList();
         }
     }
-}
\ No newline at end of file
+}
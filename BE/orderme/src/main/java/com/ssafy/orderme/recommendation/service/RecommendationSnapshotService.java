@@ -0,0 +1,233 @@
+package com.ssafy.orderme.recommendation.service;
+
+import com.ssafy.orderme.kiosk.mapper.StoresMapper;
+import com.ssafy.orderme.kiosk.model.Store;
+import com.ssafy.orderme.order.model.OrderMenu;
+import com.ssafy.orderme.payment.model.Order;
+import com.ssafy.orderme.recommendation.mapper.RecommendationMapper;
+import com.ssafy.orderme.recommendation.model.RecommendationContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매장별 추천 스냅샷 관리
+ * 시간대/요일/주차/월/날씨/성별·나이대별 메뉴 주문 집계(RecommendationContext)를 메모리에 보관하고,
+ * 주문이 승인될 때마다 증분 반영한다. 판매 중인 메뉴 목록은 짧은 주기로 갱신하고,
+ * 전체 주문 내역을 다시 훑는 재생성은 하루 한 번만 실행한다.
+ * 재생성 도중 반영된 주문은 모아 두었다가 새 컨텍스트에 다시 반영한 뒤 교체하므로 유실되지 않으며,
+ * 스캔에 이미 포함된 주문은 컨텍스트가 주문 ID로 걸러낸다.
+ * 집계 기준은 RecommendationMapper.xml의 추천 쿼리와 동일하다. (메뉴별 주문 건수, 최근 주문 메뉴)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationSnapshotService {
+
+    private final RecommendationMapper recommendationMapper;
+    private final StoresMapper storesMapper;
+
+    private final Map<Integer, RecommendationContext> snapshots = new ConcurrentHashMap<>();
+    // 재생성 중인 매장 -> 재생성 도중 승인된 주문 (lock으로 보호)
+    private final Map<Integer, List<AcceptedOrder>> rebuilding = new HashMap<>();
+    private final Object lock = new Object();
+
+    /**
+     * 전체 매장 스냅샷 재생성 (서버 시작 시 및 하루 한 번 실행)
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${recommendation.snapshot.rebuild-interval-ms:86400000}")
+    public void rebuildAll() {
+        List<Store> stores = storesMapper.findAll();
+        for (Store store : stores) {
+            try {
+                rebuild(store.getStoreId().intValue());
+            } catch (Exception e) {
+                log.error("추천 스냅샷 생성 실패: storeId={}", store.getStoreId(), e);
+            }
+        }
+        log.info("추천 스냅샷 재생성 완료: 매장 수={}", stores.size());
+    }
+
+    /**
+     * 적재된 매장의 판매 중인 메뉴 목록 갱신 (품절/삭제 메뉴 반영)
+     */
+    @Scheduled(initialDelayString = "${recommendation.snapshot.menu-refresh-interval-ms:600000}",
+            fixedDelayString = "${recommendation.snapshot.menu-refresh-interval-ms:600000}")
+    public void refreshMenus() {
+        for (Map.Entry<Integer, RecommendationContext> entry : snapshots.entrySet()) {
+            try {
+                entry.getValue().replaceMenus(recommendationMapper.findSnapshotMenus(entry.getKey()));
+            } catch (Exception e) {
+                log.warn("추천 스냅샷 메뉴 갱신 실패: storeId={}, {}", entry.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 매장 스냅샷 재생성
+     * 스캔하는 동안 승인된 주문을 모아 두었다가 새 컨텍스트에 반영한 뒤 교체한다. (이미 재생성 중이면 건너뜀)
+     */
+    public void rebuild(Integer storeId) {
+        synchronized (lock) {
+            if (rebuilding.containsKey(storeId)) {
+                return;
+            }
+            rebuilding.put(storeId, new ArrayList<>());
+        }
+
+        RecommendationContext context;
+        try {
+            context = buildContext(storeId);
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                rebuilding.remove(storeId);
+            }
+            throw e;
+        }
+
+        synchronized (lock) {
+            List<AcceptedOrder> pending = rebuilding.remove(storeId);
+            for (AcceptedOrder accepted : pending) {
+                accepted.applyTo(context);
+            }
+            snapshots.put(storeId, context);
+        }
+    }
+
+    /**
+     * 승인된 주문을 스냅샷에 반영 (주문 이벤트 소비자에서 호출)
+     *
+     * @param order 승인된 주문
+     * @param orderMenus 주문 메뉴 목록
+     */
+    public void recordAcceptedOrder(Order order, List<OrderMenu> orderMenus) {
+        if (order == null || order.getKioskId() == null || order.getOrderId() == null) {
+            return;
+        }
+
+        Map<Integer, Integer> menus = new HashMap<>();
+        for (OrderMenu orderMenu : orderMenus) {
+            menus.merge(orderMenu.getMenuId(), orderMenu.getOrderMenuId(), Math::max);
+        }
+        LocalDateTime orderDate = order.getOrderDate() != null ? order.getOrderDate() : LocalDateTime.now();
+        AcceptedOrder accepted = new AcceptedOrder(order, orderDate, menus);
+
+        RecommendationContext context;
+        synchronized (lock) {
+            List<AcceptedOrder> pending = rebuilding.get(order.getKioskId());
+            if (pending != null) {
+                pending.add(accepted);
+            }
+            context = snapshots.get(order.getKioskId());
+        }
+        // 아직 생성되지 않은 매장은 첫 조회 시 전체 생성
+        if (context != null) {
+            accepted.applyTo(context);
+        }
+    }
+
+    /**
+     * 매장 추천 컨텍스트 조회 (없으면 생성, 다른 스레드가 생성 중이면 null)
+     */
+    public RecommendationContext getContext(Integer storeId) {
+        RecommendationContext context = snapshots.get(storeId);
+        if (context == null) {
+            rebuild(storeId);
+            context = snapshots.get(storeId);
+        }
+        return context;
+    }
+
+    // 1. 성별/나이 기반
+    public Map<String, Object> findMenusByGenderAndAge(Integer storeId, String gender, Integer ageGroup, List<Integer> excludeMenuIds) {
+        return findTopMenu(storeId, RecommendationContext.genderAgeKey(gender, ageGroup), excludeMenuIds);
+    }
+
+    // 2. 시간대 기반
+    public Map<String, Object> findMenusByTimeOfDay(Integer storeId, Integer hourOfDay, List<Integer> excludeMenuIds) {
+        return findTopMenu(storeId, RecommendationContext.hourKey(hourOfDay), excludeMenuIds);
+    }
+
+    // 3. 날씨 기반
+    public Map<String, Object> findMenusByWeather(Integer storeId, String weather, List<Integer> excludeMenuIds) {
+        return findTopMenu(storeId, RecommendationContext.weatherKey(weather), excludeMenuIds);
+    }
+
+    // 4. 요일 기반 (1=일요일 ~ 7=토요일)
+    public Map<String, Object> findMenusByDayOfWeek(Integer storeId, Integer dayOfWeek, List<Integer> excludeMenuIds) {
+        return findTopMenu(storeId, RecommendationContext.dayOfWeekKey(dayOfWeek), excludeMenuIds);
+    }
+
+    // 5. 주차 기반 (MySQL WEEK() 기본 모드)
+    public Map<String, Object> findMenusByWeekOfYear(Integer storeId, Integer weekOfYear, List<Integer> excludeMenuIds) {
+        return findTopMenu(storeId, RecommendationContext.weekKey(weekOfYear), excludeMenuIds);
+    }
+
+    // 6. 월 기반
+    public Map<String, Object> findMenusByMonth(Integer storeId, Integer month, List<Integer> excludeMenuIds) {
+        return findTopMenu(storeId, RecommendationContext.monthKey(month), excludeMenuIds);
+    }
+
+    // 7. 스테디셀러
+    public Map<String, Object> findSteadySellerMenu(Integer storeId, List<Integer> excludeMenuIds) {
+        return findTopMenu(storeId, RecommendationContext.ALL, excludeMenuIds);
+    }
+
+    private Map<String, Object> findTopMenu(Integer storeId, String key, List<Integer> excludeMenuIds) {
+        if (storeId == null || key == null) {
+            return null;
+        }
+        RecommendationContext context = getContext(storeId);
+        return context != null ? context.findTopMenu(key, excludeMenuIds) : null;
+    }
+
+    /**
+     * 매장 주문 내역을 커서로 한 번만 훑어 모든 집계 기준을 동시에 계산
+     */
+    private RecommendationContext buildContext(Integer storeId) {
+        long start = System.currentTimeMillis();
+        RecommendationContext context = new RecommendationContext(storeId);
+
+        for (Map<String, Object> menu : recommendationMapper.findSnapshotMenus(storeId)) {
+            context.addMenu(menu);
+        }
+
+        // 행을 리스트로 모으지 않고 ResultHandler로 한 행씩 반영
+        recommendationMapper.scanSnapshotOrderRows(storeId, resultContext -> context.accept(resultContext.getResultObject()));
+        context.complete();
+
+        log.info("추천 스냅샷 생성: storeId={}, 주문 행 수={}, 소요 시간={}ms",
+                storeId, context.getRowCount(), System.currentTimeMillis() - start);
+        return context;
+    }
+
+    /**
+     * 스냅샷에 반영할 승인 주문
+     */
+    private static final class AcceptedOrder {
+        private final Integer orderId;
+        private final LocalDateTime orderDate;
+        private final String weather;
+        private final String gender;
+        private final Integer age;
+        private final Map<Integer, Integer> menus;
+
+        private AcceptedOrder(Order order, LocalDateTime orderDate, Map<Integer, Integer> menus) {
+            this.orderId = order.getOrderId();
+            this.orderDate = orderDate;
+            this.weather = order.getWeather();
+            this.gender = order.getGender();
+            this.age = order.getAge();
+            this.menus = menus;
+        }
+
+        private void applyTo(RecommendationContext context) {
+            context.recordOrder(orderId, orderDate, weather, gender, age, menus);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.ssafy.orderme.recommendation.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 추천 요청 1건의 계측 상태 (디버그 로그 샘플링 여부, DB 왕복 횟수)
+ * 요청 스레드의 ThreadLocal에 보관하고, 추천 전략을 병렬 실행하는 스레드에는 propagate()로 넘겨준다.
+ * RecommendationMetrics.beginRequest()로 시작하고 close()하면 요청 단위 지표가 기록된다.
+ */
+public final class RecommendationTrace implements AutoCloseable {
+
+    private static final ThreadLocal<RecommendationTrace> CURRENT = new ThreadLocal<>();
+
+    private final RecommendationMetrics metrics;
+    private final String endpoint;
+    private final boolean sampled;
+    private final long startedAt = System.nanoTime();
+    private final AtomicInteger dbCalls = new AtomicInteger();
+    // 같은 요청 안에서 다시 시작된 횟수 (재추천 API가 추천 API를 호출하는 경우), 요청 스레드에서만 변경
+    private int depth = 1;
+
+    RecommendationTrace(RecommendationMetrics metrics, String endpoint, boolean sampled) {
+        this.metrics = metrics;
+        this.endpoint = endpoint;
+        this.sampled = sampled;
+    }
+
+    /**
+     * 현재 스레드에서 진행 중인 추천 요청 (없으면 null)
+     */
+    public static RecommendationTrace current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 진행 중인 추천 요청이 있으면 DB 왕복 1회 기록
+     */
+    public static void recordDbCall() {
+        RecommendationTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.dbCalls.incrementAndGet();
+        }
+    }
+
+    /**
+     * 작업을 제출한 스레드의 추천 요청을 작업 실행 스레드에서도 이어서 사용하도록 감쌈 (TaskDecorator용)
+     */
+    public static Runnable propagate(Runnable task) {
+        RecommendationTrace trace = CURRENT.get();
+        if (trace == null) {
+            return task;
+        }
+        return () -> {
+            // 큐가 가득 차 호출 스레드에서 직접 실행되는 경우도 있으므로 이전 값을 복원
+            RecommendationTrace previous = CURRENT.get();
+            CURRENT.set(trace);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    public int getDbCalls() {
+        return dbCalls.get();
+    }
+
+    void attach() {
+        CURRENT.set(this);
+    }
+
+    void enter() {
+        depth++;
+    }
+
+    @Override
+    public void close() {
+        if (--depth > 0) {
+            return;
+        }
+        CURRENT.remove();
+        metrics.recordRequest(endpoint, System.nanoTime() - startedAt, dbCalls.get());
+    }
+}
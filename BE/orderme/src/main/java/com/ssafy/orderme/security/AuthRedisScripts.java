@@ -0,0 +1,188 @@
+package com.ssafy.orderme.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인증 흐름용 Redis Lua 스크립트 모음
+ * 인증번호 저장, 인증번호 검증/소진(시도 횟수 제한 포함), 세션 토큰 등록/폐기/교체,
+ * SMS 발송 토큰 버킷을 각각 한 번의 호출로 원자적으로 처리한다.
+ * RedisTemplate은 스크립트를 EVALSHA로 실행하므로, 기동 시 SCRIPT LOAD로 미리 올려 두어
+ * 첫 호출부터 NOSCRIPT 후 EVAL로 다시 보내는 왕복이 생기지 않게 한다.
+ */
+@Slf4j
+@Component
+public class AuthRedisScripts {
+
+    public enum VerifyResult { VERIFIED, MISMATCH, TOO_MANY_ATTEMPTS }
+
+    // KEYS[1]=인증 키, ARGV: 전화번호, 인증번호, 유효시간(ms)
+    private static final RedisScript<Long> STORE_CODE = new DefaultRedisScript<>(
+            "redis.call('HSET', KEYS[1], 'phoneNumber', ARGV[1], 'code', ARGV[2]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return 1", Long.class);
+
+    // KEYS[1]=인증 키, KEYS[2]=전화번호별 시도 횟수 키, ARGV: 전화번호, 인증번호, 최대 시도 횟수, 시도 집계 기간(ms)
+    // 그 전화번호로 발급된 인증번호가 있을 때만 시도 횟수를 센다. (없는 인증 ID로 남의 번호 시도 횟수를 소진시킬 수 없음)
+    // 시도 횟수를 넘기면 인증번호도 함께 폐기해 남은 유효시간 동안 대입할 수 없게 한다.
+    private static final RedisScript<Long> VERIFY_CODE = new DefaultRedisScript<>(
+            "local saved = redis.call('HMGET', KEYS[1], 'phoneNumber', 'code') " +
+            "if not saved[2] or saved[1] ~= ARGV[1] then return 0 end " +
+            "local attempts = redis.call('INCR', KEYS[2]) " +
+            "if attempts == 1 then redis.call('PEXPIRE', KEYS[2], ARGV[4]) end " +
+            "if attempts > tonumber(ARGV[3]) then redis.call('DEL', KEYS[1]) return -1 end " +
+            "if saved[2] ~= ARGV[2] then " +
+            "  if attempts == tonumber(ARGV[3]) then redis.call('DEL', KEYS[1]) end " +
+            "  return 0 " +
+            "end " +
+            "redis.call('DEL', KEYS[1], KEYS[2]) " +
+            "return 1", Long.class);
+
+    // 만료된 jti를 정리한 뒤 (만료 시각, jti) 쌍을 추가하고, 세션 키 만료를 가장 늦은 토큰 만료 시각으로 맞춤
+    private static final String REGISTER_LUA =
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1]) " +
+            "redis.call('ZADD', KEYS[1], unpack(ARGV, first)) " +
+            "local last = redis.call('ZRANGE', KEYS[1], -1, -1, 'WITHSCORES') " +
+            "redis.call('PEXPIREAT', KEYS[1], last[2]) ";
+
+    // KEYS[1]=세션 키, ARGV: 현재 시각(ms), (만료 시각, jti) 쌍...
+    private static final RedisScript<Long> REGISTER_SESSION = new DefaultRedisScript<>(
+            "local first = 2 " + REGISTER_LUA + "return 1", Long.class);
+
+    // KEYS[1]=세션 키, KEYS[2]=폐기 키, ARGV: jti, 남은 유효시간(ms)
+    private static final RedisScript<Long> REVOKE_SESSION = new DefaultRedisScript<>(
+            "redis.call('ZREM', KEYS[1], ARGV[1]) " +
+            "redis.call('SET', KEYS[2], '1', 'PX', ARGV[2]) " +
+            "return 1", Long.class);
+
+    // KEYS[1]=세션 키, KEYS[2]=이전 토큰 폐기 키, ARGV: 현재 시각(ms), 이전 jti, 이전 토큰 남은 유효시간(ms), 새 만료 시각, 새 jti
+    // 이전 jti가 활성 세션일 때만 폐기하고 새 jti 등록 (동시 연장 요청 중 하나만 성공)
+    private static final RedisScript<Long> ROTATE_SESSION = new DefaultRedisScript<>(
+            "if redis.call('ZREM', KEYS[1], ARGV[2]) == 0 then return 0 end " +
+            "redis.call('SET', KEYS[2], '1', 'PX', ARGV[3]) " +
+            "local first = 4 " + REGISTER_LUA + "return 1", Long.class);
+
+    // KEYS[1]=버킷 키, ARGV: 버킷 크기, 토큰 1개 충전 간격(ms)
+    // Redis 서버 시각 기준으로 충전한 뒤 토큰 1개를 꺼내며, 꺼냈으면 0, 비어 있으면 다음 토큰까지 남은 ms를 돌려준다.
+    private static final RedisScript<Long> TAKE_TOKEN = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) " +
+            "local interval = tonumber(ARGV[2]) " +
+            "local time = redis.call('TIME') " +
+            "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+            "local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts') " +
+            "local tokens = tonumber(bucket[1]) or capacity " +
+            "local ts = tonumber(bucket[2]) or now " +
+            "tokens = math.min(capacity, tokens + math.max(0, now - ts) / interval) " +
+            "local wait = 0 " +
+            "if tokens >= 1 then tokens = tokens - 1 else wait = math.ceil((1 - tokens) * interval) end " +
+            "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now) " +
+            "redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * interval)) " +
+            "return wait", Long.class);
+
+    private static final List<RedisScript<Long>> SCRIPTS = Arrays.asList(
+            STORE_CODE, VERIFY_CODE, REGISTER_SESSION, REVOKE_SESSION, ROTATE_SESSION, TAKE_TOKEN);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public AuthRedisScripts(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 기동 시 스크립트 캐시에 미리 적재 (실패해도 첫 호출에서 EVAL로 적재되므로 경고만 남김)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                for (RedisScript<Long> script : SCRIPTS) {
+                    connection.scriptingCommands().scriptLoad(
+                            script.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+            log.info("인증 Redis 스크립트 {}개 적재 완료", SCRIPTS.size());
+        } catch (Exception e) {
+            log.warn("인증 Redis 스크립트 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 인증번호 저장 (전화번호, 인증번호, 만료시간을 한 번에 기록)
+     */
+    public void storeCode(String codeKey, String phoneNumber, String code, long ttlMs) {
+        redisTemplate.execute(STORE_CODE, Collections.singletonList(codeKey),
+                phoneNumber, code, String.valueOf(ttlMs));
+    }
+
+    /**
+     * 인증번호 검증 - 일치하면 인증번호와 시도 횟수를 삭제
+     */
+    public VerifyResult verifyCode(String codeKey, String attemptKey, String phoneNumber, String code,
+                                   int maxAttempts, long attemptWindowMs) {
+        Long result = redisTemplate.execute(VERIFY_CODE, Arrays.asList(codeKey, attemptKey),
+                phoneNumber, code, String.valueOf(maxAttempts), String.valueOf(attemptWindowMs));
+        if (result == null || result == 0) {
+            return VerifyResult.MISMATCH;
+        }
+        return result > 0 ? VerifyResult.VERIFIED : VerifyResult.TOO_MANY_ATTEMPTS;
+    }
+
+    /**
+     * 세션에 jti 등록 (jti -> 만료 시각 ms)
+     */
+    public void registerSession(String sessionKey, Map<String, Long> expiresAtByJti) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(System.currentTimeMillis()));
+        expiresAtByJti.forEach((jti, expiresAt) -> {
+            args.add(String.valueOf(expiresAt));
+            args.add(jti);
+        });
+        redisTemplate.execute(REGISTER_SESSION, Collections.singletonList(sessionKey), args.toArray());
+    }
+
+    /**
+     * 세션에서 jti를 제거하고 남은 유효기간 동안 폐기 키 보관
+     */
+    public void revokeSession(String sessionKey, String revokedKey, String jti, long remainingMs) {
+        redisTemplate.execute(REVOKE_SESSION, Arrays.asList(sessionKey, revokedKey),
+                jti, String.valueOf(remainingMs));
+    }
+
+    /**
+     * 이전 jti를 폐기하고 새 jti 등록
+     * @return 이전 jti가 활성 세션에 없었으면 false
+     */
+    public boolean rotateSession(String sessionKey, String revokedKey, String oldJti, long oldRemainingMs,
+                                 String newJti, long newExpiresAt) {
+        Long rotated = redisTemplate.execute(ROTATE_SESSION, Arrays.asList(sessionKey, revokedKey),
+                String.valueOf(System.currentTimeMillis()), oldJti, String.valueOf(oldRemainingMs),
+                String.valueOf(newExpiresAt), newJti);
+        return rotated != null && rotated == 1;
+    }
+
+    /**
+     * 토큰 버킷에서 토큰 1개 꺼내기
+     * @param capacity 버킷 크기 (연속으로 허용하는 최대 횟수)
+     * @param refillIntervalMs 토큰 1개가 다시 채워지는 간격
+     * @return 꺼냈으면 0, 버킷이 비어 있으면 다음 토큰까지 남은 ms
+     */
+    public long takeToken(String bucketKey, int capacity, long refillIntervalMs) {
+        Long wait = redisTemplate.execute(TAKE_TOKEN, Collections.singletonList(bucketKey),
+                String.valueOf(capacity), String.valueOf(refillIntervalMs));
+        return wait != null ? wait : 0;
+    }
+}
@@ -2,13 +2,14 @@ package com.ssafy.orderme.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,7 +19,8 @@ import org.springframework.stereotype.Component;
 import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
-import java.util.concurrent.TimeUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Component
 public class JwtTokenProvider {
@@ -28,12 +30,26 @@ public class JwtTokenProvider {
 
     private Key key;
 
+    // 키가 고정이므로 파서는 한 번만 만들어 재사용 (thread-safe)
+    private JwtParser jwtParser;
+
     private final UserDetailsService userDetailsService;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final TokenRegistry tokenRegistry;
+    private final ValidatedTokenCache validatedTokenCache;
 
-    public JwtTokenProvider(UserDetailsService userDetailsService, RedisTemplate<String, String> redisTemplate) {
+    public JwtTokenProvider(UserDetailsService userDetailsService, TokenRegistry tokenRegistry,
+                            ValidatedTokenCache validatedTokenCache) {
         this.userDetailsService = userDetailsService;
-        this.redisTemplate = redisTemplate;
+        this.tokenRegistry = tokenRegistry;
+        this.validatedTokenCache = validatedTokenCache;
+    }
+
+    // 액세스 토큰 + 리프레시 토큰
+    @Getter
+    @RequiredArgsConstructor
+    public static class TokenPair {
+        private final String accessToken;
+        private final String refreshToken;
     }
 
     // 토큰 유형
@@ -58,6 +74,7 @@ public class JwtTokenProvider {
     protected void init() {
         String encodedKey = Base64.getEncoder().encodeToString(secretKey.getBytes());
         key = Keys.hmacShaKeyFor(encodedKey.getBytes());
+        jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     // 토큰 생성
@@ -69,25 +86,29 @@ public class JwtTokenProvider {
         Claims claims = Jwts.claims().setSubject(userId);
         claims.put("type", tokenType.name());
 
-        Date now = new Date();
         long validity = customExpiry != null ?
                 customExpiry * 1000L :
                 tokenType.getValidityInMilliseconds();
 
+        String jti = tokenRegistry.newJti();
+        Date now = new Date();
         Date expiryDate = new Date(now.getTime() + validity);
+        String token = sign(claims, jti, now, expiryDate);
 
-        String token = Jwts.builder()
+        // 사용자 세션에 jti 등록 (만료 시각과 함께)
+        tokenRegistry.register(userId, jti, expiryDate.getTime());
+
+        return token;
+    }
+
+    private String sign(Claims claims, String jti, Date issuedAt, Date expiryDate) {
+        return Jwts.builder()
                 .setClaims(claims)
-                .setIssuedAt(now)
+                .setId(jti)
+                .setIssuedAt(issuedAt)
                 .setExpiration(expiryDate)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
-
-        // Redis에 토큰 상태 저장 (유효기간과 함께)
-        String redisKey = "token:" + token;
-        redisTemplate.opsForValue().set(redisKey, "valid", validity, TimeUnit.MILLISECONDS);
-
-        return token;
     }
 
     // 리프레시 토큰 생성
@@ -95,27 +116,52 @@ public class JwtTokenProvider {
         return createToken(userId, TokenType.REFRESH);
     }
 
+    // 로그인 세션 발급 (액세스 토큰과 리프레시 토큰을 한 번의 Redis 호출로 등록)
+    public TokenPair issueSession(String userId, TokenType accessTokenType){
+        Date now = new Date();
+        Map<String, Long> expiresAtByJti = new LinkedHashMap<>();
+        String accessToken = signFor(userId, accessTokenType, now, expiresAtByJti);
+        String refreshToken = signFor(userId, TokenType.REFRESH, now, expiresAtByJti);
+
+        tokenRegistry.register(userId, expiresAtByJti);
+        return new TokenPair(accessToken, refreshToken);
+    }
+
+    private String signFor(String userId, TokenType tokenType, Date now, Map<String, Long> expiresAtByJti) {
+        Claims claims = Jwts.claims().setSubject(userId);
+        claims.put("type", tokenType.name());
+
+        String jti = tokenRegistry.newJti();
+        Date expiryDate = new Date(now.getTime() + tokenType.getValidityInMilliseconds());
+        expiresAtByJti.put(jti, expiryDate.getTime());
+        return sign(claims, jti, now, expiryDate);
+    }
+
     // 토큰에서 사용자 ID 추출
     public String getUserId(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        ValidatedTokenCache.Entry entry = validatedTokenCache.get(token);
+        if (entry != null) {
+            return entry.getClaims().getSubject();
+        }
+        return jwtParser.parseClaimsJws(token).getBody().getSubject();
     }
 
     // 토큰 검증
     public boolean validateToken(String token){
+        // 이미 검증된 토큰이면 서명 검증과 Redis 조회 생략
+        if (validatedTokenCache.get(token) != null) {
+            return true;
+        }
         try{
             // JWT 서명 검증
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-
-            // Redis에서 토큰 상태 확인
-            String redisKey = "token:" + token;
-            String tokenStatus = redisTemplate.opsForValue().get(redisKey);
-
-            return "valid".equals(tokenStatus);
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+
+            // Redis 폐기 목록 확인
+            if (!tokenRegistry.isActive(token, claims)) {
+                return false;
+            }
+            validatedTokenCache.put(token, claims);
+            return true;
         }catch(JwtException | IllegalArgumentException e){
             return false;
         }
@@ -123,38 +169,48 @@ public class JwtTokenProvider {
 
     // Authentication 객체 생성
     public Authentication getAuthentication(String token){
+        ValidatedTokenCache.Entry entry = validatedTokenCache.get(token);
+        if (entry != null && entry.getAuthentication() != null) {
+            return entry.getAuthentication();
+        }
         UserDetails userDetails = userDetailsService.loadUserByUsername(getUserId(token));
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails. getAuthorities());
+        Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, "", userDetails. getAuthorities());
+        if (entry != null) {
+            entry.setAuthentication(authentication);
+        }
+        return authentication;
     }
 
     // 토큰 무효화(로그아웃 등)
     public void invalidateToken(String token){
-        String redisKey = "token:"+token;
-        // 토큰 상태를 "invalid"로 변경
-        redisTemplate.opsForValue().set(redisKey, "invalid");
+        try {
+            // 세션에서 제거하고 남은 유효기간 동안 폐기 목록에 보관
+            tokenRegistry.revoke(token, jwtParser.parseClaimsJws(token).getBody());
+        } catch (JwtException | IllegalArgumentException e) {
+            // 이미 만료되었거나 위조된 토큰은 폐기할 필요 없음
+        }
+        // 검증 캐시에서 제거하고 다른 서버에도 전파
+        validatedTokenCache.invalidate(token);
     }
 
-    // 키오스크 세션 연장
-    public String extendKioskSession(String userId, String kioskId){
-        Claims claims = Jwts.claims().setSubject(userId);
+    // 키오스크 세션 연장 - 새 토큰을 발급하고 기존 토큰은 원자적으로 폐기
+    // 기존 토큰이 이미 연장/로그아웃으로 폐기되었으면 null
+    public String extendKioskSession(String token, String kioskId){
+        Claims oldClaims = jwtParser.parseClaimsJws(token).getBody();
+
+        Claims claims = Jwts.claims().setSubject(oldClaims.getSubject());
         claims.put("type", TokenType.KIOSK.name());
         claims.put("kioskId", kioskId);
 
+        String jti = tokenRegistry.newJti();
         Date now = new Date();
         Date validity = new Date(now.getTime() + TokenType.KIOSK.getValidityInMilliseconds());
+        String newToken = sign(claims, jti, now, validity);
 
-        String token = Jwts.builder()
-                .setClaims(claims)
-                .setIssuedAt(now)
-                .setExpiration(validity)
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
-
-        // Redis에 새 토큰 저장
-        String redisKey = "token:" + token;
-        redisTemplate.opsForValue().set(redisKey, "valid",
-                TokenType.KIOSK.getValidityInMilliseconds(), TimeUnit.MILLISECONDS);
-
-        return token;
+        if (!tokenRegistry.rotate(token, oldClaims, jti, validity.getTime())) {
+            return null;
+        }
+        validatedTokenCache.invalidate(token);
+        return newToken;
     }
 }
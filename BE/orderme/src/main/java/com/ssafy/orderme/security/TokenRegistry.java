@@ -0,0 +1,113 @@
+package com.ssafy.orderme.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * jti 기반 토큰 레지스트리
+ * 토큰 전체 문자열 대신 짧은 jti(16자)로 상태를 관리한다.
+ * - tk:s:{사용자ID}: 사용자의 활성 세션 ZSET (member=jti, score=만료 시각 ms), 키 만료는 가장 늦은 토큰 만료 시각
+ * - tk:r:{jti}: 폐기 목록, 토큰의 남은 유효기간만큼만 유지
+ * 토큰 검증은 서명 확인 후 폐기 목록 존재 여부만 조회하고, 등록/폐기/교체는 AuthRedisScripts로 한 번에 처리한다.
+ * jti가 없는 이전 토큰은 만료될 때까지 기존 token:{JWT} 키로 확인한다.
+ */
+@Component
+public class TokenRegistry {
+
+    private static final String SESSION_KEY_PREFIX = "tk:s:";
+    private static final String REVOKED_KEY_PREFIX = "tk:r:";
+    private static final String LEGACY_KEY_PREFIX = "token:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final AuthRedisScripts authRedisScripts;
+    private final SecureRandom random = new SecureRandom();
+
+    public TokenRegistry(RedisTemplate<String, String> redisTemplate, AuthRedisScripts authRedisScripts) {
+        this.redisTemplate = redisTemplate;
+        this.authRedisScripts = authRedisScripts;
+    }
+
+    /**
+     * 새 jti 생성 (96비트 난수, URL-safe Base64 16자)
+     */
+    public String newJti() {
+        byte[] bytes = new byte[12];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * 발급한 토큰을 사용자 세션에 등록
+     */
+    public void register(String userId, String jti, long expiresAt) {
+        register(userId, Collections.singletonMap(jti, expiresAt));
+    }
+
+    /**
+     * 함께 발급한 토큰들을 한 번의 호출로 등록 (jti -> 만료 시각 ms)
+     */
+    public void register(String userId, Map<String, Long> expiresAtByJti) {
+        authRedisScripts.registerSession(SESSION_KEY_PREFIX + userId, expiresAtByJti);
+    }
+
+    /**
+     * 서명 검증이 끝난 토큰이 폐기되지 않았는지 확인
+     */
+    public boolean isActive(String token, Claims claims) {
+        if (claims.getId() == null) {
+            return "valid".equals(redisTemplate.opsForValue().get(LEGACY_KEY_PREFIX + token));
+        }
+        return !Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_KEY_PREFIX + claims.getId()));
+    }
+
+    /**
+     * 토큰 폐기 - 세션에서 제거하고 남은 유효기간 동안 폐기 목록에 보관
+     */
+    public void revoke(String token, Claims claims) {
+        long remaining = remainingMillis(claims);
+        if (remaining <= 0) {
+            return;
+        }
+        if (claims.getId() == null) {
+            redisTemplate.opsForValue().set(LEGACY_KEY_PREFIX + token, "invalid", remaining, TimeUnit.MILLISECONDS);
+            return;
+        }
+        authRedisScripts.revokeSession(SESSION_KEY_PREFIX + claims.getSubject(),
+                REVOKED_KEY_PREFIX + claims.getId(), claims.getId(), remaining);
+    }
+
+    /**
+     * 이전 토큰을 폐기하고 새 토큰을 등록 (원자적으로 실행)
+     * @return 이전 토큰이 이미 폐기되었거나 만료되었으면 false
+     */
+    public boolean rotate(String oldToken, Claims oldClaims, String newJti, long newExpiresAt) {
+        long remaining = remainingMillis(oldClaims);
+        if (remaining <= 0) {
+            return false;
+        }
+        String userId = oldClaims.getSubject();
+        if (oldClaims.getId() == null) {
+            if (!isActive(oldToken, oldClaims)) {
+                return false;
+            }
+            revoke(oldToken, oldClaims);
+            register(userId, newJti, newExpiresAt);
+            return true;
+        }
+        return authRedisScripts.rotateSession(SESSION_KEY_PREFIX + userId,
+                REVOKED_KEY_PREFIX + oldClaims.getId(), oldClaims.getId(), remaining, newJti, newExpiresAt);
+    }
+
+    private static long remainingMillis(Claims claims) {
+        return claims.getExpiration() != null
+                ? claims.getExpiration().getTime() - System.currentTimeMillis()
+                : 0;
+    }
+}
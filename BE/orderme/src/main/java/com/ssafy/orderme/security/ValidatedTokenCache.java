@@ -0,0 +1,153 @@
+package com.ssafy.orderme.security;
+
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증이 끝난 JWT 캐시
+ * 토큰 해시를 키로 파싱된 Claims와 Authentication을 보관해, 같은 토큰의 반복 요청에서
+ * 서명 검증, Redis 상태 조회, 사용자 조회를 생략한다.
+ * 보관 기간은 설정된 최대 TTL과 토큰 만료 시각 중 빠른 쪽이며,
+ * 토큰 무효화 시 Redis 채널로 모든 서버에 해시를 전파해 즉시 제거한다.
+ */
+@Slf4j
+@Component
+public class ValidatedTokenCache implements MessageListener {
+
+    public static final String INVALIDATE_CHANNEL = "token:invalidate";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${jwt.cache.ttl-ms:60000}")
+    private long maxTtlMs;
+
+    @Value("${jwt.cache.max-size:10000}")
+    private int maxSize;
+
+    public ValidatedTokenCache(RedisTemplate<String, String> redisTemplate,
+                               RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 유효한 캐시 항목 조회 (없거나 만료되었으면 null)
+     */
+    public Entry get(String token) {
+        String hash = hash(token);
+        Entry entry = entries.get(hash);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(hash, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * 검증된 토큰 저장
+     */
+    public Entry put(String token, Claims claims) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + maxTtlMs;
+        if (claims.getExpiration() != null) {
+            expiresAt = Math.min(expiresAt, claims.getExpiration().getTime());
+        }
+        Entry entry = new Entry(claims, expiresAt);
+        if (expiresAt <= now) {
+            return entry;
+        }
+        if (entries.size() >= maxSize) {
+            evictExpired(now);
+            if (entries.size() >= maxSize) {
+                // 만료 항목을 정리해도 가득 차 있으면 캐시하지 않고 매번 검증
+                return entry;
+            }
+        }
+        entries.put(hash(token), entry);
+        return entry;
+    }
+
+    /**
+     * 토큰 무효화 - 로컬 캐시에서 제거하고 다른 서버에도 전파
+     */
+    public void invalidate(String token) {
+        String hash = hash(token);
+        entries.remove(hash);
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, hash);
+        } catch (Exception e) {
+            log.warn("토큰 무효화 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        entries.remove(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void evictExpired(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 캐시 항목 - Authentication은 처음 요청될 때 만들어 저장
+     */
+    public static class Entry {
+        private final Claims claims;
+        private final long expiresAt;
+        private volatile Authentication authentication;
+
+        Entry(Claims claims, long expiresAt) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
+
+        public Claims getClaims() {
+            return claims;
+        }
+
+        public Authentication getAuthentication() {
+            return authentication;
+        }
+
+        public void setAuthentication(Authentication authentication) {
+            this.authentication = authentication;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.ssafy.orderme.user.client;
+
+import net.nurigo.sdk.NurigoApp;
+import net.nurigo.sdk.message.model.Message;
+import net.nurigo.sdk.message.request.SingleMessageSendingRequest;
+import net.nurigo.sdk.message.response.SingleMessageSentResponse;
+import net.nurigo.sdk.message.service.DefaultMessageService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * CoolSMS API 클라이언트 (sms.client=coolsms, 기본값)
+ * 메시지 서비스는 빈 생성 시 한 번만 초기화해 전송 스레드들이 공유한다.
+ */
+@Component
+@ConditionalOnProperty(name = "sms.client", havingValue = "coolsms", matchIfMissing = true)
+public class CoolSmsClient implements SmsClient {
+
+    private final DefaultMessageService messageService;
+    private final String senderNumber;
+
+    public CoolSmsClient(@Value("${coolsms.api.key}") String apiKey,
+                         @Value("${coolsms.api.secret}") String apiSecret,
+                         @Value("${coolsms.sender.number}") String senderNumber) {
+        this.messageService = NurigoApp.INSTANCE.initialize(apiKey, apiSecret, "https://api.coolsms.co.kr");
+        this.senderNumber = senderNumber;
+    }
+
+    @Override
+    public SmsSendResult send(SmsMessage sms) {
+        Message message = new Message();
+        message.setFrom(senderNumber);
+        message.setTo(sms.getTo());
+        message.setText(sms.getText());
+
+        try {
+            SingleMessageSentResponse response = messageService.sendOne(new SingleMessageSendingRequest(message));
+            return SmsSendResult.success(response != null ? response.getMessageId() : null);
+        } catch (Exception e) {
+            // 네트워크 오류와 API 오류를 구분할 수 없으므로 재시도 횟수 안에서 다시 보냄
+            return SmsSendResult.failure(SmsSendResult.Status.RETRYABLE, e.getMessage());
+        }
+    }
+}
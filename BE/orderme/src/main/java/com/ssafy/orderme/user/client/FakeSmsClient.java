@@ -0,0 +1,72 @@
+package com.ssafy.orderme.user.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬/부하 테스트용 SMS 클라이언트 (sms.client=fake)
+ * 외부 호출 없이 설정한 지연 후 성공 응답을 돌려주고, 전송한 메시지를 메모리에 기록한다.
+ * sms.fake.failure-rate 비율만큼 RETRYABLE로 응답해 재시도 경로를 확인할 수 있다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sms.client", havingValue = "fake")
+public class FakeSmsClient implements SmsClient {
+
+    private static final int MAX_RECORDED = 1000;
+
+    @Value("${sms.fake.latency-ms:100}")
+    private long latencyMs;
+
+    @Value("${sms.fake.failure-rate:0}")
+    private double failureRate;
+
+    private final Queue<SmsMessage> sentMessages = new ConcurrentLinkedQueue<>();
+    private final AtomicLong sendCount = new AtomicLong();
+    private final AtomicLong messageIdSequence = new AtomicLong();
+
+    @Override
+    public SmsSendResult send(SmsMessage message) {
+        if (latencyMs > 0) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        sendCount.incrementAndGet();
+
+        if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+            return SmsSendResult.failure(SmsSendResult.Status.RETRYABLE, "가짜 전송 실패");
+        }
+        sentMessages.add(message);
+        if (sentMessages.size() > MAX_RECORDED) {
+            sentMessages.poll();
+        }
+        log.debug("SMS 가짜 전송 - 수신: {}", message.getTo());
+        return SmsSendResult.success("fake-" + messageIdSequence.incrementAndGet());
+    }
+
+    /**
+     * 전송된 메시지 조회 (최근 MAX_RECORDED건)
+     */
+    public List<SmsMessage> getSentMessages() {
+        return new ArrayList<>(sentMessages);
+    }
+
+    /**
+     * send 호출 횟수 (실패 응답 포함)
+     */
+    public long getSendCount() {
+        return sendCount.get();
+    }
+}
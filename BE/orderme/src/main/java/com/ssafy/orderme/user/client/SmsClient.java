@@ -0,0 +1,16 @@
+package com.ssafy.orderme.user.client;
+
+/**
+ * SMS 단건 전송 클라이언트
+ * sms.client 설정으로 구현체를 선택한다. (coolsms: CoolSMS API, fake: 로컬/부하 테스트용)
+ * 여러 전송 스레드에서 동시에 호출하므로 구현체는 thread-safe해야 한다.
+ */
+public interface SmsClient {
+
+    /**
+     * 메시지 전송
+     * @param message 수신 번호와 본문
+     * @return 전송 결과 (예외를 던지지 않고 RETRYABLE/FAILED로 돌려준다)
+     */
+    SmsSendResult send(SmsMessage message);
+}
@@ -0,0 +1,14 @@
+package com.ssafy.orderme.user.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 전송할 SMS 1건
+ */
+@Getter
+@AllArgsConstructor
+public class SmsMessage {
+    private final String to;
+    private final String text;
+}
@@ -0,0 +1,30 @@
+package com.ssafy.orderme.user.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * SMS 1건의 전송 결과
+ */
+@Getter
+@AllArgsConstructor
+public class SmsSendResult {
+
+    public enum Status {
+        SUCCESS,        // 전송 성공
+        RETRYABLE,      // 일시적 오류 (재시도 대상)
+        FAILED          // 재시도해도 실패하는 오류
+    }
+
+    private final Status status;
+    private final String messageId;
+    private final String error;
+
+    public static SmsSendResult success(String messageId) {
+        return new SmsSendResult(Status.SUCCESS, messageId, null);
+    }
+
+    public static SmsSendResult failure(Status status, String error) {
+        return new SmsSendResult(status, null, error);
+    }
+}
@@ -2,11 +2,13 @@ package com.ssafy.orderme.user.controller;
 
 import com.ssafy.orderme.common.ApiResponse;
 import com.ssafy.orderme.payment.service.AutoPaymentService;
+import com.ssafy.orderme.security.AuthRedisScripts;
 import com.ssafy.orderme.security.JwtTokenProvider;
 import com.ssafy.orderme.user.dto.request.*;
 import com.ssafy.orderme.user.model.Admin;
 import com.ssafy.orderme.user.model.User;
 import com.ssafy.orderme.user.service.AdminService;
+import com.ssafy.orderme.user.service.SmsDispatcher;
 import com.ssafy.orderme.user.service.SmsService;
 import com.ssafy.orderme.user.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -53,8 +55,14 @@ public class AuthController {
         String verificationId = smsService.generateVerificationId();
         smsService.saveVerificationCode(verificationId, request.getPhoneNumber(), verificationCode);
 
-        // 4. SMS 인증번호 발송
-        smsService.sendVerificationSms(request.getPhoneNumber(), verificationCode);
+        // 4. SMS 인증번호 발송 (전송 큐에 적재)
+        SmsDispatcher.EnqueueResult sendResult = smsService.sendVerificationSms(request.getPhoneNumber(), verificationCode);
+        if (sendResult == SmsDispatcher.EnqueueResult.THROTTLED) {
+            return ResponseEntity.ok(ApiResponse.error(429, "인증번호 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+        }
+        if (sendResult != SmsDispatcher.EnqueueResult.QUEUED) {
+            return ResponseEntity.ok(ApiResponse.error(503, "인증번호를 발송할 수 없습니다. 잠시 후 다시 시도해주세요."));
+        }
 
         // 5. 응답 데이터 구성
         Map<String, Object> responseData = new HashMap<>();
@@ -68,13 +76,16 @@ public class AuthController {
     @PostMapping("/verify/confirm")
     public ResponseEntity<ApiResponse<?>> confirmVerification(@RequestBody VerificationConfirmRequest request){
         // 1. 인증번호 검증
-        boolean isVerified = smsService.verifyCode(
+        AuthRedisScripts.VerifyResult verifyResult = smsService.verifyCode(
                 request.getVerificationId(),
                 request.getPhoneNumber(),
                 request.getVerificationCode()
         );
 
-        if(!isVerified){
+        if(verifyResult == AuthRedisScripts.VerifyResult.TOO_MANY_ATTEMPTS){
+            return ResponseEntity.ok(ApiResponse.error(429, "인증 시도 횟수를 초과했습니다. 잠시 후 인증번호를 다시 요청해주세요."));
+        }
+        if(verifyResult != AuthRedisScripts.VerifyResult.VERIFIED){
             return ResponseEntity.ok(ApiResponse.error(400, "인증번호가 일치하지 않습니다."));
         }
 
@@ -95,17 +106,15 @@ public class AuthController {
         }
 
         // 4. JWT 토큰 생성(앱용 및 리프레시 토큰)
-        String accessToken = jwtTokenProvider.createToken(
+        JwtTokenProvider.TokenPair tokens = jwtTokenProvider.issueSession(
                 user.getId().toString(),
                 JwtTokenProvider.TokenType.APP
         );
 
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId().toString());
-
         // 5. 응답 데이터 구성
         Map<String, Object> responseData = new HashMap<>();
-        responseData.put("accessToken", accessToken);
-        responseData.put("refreshToken", refreshToken);
+        responseData.put("accessToken", tokens.getAccessToken());
+        responseData.put("refreshToken", tokens.getRefreshToken());
         responseData.put("tokenType", "Bearer");
         responseData.put("expiresIn", 2592000); // 30일
         responseData.put("user", user.toDto());
@@ -173,10 +182,11 @@ public class AuthController {
     @PostMapping("/kiosk/extend-session")
     public ResponseEntity<ApiResponse<?>> extendKioskSession(@RequestBody KioskSessionRequest request,
                                                              @RequestHeader("Authorization") String token){
-        String userId = jwtTokenProvider.getUserId(token.replace("Bearer ", ""));
-
-        // 새로운 토큰 발급
-        String newToken = jwtTokenProvider.extendKioskSession(userId, request.getKioskId());
+        // 새로운 토큰 발급 (기존 토큰은 폐기)
+        String newToken = jwtTokenProvider.extendKioskSession(token.replace("Bearer ", ""), request.getKioskId());
+        if (newToken == null) {
+            return ResponseEntity.ok(ApiResponse.error(401, "이미 종료되었거나 연장된 세션입니다."));
+        }
 
         Map<String, Object> responseData = new HashMap<>();
         responseData.put("accessToken", newToken);
@@ -209,16 +219,14 @@ public class AuthController {
         }
 
         // 3. JWT 토큰 생성 (관리자용)
-        String accessToken = jwtTokenProvider.createToken(
+        JwtTokenProvider.TokenPair tokens = jwtTokenProvider.issueSession(
                 admin.getId(),
                 JwtTokenProvider.TokenType.ADMIN
         );
 
-        String refreshToken = jwtTokenProvider.createRefreshToken(admin.getId());
-
         Map<String, Object> responseData = new HashMap<>();
-        responseData.put("accessToken", accessToken);
-        responseData.put("refreshToken", refreshToken);
+        responseData.put("accessToken", tokens.getAccessToken());
+        responseData.put("refreshToken", tokens.getRefreshToken());
         responseData.put("tokenType", "Bearer");
         responseData.put("expiresIn", 86400 * 30); // 24시간
         responseData.put("admin", admin.toDto());
@@ -0,0 +1,241 @@
+package com.ssafy.orderme.user.service;
+
+import com.ssafy.orderme.security.AuthRedisScripts;
+import com.ssafy.orderme.user.client.SmsClient;
+import com.ssafy.orderme.user.client.SmsMessage;
+import com.ssafy.orderme.user.client.SmsSendResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * SMS 전송 디스패처
+ * 요청 스레드는 메시지를 제한된 큐에 넣고 바로 반환하며, 전송 스레드 N개가 큐를 비우며 SmsClient로 보낸다.
+ * - 전화번호별 토큰 버킷: 적재 시점에 확인해 초과 요청은 바로 THROTTLED로 돌려준다.
+ * - 전체 토큰 버킷: 전송 직전에 확인해 비어 있으면 다음 토큰까지 기다린다. (SMS 업체 초당 전송 한도)
+ * 두 버킷 모두 Redis에 있어 여러 서버가 한도를 공유하며, Redis 장애 시에는 제한 없이 전송한다.
+ * 일시적 오류는 지수 백오프로 재시도한다.
+ *
+ * 메트릭: sms.dispatch.queue.depth, sms.dispatch.latency(큐 적재~전송 완료),
+ *        sms.dispatch.messages{result=success|failed|retried|dropped|throttled}
+ */
+@Slf4j
+@Service
+public class SmsDispatcher {
+
+    public enum EnqueueResult { QUEUED, THROTTLED, QUEUE_FULL }
+
+    private static final String PHONE_BUCKET_PREFIX = "sms:bucket:phone:";
+    private static final String GLOBAL_BUCKET_KEY = "sms:bucket:global";
+
+    // 전체 버킷이 비었을 때 한 번에 기다리는 최대 시간 (종료 요청에 빨리 반응하도록 제한)
+    private static final long MAX_THROTTLE_WAIT_MS = 1000;
+
+    private final SmsClient smsClient;
+    private final AuthRedisScripts authRedisScripts;
+
+    private final BlockingQueue<PendingSms> queue;
+    private final ScheduledExecutorService retryScheduler;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running = true;
+
+    @Value("${sms.dispatcher.workers:4}")
+    private int workerCount;
+
+    @Value("${sms.dispatcher.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${sms.dispatcher.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    // 전화번호별: 연속 3건, 이후 1분에 1건
+    @Value("${sms.throttle.phone.capacity:3}")
+    private int phoneCapacity;
+
+    @Value("${sms.throttle.phone.refill-interval-ms:60000}")
+    private long phoneRefillIntervalMs;
+
+    // 전체: 연속 100건, 이후 초당 50건
+    @Value("${sms.throttle.global.capacity:100}")
+    private int globalCapacity;
+
+    @Value("${sms.throttle.global.refill-interval-ms:20}")
+    private long globalRefillIntervalMs;
+
+    private final Timer latencyTimer;
+    private final Counter successCounter;
+    private final Counter failedCounter;
+    private final Counter retriedCounter;
+    private final Counter droppedCounter;
+    private final Counter throttledCounter;
+
+    public SmsDispatcher(SmsClient smsClient, AuthRedisScripts authRedisScripts, MeterRegistry meterRegistry,
+                         @Value("${sms.dispatcher.queue-capacity:1000}") int queueCapacity) {
+        this.smsClient = smsClient;
+        this.authRedisScripts = authRedisScripts;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "SMS-Retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        meterRegistry.gauge("sms.dispatch.queue.depth", queue, BlockingQueue::size);
+        this.latencyTimer = Timer.builder("sms.dispatch.latency")
+                .description("SMS 큐 적재부터 전송 완료까지 걸린 시간")
+                .register(meterRegistry);
+        this.successCounter = resultCounter(meterRegistry, "success");
+        this.failedCounter = resultCounter(meterRegistry, "failed");
+        this.retriedCounter = resultCounter(meterRegistry, "retried");
+        this.droppedCounter = resultCounter(meterRegistry, "dropped");
+        this.throttledCounter = resultCounter(meterRegistry, "throttled");
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::sendLoop, "SMS-Dispatcher-" + i);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * 전송 큐에 메시지 적재 (전화번호별 한도 확인 후 즉시 반환)
+     */
+    public EnqueueResult enqueue(String phoneNumber, String text) {
+        if (!running) {
+            return EnqueueResult.QUEUE_FULL;
+        }
+        if (takeToken(PHONE_BUCKET_PREFIX + phoneNumber, phoneCapacity, phoneRefillIntervalMs) > 0) {
+            throttledCounter.increment();
+            return EnqueueResult.THROTTLED;
+        }
+        if (!queue.offer(new PendingSms(new SmsMessage(phoneNumber, text), System.nanoTime(), 1))) {
+            droppedCounter.increment();
+            log.warn("SMS 전송 큐가 가득 차 메시지를 버립니다: 큐 크기={}", queue.size());
+            return EnqueueResult.QUEUE_FULL;
+        }
+        return EnqueueResult.QUEUED;
+    }
+
+    /**
+     * 종료 시 남은 메시지를 모두 전송한 뒤 전송 스레드 정지
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        retryScheduler.shutdownNow();
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        for (Thread worker : workers) {
+            worker.join(Math.max(1, deadline - System.currentTimeMillis()));
+        }
+    }
+
+    private void sendLoop() {
+        while (running || !queue.isEmpty()) {
+            PendingSms pending;
+            try {
+                pending = running ? queue.take() : queue.poll();
+            } catch (InterruptedException e) {
+                // 종료 요청: 남은 메시지는 루프 조건에 따라 계속 전송
+                continue;
+            }
+            if (pending == null) {
+                break;
+            }
+            awaitGlobalToken();
+            send(pending);
+        }
+        log.info("SMS 디스패처 종료: {}", Thread.currentThread().getName());
+    }
+
+    private void awaitGlobalToken() {
+        long wait;
+        while (running && (wait = takeToken(GLOBAL_BUCKET_KEY, globalCapacity, globalRefillIntervalMs)) > 0) {
+            try {
+                Thread.sleep(Math.min(wait, MAX_THROTTLE_WAIT_MS));
+            } catch (InterruptedException e) {
+                // 종료 중에는 한도를 기다리지 않고 남은 메시지를 보냄
+                return;
+            }
+        }
+    }
+
+    private void send(PendingSms pending) {
+        SmsSendResult result = smsClient.send(pending.message);
+        switch (result.getStatus()) {
+            case SUCCESS:
+                successCounter.increment();
+                latencyTimer.record(System.nanoTime() - pending.enqueuedAt, TimeUnit.NANOSECONDS);
+                break;
+            case RETRYABLE:
+                retryOrFail(pending, result.getError());
+                break;
+            default:
+                failedCounter.increment();
+                log.warn("SMS 전송 실패: 수신={}, 원인={}", pending.message.getTo(), result.getError());
+        }
+    }
+
+    private void retryOrFail(PendingSms pending, String error) {
+        if (pending.attempt >= maxAttempts || !running) {
+            failedCounter.increment();
+            log.warn("SMS 재시도 횟수 초과: 수신={}, 시도={}, 원인={}", pending.message.getTo(), pending.attempt, error);
+            return;
+        }
+
+        long delay = retryBackoffMs << (pending.attempt - 1);
+        PendingSms retry = new PendingSms(pending.message, pending.enqueuedAt, pending.attempt + 1);
+        try {
+            retryScheduler.schedule(() -> {
+                if (!queue.offer(retry)) {
+                    droppedCounter.increment();
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+            retriedCounter.increment();
+        } catch (RejectedExecutionException e) {
+            failedCounter.increment();
+        }
+    }
+
+    private long takeToken(String bucketKey, int capacity, long refillIntervalMs) {
+        try {
+            return authRedisScripts.takeToken(bucketKey, capacity, refillIntervalMs);
+        } catch (Exception e) {
+            log.warn("SMS 전송 한도 확인 실패, 제한 없이 진행: key={}, error={}", bucketKey, e.getMessage());
+            return 0;
+        }
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("sms.dispatch.messages")
+                .description("SMS 처리 결과 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static final class PendingSms {
+        private final SmsMessage message;
+        private final long enqueuedAt;
+        private final int attempt;
+
+        private PendingSms(SmsMessage message, long enqueuedAt, int attempt) {
+            this.message = message;
+            this.enqueuedAt = enqueuedAt;
+            this.attempt = attempt;
+        }
+    }
+}
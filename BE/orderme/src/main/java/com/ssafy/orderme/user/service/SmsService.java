@@ -1,40 +1,31 @@
 package com.ssafy.orderme.user.service;
 
+import com.ssafy.orderme.security.AuthRedisScripts;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.nurigo.sdk.NurigoApp;
-import net.nurigo.sdk.message.model.Message;
-import net.nurigo.sdk.message.request.SingleMessageSendingRequest;
-import net.nurigo.sdk.message.response.SingleMessageSentResponse;
-import net.nurigo.sdk.message.service.DefaultMessageService;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.util.Random;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class SmsService {
-    @Value("${coolsms.api.key}")
-    private String apiKey;
+    // 인증번호 유효시간
+    @Value("${sms.verification.ttl-ms:600000}")
+    private long verificationTtlMs;
 
-    @Value("${coolsms.api.secret}")
-    private String apiSecret;
+    // 전화번호별 인증 시도 제한 (집계 기간 동안 최대 시도 횟수)
+    @Value("${sms.verification.max-attempts:5}")
+    private int maxAttempts;
 
-    @Value("${coolsms.sender.number}")
-    private String senderNumber;
+    @Value("${sms.verification.attempt-window-ms:600000}")
+    private long attemptWindowMs;
 
-    private final RedisTemplate<String, String> redisTemplate;
-    private DefaultMessageService messageService;
-
-    // 서비스 초기화
-    public void init() {
-        this.messageService = NurigoApp.INSTANCE.initialize(apiKey, apiSecret, "https://api.coolsms.co.kr");
-    }
+    private final AuthRedisScripts authRedisScripts;
+    private final SmsDispatcher smsDispatcher;
 
     // 인증번호 생성 (6자리)
     public String generateVerificationCode() {
@@ -48,51 +39,19 @@ public class SmsService {
         return UUID.randomUUID().toString();
     }
 
-    // 인증번호 저장
+    // 인증번호 저장 (전화번호, 인증번호, 만료시간을 한 번에 기록)
     public void saveVerificationCode(String verificationId, String phoneNumber, String code) {
-        String redisKey = "sms:verification:" + verificationId;
-        redisTemplate.opsForHash().put(redisKey, "phoneNumber", phoneNumber);
-        redisTemplate.opsForHash().put(redisKey, "code", code);
-        redisTemplate.expire(redisKey, 10, TimeUnit.MINUTES);
+        authRedisScripts.storeCode("sms:verification:" + verificationId, phoneNumber, code, verificationTtlMs);
     }
 
-    // 인증번호 검증
-    public boolean verifyCode(String verificationId, String phoneNumber, String code){
-        String redisKey = "sms:verification:" + verificationId;
-
-        // Redis에서 저장된 데이터 확인
-        String savedPhoneNumber = (String) redisTemplate.opsForHash().get(redisKey, "phoneNumber");
-        String savedCode = (String) redisTemplate.opsForHash().get(redisKey, "code");
-
-        // 인증번호 유효성 검증
-        boolean isValid = phoneNumber.equals(savedPhoneNumber) && code.equals(savedCode);
-
-        // 인증 성공시 Redis에서 데이터 삭제
-        if (isValid) {
-            redisTemplate.delete(redisKey);
-        }
-
-        return isValid;
+    // 인증번호 검증 - 시도 횟수 확인, 비교, 성공 시 삭제를 한 번에 처리
+    public AuthRedisScripts.VerifyResult verifyCode(String verificationId, String phoneNumber, String code){
+        return authRedisScripts.verifyCode("sms:verification:" + verificationId, "sms:attempts:" + phoneNumber,
+                phoneNumber, code, maxAttempts, attemptWindowMs);
     }
 
-    // SMS 인증메시지 발송
-    public SingleMessageSentResponse sendVerificationSms(String phoneNumber, String code){
-        if(messageService == null) init();
-
-        Message message = new Message();
-        message.setFrom(senderNumber);
-        message.setTo(phoneNumber);
-        message.setText("[COFFACE] 인증번호 ["+code+"]를 입력해주세요.");
-
-        try{
-            SingleMessageSentResponse response = messageService.sendOne(new SingleMessageSendingRequest(message));
-            log.info("SMS sent to {}: {}", phoneNumber, response);
-            return response;
-        }catch (Exception e){
-            log.error("SMS sending failed to {}: {}", phoneNumber, e.getMessage());
-            throw new RuntimeException("SMS 발송 중 오류가 발생했습니다.", e);
-
-        }
-
+    // SMS 인증메시지 발송 (전송 큐에 적재 후 즉시 반환)
+    public SmsDispatcher.EnqueueResult sendVerificationSms(String phoneNumber, String code){
+        return smsDispatcher.enqueue(phoneNumber, "[COFFACE] 인증번호 ["+code+"]를 입력해주세요.");
     }
 }
@@ -0,0 +1,111 @@
+-- MySQL dump 10.13  Distrib 8.0.42, for Win64 (x86_64)
+--
+-- Host: 127.0.0.1    Database: orderme
+-- ------------------------------------------------------
+-- Server version	8.0.42
+
+/*!40101 SET @OLD_CHARACTER_SET_CLIENT=@@CHARACTER_SET_CLIENT */;
+/*!40101 SET @OLD_CHARACTER_SET_RESULTS=@@CHARACTER_SET_RESULTS */;
+/*!40101 SET @OLD_COLLATION_CONNECTION=@@COLLATION_CONNECTION */;
+/*!50503 SET NAMES utf8 */;
+/*!40103 SET @OLD_TIME_ZONE=@@TIME_ZONE */;
+/*!40103 SET TIME_ZONE='+00:00' */;
+/*!40014 SET @OLD_UNIQUE_CHECKS=@@UNIQUE_CHECKS, UNIQUE_CHECKS=0 */;
+/*!40014 SET @OLD_FOREIGN_KEY_CHECKS=@@FOREIGN_KEY_CHECKS, FOREIGN_KEY_CHECKS=0 */;
+/*!40101 SET @OLD_SQL_MODE=@@SQL_MODE, SQL_MODE='NO_AUTO_VALUE_ON_ZERO' */;
+/*!40111 SET @OLD_SQL_NOTES=@@SQL_NOTES, SQL_NOTES=0 */;
+
+--
+-- Table structure for table `order_events`
+--
+
+DROP TABLE IF EXISTS `order_events`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `order_events` (
+  `event_id` bigint NOT NULL AUTO_INCREMENT COMMENT '이벤트 ID (소비자 오프셋 기준)',
+  `event_type` varchar(30) NOT NULL COMMENT '이벤트 유형 (ORDER_ACCEPTED)',
+  `order_id` int NOT NULL COMMENT '주문 ID',
+  `store_id` int NOT NULL COMMENT '매장 ID',
+  `user_id` varchar(50) DEFAULT NULL COMMENT '회원 ID',
+  `order_number` varchar(10) DEFAULT NULL COMMENT '주문번호',
+  `total_amount` decimal(10,2) NOT NULL COMMENT '주문 금액',
+  `paid_amount` decimal(10,2) NOT NULL COMMENT '결제 금액',
+  `is_takeout` tinyint(1) DEFAULT '0' COMMENT '포장 여부',
+  `is_guest` tinyint(1) DEFAULT NULL COMMENT '비회원 여부',
+  `is_stamp_used` tinyint(1) DEFAULT '0' COMMENT '스탬프 사용 여부',
+  `gender` varchar(10) DEFAULT NULL COMMENT '성별',
+  `age` int DEFAULT NULL COMMENT '나이',
+  `weather` varchar(45) DEFAULT NULL COMMENT '날씨',
+  `order_date` datetime NOT NULL COMMENT '주문 일시',
+  `stamp_id` int DEFAULT NULL COMMENT '스탬프 ID (적립/사용이 있었던 경우)',
+  `stamp_action` varchar(20) DEFAULT NULL COMMENT '스탬프 액션 (EARN/USE)',
+  `stamp_count` int DEFAULT NULL COMMENT '스탬프 개수',
+  `stamp_policy_id` int DEFAULT NULL COMMENT '적용된 스탬프 정책 ID',
+  `created_at` datetime(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) COMMENT '기록 일시',
+  PRIMARY KEY (`event_id`),
+  KEY `idx_created_at` (`created_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='주문 후속 처리용 트랜잭셔널 아웃박스';
+/*!40101 SET character_set_client = @saved_cs_client */;
+
+--
+-- Table structure for table `order_event_offsets`
+--
+
+DROP TABLE IF EXISTS `order_event_offsets`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `order_event_offsets` (
+  `consumer` varchar(50) NOT NULL COMMENT '소비자 이름',
+  `last_event_id` bigint NOT NULL DEFAULT '0' COMMENT '이 ID까지 모두 처리함 (빈 ID 포함)',
+  `updated_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '업데이트 일시',
+  PRIMARY KEY (`consumer`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='주문 이벤트 소비자별 오프셋';
+/*!40101 SET character_set_client = @saved_cs_client */;
+
+--
+-- Table structure for table `order_event_deliveries`
+--
+
+DROP TABLE IF EXISTS `order_event_deliveries`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `order_event_deliveries` (
+  `consumer` varchar(50) NOT NULL COMMENT '소비자 이름',
+  `event_id` bigint NOT NULL COMMENT '전달한 이벤트 ID (오프셋보다 큰 것만 보관)',
+  `delivered_at` datetime(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) COMMENT '전달 일시',
+  PRIMARY KEY (`consumer`,`event_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='오프셋 이후 소비자별 이벤트 전달 기록';
+/*!40101 SET character_set_client = @saved_cs_client */;
+
+--
+-- Table structure for table `order_event_failures`
+--
+
+DROP TABLE IF EXISTS `order_event_failures`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `order_event_failures` (
+  `consumer` varchar(50) NOT NULL COMMENT '소비자 이름',
+  `event_id` bigint NOT NULL COMMENT '처리에 실패한 이벤트 ID',
+  `attempts` int NOT NULL DEFAULT '1' COMMENT '실패 횟수',
+  `last_error` varchar(1000) DEFAULT NULL COMMENT '마지막 오류 메시지',
+  `is_dead_lettered` tinyint(1) NOT NULL DEFAULT '0' COMMENT '데드레터 여부 (건너뛰고 전달된 것으로 기록함)',
+  `created_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '최초 실패 일시',
+  `updated_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '마지막 실패 일시',
+  PRIMARY KEY (`consumer`,`event_id`),
+  KEY `idx_dead_lettered` (`is_dead_lettered`,`consumer`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='소비자별 주문 이벤트 처리 실패 및 데드레터';
+/*!40101 SET character_set_client = @saved_cs_client */;
+
+
+
+/*!40101 SET SQL_MODE=@OLD_SQL_MODE */;
+/*!40014 SET FOREIGN_KEY_CHECKS=@OLD_FOREIGN_KEY_CHECKS */;
+/*!40014 SET UNIQUE_CHECKS=@OLD_UNIQUE_CHECKS */;
+/*!40101 SET CHARACTER_SET_CLIENT=@OLD_CHARACTER_SET_CLIENT */;
+/*!40101 SET CHARACTER_SET_RESULTS=@OLD_CHARACTER_SET_RESULTS */;
+/*!40101 SET COLLATION_CONNECTION=@OLD_COLLATION_CONNECTION */;
+/*!40111 SET SQL_NOTES=@OLD_SQL_NOTES */;
+
+-- Dump completed on 2025-05-13 14:52:19
@@ -40,7 +40,10 @@ CREATE TABLE `orders` (
   `toss_order_id` varchar(70) DEFAULT NULL,
   PRIMARY KEY (`order_id`),
   KEY `idx_is_guest` (`is_guest`),
-  KEY `idx_gender_age` (`gender`,`age`)
+  KEY `idx_gender_age` (`gender`,`age`),
+  KEY `idx_kiosk_order_date` (`kiosk_id`,`order_date`),
+  KEY `idx_user_order_date` (`user_id`,`order_date`),
+  KEY `idx_user_kiosk_order_date` (`user_id`,`kiosk_id`,`order_date`)
 ) ENGINE=InnoDB AUTO_INCREMENT=210 DEFAULT CHARSET=utf8mb3;
 /*!40101 SET character_set_client = @saved_cs_client */;
 
@@ -31,6 +31,7 @@ CREATE TABLE `stamphistory` (
   `policy_id` int DEFAULT NULL COMMENT '적용된 정책 ID',
   `created_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
   PRIMARY KEY (`history_id`),
+  UNIQUE KEY `uq_order_action` (`order_id`,`action_type`),
   KEY `idx_stamp_id` (`stamp_id`),
   KEY `idx_order_id` (`order_id`),
   KEY `idx_policy_id` (`policy_id`),